@@ -0,0 +1,111 @@
+package seedu.sudohr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.Config;
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.commons.util.ConfigUtil;
+import seedu.sudohr.commons.util.StringUtil;
+import seedu.sudohr.model.ReadOnlyUserPrefs;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.storage.BinarySudoHrStorage;
+import seedu.sudohr.storage.JournalSudoHrStorage;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+import seedu.sudohr.storage.SudoHrStorage;
+import seedu.sudohr.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, user prefs and data file format shared by the application and {@link BatchMain}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty SudoHr");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code SudoHrStorage} for the data file and format chosen in {@code userPrefs}.
+     */
+    public static SudoHrStorage initSudoHrStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getSudoHrStorageFormat()) {
+        case JSON_STREAMING:
+            return new JsonSudoHrStorage(userPrefs.getSudoHrFilePath(), true, false);
+        case BINARY:
+            return new BinarySudoHrStorage(userPrefs.getSudoHrFilePath());
+        case JOURNAL:
+            return new JournalSudoHrStorage(userPrefs.getSudoHrFilePath());
+        default:
+            return new JsonSudoHrStorage(userPrefs.getSudoHrFilePath());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.sudohr;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.sudohr.commons.core.Config;
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.logic.ScriptRunner;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.storage.JsonUserPrefsStorage;
+import seedu.sudohr.storage.Storage;
+import seedu.sudohr.storage.StorageManager;
+import seedu.sudohr.storage.UserPrefsStorage;
+
+/**
+ * The entry point to run a script of commands on the SudoHR data without the user interface, e.g.
+ * {@code java -cp sudohr.jar seedu.sudohr.BatchMain --config=config.json import.txt}.
+ * The JavaFX toolkit is not started, so this can run on machines without a display.
+ *
+ * @see ScriptRunner
+ */
+public class BatchMain {
+
+    public static final String MESSAGE_USAGE = "Usage: BatchMain [--config=CONFIG_FILE] SCRIPT_FILE\n"
+            + "Runs the commands in SCRIPT_FILE, one per line, and saves the data if they all succeed.\n"
+            + "Use - as SCRIPT_FILE to read the commands from standard input.";
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String STANDARD_INPUT = "-";
+
+    private static final int EXIT_SUCCESS = 0;
+    private static final int EXIT_COMMANDS_FAILED = 1;
+    private static final int EXIT_ERROR = 2;
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the script named in {@code args} and returns the exit status: 0 if every command succeeded,
+     * 1 if some commands failed and 2 if the script could not be run.
+     */
+    static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Path configPath = null;
+        String scriptName = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                configPath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (scriptName == null) {
+                scriptName = arg;
+            } else {
+                scriptName = null;
+                break;
+            }
+        }
+        if (scriptName == null) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(AppInitializer.initSudoHrStorage(userPrefs), userPrefsStorage);
+
+        try (BufferedReader script = openScript(scriptName, in)) {
+            // unlike the application, data that cannot be read is not replaced, as the script would overwrite it
+            Optional<ReadOnlySudoHr> sudoHr = storage.readSudoHr();
+            Model model = new ModelManager(sudoHr.orElseGet(SudoHr::new), userPrefs);
+            try {
+                boolean isSuccessful = new ScriptRunner(model, storage).run(script, out);
+                return isSuccessful ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+            } finally {
+                model.close();
+            }
+        } catch (DataConversionException e) {
+            err.println("Data file " + storage.getSudoHrFilePath() + " is not in the correct format: "
+                    + e.getMessage());
+            return EXIT_ERROR;
+        } catch (IOException e) {
+            err.println("Could not run the script: " + e);
+            return EXIT_ERROR;
+        }
+    }
+
+    private static BufferedReader openScript(String scriptName, InputStream in) throws IOException {
+        if (scriptName.equals(STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptName), StandardCharsets.UTF_8);
+    }
+}
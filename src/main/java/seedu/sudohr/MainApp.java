@@ -1,7 +1,6 @@
 package seedu.sudohr;
 
 import java.io.IOException;
-import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,7 +10,6 @@ import seedu.sudohr.commons.core.Config;
 import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.commons.core.Version;
 import seedu.sudohr.commons.exceptions.DataConversionException;
-import seedu.sudohr.commons.util.ConfigUtil;
 import seedu.sudohr.commons.util.StringUtil;
 import seedu.sudohr.logic.Logic;
 import seedu.sudohr.logic.LogicManager;
@@ -22,7 +20,6 @@ import seedu.sudohr.model.ReadOnlyUserPrefs;
 import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.UserPrefs;
 import seedu.sudohr.model.util.SampleDataUtil;
-import seedu.sudohr.storage.JsonSudoHrStorage;
 import seedu.sudohr.storage.JsonUserPrefsStorage;
 import seedu.sudohr.storage.Storage;
 import seedu.sudohr.storage.StorageManager;
@@ -52,11 +49,11 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SudoHrStorage sudoHrStorage = new JsonSudoHrStorage(userPrefs.getSudoHrFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        SudoHrStorage sudoHrStorage = AppInitializer.initSudoHrStorage(userPrefs);
         storage = new StorageManager(sudoHrStorage, userPrefsStorage);
 
         initLogging(config);
@@ -97,74 +94,6 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        // Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty SudoHr");
-            initializedPrefs = new UserPrefs();
-        }
-
-        // Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting SudoHR " + MainApp.VERSION);
@@ -174,10 +103,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SudoHR Application ] =============================");
+        storage.flushSudoHr();
+        storage.takeSudoHrSaveFailure().ifPresent(e ->
+                logger.severe("Failed to save data " + StringUtil.getDetails(e)));
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        model.close();
     }
 }
@@ -0,0 +1,32 @@
+package seedu.sudohr.commons.core;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The ways SudoHR data can be stored on the hard disk.
+ * Each format has its own default data file, so that data written in one format is not mistaken for another.
+ */
+public enum StorageFormat {
+    /** The whole data is rewritten to a json file on every save. */
+    JSON("sudohr.json"),
+    /** Like {@code JSON}, but read and written incrementally and without pretty-printing, for large data files. */
+    JSON_STREAMING("sudohr.min.json"),
+    /** Changes are appended to a journal next to a json snapshot, which is rewritten only now and then. */
+    JOURNAL("sudohr.journaled.json"),
+    /** The whole data is rewritten to a compact binary snapshot on every save. */
+    BINARY("sudohr.bin");
+
+    private final String defaultFileName;
+
+    StorageFormat(String defaultFileName) {
+        this.defaultFileName = defaultFileName;
+    }
+
+    /**
+     * Returns the data file used when no other is chosen.
+     */
+    public Path getDefaultFilePath() {
+        return Paths.get("data", defaultFileName);
+    }
+}
@@ -1,23 +1,11 @@
 package seedu.sudohr.commons.util;
 
-import static java.util.Objects.requireNonNull;
-
-import javafx.scene.image.Image;
-import seedu.sudohr.MainApp;
-
 /**
- * A container for App specific utility functions
+ * A container for App specific utility functions.
+ * The model relies on these, so they must not depend on JavaFX; utilities for the UI belong in {@code ui}.
  */
 public class AppUtil {
 
-    /**
-     * Gets an {@code Image} from the specified path.
-     */
-    public static Image getImage(String imagePath) {
-        requireNonNull(imagePath);
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
-    }
-
     /**
      * Checks that {@code condition} is true. Used for validating arguments to methods.
      *
@@ -2,9 +2,14 @@ package seedu.sudohr.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,23 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns a description of every element in {@code items} whose key, as given by {@code keyExtractor}, already
+     * belongs to an earlier element, e.g. "index 3 duplicates index 0 (key)".
+     * Runs in a single hash-based pass over {@code items}.
+     */
+    public static <T> List<String> findDuplicates(List<? extends T> items, Function<? super T, ?> keyExtractor) {
+        requireAllNonNull(items, keyExtractor);
+        Map<Object, Integer> firstIndexOfKey = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Object key = keyExtractor.apply(items.get(i));
+            Integer firstIndex = firstIndexOfKey.putIfAbsent(key, i);
+            if (firstIndex != null) {
+                duplicates.add("index " + i + " duplicates index " + firstIndex + " (" + key + ")");
+            }
+        }
+        return duplicates;
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.sudohr.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values can share a single instance.
+ * The pool only holds its instances weakly, so an instance that is no longer used anywhere else can still be
+ * garbage collected. Safe to use from several threads.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances that have not been collected yet.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
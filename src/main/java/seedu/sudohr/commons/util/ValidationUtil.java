@@ -0,0 +1,138 @@
+package seedu.sudohr.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for the simple formats of the model's fields.
+ * Each check gives the same result as matching the regex it replaces, which is named in its comment, but scans
+ * the string once without compiling a pattern or allocating.
+ * Like the regex character classes they replace, letters and digits are ASCII only, and whitespace is
+ * {@code [ \t\n\x0B\f\r]}.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is made of digits only and has at least one that is not zero.
+     * Same as {@code [0-9]*[1-9][0-9]*}.
+     */
+    public static boolean isNonZeroDigits(String test) {
+        requireNonNull(test);
+        boolean hasNonZeroDigit = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c)) {
+                return false;
+            }
+            hasNonZeroDigit |= c != '0';
+        }
+        return hasNonZeroDigit;
+    }
+
+    /**
+     * Returns {@code str} without its leading zeroes, keeping the last character even if it is a zero.
+     * Same as {@code str.replaceAll("^0+(?!$)", "")} for a string without line terminators, such as an id.
+     */
+    public static String stripLeadingZeroes(String str) {
+        requireNonNull(str);
+        int start = 0;
+        while (start < str.length() - 1 && str.charAt(start) == '0') {
+            start++;
+        }
+        return str.substring(start);
+    }
+
+    /**
+     * Returns true if {@code test} is one or more letters and digits.
+     * Same as {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is letters, digits and spaces, and starts with a letter or digit.
+     * Same as {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is groups of digits of the given sizes, with optional whitespace before, between
+     * and after the groups. For example, {@code isDigitGroups(test, 4, 4)} is the same as
+     * {@code \s*\d{4}\s*\d{4}\s*}.
+     */
+    public static boolean isDigitGroups(String test, int... groupSizes) {
+        requireNonNull(test);
+        int i = skipWhitespace(test, 0);
+        for (int groupSize : groupSizes) {
+            for (int end = i + groupSize; i < end; i++) {
+                if (i >= test.length() || !isDigit(test.charAt(i))) {
+                    return false;
+                }
+            }
+            i = skipWhitespace(test, i);
+        }
+        return i == test.length();
+    }
+
+    /**
+     * Returns true if {@code test} is a single line that does not start with whitespace.
+     * Same as {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(String str, int from) {
+        int i = from;
+        while (i < str.length() && isWhitespace(str.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -2,7 +2,6 @@ package seedu.sudohr.logic;
 
 import java.nio.file.Path;
 
-import javafx.collections.ObservableList;
 import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.logic.commands.CommandResult;
 import seedu.sudohr.logic.commands.exceptions.CommandException;
@@ -11,6 +10,7 @@ import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * API of the Logic component
@@ -33,13 +33,13 @@ public interface Logic {
     ReadOnlySudoHr getSudoHr();
 
     /** Returns an unmodifiable view of the filtered list of employees. */
-    ObservableList<Employee> getFilteredEmployeeList();
+    ModelList<Employee> getFilteredEmployeeList();
 
     /** Returns an unmodifiable view of the filtered list of departments */
-    ObservableList<Department> getFilteredDepartmentList();
+    ModelList<Department> getFilteredDepartmentList();
 
     /** Returns an unmodifiable view of the filtered list of leaves */
-    ObservableList<Leave> getFilteredLeaveList();
+    ModelList<Leave> getFilteredLeaveList();
 
     /**
      * Returns the user prefs' SudoHR file path.
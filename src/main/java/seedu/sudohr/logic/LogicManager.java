@@ -2,9 +2,9 @@ package seedu.sudohr.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.logic.commands.Command;
@@ -17,6 +17,7 @@ import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.list.ModelList;
 import seedu.sudohr.storage.Storage;
 
 /**
@@ -29,13 +30,25 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final SudoHrParser sudoHrParser;
+    private final boolean isSaveDeferred;
+    private boolean hasSaved = false;
+    private long savedSudoHrVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isSaveDeferred}, commands leave the data unsaved until {@link #saveSudoHr()} is called.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSaveDeferred) {
         this.model = model;
         this.storage = storage;
+        this.isSaveDeferred = isSaveDeferred;
         sudoHrParser = new SudoHrParser();
     }
 
@@ -43,17 +56,67 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = sudoHrParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model);
+        if (isSaveDeferred) {
+            return commandResult;
+        }
+
+        saveSudoHrIfModified();
+
+        if (commandResult.isExit()) {
+            // the application is about to close, so pending saves must complete before it does
+            storage.flushSudoHr();
+        }
+
+        Optional<IOException> failure = takeSaveFailure();
+        if (failure.isEmpty()) {
+            return commandResult;
+        }
+        if (commandResult.isExit()) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + failure.get(), failure.get());
+        }
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE + failure.get(),
+                commandResult.isShowHelp(), false);
+    }
 
-        try {
-            storage.saveSudoHr(model.getSudoHr());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+    /**
+     * Saves the SudoHR data in the background unless it is unchanged since it was last saved.
+     * The data is always saved after the first command, as it may not exist on disk yet.
+     */
+    private void saveSudoHrIfModified() {
+        long version = model.getSudoHrVersion();
+        if (hasSaved && version == savedSudoHrVersion) {
+            logger.fine("SudoHR data unchanged, skipping save");
+            return;
         }
 
-        return commandResult;
+        storage.saveSudoHrInBackground(model.getSudoHrSnapshot());
+        hasSaved = true;
+        savedSudoHrVersion = version;
+    }
+
+    /**
+     * Saves the SudoHR data and waits for the save to complete.
+     * Meant for a {@code LogicManager} that defers saving, as it waits for no save that runs in the background.
+     */
+    public void saveSudoHr() throws IOException {
+        long version = model.getSudoHrVersion();
+        storage.saveSudoHr(model.getSudoHrSnapshot());
+        hasSaved = true;
+        savedSudoHrVersion = version;
+    }
+
+    /**
+     * Returns the latest failure of a background save, if any.
+     * The data is then saved again after the next command, even if that command does not modify it.
+     */
+    private Optional<IOException> takeSaveFailure() {
+        Optional<IOException> failure = storage.takeSudoHrSaveFailure();
+        if (failure.isPresent()) {
+            hasSaved = false;
+        }
+        return failure;
     }
 
     @Override
@@ -62,17 +125,17 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Employee> getFilteredEmployeeList() {
+    public ModelList<Employee> getFilteredEmployeeList() {
         return model.getFilteredEmployeeList();
     }
 
     @Override
-    public ObservableList<Department> getFilteredDepartmentList() {
+    public ModelList<Department> getFilteredDepartmentList() {
         return model.getFilteredDepartmentList();
     }
 
     @Override
-    public ObservableList<Leave> getFilteredLeaveList() {
+    public ModelList<Leave> getFilteredLeaveList() {
         return model.getFilteredLeaveList();
     }
 
@@ -0,0 +1,111 @@
+package seedu.sudohr.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.logic.commands.CommandResult;
+import seedu.sudohr.logic.commands.exceptions.CommandException;
+import seedu.sudohr.logic.parser.exceptions.ParseException;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.SudoHrSnapshot;
+import seedu.sudohr.storage.Storage;
+
+/**
+ * Executes a script of commands, one per line, as a single transaction.
+ * The commands are executed by a {@link LogicManager} that defers saving, so the SudoHR data is saved only once,
+ * after the last command, and only if every command succeeded. If any command failed, the data is put back as it
+ * was before the script. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped, and an
+ * {@code exit} command ends the script.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_LINE_SUCCESS = "%1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILURE = "%1$d: ERROR %2$s";
+    public static final String MESSAGE_SUMMARY = "%1$d commands executed, %2$d failed, in %3$d ms (%4$d commands/s)";
+    public static final String MESSAGE_SAVED = "Data saved to %1$s";
+    public static final String MESSAGE_NOT_SAVED = "Data not saved and changes undone as %1$d commands failed";
+    public static final String MESSAGE_UNCHANGED = "Data unchanged, not saved";
+
+    private final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final LogicManager logic;
+
+    /**
+     * Constructs a {@code ScriptRunner} that executes commands on {@code model} and saves it to {@code storage}.
+     */
+    public ScriptRunner(Model model, Storage storage) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.model = model;
+        this.storage = storage;
+        logic = new LogicManager(model, storage, true);
+    }
+
+    /**
+     * Executes every command in {@code script}, printing the result of each line and a summary to {@code out},
+     * then saves the data if no command failed and any command modified it, or undoes the changes if any failed.
+     *
+     * @return true if every command succeeded.
+     * @throws IOException if the script cannot be read or the data cannot be saved.
+     */
+    public boolean run(BufferedReader script, PrintStream out) throws IOException {
+        int executed = 0;
+        int failed = 0;
+        int lineNumber = 0;
+        long initialVersion = model.getSudoHrVersion();
+        SudoHrSnapshot initialData = model.getSudoHrSnapshot();
+        long start = System.nanoTime();
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executed++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(String.format(MESSAGE_LINE_SUCCESS, lineNumber, commandResult.getFeedbackToUser()));
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failed++;
+                out.println(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+            }
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        out.println(String.format(MESSAGE_SUMMARY, executed, failed, elapsedNanos / 1_000_000,
+                executed * 1_000_000_000L / elapsedNanos));
+
+        if (failed > 0) {
+            logger.warning(failed + " commands of the script failed, data not saved");
+            if (model.getSudoHrVersion() != initialVersion) {
+                model.setSudoHr(initialData);
+            }
+            out.println(String.format(MESSAGE_NOT_SAVED, failed));
+            return false;
+        }
+
+        if (model.getSudoHrVersion() == initialVersion) {
+            out.println(MESSAGE_UNCHANGED);
+            return true;
+        }
+
+        logic.saveSudoHr();
+        out.println(String.format(MESSAGE_SAVED, storage.getSudoHrFilePath()));
+        return true;
+    }
+}
@@ -6,7 +6,6 @@ import static seedu.sudohr.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.sudohr.logic.parser.CliSyntax.PREFIX_DEPARTMENT_NAME;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
 
 import seedu.sudohr.logic.commands.Command;
 import seedu.sudohr.logic.commands.CommandResult;
@@ -14,8 +13,7 @@ import seedu.sudohr.logic.commands.exceptions.CommandException;
 import seedu.sudohr.model.Model;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
-import seedu.sudohr.model.employee.Employee;
-import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.employee.EmployeeBitmap;
 import seedu.sudohr.model.leave.LeaveDate;
 
 
@@ -68,17 +66,11 @@ public class ListDepartmentHeadcountCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DATE_FOR_HEADCOUNT);
         }
 
-        Leave leaveOnGivenDate = model.getLeave(new LeaveDate(date));
-
-        Predicate<Employee> predicateEmployeeInDepartment = e -> department.hasEmployee(e);
-
-        Predicate<Employee> predicateEmployeePresent = leaveOnGivenDate == null
-                ? e -> true
-                : e -> !leaveOnGivenDate.hasEmployee(e);
-
+        // the members of the department, less those on leave on that day
+        EmployeeBitmap employeesPresent = model.getEmployeesPresent(department, new LeaveDate(date));
 
         // show all employees present on that day in the given department
-        model.updateFilteredEmployeeList(predicateEmployeeInDepartment.and(predicateEmployeePresent));
+        model.updateFilteredEmployeeList(employeesPresent);
 
         // show the relevant department
         model.updateFilteredDepartmentList(d -> d.equals(department));
@@ -86,7 +78,7 @@ public class ListDepartmentHeadcountCommand extends Command {
 
 
         return new CommandResult(
-                String.format(MESSAGE_SUCCESS, model.getFilteredEmployeeList().size(),
+                String.format(MESSAGE_SUCCESS, employeesPresent.cardinality(),
                         date.toString(), departmentName));
     }
 
@@ -9,6 +9,7 @@ import seedu.sudohr.logic.commands.CommandResult;
 import seedu.sudohr.logic.commands.exceptions.CommandException;
 import seedu.sudohr.model.Model;
 import seedu.sudohr.model.department.DepartmentContainsEmployeePredicate;
+import seedu.sudohr.model.employee.Employee;
 
 /**
  * List a given employee's departments.
@@ -30,12 +31,13 @@ public class ListEmployeeDepartmentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredDepartmentList(predicate);
-
-        if (model.getEmployee(predicate.getId()) == null) {
+        Employee employee = model.getEmployee(predicate.getId());
+        if (employee == null) {
             throw new CommandException(Messages.MESSAGE_EMPLOYEE_NOT_FOUND);
         }
 
+        model.updateFilteredDepartmentList(employee);
+
         return new CommandResult(
                 String.format(Messages.MESSAGE_DEPARTMENTS_LISTED_OVERVIEW, model.getFilteredDepartmentList().size()));
     }
@@ -50,7 +50,7 @@ public class ListEmployeesInDepartmentCommand extends Command {
             throw new CommandException(MESSAGE_DEPARTMENT_NOT_FOUND);
         }
 
-        model.updateFilteredEmployeeList(e -> department.hasEmployee(e));
+        model.updateFilteredEmployeeList(department);
 
         if (model.getFilteredEmployeeList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_SUCCESS_NO_EMPLOYEE, departmentName));
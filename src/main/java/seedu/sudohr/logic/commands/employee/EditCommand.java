@@ -94,12 +94,12 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EMAIL);
         }
 
+        // the employee list is updated first, so departments and leaves can resolve the edited employee
+        model.setEmployee(employeeToEdit, editedEmployee);
         model.cascadeEditEmployeeToDepartments(employeeToEdit, editedEmployee);
         model.cascadeUpdateUserInLeaves(employeeToEdit, editedEmployee);
-        model.setEmployee(employeeToEdit, editedEmployee);
         model.updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
         model.updateFilteredLeaveList(Model.PREDICATE_SHOW_ALL_NON_EMPTY_LEAVES); // not req but defensive programming
-        model.refresh();
         return new CommandResult(String.format(MESSAGE_EDIT_EMPLOYEE_SUCCESS, editedEmployee.toStringAllFields()));
     }
 
@@ -11,6 +11,7 @@ import seedu.sudohr.model.employee.NameContainsKeywordsPredicate;
 /**
  * Finds and lists all employees in SudoHr whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Employees are looked up in the index of the words of their names, rather than tested one by one.
  */
 public class FindCommand extends Command {
 
@@ -30,7 +31,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEmployeeList(predicate);
+        model.updateFilteredEmployeeList(model.findEmployeesByName(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW, model.getFilteredEmployeeList().size()));
     }
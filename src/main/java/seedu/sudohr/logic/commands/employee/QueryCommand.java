@@ -0,0 +1,64 @@
+package seedu.sudohr.logic.commands.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.sudohr.commons.core.Messages;
+import seedu.sudohr.logic.commands.Command;
+import seedu.sudohr.logic.commands.CommandResult;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryPlan;
+
+/**
+ * Lists the employees matching a query that combines conditions on their fields, or shows how the query would be run.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the employees matching a query made of "
+            + "FIELD:VALUE conditions combined with AND, OR, NOT and parentheses. Conditions next to each other are "
+            + "combined with AND, and values with spaces are written in double quotes. Start the query with "
+            + EXPLAIN_KEYWORD + " to show how it would be run instead.\n"
+            + "Fields: id, name (whole words), tag, dept, onleave (YYYY-MM-DD), "
+            + "email, phone, address (parts of the value)\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + "] CONDITION [[AND|OR] [NOT] CONDITION]...\n"
+            + "Example: " + COMMAND_WORD + " tag:Manager AND dept:\"Engineering\" AND NOT onleave:2024-05-03";
+
+    public static final String MESSAGE_EXPLAIN = "Plan for %1$s:\n%2$s";
+
+    private final EmployeeQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand to list the employees matching {@code query}, or to explain how they would be found
+     * if {@code isExplain} is true.
+     */
+    public QueryCommand(EmployeeQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.planEmployeeQuery(query);
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_EXPLAIN, query, plan.explain()));
+        }
+        model.updateFilteredEmployeeList(plan.execute());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW, model.getFilteredEmployeeList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)
+                && isExplain == ((QueryCommand) other).isExplain); // state check
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.sudohr.logic.commands.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.sudohr.commons.core.Messages;
+import seedu.sudohr.logic.commands.Command;
+import seedu.sudohr.logic.commands.CommandResult;
+import seedu.sudohr.model.Model;
+
+/**
+ * Searches for employees by words of their names, emails and tags, and lists the best matches first.
+ * A term matches words equal to it, words starting with it, and words within a few typos of it, ignoring case.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_RESULTS = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches for employees whose names, emails or tags "
+            + "contain words starting with, or close to, any of the specified terms (case-insensitive) and displays "
+            + "the best matches first as a list with index numbers.\n"
+            + "Parameters: TERM [MORE_TERMS]...\n"
+            + "Example: " + COMMAND_WORD + " alx manag";
+
+    private final List<String> terms;
+
+    /**
+     * Creates a SearchCommand to search for employees matching any of {@code terms}.
+     */
+    public SearchCommand(List<String> terms) {
+        requireNonNull(terms);
+        this.terms = List.copyOf(terms);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredEmployeeList(model.searchEmployees(terms, MAX_RESULTS));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW, model.getFilteredEmployeeList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && terms.equals(((SearchCommand) other).terms)); // state check
+    }
+}
@@ -90,7 +90,6 @@ public class AddEmployeeToLeaveFromToCommand extends Command {
         final List<Leave> leavesToFilter = leavesToAdd;
 
         model.updateFilteredLeaveList(l -> leavesToFilter.contains(l));
-        model.refresh(); // defensive coding
         return new CommandResult(builder.toString());
     }
 
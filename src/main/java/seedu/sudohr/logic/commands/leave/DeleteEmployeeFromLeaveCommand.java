@@ -74,7 +74,6 @@ public class DeleteEmployeeFromLeaveCommand extends Command {
         final Leave leaveToFilter = leaveToDelete;
         model.updateFilteredLeaveList(l -> l.equals(leaveToFilter));
 
-        model.refresh(); // defensive coding
         return new CommandResult(String.format(MESSAGE_SUCCESS, employeeToDelete, leaveToDelete));
     }
 
@@ -45,7 +45,7 @@ public class ListLeavesByEmployeeCommand extends Command {
             throw new CommandException(MESSAGE_EMPLOYEE_NOT_FOUND);
         }
 
-        model.updateFilteredLeaveList(l -> l.hasEmployee(employee));
+        model.updateFilteredLeaveList(employee);
         return new CommandResult(
                 String.format(MESSAGE_SUCCESS, employeeId)
         );
@@ -25,6 +25,7 @@ import seedu.sudohr.model.employee.Name;
 import seedu.sudohr.model.employee.Phone;
 import seedu.sudohr.model.leave.LeaveDate;
 import seedu.sudohr.model.tag.Tag;
+import seedu.sudohr.model.tag.TagSet;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -105,7 +106,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -135,7 +136,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -147,7 +148,7 @@ public class ParserUtil {
         for (String tagName : tags) {
             tagSet.add(parseTag(tagName));
         }
-        return tagSet;
+        return TagSet.of(tagSet);
     }
 
     /**
@@ -253,7 +254,7 @@ public class ParserUtil {
         if (!DepartmentName.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new DepartmentName(trimmedName);
+        return DepartmentName.of(trimmedName);
     }
 
     /**
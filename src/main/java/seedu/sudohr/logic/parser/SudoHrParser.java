@@ -27,6 +27,8 @@ import seedu.sudohr.logic.commands.employee.EditCommand;
 import seedu.sudohr.logic.commands.employee.FindByIdCommand;
 import seedu.sudohr.logic.commands.employee.FindCommand;
 import seedu.sudohr.logic.commands.employee.ListCommand;
+import seedu.sudohr.logic.commands.employee.QueryCommand;
+import seedu.sudohr.logic.commands.employee.SearchCommand;
 import seedu.sudohr.logic.commands.leave.AddEmployeeToLeaveCommand;
 import seedu.sudohr.logic.commands.leave.AddEmployeeToLeaveFromToCommand;
 import seedu.sudohr.logic.commands.leave.DeleteEmployeeFromLeaveCommand;
@@ -47,6 +49,8 @@ import seedu.sudohr.logic.parser.employee.DeleteCommandParser;
 import seedu.sudohr.logic.parser.employee.EditCommandParser;
 import seedu.sudohr.logic.parser.employee.FindByIdCommandParser;
 import seedu.sudohr.logic.parser.employee.FindCommandParser;
+import seedu.sudohr.logic.parser.employee.QueryCommandParser;
+import seedu.sudohr.logic.parser.employee.SearchCommandParser;
 import seedu.sudohr.logic.parser.exceptions.ParseException;
 import seedu.sudohr.logic.parser.leave.AddEmployeeToLeaveCommandParser;
 import seedu.sudohr.logic.parser.leave.AddEmployeeToLeaveFromToCommandParser;
@@ -130,6 +134,12 @@ public class SudoHrParser {
         case FindByIdCommand.COMMAND_WORD:
             return new FindByIdCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
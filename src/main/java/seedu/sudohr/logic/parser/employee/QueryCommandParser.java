@@ -0,0 +1,199 @@
+package seedu.sudohr.logic.parser.employee;
+
+import static seedu.sudohr.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.sudohr.logic.commands.employee.QueryCommand;
+import seedu.sudohr.logic.parser.Parser;
+import seedu.sudohr.logic.parser.ParserUtil;
+import seedu.sudohr.logic.parser.exceptions.ParseException;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.employee.Name;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryField;
+import seedu.sudohr.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is read with the grammar below, where keywords and field names are case-insensitive:
+ * <pre>
+ * query     := ["explain"] or
+ * or        := and ("OR" and)*
+ * and       := unary (["AND"] unary)*
+ * unary     := "NOT" unary | "(" or ")" | FIELD:VALUE | FIELD:"VALUE WITH SPACES"
+ * </pre>
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        boolean isExplain = !tokens.isEmpty() && tokens.get(0).equalsIgnoreCase(QueryCommand.EXPLAIN_KEYWORD);
+        if (isExplain) {
+            position++;
+        }
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+
+        EmployeeQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query, isExplain);
+    }
+
+    private EmployeeQuery parseOr() throws ParseException {
+        List<EmployeeQuery> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return EmployeeQuery.or(queries);
+    }
+
+    private EmployeeQuery parseAnd() throws ParseException {
+        List<EmployeeQuery> queries = new ArrayList<>();
+        queries.add(parseUnary());
+        while (position < tokens.size() && !isNext(OR) && !isNext(CLOSE)) {
+            if (isNext(AND)) {
+                position++;
+            }
+            queries.add(parseUnary());
+        }
+        return EmployeeQuery.and(queries);
+    }
+
+    private EmployeeQuery parseUnary() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+        String token = tokens.get(position++);
+        if (token.equalsIgnoreCase(NOT)) {
+            return EmployeeQuery.not(parseUnary());
+        }
+        if (token.equals(OPEN)) {
+            EmployeeQuery query = parseOr();
+            if (!isNext(CLOSE)) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        }
+        return parseCondition(token);
+    }
+
+    private boolean isNext(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    /**
+     * Parses a {@code FIELD:VALUE} token into a condition, checking that the value can be matched by the field.
+     */
+    private static EmployeeQuery parseCondition(String token) throws ParseException {
+        int colon = token.indexOf(':');
+        if (colon < 0) {
+            throw invalidFormat();
+        }
+        QueryField field = QueryField.fromKeyword(token.substring(0, colon)).orElseThrow(
+                QueryCommandParser::invalidFormat);
+        String value = unquote(token.substring(colon + 1)).trim();
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        switch (field) {
+        case ID:
+            if (!Id.isValidId(value)) {
+                throw new ParseException(Id.MESSAGE_CONSTRAINTS);
+            }
+            break;
+        case NAME:
+            if (!Name.isValidName(value)) {
+                throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+            }
+            break;
+        case TAG:
+            if (!Tag.isValidTagName(value)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            break;
+        case DEPT:
+            if (!DepartmentName.isValidName(value)) {
+                throw new ParseException(DepartmentName.MESSAGE_CONSTRAINTS);
+            }
+            break;
+        case ONLEAVE:
+            value = ParserUtil.parseLeaveDate(value).value.toString();
+            break;
+        default:
+            break;
+        }
+        return EmployeeQuery.condition(field, value);
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Splits {@code args} into parentheses and words, keeping text in double quotes, spaces included, in its word.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                boolean isQuoted = false;
+                while (i < args.length() && (isQuoted || !isDelimiter(args.charAt(i)))) {
+                    if (args.charAt(i) == '"') {
+                        isQuoted = !isQuoted;
+                    }
+                    i++;
+                }
+                if (isQuoted) {
+                    throw invalidFormat();
+                }
+                tokens.add(args.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,16 +1,20 @@
 package seedu.sudohr.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.list.ModelList;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -65,6 +69,22 @@ public interface Model {
     /** Returns the SudoHr */
     ReadOnlySudoHr getSudoHr();
 
+    /**
+     * Returns a counter that changes whenever the SudoHR data is modified.
+     */
+    long getSudoHrVersion();
+
+    /**
+     * Returns an immutable snapshot of the SudoHR data, which can be saved on another thread.
+     */
+    SudoHrSnapshot getSudoHrSnapshot();
+
+    /**
+     * Detaches the filtered lists from the SudoHR data, which can outlive the model.
+     * The model must not be used afterwards.
+     */
+    void close();
+
     //=========== Employee-Level Operations ===========================================
 
     /**
@@ -131,7 +151,7 @@ public interface Model {
     void setEmployee(Employee target, Employee editedEmployee);
 
     /** Returns an unmodifiable view of the filtered employee list */
-    ObservableList<Employee> getFilteredEmployeeList();
+    ModelList<Employee> getFilteredEmployeeList();
 
     /**
      * Updates the filter of the filtered employee list to filter by the given {@code predicate}.
@@ -139,6 +159,42 @@ public interface Model {
      */
     void updateFilteredEmployeeList(Predicate<Employee> predicate);
 
+    /**
+     * Updates the filter of the filtered employee list to show only the employees in {@code employees}.
+     * @param employees a bitmap over the ordinals of the employee list of SudoHR.
+     * @throws NullPointerException if {@code employees} is null.
+     */
+    void updateFilteredEmployeeList(EmployeeBitmap employees);
+
+    /**
+     * Returns the employees whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    EmployeeBitmap findEmployeesByName(List<String> keywords);
+
+    /**
+     * Updates the filtered employee list to show only the employees in {@code employees}, in the same order.
+     * @throws NullPointerException if {@code employees} is null.
+     */
+    void updateFilteredEmployeeList(List<Employee> employees);
+
+    /**
+     * Updates the filtered employee list to show only the employees in {@code department}, which are looked up
+     * through the department instead of testing every employee.
+     * @throws NullPointerException if {@code department} is null.
+     */
+    void updateFilteredEmployeeList(Department department);
+
+    /**
+     * Returns at most {@code limit} employees matching any of {@code terms} by a word of their name, email or tags,
+     * allowing prefixes and typos, best matches first.
+     */
+    List<Employee> searchEmployees(List<String> terms, int limit);
+
+    /**
+     * Returns a plan that finds the employees matching {@code query} using the indices of SudoHR.
+     */
+    QueryPlan planEmployeeQuery(EmployeeQuery query);
+
     //=========== Department-Level Operations ==========================================================================
 
     Department getDepartment(DepartmentName name);
@@ -153,6 +209,11 @@ public interface Model {
      */
     int getCountForDepartment(DepartmentName departmentName);
 
+    /**
+     * Returns the employees of {@code department} who are not on leave on {@code date}.
+     */
+    EmployeeBitmap getEmployeesPresent(Department department, LeaveDate date);
+
     /**
      * Returns true if a department with the same identity as {@code department} exists in SudoHR.
      */
@@ -193,7 +254,7 @@ public interface Model {
     void removeEmployeeFromDepartment(Employee p, Department d);
 
     /** Returns an unmodifiable view of the filtered department list */
-    ObservableList<Department> getFilteredDepartmentList();
+    ModelList<Department> getFilteredDepartmentList();
 
     /**
      * Deletes an employee from the employee list of the department the deleted employee belongs to.
@@ -214,6 +275,14 @@ public interface Model {
      */
     void updateFilteredDepartmentList(Predicate<Department> predicate);
 
+    /**
+     * Updates the filtered department list to show only the departments of {@code employee}, which are looked up
+     * through the employee instead of testing every department.
+     *
+     * @throws NullPointerException if {@code employee} is null.
+     */
+    void updateFilteredDepartmentList(Employee employee);
+
     //=========== Leave-Level Operations ==========================================================================
 
     Leave getLeave(LeaveDate date);
@@ -259,11 +328,11 @@ public interface Model {
      */
     void addEmployeeToLeave(Leave leaveToAdd, Employee employeeToAdd);
 
-    /** Returns an unmodifiable view of the filtered leave list */
-    ObservableList<Leave> getFilteredLeaveList();
+    /** Returns an unmodifiable view of the filtered leave list, in date order */
+    ModelList<Leave> getFilteredLeaveList();
 
     /** Returns an unmodifiable view of the full leave list */
-    ObservableList<Leave> getLeavesList();
+    ModelList<Leave> getLeavesList();
 
     /**
      * Deletes an employee {@code employee} from a given leave{@code leave} in SuoHR.
@@ -277,6 +346,14 @@ public interface Model {
      */
     void updateFilteredLeaveList(Predicate<Leave> predicateShowAllNonEmptyLeaves);
 
+    /**
+     * Updates the filtered leave list to show only the leaves taken by {@code employee}, which are looked up
+     * through the employee instead of testing every leave.
+     *
+     * @throws NullPointerException if {@code employee} is null.
+     */
+    void updateFilteredLeaveList(Employee employee);
+
     /**
      * Update an employee {@code employee} with editedEmployee {@code employee} in all leave in SudoHR.
      */
@@ -286,10 +363,4 @@ public interface Model {
      * Deletes an employee {@code employee} from all leaves in SudoHR.
      */
     void cascadeDeleteUserInLeaves(Employee employeeToDelete);
-
-
-    /**
-     * Refreshes filteredLists in SudoHr
-     */
-    void refresh();
 }
@@ -4,21 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
-import seedu.sudohr.model.leave.LeaveSortedByDateComparator;
+import seedu.sudohr.model.list.FilteredModelList;
+import seedu.sudohr.model.list.ModelList;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryPlan;
+import seedu.sudohr.model.query.QueryPlanner;
 
 /**
  * Represents the in-memory model of the SudoHR data.
@@ -28,13 +36,13 @@ public class ModelManager implements Model {
 
     private final SudoHr sudoHr;
     private final UserPrefs userPrefs;
-    private final FilteredList<Employee> filteredEmployees;
-    private final FilteredList<Department> filteredDepartments;
-    private final FilteredList<Leave> filteredLeaves;
-    private final FilteredList<Employee> refreshedEmployees;
-    private final FilteredList<Department> refreshedDepartments;
-    private final FilteredList<Leave> refreshedLeaves;
-    private final SortedList<Leave> sortedLeaves;
+    private final FilteredModelList<Employee> filteredEmployees;
+    private final FilteredModelList<Department> filteredDepartments;
+    private final FilteredModelList<Leave> filteredLeaves;
+    // the ids shown by a filter by employees, or null if the filter is of another kind
+    private Set<Id> filteredEmployeeIds;
+    // the ranks of the ids shown by a ranked filter by employees, or null if the filter is not ranked
+    private Map<Id, Integer> filteredEmployeeRanks;
 
     /**
      * Initializes a ModelManager with the given sudoHr and userPrefs.
@@ -47,13 +55,9 @@ public class ModelManager implements Model {
         this.sudoHr = new SudoHr(sudoHr);
         this.userPrefs = new UserPrefs(userPrefs);
 
-        refreshedEmployees = new FilteredList<>(this.sudoHr.getEmployeeList(), (l) -> true);
-        refreshedDepartments = new FilteredList<>(this.sudoHr.getDepartmentList(), (l) -> true);
-        refreshedLeaves = new FilteredList<>(this.sudoHr.getLeavesList(), (l) -> true);
-        filteredEmployees = new FilteredList<>(refreshedEmployees);
-        filteredDepartments = new FilteredList<>(refreshedDepartments);
-        filteredLeaves = new FilteredList<>(refreshedLeaves, PREDICATE_SHOW_ALL_NON_EMPTY_LEAVES);
-        sortedLeaves = new SortedList<>(this.filteredLeaves, new LeaveSortedByDateComparator());
+        filteredEmployees = new FilteredModelList<>(this.sudoHr.getEmployeeList());
+        filteredDepartments = new FilteredModelList<>(this.sudoHr.getDepartmentList());
+        filteredLeaves = new FilteredModelList<>(this.sudoHr.getLeavesList(), PREDICATE_SHOW_ALL_NON_EMPTY_LEAVES);
     }
 
     public ModelManager() {
@@ -97,16 +101,6 @@ public class ModelManager implements Model {
         userPrefs.setSudoHrFilePath(sudoHrFilePath);
     }
 
-    @Override
-    public void refresh() {
-        refreshedEmployees.setPredicate((e) -> false);
-        refreshedDepartments.setPredicate((d) -> false);
-        refreshedLeaves.setPredicate((l) -> false);
-        refreshedEmployees.setPredicate((e)->true);
-        refreshedDepartments.setPredicate((d)->true);
-        refreshedLeaves.setPredicate((l)->true);
-    }
-
     // =========== SudoHr
     // ================================================================================
 
@@ -120,6 +114,23 @@ public class ModelManager implements Model {
         return sudoHr;
     }
 
+    @Override
+    public long getSudoHrVersion() {
+        return sudoHr.getVersion();
+    }
+
+    @Override
+    public SudoHrSnapshot getSudoHrSnapshot() {
+        return sudoHr.snapshot();
+    }
+
+    @Override
+    public void close() {
+        filteredEmployees.detach();
+        filteredDepartments.detach();
+        filteredLeaves.detach();
+    }
+
     //=========== Employee-Level Operations ========================
 
     @Override
@@ -187,7 +198,34 @@ public class ModelManager implements Model {
     @Override
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
-        sudoHr.setEmployee(target, editedEmployee);
+        Id id = target.getId();
+        Id editedId = editedEmployee.getId();
+        if (filteredEmployeeIds == null || !filteredEmployeeIds.contains(id) || id.equals(editedId)) {
+            sudoHr.setEmployee(target, editedEmployee);
+            return;
+        }
+
+        // the filter follows the employee to its new id, which must be in place before the list changes
+        boolean wasShown = !filteredEmployeeIds.add(editedId);
+        Integer replacedRank = filteredEmployeeRanks == null ? null
+                : filteredEmployeeRanks.put(editedId, filteredEmployeeRanks.get(id));
+        try {
+            sudoHr.setEmployee(target, editedEmployee);
+        } catch (RuntimeException e) {
+            if (!wasShown) {
+                filteredEmployeeIds.remove(editedId);
+            }
+            if (filteredEmployeeRanks != null && replacedRank == null) {
+                filteredEmployeeRanks.remove(editedId);
+            } else if (filteredEmployeeRanks != null) {
+                filteredEmployeeRanks.put(editedId, replacedRank);
+            }
+            throw e;
+        }
+        filteredEmployeeIds.remove(id);
+        if (filteredEmployeeRanks != null) {
+            filteredEmployeeRanks.remove(id);
+        }
     }
 
     // =========== Leave Commands
@@ -212,7 +250,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Leave> getLeavesList() {
+    public ModelList<Leave> getLeavesList() {
         return this.sudoHr.getLeavesList();
     }
 
@@ -274,8 +312,8 @@ public class ModelManager implements Model {
     // =============================================================
 
     @Override
-    public ObservableList<Leave> getFilteredLeaveList() {
-        return sortedLeaves;
+    public ModelList<Leave> getFilteredLeaveList() {
+        return filteredLeaves;
     }
 
     @Override
@@ -284,6 +322,13 @@ public class ModelManager implements Model {
         filteredLeaves.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredLeaveList(Employee employee) {
+        requireNonNull(employee);
+        Id id = employee.getId();
+        filteredLeaves.setIndexedPredicate(leave -> leave.hasEmployee(id), sudoHr.getPositionsOfLeavesOf(id));
+    }
+
     // =========== Filtered Employee List Accessors
     // =============================================================
 
@@ -292,14 +337,75 @@ public class ModelManager implements Model {
      * {@code versionedSudoHr}
      */
     @Override
-    public ObservableList<Employee> getFilteredEmployeeList() {
+    public ModelList<Employee> getFilteredEmployeeList() {
         return filteredEmployees;
     }
 
     @Override
     public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
         requireNonNull(predicate);
-        filteredEmployees.setPredicate(predicate);
+        filteredEmployeeIds = null;
+        filteredEmployeeRanks = null;
+        filteredEmployees.setPredicate(predicate, null);
+    }
+
+    /**
+     * The employees are shown by their positions and only they are sorted by their ranks, which are kept by id and
+     * follow an employee edited while shown, so that it keeps its place.
+     */
+    @Override
+    public void updateFilteredEmployeeList(List<Employee> employees) {
+        requireNonNull(employees);
+        Map<Id, Integer> ranks = new HashMap<>();
+        for (Employee employee : employees) {
+            ranks.put(employee.getId(), ranks.size());
+        }
+        Set<Id> ids = new HashSet<>(ranks.keySet());
+        filteredEmployeeIds = ids;
+        filteredEmployeeRanks = ranks;
+        filteredEmployees.setIndexedPredicate(employee -> ids.contains(employee.getId()),
+                sudoHr.getPositionsOfEmployees(ids), Comparator.comparingInt(employee -> ranks.get(employee.getId())));
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(Department department) {
+        requireNonNull(department);
+        filteredEmployeeIds = null;
+        filteredEmployeeRanks = null;
+        filteredEmployees.setIndexedPredicate(department::hasEmployee, sudoHr.getPositionsOfEmployeesIn(department));
+    }
+
+    @Override
+    public List<Employee> searchEmployees(List<String> terms, int limit) {
+        requireNonNull(terms);
+        return sudoHr.searchEmployees(terms, limit);
+    }
+
+    @Override
+    public QueryPlan planEmployeeQuery(EmployeeQuery query) {
+        requireNonNull(query);
+        return new QueryPlanner(sudoHr).plan(query);
+    }
+
+    /**
+     * The ordinals in {@code employees} are turned into ids right away, as they can be renumbered while the filter
+     * is in place. The ids are shown by their positions in the order of SudoHR, so that the employee list is not
+     * scanned and no ranks are kept.
+     */
+    @Override
+    public void updateFilteredEmployeeList(EmployeeBitmap employees) {
+        requireNonNull(employees);
+        Set<Id> ids = sudoHr.getEmployeeIds(employees);
+        filteredEmployeeIds = ids;
+        filteredEmployeeRanks = null;
+        filteredEmployees.setIndexedPredicate(employee -> ids.contains(employee.getId()),
+                sudoHr.getPositionsOfEmployees(ids));
+    }
+
+    @Override
+    public EmployeeBitmap findEmployeesByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return sudoHr.findEmployeesByName(keywords);
     }
 
     //=========== Department-Level Operations ==========================================================================
@@ -328,6 +434,12 @@ public class ModelManager implements Model {
         return getCountForDepartment(dept);
     }
 
+    @Override
+    public EmployeeBitmap getEmployeesPresent(Department department, LeaveDate date) {
+        requireAllNonNull(department, date);
+        return sudoHr.getEmployeesPresent(department, date);
+    }
+
     @Override
     public void addDepartment(Department d) {
         sudoHr.addDepartment(d);
@@ -372,7 +484,7 @@ public class ModelManager implements Model {
      * {@code versionedsudoHr}
      */
     @Override
-    public ObservableList<Department> getFilteredDepartmentList() {
+    public ModelList<Department> getFilteredDepartmentList() {
         return filteredDepartments;
     }
 
@@ -382,6 +494,14 @@ public class ModelManager implements Model {
         filteredDepartments.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredDepartmentList(Employee employee) {
+        requireNonNull(employee);
+        Id id = employee.getId();
+        filteredDepartments.setIndexedPredicate(department -> department.hasEmployee(id),
+                sudoHr.getPositionsOfDepartmentsOf(id));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
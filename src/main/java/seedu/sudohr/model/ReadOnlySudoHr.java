@@ -1,9 +1,9 @@
 package seedu.sudohr.model;
 
-import javafx.collections.ObservableList;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * Unmodifiable view of a SudoHR
@@ -14,19 +14,19 @@ public interface ReadOnlySudoHr {
      * Returns an unmodifiable view of the employee list.
      * This list will not contain any duplicate employees.
      */
-    ObservableList<Employee> getEmployeeList();
+    ModelList<Employee> getEmployeeList();
 
     /**
      * Returns an unmodifiable view of the departments list.
      * This list will not contain any duplicate departments.
      */
-    ObservableList<Department> getDepartmentList();
+    ModelList<Department> getDepartmentList();
 
 
     /**
      * Returns an unmodifiable view of the leaves list.
      * This list will not contain any duplicate employees.
      */
-    ObservableList<Leave> getLeavesList();
+    ModelList<Leave> getLeavesList();
 
 }
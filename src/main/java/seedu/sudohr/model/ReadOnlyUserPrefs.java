@@ -3,6 +3,7 @@ package seedu.sudohr.model;
 import java.nio.file.Path;
 
 import seedu.sudohr.commons.core.GuiSettings;
+import seedu.sudohr.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getSudoHrFilePath();
 
+    StorageFormat getSudoHrStorageFormat();
+
 }
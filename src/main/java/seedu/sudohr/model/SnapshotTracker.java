@@ -0,0 +1,149 @@
+package seedu.sudohr.model;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.list.ModelList;
+
+/**
+ * Takes snapshots of the lists of a SudoHR.
+ * The changes reported by the lists are recorded by key as they happen, so a snapshot only copies the departments
+ * and leaves that changed since the previous one, and is not taken at all if nothing changed. The snapshot also
+ * holds those changes, leaving out departments and leaves that were updated without a change to their member ids.
+ */
+class SnapshotTracker {
+    private final ModelList<Employee> employees;
+    private final ModelList<Department> departments;
+    private final ModelList<Leave> leaves;
+
+    // the elements changed since the last snapshot, by key; a null value means the key was removed
+    private final Map<Id, Employee> changedEmployees = new LinkedHashMap<>();
+    private final Map<DepartmentName, Department> changedDepartments = new LinkedHashMap<>();
+    private final Map<LeaveDate, Leave> changedLeaves = new LinkedHashMap<>();
+
+    private final Map<DepartmentName, Department> departmentCopies = new HashMap<>();
+    private final Map<LeaveDate, Leave> leaveCopies = new HashMap<>();
+    private boolean isReset = true;
+    private SudoHrSnapshot lastSnapshot;
+
+    SnapshotTracker(ModelList<Employee> employees, ModelList<Department> departments, ModelList<Leave> leaves) {
+        this.employees = employees;
+        this.departments = departments;
+        this.leaves = leaves;
+        record(employees, Employee::getId, changedEmployees);
+        record(departments, Department::getName, changedDepartments);
+        record(leaves, Leave::getDate, changedLeaves);
+    }
+
+    /**
+     * Records that the lists were replaced as a whole, so the next snapshot copies everything instead of looking
+     * at the changes one by one.
+     */
+    void markReset() {
+        isReset = true;
+        changedEmployees.clear();
+        changedDepartments.clear();
+        changedLeaves.clear();
+    }
+
+    /**
+     * Returns a snapshot of the lists as they are now.
+     */
+    SudoHrSnapshot snapshot() {
+        if (!isReset && lastSnapshot != null && changedEmployees.isEmpty() && changedDepartments.isEmpty()
+                && changedLeaves.isEmpty()) {
+            return lastSnapshot;
+        }
+
+        Map<DepartmentName, Department> departmentChanges = new LinkedHashMap<>();
+        Map<LeaveDate, Leave> leaveChanges = new LinkedHashMap<>();
+        if (isReset) {
+            departmentCopies.clear();
+            leaveCopies.clear();
+            departments.forEach(department -> departmentCopies.put(department.getName(), copyOf(department)));
+            leaves.forEach(leave -> leaveCopies.put(leave.getDate(), copyOf(leave)));
+        } else {
+            updateCopies(changedDepartments, departmentCopies, SnapshotTracker::copyOf, Department::getEmployeeIds,
+                    departmentChanges);
+            updateCopies(changedLeaves, leaveCopies, SnapshotTracker::copyOf, Leave::getEmployeeIds, leaveChanges);
+        }
+
+        Department[] departmentArray = new Department[departments.size()];
+        for (int i = 0; i < departmentArray.length; i++) {
+            departmentArray[i] = departmentCopies.get(departments.get(i).getName());
+        }
+        Leave[] leaveArray = new Leave[leaves.size()];
+        for (int i = 0; i < leaveArray.length; i++) {
+            leaveArray[i] = leaveCopies.get(leaves.get(i).getDate());
+        }
+        long previousSequence = isReset || lastSnapshot == null ? SudoHrSnapshot.NO_SEQUENCE
+                : lastSnapshot.getSequence();
+        lastSnapshot = new SudoHrSnapshot(previousSequence, employees.toArray(new Employee[0]), departmentArray,
+                leaveArray, new LinkedHashMap<>(changedEmployees), departmentChanges, leaveChanges);
+
+        isReset = false;
+        changedEmployees.clear();
+        changedDepartments.clear();
+        changedLeaves.clear();
+        return lastSnapshot;
+    }
+
+    /**
+     * Records every element of {@code list} that is added, removed or updated in {@code changes} under its key.
+     */
+    private static <K, T> void record(ModelList<T> list, Function<T, K> keyOf, Map<K, T> changes) {
+        list.addObserver(change -> {
+            if (change.isUpdate()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    T element = list.get(i);
+                    changes.put(keyOf.apply(element), element);
+                }
+                return;
+            }
+            // an element both removed and added, such as one replaced by an edited copy, is recorded as added
+            change.getRemoved().forEach(element -> changes.put(keyOf.apply(element), null));
+            change.getAdded().forEach(element -> changes.put(keyOf.apply(element), element));
+        });
+    }
+
+    /**
+     * Copies the elements recorded in {@code changes} into {@code copies}, and puts the copies whose members differ
+     * from the previous copy into {@code changedCopies}.
+     */
+    private static <K, T> void updateCopies(Map<K, T> changes, Map<K, T> copies, UnaryOperator<T> copier,
+                                            Function<T, Set<Id>> membersOf, Map<K, T> changedCopies) {
+        for (Map.Entry<K, T> change : changes.entrySet()) {
+            K key = change.getKey();
+            if (change.getValue() == null) {
+                if (copies.remove(key) != null) {
+                    changedCopies.put(key, null);
+                }
+                continue;
+            }
+            T copy = copier.apply(change.getValue());
+            T previousCopy = copies.put(key, copy);
+            if (previousCopy == null || !membersOf.apply(previousCopy).equals(membersOf.apply(copy))) {
+                changedCopies.put(key, copy);
+            }
+        }
+    }
+
+    private static Department copyOf(Department department) {
+        return new Department(department.getName(), department.getEmployees());
+    }
+
+    private static Leave copyOf(Leave leave) {
+        return new Leave(leave.getDate(), new LinkedHashSet<>(leave.getEmployees()));
+    }
+}
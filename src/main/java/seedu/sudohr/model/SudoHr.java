@@ -3,28 +3,52 @@ package seedu.sudohr.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
+import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.department.UniqueDepartmentList;
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.EmployeeSearchIndex;
 import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.employee.IdMap;
 import seedu.sudohr.model.employee.UniqueEmployeeList;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
 import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
 import seedu.sudohr.model.leave.UniqueLeaveList;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * Wraps all data at the SudoHR-level
  * Duplicates are not allowed (by :isSameEmployee comparison)
+ * Departments and leaves added to SudoHR resolve their members through its employee list.
+ * The departments and leave dates of each employee are indexed by {@code Id}, so membership must be changed through
+ * SudoHR for the index to stay up to date. The words of the names, emails and tags of employees are indexed for
+ * searching as employees are added, edited and removed.
  */
 public class SudoHr implements ReadOnlySudoHr {
+    private static final Logger logger = LogsCenter.getLogger(SudoHr.class);
 
     private final UniqueEmployeeList employees;
     private final UniqueDepartmentList departments;
     private final UniqueLeaveList leaves;
+    private final IdMap<Set<Department>> departmentsByEmployee = new IdMap<>();
+    private final IdMap<Set<LeaveDate>> leaveDatesByEmployee = new IdMap<>();
+    private final EmployeeSearchIndex searchIndex = new EmployeeSearchIndex();
+    private final SnapshotTracker snapshotTracker;
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +61,8 @@ public class SudoHr implements ReadOnlySudoHr {
         leaves = new UniqueLeaveList();
         employees = new UniqueEmployeeList();
         departments = new UniqueDepartmentList();
+        snapshotTracker = new SnapshotTracker(employees.asUnmodifiableList(), departments.asUnmodifiableList(),
+                leaves.asUnmodifiableList());
     }
 
     public SudoHr() {
@@ -58,6 +84,9 @@ public class SudoHr implements ReadOnlySudoHr {
      */
     public void setEmployees(List<Employee> employees) {
         this.employees.setEmployees(employees);
+        rebuildSearchIndex();
+        snapshotTracker.markReset();
+        version++;
     }
 
     /**
@@ -65,7 +94,16 @@ public class SudoHr implements ReadOnlySudoHr {
      * {@code departments} must not contain duplicate departments.
      */
     public void setDepartments(List<Department> departments) {
+        for (Department department : departments) {
+            bind(department);
+        }
         this.departments.setDepartments(departments);
+        departmentsByEmployee.clear();
+        for (Department department : departments) {
+            indexDepartment(department);
+        }
+        snapshotTracker.markReset();
+        version++;
     }
 
     /**
@@ -73,19 +111,66 @@ public class SudoHr implements ReadOnlySudoHr {
      * {@code leaves} must not contain duplicate leaves.
      */
     public void setLeaves(List<Leave> leaves) {
+        for (Leave leave : leaves) {
+            bind(leave);
+        }
         this.leaves.setLeaves(leaves);
+        leaveDatesByEmployee.clear();
+        for (Leave leave : leaves) {
+            indexLeave(leave);
+        }
+        snapshotTracker.markReset();
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code SudoHr} with {@code newData}.
+     * Data from another {@code SudoHr} is already known to be free of duplicates, so it is copied over
+     * without being validated again. Departments and leaves are copied so that they resolve their members through
+     * this {@code SudoHr}.
      */
     public void resetData(ReadOnlySudoHr newData) {
         requireNonNull(newData);
+        if (newData == this) {
+            return;
+        }
+        if (newData instanceof SudoHr) {
+            SudoHr other = (SudoHr) newData;
+            employees.setEmployees(other.employees);
+            rebuildSearchIndex();
+            List<Department> departmentCopies = new ArrayList<>();
+            for (Department department : other.departments) {
+                departmentCopies.add(new Department(department.getName(), department.getEmployees()));
+            }
+            setDepartments(departmentCopies);
+            List<Leave> leaveCopies = new ArrayList<>();
+            for (Leave leave : other.leaves) {
+                leaveCopies.add(new Leave(leave.getDate(), new LinkedHashSet<>(leave.getEmployees())));
+            }
+            setLeaves(leaveCopies);
+            return;
+        }
         setEmployees(newData.getEmployeeList());
         setDepartments(newData.getDepartmentList());
         setLeaves(newData.getLeavesList());
     }
 
+    /**
+     * Returns a counter that is bumped by every operation that modifies this {@code SudoHr}.
+     * The data is unchanged for as long as the returned value stays the same.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable snapshot of the data as it is now, which can be read on another thread.
+     * Only the departments and leaves changed since the previous snapshot are copied, and no index is rebuilt.
+     */
+    public SudoHrSnapshot snapshot() {
+        return snapshotTracker.snapshot();
+    }
+
     // =========== Employee-Level Operations ============================
 
     /**
@@ -104,6 +189,94 @@ public class SudoHr implements ReadOnlySudoHr {
         return employees.get(id);
     }
 
+    /**
+     * Returns the employees whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * The result is a bitmap over the ordinals of the employee list of SudoHR.
+     */
+    public EmployeeBitmap findEmployeesByName(List<String> keywords) {
+        return employees.findByName(keywords);
+    }
+
+    /**
+     * Returns the employee with the given {@code id}, if any, as a bitmap over the ordinals of the employee list of
+     * SudoHR.
+     */
+    public EmployeeBitmap findEmployeeById(Id id) {
+        return employees.findById(id);
+    }
+
+    /**
+     * Returns the employees with a tag equal to {@code tagName}, ignoring case.
+     * The result is a bitmap over the ordinals of the employee list of SudoHR and must not be changed.
+     */
+    public EmployeeBitmap findEmployeesByTag(String tagName) {
+        return searchIndex.findByTag(tagName);
+    }
+
+    /**
+     * Returns every employee as a bitmap over the ordinals of the employee list of SudoHR.
+     */
+    public EmployeeBitmap getAllEmployees() {
+        return employees.asBitmap();
+    }
+
+    /**
+     * Returns the employees in {@code candidates} that satisfy {@code predicate}, testing only those employees.
+     */
+    public EmployeeBitmap filterEmployees(EmployeeBitmap candidates, Predicate<Employee> predicate) {
+        return employees.filter(candidates, predicate);
+    }
+
+    /**
+     * Returns at most {@code limit} employees matching any of {@code terms} by a word of their name, email or
+     * tags, allowing prefixes and typos, best matches first.
+     */
+    public List<Employee> searchEmployees(List<String> terms, int limit) {
+        requireNonNull(terms);
+        List<Employee> found = new ArrayList<>();
+        for (int ordinal : searchIndex.search(terms, limit)) {
+            found.add(employees.getByOrdinal(ordinal));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the ids of the employees in {@code employees}, a bitmap over the ordinals of the employee list of
+     * SudoHR. Unlike the ordinals, the ids stay valid when the ordinals are renumbered.
+     */
+    public Set<Id> getEmployeeIds(EmployeeBitmap employees) {
+        requireNonNull(employees);
+        Set<Id> ids = new HashSet<>();
+        employees.forEach(ordinal -> {
+            Employee employee = this.employees.getByOrdinal(ordinal);
+            if (employee != null) {
+                ids.add(employee.getId());
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Returns the positions of the employees with the given {@code ids} in {@link #getEmployeeList()}, in ascending
+     * order, leaving out the ids of no employee. Each employee is looked up by id, so this takes time proportional
+     * to the number of ids.
+     */
+    public int[] getPositionsOfEmployees(Collection<Id> ids) {
+        requireNonNull(ids);
+        int[] positions = ids.stream().filter(id -> employees.ordinalOf(id) != UniqueEmployeeList.NO_ORDINAL)
+                .mapToInt(employees::positionOf).toArray();
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns the ordinal of the employee with the given {@code id} in the {@code EmployeeBitmap}s of SudoHR,
+     * or {@code UniqueEmployeeList.NO_ORDINAL} if there is no such employee.
+     */
+    public int getEmployeeOrdinal(Id id) {
+        return employees.ordinalOf(id);
+    }
+
     /**
      * Returns true if an employee with the same identity as {@code employee} exists
      * in SudoHR.
@@ -178,6 +351,8 @@ public class SudoHr implements ReadOnlySudoHr {
      */
     public void addEmployee(Employee employee) {
         employees.add(employee);
+        searchIndex.add(employee, employees.ordinalOf(employee.getId()));
+        version++;
     }
 
     /**
@@ -190,6 +365,10 @@ public class SudoHr implements ReadOnlySudoHr {
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireNonNull(editedEmployee);
         employees.setEmployee(target, editedEmployee);
+        int ordinal = employees.ordinalOf(editedEmployee.getId());
+        searchIndex.remove(target, ordinal);
+        searchIndex.add(editedEmployee, ordinal);
+        version++;
     }
 
     /**
@@ -197,7 +376,16 @@ public class SudoHr implements ReadOnlySudoHr {
      * {@code key} must exist in SudoHR.
      */
     public void removeEmployee(Employee key) {
+        int ordinal = employees.ordinalOf(key.getId());
+        int ordinalGeneration = employees.getOrdinalGeneration();
         employees.remove(key);
+        if (employees.getOrdinalGeneration() == ordinalGeneration) {
+            searchIndex.remove(key, ordinal);
+        } else {
+            // the removal renumbered the ordinals
+            rebuildSearchIndex();
+        }
+        version++;
     }
 
     // =========== Department-Level Operations
@@ -226,7 +414,10 @@ public class SudoHr implements ReadOnlySudoHr {
      * The department must not already exist in SudoHR.
      */
     public void addDepartment(Department d) {
+        bind(d);
         departments.add(d);
+        indexDepartment(d);
+        version++;
     }
 
     /**
@@ -238,7 +429,12 @@ public class SudoHr implements ReadOnlySudoHr {
      */
     public void setDepartment(Department target, Department editedDepartment) {
         requireNonNull(editedDepartment);
+        Department internalTarget = departments.getDepartment(target.getName());
+        bind(editedDepartment);
         departments.setDepartment(target, editedDepartment);
+        unindexDepartment(internalTarget);
+        indexDepartment(editedDepartment);
+        version++;
     }
 
     /**
@@ -246,7 +442,10 @@ public class SudoHr implements ReadOnlySudoHr {
      * {@code key} must exist in SudoHR.
      */
     public void removeDepartment(Department key) {
+        Department internalKey = departments.getDepartment(key.getName());
         departments.remove(key);
+        unindexDepartment(internalKey);
+        version++;
     }
 
     /**
@@ -258,6 +457,10 @@ public class SudoHr implements ReadOnlySudoHr {
     public void addEmployeeToDepartment(Employee p, Department d) {
         requireAllNonNull(p, d);
         d.addEmployee(p);
+        if (departments.getDepartment(d.getName()) == d) {
+            indexDepartment(p.getId(), d);
+        }
+        version++;
     }
 
     /**
@@ -269,6 +472,8 @@ public class SudoHr implements ReadOnlySudoHr {
     public void removeEmployeeFromDepartment(Employee p, Department d) {
         requireAllNonNull(p, d);
         d.removeEmployee(p);
+        removeFromIndex(departmentsByEmployee, p.getId(), d);
+        version++;
     }
 
 
@@ -283,18 +488,85 @@ public class SudoHr implements ReadOnlySudoHr {
         return 0;
     }
 
+    /**
+     * Returns the employees of {@code department} who are not on leave on {@code date}.
+     * The result is a bitmap over the ordinals of the employee list of SudoHR.
+     */
+    public EmployeeBitmap getEmployeesPresent(Department department, LeaveDate date) {
+        requireAllNonNull(department, date);
+        EmployeeBitmap members = department.getEmployeeBitmap(employees);
+        Leave leave = leaves.getLeave(date);
+        return leave == null ? members : members.andNot(leave.getEmployeeBitmap(employees));
+    }
+
+    /**
+     * Returns the employees of the department with the given {@code name}, which is empty if there is no such
+     * department. The result is a bitmap over the ordinals of the employee list of SudoHR and must not be changed.
+     */
+    public EmployeeBitmap getEmployeesInDepartment(DepartmentName name) {
+        requireNonNull(name);
+        Department department = departments.getDepartment(name);
+        return department == null ? new EmployeeBitmap() : department.getEmployeeBitmap(employees);
+    }
+
+    /**
+     * Returns the positions of the employees of {@code department} in {@link #getEmployeeList()}, in ascending
+     * order, leaving out members that are not employees. Each employee is looked up by id, so this takes time
+     * proportional to the size of the department.
+     */
+    public int[] getPositionsOfEmployeesIn(Department department) {
+        requireNonNull(department);
+        return getPositionsOfEmployees(department.getEmployeeIds());
+    }
+
+    /**
+     * Returns the employees on leave on {@code date}.
+     * The result is a bitmap over the ordinals of the employee list of SudoHR and must not be changed.
+     */
+    public EmployeeBitmap getEmployeesOnLeave(LeaveDate date) {
+        requireNonNull(date);
+        Leave leave = leaves.getLeave(date);
+        return leave == null ? new EmployeeBitmap() : leave.getEmployeeBitmap(employees);
+    }
+
+    /**
+     * Returns the departments the employee with the given {@code id} belongs to.
+     */
+    public List<Department> getDepartmentsOfEmployee(Id id) {
+        requireNonNull(id);
+        List<Department> departmentsOfEmployee = new ArrayList<>();
+        for (Department dept : departmentsByEmployee.getOrDefault(id, Set.of())) {
+            if (dept.hasEmployee(id)) {
+                departmentsOfEmployee.add(dept);
+            }
+        }
+        return departmentsOfEmployee;
+    }
+
+    /**
+     * Returns the positions of the departments of the employee with the given {@code id} in
+     * {@link #getDepartmentList()}, in ascending order. The departments are found through the employee, so this
+     * takes time proportional to the number of departments of the employee.
+     */
+    public int[] getPositionsOfDepartmentsOf(Id id) {
+        requireNonNull(id);
+        int[] positions = getDepartmentsOfEmployee(id).stream()
+                .mapToInt(department -> departments.positionOf(department.getName())).toArray();
+        Arrays.sort(positions);
+        return positions;
+    }
+
     /**
      * Deletes an employee from the employee list for each department it belongs to
      * @param employeeToDelete employee to delete
      */
     public void cascadeDeleteEmployeeToDepartments(Employee employeeToDelete) {
         requireAllNonNull(employeeToDelete);
-        ObservableList<Department> departmentList = this.getDepartmentList();
-        for (Department dept : departmentList) {
-            if (dept.hasEmployee(employeeToDelete)) {
-                dept.removeEmployee(employeeToDelete);
-            }
+        for (Department dept : getDepartmentsOfEmployee(employeeToDelete.getId())) {
+            dept.removeEmployee(employeeToDelete);
         }
+        departmentsByEmployee.remove(employeeToDelete.getId());
+        version++;
     }
 
     /**
@@ -304,12 +576,17 @@ public class SudoHr implements ReadOnlySudoHr {
      */
     public void cascadeEditEmployeeToDepartments(Employee employeeToEdit, Employee editedEmployee) {
         requireAllNonNull(employeeToEdit, editedEmployee);
-        ObservableList<Department> departmentList = this.getDepartmentList();
-        for (Department dept : departmentList) {
-            if (dept.hasEmployee(employeeToEdit)) {
-                dept.setEmployee(employeeToEdit, editedEmployee);
+        List<Department> departmentsOfEmployee = getDepartmentsOfEmployee(employeeToEdit.getId());
+        for (Department dept : departmentsOfEmployee) {
+            dept.setEmployee(employeeToEdit, editedEmployee);
+        }
+        if (!employeeToEdit.isSameEmployee(editedEmployee)) {
+            departmentsByEmployee.remove(employeeToEdit.getId());
+            for (Department dept : departmentsOfEmployee) {
+                indexDepartment(editedEmployee.getId(), dept);
             }
         }
+        version++;
     }
 
     // =========== Leave-Level Operations
@@ -333,13 +610,15 @@ public class SudoHr implements ReadOnlySudoHr {
      * @return The corresponding leave.
      */
     public Leave getInternalLeaveIfExist(Leave leaveToAdd) {
-        ObservableList<Leave> leaveList = this.getLeavesList();
-        for (Leave leave : leaveList) {
-            if (leave.isSameLeave(leaveToAdd)) {
-                return leave;
-            }
-        }
-        return leaveToAdd;
+        Leave internalLeave = leaves.getLeave(leaveToAdd.getDate());
+        return internalLeave == null ? leaveToAdd : internalLeave;
+    }
+
+    /**
+     * Returns the leaves dated from {@code startDate} to {@code endDate} inclusive, in date order.
+     */
+    public List<Leave> getLeavesBetween(LeaveDate startDate, LeaveDate endDate) {
+        return leaves.getLeavesBetween(startDate, endDate);
     }
 
     /**
@@ -347,7 +626,10 @@ public class SudoHr implements ReadOnlySudoHr {
      * The leave must not already exist in the address book.
      */
     public void addLeave(Leave leave) {
+        bind(leave);
         leaves.addLeave(leave);
+        indexLeave(leave);
+        version++;
     }
 
     /**
@@ -355,7 +637,10 @@ public class SudoHr implements ReadOnlySudoHr {
      * {@code leave} must exist in the sudohr book.
      */
     public void deleteLeave(Leave leave) {
+        Leave internalLeave = leaves.getLeave(leave.getDate());
         leaves.remove(leave);
+        unindexLeave(internalLeave);
+        version++;
     }
 
     /**
@@ -373,14 +658,8 @@ public class SudoHr implements ReadOnlySudoHr {
      * the sudohr book.
      */
     public boolean hasEmployeeOnLeave(LeaveDate date, Employee employee) {
-        ObservableList<Leave> leaveList = this.getLeavesList();
-        for (Leave leave : leaveList) {
-            if (leave.getDate().equals(date) & leave.hasEmployee(employee)) {
-                return true;
-            }
-        }
-
-        return false;
+        Leave leave = leaves.getLeave(date);
+        return leave != null && leave.hasEmployee(employee);
     }
 
     /**
@@ -389,7 +668,10 @@ public class SudoHr implements ReadOnlySudoHr {
     public void addEmployeeToLeave(Leave leave, Employee employee) {
         requireAllNonNull(leave, employee);
         leave.addEmployee(employee);
-
+        if (leaves.getLeave(leave.getDate()) == leave) {
+            indexLeave(employee.getId(), leave);
+        }
+        version++;
     }
 
     /**
@@ -398,6 +680,8 @@ public class SudoHr implements ReadOnlySudoHr {
     public void deleteEmployeeFromLeave(Leave leave, Employee employee) {
         requireAllNonNull(leave, employee);
         leave.deleteEmployee(employee);
+        removeFromIndex(leaveDatesByEmployee, employee.getId(), leave.getDate());
+        version++;
     }
 
     /**
@@ -411,54 +695,156 @@ public class SudoHr implements ReadOnlySudoHr {
         return 0;
     }
 
+    /**
+     * Returns the leaves taken by the employee with the given {@code id}, in date order.
+     */
+    public List<Leave> getLeavesOfEmployee(Id id) {
+        requireNonNull(id);
+        List<Leave> leavesOfEmployee = new ArrayList<>();
+        for (LeaveDate date : leaveDatesByEmployee.getOrDefault(id, Set.of())) {
+            Leave leave = leaves.getLeave(date);
+            if (leave != null && leave.hasEmployee(id)) {
+                leavesOfEmployee.add(leave);
+            }
+        }
+        return leavesOfEmployee;
+    }
+
+    /**
+     * Returns the positions of the leaves taken by the employee with the given {@code id} in
+     * {@link #getLeavesList()}, in ascending order. The leaves are looked up by date, so this takes time
+     * proportional to the number of leaves taken by the employee.
+     */
+    public int[] getPositionsOfLeavesOf(Id id) {
+        requireNonNull(id);
+        // leaves are in date order in both the index and the list, so the positions are found in ascending order
+        return getLeavesOfEmployee(id).stream().mapToInt(leave -> leaves.positionOf(leave.getDate())).toArray();
+    }
+
     /**
      * Update an employee {@code employee} with editedEmployee {@code employee} in all leaves in SudoHR.
      */
     public void cascadeUpdateUserInLeaves(Employee employeeToEdit, Employee editedEmployee) {
-        ObservableList<Leave> leaveList = this.getLeavesList();
-        for (Leave leave : leaveList) {
-            if (leave.hasEmployee(employeeToEdit)) {
-                leave.setEmployee(employeeToEdit, editedEmployee);
+        requireAllNonNull(employeeToEdit, editedEmployee);
+        List<Leave> leavesOfEmployee = getLeavesOfEmployee(employeeToEdit.getId());
+        for (Leave leave : leavesOfEmployee) {
+            leave.setEmployee(employeeToEdit, editedEmployee);
+        }
+        if (!employeeToEdit.isSameEmployee(editedEmployee)) {
+            leaveDatesByEmployee.remove(employeeToEdit.getId());
+            for (Leave leave : leavesOfEmployee) {
+                indexLeave(editedEmployee.getId(), leave);
             }
         }
+        version++;
     }
 
     /**
      * Deletes an employee {@code employee} from all leaves in SudoHR.
      */
     public void cascadeDeleteUserInLeaves(Employee employeeToDelete) {
-        ObservableList<Leave> leaveList = this.getLeavesList();
-        for (Leave leave : leaveList) {
-            if (leave.hasEmployee(employeeToDelete)) {
-                leave.deleteEmployee(employeeToDelete);
-            }
+        requireNonNull(employeeToDelete);
+        for (Leave leave : getLeavesOfEmployee(employeeToDelete.getId())) {
+            leave.deleteEmployee(employeeToDelete);
         }
+        leaveDatesByEmployee.remove(employeeToDelete.getId());
+        version++;
     }
 
     /**
      * return the list of all leaves in SudoHR
      */
     @Override
-    public ObservableList<Leave> getLeavesList() {
-        return leaves.asUnmodifiableObservableList();
+    public ModelList<Leave> getLeavesList() {
+        return leaves.asUnmodifiableList();
     }
 
     // ================================== Utils ==================================================
 
+    private void rebuildSearchIndex() {
+        searchIndex.clear();
+        for (Employee employee : employees) {
+            searchIndex.add(employee, employees.ordinalOf(employee.getId()));
+        }
+    }
+
+    /**
+     * Resolves the members of {@code department} through the employee list from now on. A department with members
+     * that are not employees of SudoHR cannot be bound, so it is logged and keeps its own copies of its members.
+     */
+    private void bind(Department department) {
+        try {
+            department.bindTo(employees);
+        } catch (EmployeeNotFoundException e) {
+            logger.warning("Department " + department.getName() + " has members that are not employees");
+        }
+    }
+
+    /**
+     * Resolves the employees on {@code leave} through the employee list from now on. A leave taken by someone who
+     * is not an employee of SudoHR cannot be bound, so it is logged and keeps its own copies of its employees.
+     */
+    private void bind(Leave leave) {
+        try {
+            leave.bindTo(employees);
+        } catch (EmployeeNotFoundException e) {
+            logger.warning("Leave on " + leave.getDate() + " is taken by someone who is not an employee");
+        }
+    }
+
+    private void indexDepartment(Department department) {
+        for (Id id : department.getEmployeeIds()) {
+            indexDepartment(id, department);
+        }
+    }
+
+    private void indexDepartment(Id id, Department department) {
+        departmentsByEmployee.computeIfAbsent(id, unused -> new LinkedHashSet<>()).add(department);
+    }
+
+    private void unindexDepartment(Department department) {
+        for (Id id : department.getEmployeeIds()) {
+            removeFromIndex(departmentsByEmployee, id, department);
+        }
+    }
+
+    private void indexLeave(Leave leave) {
+        for (Id id : leave.getEmployeeIds()) {
+            indexLeave(id, leave);
+        }
+    }
+
+    private void indexLeave(Id id, Leave leave) {
+        leaveDatesByEmployee.computeIfAbsent(id, unused -> new TreeSet<>()).add(leave.getDate());
+    }
+
+    private void unindexLeave(Leave leave) {
+        for (Id id : leave.getEmployeeIds()) {
+            removeFromIndex(leaveDatesByEmployee, id, leave.getDate());
+        }
+    }
+
+    private static <T> void removeFromIndex(IdMap<Set<T>> index, Id id, T value) {
+        Set<T> values = index.get(id);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            index.remove(id);
+        }
+    }
+
     @Override
     public String toString() {
-        return employees.asUnmodifiableObservableList().size() + " employees";
+        return employees.asUnmodifiableList().size() + " employees";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Employee> getEmployeeList() {
-        return employees.asUnmodifiableObservableList();
+    public ModelList<Employee> getEmployeeList() {
+        return employees.asUnmodifiableList();
     }
 
     @Override
-    public ObservableList<Department> getDepartmentList() {
-        return departments.asUnmodifiableObservableList();
+    public ModelList<Department> getDepartmentList() {
+        return departments.asUnmodifiableList();
     }
 
     @Override
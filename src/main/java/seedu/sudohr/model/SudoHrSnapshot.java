@@ -0,0 +1,165 @@
+package seedu.sudohr.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.list.ModelList;
+
+/**
+ * An immutable copy of SudoHR data, which can be read on another thread while SudoHR keeps changing.
+ * Employees are immutable, so they are shared with SudoHR. Departments and leaves are copies, which are shared
+ * between the snapshots of a SudoHR for as long as their members do not change.
+ *
+ * Every snapshot is numbered, and also holds the employees, departments and leaves that changed since the previous
+ * snapshot of the same SudoHR, so that it can be saved by writing only those.
+ *
+ * @see SudoHr#snapshot()
+ */
+public class SudoHrSnapshot implements ReadOnlySudoHr {
+    /** The number of no snapshot, which is what follows a snapshot whose changes are not known. */
+    public static final long NO_SEQUENCE = 0;
+
+    private static final AtomicLong lastSequence = new AtomicLong(NO_SEQUENCE);
+
+    private final long sequence;
+    private final long previousSequence;
+    private final ModelList<Employee> employees;
+    private final ModelList<Department> departments;
+    private final ModelList<Leave> leaves;
+    private final Map<Id, Employee> changedEmployees;
+    private final Map<DepartmentName, Department> changedDepartments;
+    private final Map<LeaveDate, Leave> changedLeaves;
+
+    /**
+     * Creates a snapshot that follows the snapshot numbered {@code previousSequence}, or {@link #NO_SEQUENCE} if
+     * the changes since the previous snapshot are not known.
+     * A null value in the maps of changes means the key was removed.
+     */
+    SudoHrSnapshot(long previousSequence, Employee[] employees, Department[] departments, Leave[] leaves,
+                   Map<Id, Employee> changedEmployees, Map<DepartmentName, Department> changedDepartments,
+                   Map<LeaveDate, Leave> changedLeaves) {
+        this(lastSequence.incrementAndGet(), previousSequence, new FixedList<>(employees),
+                new FixedList<>(departments), new FixedList<>(leaves), changedEmployees, changedDepartments,
+                changedLeaves);
+    }
+
+    private SudoHrSnapshot(long sequence, long previousSequence, ModelList<Employee> employees,
+                           ModelList<Department> departments, ModelList<Leave> leaves,
+                           Map<Id, Employee> changedEmployees, Map<DepartmentName, Department> changedDepartments,
+                           Map<LeaveDate, Leave> changedLeaves) {
+        this.sequence = sequence;
+        this.previousSequence = previousSequence;
+        this.employees = employees;
+        this.departments = departments;
+        this.leaves = leaves;
+        this.changedEmployees = Collections.unmodifiableMap(changedEmployees);
+        this.changedDepartments = Collections.unmodifiableMap(changedDepartments);
+        this.changedLeaves = Collections.unmodifiableMap(changedLeaves);
+    }
+
+    /**
+     * Returns the number of this snapshot, which is unique among all snapshots.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns true if this snapshot was taken right after the snapshot numbered {@code sequence}, so the changes it
+     * holds are everything that changed since that snapshot.
+     */
+    public boolean follows(long sequence) {
+        return previousSequence != NO_SEQUENCE && previousSequence == sequence;
+    }
+
+    /**
+     * Returns the employees added or edited since the previous snapshot by id, or null for the ids removed.
+     */
+    public Map<Id, Employee> getChangedEmployees() {
+        return changedEmployees;
+    }
+
+    /**
+     * Returns the departments whose members changed since the previous snapshot by name, or null for the names
+     * removed.
+     */
+    public Map<DepartmentName, Department> getChangedDepartments() {
+        return changedDepartments;
+    }
+
+    /**
+     * Returns the leaves whose employees changed since the previous snapshot by date, or null for the dates removed.
+     */
+    public Map<LeaveDate, Leave> getChangedLeaves() {
+        return changedLeaves;
+    }
+
+    /**
+     * Returns this snapshot as if {@code earlier}, the snapshot taken right before it, had never been taken.
+     * The result follows the snapshot that {@code earlier} follows, and holds the changes of both. If this snapshot
+     * does not follow {@code earlier}, it is returned as it is.
+     */
+    public SudoHrSnapshot includingChangesOf(SudoHrSnapshot earlier) {
+        if (!follows(earlier.sequence)) {
+            return this;
+        }
+        return new SudoHrSnapshot(sequence, earlier.previousSequence, employees, departments, leaves,
+                merge(earlier.changedEmployees, changedEmployees),
+                merge(earlier.changedDepartments, changedDepartments), merge(earlier.changedLeaves, changedLeaves));
+    }
+
+    @Override
+    public ModelList<Employee> getEmployeeList() {
+        return employees;
+    }
+
+    @Override
+    public ModelList<Department> getDepartmentList() {
+        return departments;
+    }
+
+    @Override
+    public ModelList<Leave> getLeavesList() {
+        return leaves;
+    }
+
+    @Override
+    public String toString() {
+        return employees.size() + " employees";
+    }
+
+    private static <K, V> Map<K, V> merge(Map<K, V> earlier, Map<K, V> later) {
+        Map<K, V> merged = new LinkedHashMap<>(earlier);
+        merged.putAll(later);
+        return merged;
+    }
+
+    /**
+     * A list that never changes, backed by an array that nothing else refers to.
+     */
+    private static class FixedList<T> extends ModelList<T> {
+        private final T[] elements;
+
+        FixedList(T[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public T get(int index) {
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+}
@@ -3,10 +3,10 @@ package seedu.sudohr.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.sudohr.commons.core.GuiSettings;
+import seedu.sudohr.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -14,7 +14,8 @@ import seedu.sudohr.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
-    private Path sudoHrFilePath = Paths.get("data" , "sudohr.json");
+    private Path sudoHrFilePath; // null for the default file of the storage format
+    private StorageFormat sudoHrStorageFormat = StorageFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setSudoHrFilePath(newUserPrefs.getSudoHrFilePath());
+        setSudoHrStorageFormat(newUserPrefs.getSudoHrStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -47,8 +49,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    /**
+     * Returns the data file chosen, or the default file of the storage format if none is.
+     */
     public Path getSudoHrFilePath() {
-        return sudoHrFilePath;
+        return sudoHrFilePath != null ? sudoHrFilePath : sudoHrStorageFormat.getDefaultFilePath();
     }
 
     public void setSudoHrFilePath(Path sudoHrFilePath) {
@@ -56,6 +61,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.sudoHrFilePath = sudoHrFilePath;
     }
 
+    public StorageFormat getSudoHrStorageFormat() {
+        return sudoHrStorageFormat;
+    }
+
+    public void setSudoHrStorageFormat(StorageFormat sudoHrStorageFormat) {
+        requireNonNull(sudoHrStorageFormat);
+        this.sudoHrStorageFormat = sudoHrStorageFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,19 +82,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && sudoHrFilePath.equals(o.sudoHrFilePath);
+                && getSudoHrFilePath().equals(o.getSudoHrFilePath())
+                && sudoHrStorageFormat.equals(o.sudoHrStorageFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, sudoHrFilePath);
+        return Objects.hash(guiSettings, getSudoHrFilePath(), sudoHrStorageFormat);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
-        sb.append("\nLocal data file location : " + sudoHrFilePath);
+        sb.append("\nLocal data file location : " + getSudoHrFilePath());
+        sb.append("\nLocal data file format : " + sudoHrStorageFormat);
         return sb.toString();
     }
 
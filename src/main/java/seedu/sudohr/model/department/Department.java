@@ -1,19 +1,24 @@
 package seedu.sudohr.model.department;
 
-import java.util.Collections;
 import java.util.Set;
 
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.EmployeeReferenceList;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.employee.UniqueEmployeeList;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.model.list.Revision;
 
 /**
  * Represents a Department in SudoHR.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Members are stored by {@code Id} and resolved through the employee list of SudoHR once the department is added to it.
  */
 public class Department {
     private final DepartmentName name;
-    private final UniqueEmployeeList employees = new UniqueEmployeeList();
+    private final EmployeeReferenceList employees = new EmployeeReferenceList();
+    private final Revision revision = new Revision();
 
     public Department(DepartmentName name) {
         this.name = name;
@@ -47,12 +52,7 @@ public class Department {
      * Returns whether employee exists in the department.
      */
     public boolean hasEmployee(Id id) {
-        for (Employee employee : employees) {
-            if (employee.getId().equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return employees.contains(id);
     }
 
     /**
@@ -66,7 +66,14 @@ public class Department {
      * Returns unmodifiable set of employees.
      */
     public Set<Employee> getEmployees() {
-        return Collections.unmodifiableSet(employees.asSet());
+        return employees.asSet();
+    }
+
+    /**
+     * Returns unmodifiable set of the ids of employees in the department.
+     */
+    public Set<Id> getEmployeeIds() {
+        return employees.asIdSet();
     }
 
     /**
@@ -75,6 +82,7 @@ public class Department {
      */
     public void addEmployee(Employee e) {
         employees.add(e);
+        markChanged();
     }
 
     /**
@@ -82,6 +90,7 @@ public class Department {
      */
     public void setEmployee(Employee employeeToEdit, Employee editedEmployee) {
         employees.setEmployee(employeeToEdit, editedEmployee);
+        markChanged();
     }
 
     /**
@@ -90,6 +99,35 @@ public class Department {
      */
     public void removeEmployee(Employee key) {
         employees.remove(key);
+        markChanged();
+    }
+
+    /**
+     * Resolves the members of this department through {@code registry} from now on.
+     * @throws EmployeeNotFoundException if some member is not in {@code registry}.
+     */
+    public void bindTo(UniqueEmployeeList registry) {
+        employees.bindTo(registry);
+    }
+
+    /**
+     * Returns the employees in the department as a bitmap over the ordinals of {@code employeeList}.
+     * Employees that are not in {@code employeeList} are left out.
+     */
+    public EmployeeBitmap getEmployeeBitmap(UniqueEmployeeList employeeList) {
+        return employees.asBitmap(employeeList);
+    }
+
+    /**
+     * Returns the revision of the department, which changes whenever employees are added to, edited in or removed from
+     * the department. Lists of departments observe it to tell their observers which department was updated.
+     */
+    public Revision getRevision() {
+        return revision;
+    }
+
+    private void markChanged() {
+        revision.increment();
     }
 
     /**
@@ -120,6 +158,6 @@ public class Department {
 
     @Override
     public int hashCode() {
-        return employees.hashCode();
+        return name.hashCode();
     }
 }
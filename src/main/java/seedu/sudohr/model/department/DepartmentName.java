@@ -2,6 +2,9 @@ package seedu.sudohr.model.department;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isAlphanumericWords;
+
+import seedu.sudohr.commons.util.Interner;
 
 /**
  * Represents a Employee's name in the address book.
@@ -18,6 +21,8 @@ public class DepartmentName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<DepartmentName> NAMES = new Interner<>();
+
     public final String fullName;
 
     /**
@@ -31,11 +36,20 @@ public class DepartmentName {
         fullName = name;
     }
 
+    /**
+     * Returns the shared {@code DepartmentName} with the given name.
+     *
+     * @param name A valid name.
+     */
+    public static DepartmentName of(String name) {
+        return NAMES.intern(new DepartmentName(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
 
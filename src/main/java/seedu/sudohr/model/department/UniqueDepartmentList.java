@@ -1,15 +1,18 @@
 package seedu.sudohr.model.department;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.CollectionUtil.findDuplicates;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.sudohr.model.department.exceptions.DepartmentNotFoundException;
 import seedu.sudohr.model.department.exceptions.DuplicateDepartmentException;
+import seedu.sudohr.model.list.ArrayModelList;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * A list of departments that enforces uniqueness between its elements and does not allow nulls.
@@ -18,19 +21,26 @@ import seedu.sudohr.model.department.exceptions.DuplicateDepartmentException;
  * added or updated is unique in terms of identity in the UniqueDepartmentList. Also, the removal of a department
  * uses Department#equals(Department) so as to ensure that the department with exactly the same name will be removed.
  *
+ * Departments are additionally indexed by name, so that lookups and identity checks run in constant time.
+ * Each department is also given a sequence number as it is added, which an edited department keeps. The list is
+ * always in the order of the sequence numbers, so the position of a department is found by a binary search over them.
+ * The list reports a department as updated to its observers whenever the employees in it change.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueDepartmentList implements Iterable<Department> {
-    private final ObservableList<Department> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Department> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ArrayModelList<Department> internalList = new ArrayModelList<>(Department::getRevision);
+    private final ModelList<Department> internalUnmodifiableList = ModelList.unmodifiableList(internalList);
+    private final Map<DepartmentName, Department> nameToDepartment = new HashMap<>();
+    private final Map<DepartmentName, Integer> nameToSequence = new HashMap<>();
+    private int nextSequence;
 
     /**
      * Returns true if the list contains an equivalent department as the given argument.
      */
     public boolean contains(Department toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return nameToDepartment.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,6 +53,8 @@ public class UniqueDepartmentList implements Iterable<Department> {
             throw new DuplicateDepartmentException();
         }
         internalList.add(toAdd);
+        nameToDepartment.put(toAdd.getName(), toAdd);
+        nameToSequence.put(toAdd.getName(), nextSequence++);
     }
 
     /**
@@ -51,12 +63,7 @@ public class UniqueDepartmentList implements Iterable<Department> {
      * @return the corresponding department
      */
     public Department getDepartment(DepartmentName name) {
-        for (Department department: internalList) {
-            if (department.getName().equals(name)) {
-                return department;
-            }
-        }
-        return null;
+        return nameToDepartment.get(name);
     }
 
     /**
@@ -68,8 +75,8 @@ public class UniqueDepartmentList implements Iterable<Department> {
     public void setDepartment(Department target, Department editedDepartment) {
         requireAllNonNull(target, editedDepartment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Department internalTarget = nameToDepartment.get(target.getName());
+        if (internalTarget == null) {
             throw new DepartmentNotFoundException();
         }
 
@@ -77,7 +84,11 @@ public class UniqueDepartmentList implements Iterable<Department> {
             throw new DuplicateDepartmentException();
         }
 
-        internalList.set(index, editedDepartment);
+        int position = positionOf(internalTarget.getName());
+        internalList.set(position, editedDepartment);
+        nameToDepartment.remove(internalTarget.getName());
+        nameToDepartment.put(editedDepartment.getName(), editedDepartment);
+        nameToSequence.put(editedDepartment.getName(), nameToSequence.remove(internalTarget.getName()));
     }
 
     /**
@@ -86,34 +97,41 @@ public class UniqueDepartmentList implements Iterable<Department> {
      */
     public void remove(Department toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!contains(toRemove)) {
             throw new DepartmentNotFoundException();
         }
+        internalList.remove(positionOf(toRemove.getName()));
+        nameToDepartment.remove(toRemove.getName());
+        nameToSequence.remove(toRemove.getName());
     }
 
     public void setDepartments(UniqueDepartmentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
      * Replaces the contents of this list with {@code d}.
-     * {@code d} must not contain duplicate internalList.
+     * {@code d} must not contain duplicate departments.
+     * Every offending duplicate is reported in the thrown exception. Runs in linear time.
      */
     public void setDepartments(List<Department> d) {
         requireAllNonNull(d);
-        if (!internalListAreUnique(d)) {
-            throw new DuplicateDepartmentException();
+        List<String> duplicates = findDuplicates(d, Department::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateDepartmentException(duplicates);
         }
 
         // Replace department with new set of internalList
         internalList.setAll(d);
+        reindex();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ModelList}.
      */
-    public ObservableList<Department> asUnmodifiableObservableList() {
+    public ModelList<Department> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -129,21 +147,39 @@ public class UniqueDepartmentList implements Iterable<Department> {
                 && internalList.equals(((UniqueDepartmentList) other).internalList));
     }
 
-    /**
-     * Returns true if {@code d} contains only unique internalList.
-     */
-    private boolean internalListAreUnique(List<Department> departments) {
-        if (departments == null) {
-            return true; // Maybe replace with assertion?
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    private void reindex() {
+        nameToDepartment.clear();
+        nameToSequence.clear();
+        nextSequence = 0;
+        for (Department department : internalList) {
+            nameToDepartment.put(department.getName(), department);
+            nameToSequence.put(department.getName(), nextSequence++);
         }
+    }
 
-        for (int i = 0; i < departments.size() - 1; i++) {
-            for (int j = i + 1; j < departments.size(); j++) {
-                if (departments.get(i).equals(departments.get(j))) {
-                    return false;
-                }
+    /**
+     * Returns the position of the department named {@code name}, which must be in the list, in the backing list.
+     */
+    public int positionOf(DepartmentName name) {
+        int sequence = nameToSequence.get(name);
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midSequence = nameToSequence.get(internalList.get(mid).getName());
+            if (midSequence < sequence) {
+                low = mid + 1;
+            } else if (midSequence > sequence) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
-        return true;
+        throw new DepartmentNotFoundException();
     }
 }
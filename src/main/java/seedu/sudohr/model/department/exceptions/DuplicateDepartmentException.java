@@ -1,5 +1,7 @@
 package seedu.sudohr.model.department.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Departments (Departments are considered
  * duplicates if they have the same identity).
@@ -8,4 +10,11 @@ public class DuplicateDepartmentException extends RuntimeException {
     public DuplicateDepartmentException() {
         super("Operation would result in duplicate departments");
     }
+
+    /**
+     * Creates the exception with a description of each offending duplicate in {@code duplicates}.
+     */
+    public DuplicateDepartmentException(List<String> duplicates) {
+        super("Operation would result in duplicate departments: " + String.join(", ", duplicates));
+    }
 }
@@ -2,6 +2,9 @@ package seedu.sudohr.model.employee;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isNonBlankLine;
+
+import seedu.sudohr.commons.util.Interner;
 
 /**
  * Represents an Employee's address in SudoHR.
@@ -17,6 +20,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> ADDRESSES = new Interner<>();
+
     public final String value;
 
     /**
@@ -31,10 +36,19 @@ public class Address {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns the shared {@code Address} with the given value, so that employees in the same office share one.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return ADDRESSES.intern(new Address(address));
+    }
+
+    /**
+     * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isNonBlankLine(test);
     }
 
     @Override
@@ -2,12 +2,11 @@ package seedu.sudohr.model.employee;
 
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.sudohr.model.tag.Tag;
+import seedu.sudohr.model.tag.TagSet;
 
 /**
  * Represents an Employee in the SudoHR.
@@ -23,7 +22,7 @@ public class Employee {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -35,7 +34,7 @@ public class Employee {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Id getId() {
@@ -63,7 +62,7 @@ public class Employee {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -0,0 +1,263 @@
+package seedu.sudohr.model.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of employee ordinals stored as a compressed bitmap.
+ * Ordinals are the dense numbers given to employees by a {@link UniqueEmployeeList}, so a bitmap only has a meaning
+ * together with the employee list whose ordinals it holds.
+ * Only the 64-bit words that have a bit set are stored, sorted by their word number, so a small group of employees
+ * takes a few words however large the employee list is. Intersections, differences and unions merge the words of
+ * two bitmaps and combine them a word at a time. The number of members is kept up to date as the bitmap changes.
+ * Bitmaps can only be changed from within the package; the results of set operations are new bitmaps.
+ */
+public class EmployeeBitmap {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] wordNumbers;
+    private long[] words;
+    private int wordCount;
+    private int cardinality;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public EmployeeBitmap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private EmployeeBitmap(int capacity) {
+        wordNumbers = new int[capacity];
+        words = new long[capacity];
+    }
+
+    /**
+     * Returns the number of ordinals in the bitmap.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns true if {@code ordinal} is in the bitmap. Negative ordinals are never in it.
+     */
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int i = find(ordinal >>> 6);
+        return i >= 0 && (words[i] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Returns the smallest ordinal in the bitmap, or -1 if it is empty.
+     */
+    int first() {
+        return wordCount == 0 ? -1 : (wordNumbers[0] << 6) + Long.numberOfTrailingZeros(words[0]);
+    }
+
+    /**
+     * Adds {@code ordinal} to the bitmap and returns true if it was not in it yet.
+     */
+    boolean add(int ordinal) {
+        assert ordinal >= 0;
+        long bit = 1L << ordinal;
+        int i = find(ordinal >>> 6);
+        if (i < 0) {
+            i = -i - 1;
+            insertWord(i, ordinal >>> 6);
+        } else if ((words[i] & bit) != 0) {
+            return false;
+        }
+        words[i] |= bit;
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes {@code ordinal} from the bitmap and returns true if it was in it.
+     */
+    boolean remove(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        long bit = 1L << ordinal;
+        int i = find(ordinal >>> 6);
+        if (i < 0 || (words[i] & bit) == 0) {
+            return false;
+        }
+        words[i] &= ~bit;
+        cardinality--;
+        if (words[i] == 0) {
+            removeWord(i);
+        }
+        return true;
+    }
+
+    /**
+     * Removes every ordinal.
+     */
+    void clear() {
+        wordCount = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Returns a new bitmap with the ordinals that are in both this bitmap and {@code other}.
+     */
+    public EmployeeBitmap and(EmployeeBitmap other) {
+        requireNonNull(other);
+        EmployeeBitmap result = new EmployeeBitmap(Math.min(wordCount, other.wordCount));
+        int i = 0;
+        int j = 0;
+        while (i < wordCount && j < other.wordCount) {
+            if (wordNumbers[i] < other.wordNumbers[j]) {
+                i++;
+            } else if (wordNumbers[i] > other.wordNumbers[j]) {
+                j++;
+            } else {
+                result.append(wordNumbers[i], words[i] & other.words[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap with the ordinals that are in this bitmap but not in {@code other}.
+     */
+    public EmployeeBitmap andNot(EmployeeBitmap other) {
+        requireNonNull(other);
+        EmployeeBitmap result = new EmployeeBitmap(wordCount);
+        int j = 0;
+        for (int i = 0; i < wordCount; i++) {
+            while (j < other.wordCount && other.wordNumbers[j] < wordNumbers[i]) {
+                j++;
+            }
+            boolean isShared = j < other.wordCount && other.wordNumbers[j] == wordNumbers[i];
+            result.append(wordNumbers[i], isShared ? words[i] & ~other.words[j] : words[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap with the ordinals that are in this bitmap, in {@code other} or in both.
+     */
+    public EmployeeBitmap or(EmployeeBitmap other) {
+        requireNonNull(other);
+        EmployeeBitmap result = new EmployeeBitmap(wordCount + other.wordCount);
+        int i = 0;
+        int j = 0;
+        while (i < wordCount || j < other.wordCount) {
+            if (j == other.wordCount || (i < wordCount && wordNumbers[i] < other.wordNumbers[j])) {
+                result.append(wordNumbers[i], words[i]);
+                i++;
+            } else if (i == wordCount || wordNumbers[i] > other.wordNumbers[j]) {
+                result.append(other.wordNumbers[j], other.words[j]);
+                j++;
+            } else {
+                result.append(wordNumbers[i], words[i] | other.words[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs {@code action} on every ordinal in the bitmap, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < wordCount; i++) {
+            int base = wordNumbers[i] << 6;
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(base + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code other} is a bitmap with the same ordinals.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof EmployeeBitmap)) {
+            return false;
+        }
+        EmployeeBitmap otherBitmap = (EmployeeBitmap) other;
+        return Arrays.equals(wordNumbers, 0, wordCount, otherBitmap.wordNumbers, 0, otherBitmap.wordCount)
+                && Arrays.equals(words, 0, wordCount, otherBitmap.words, 0, otherBitmap.wordCount);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < wordCount; i++) {
+            hashCode = 31 * hashCode + (wordNumbers[i] ^ Long.hashCode(words[i]));
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the index of the word with {@code wordNumber}, or {@code -(insertion point) - 1} if there is none.
+     * Ordinals are mostly added in increasing order, so the last word is checked before searching.
+     */
+    private int find(int wordNumber) {
+        if (wordCount == 0 || wordNumbers[wordCount - 1] < wordNumber) {
+            return -wordCount - 1;
+        }
+        if (wordNumbers[wordCount - 1] == wordNumber) {
+            return wordCount - 1;
+        }
+        return Arrays.binarySearch(wordNumbers, 0, wordCount, wordNumber);
+    }
+
+    private void insertWord(int index, int wordNumber) {
+        ensureCapacity(wordCount + 1);
+        System.arraycopy(wordNumbers, index, wordNumbers, index + 1, wordCount - index);
+        System.arraycopy(words, index, words, index + 1, wordCount - index);
+        wordNumbers[index] = wordNumber;
+        words[index] = 0;
+        wordCount++;
+    }
+
+    private void removeWord(int index) {
+        System.arraycopy(wordNumbers, index + 1, wordNumbers, index, wordCount - index - 1);
+        System.arraycopy(words, index + 1, words, index, wordCount - index - 1);
+        wordCount--;
+    }
+
+    /**
+     * Adds {@code word} after the last word, if it has a bit set. Only used while building a new bitmap in order.
+     */
+    private void append(int wordNumber, long word) {
+        if (word == 0) {
+            return;
+        }
+        ensureCapacity(wordCount + 1);
+        wordNumbers[wordCount] = wordNumber;
+        words[wordCount] = word;
+        wordCount++;
+        cardinality += Long.bitCount(word);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > words.length) {
+            int newCapacity = Math.max(capacity, words.length * 2);
+            wordNumbers = Arrays.copyOf(wordNumbers, newCapacity);
+            words = Arrays.copyOf(words, newCapacity);
+        }
+    }
+}
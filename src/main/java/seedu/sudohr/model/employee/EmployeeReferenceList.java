@@ -0,0 +1,214 @@
+package seedu.sudohr.model.employee;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+
+/**
+ * A collection of unique employees that only stores the {@code Id} of each member. Members are resolved through an
+ * employee registry, so editing an employee in the registry is immediately reflected here without copying.
+ *
+ * Until it is bound to a shared registry (e.g. the employee list of SudoHR), the collection keeps a private registry
+ * of the employees added to it, so that it also works on its own. Members are kept in insertion order. Binding to a
+ * registry that lacks some member is rejected, so that a bound member always resolves to an employee; the
+ * collection then stays unbound.
+ *
+ * The members are also kept as an {@link EmployeeBitmap} over the ordinals of the registry, for set operations
+ * between collections. The bitmap is rebuilt from the ids when the registry renumbers its ordinals.
+ */
+public class EmployeeReferenceList {
+    private static final int STALE = -1;
+
+    private final IdSet ids = new IdSet();
+    private final EmployeeBitmap members = new EmployeeBitmap();
+    private UniqueEmployeeList registry = new UniqueEmployeeList();
+    private boolean isBound = false;
+    private int membersGeneration = STALE; // ordinal generation of the registry that members is up to date with
+
+    /**
+     * Returns number of employees being referenced.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns true if an employee with the specified id is referenced.
+     */
+    public boolean contains(Id id) {
+        requireNonNull(id);
+        return ids.contains(id);
+    }
+
+    /**
+     * Returns true if an employee with the same identity as {@code toCheck} is referenced.
+     */
+    public boolean contains(Employee toCheck) {
+        requireNonNull(toCheck);
+        return ids.contains(toCheck.getId());
+    }
+
+    /**
+     * Returns the referenced employee with the specified id, or null if there is no such member.
+     */
+    public Employee get(Id id) {
+        requireNonNull(id);
+        return ids.contains(id) ? registry.get(id) : null;
+    }
+
+    /**
+     * Adds a reference to {@code toAdd}.
+     * The employee must not already be referenced.
+     */
+    public void add(Employee toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateEmployeeException();
+        }
+        if (!isBound) {
+            registry.add(toAdd);
+        }
+        ids.add(toAdd.getId());
+        if (membersGeneration == registry.getOrdinalGeneration()) {
+            int ordinal = registry.ordinalOf(toAdd.getId());
+            if (ordinal == UniqueEmployeeList.NO_ORDINAL) {
+                membersGeneration = STALE;
+            } else {
+                members.add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Adds a reference to every employee in {@code employees}.
+     */
+    public void addAll(Set<Employee> employees) {
+        requireAllNonNull(employees);
+        for (Employee employee : employees) {
+            add(employee);
+        }
+    }
+
+    /**
+     * Replaces the reference to {@code target} with one to {@code editedEmployee}, keeping its position.
+     * Once bound, this only has work to do if the id of the employee changes. The bitmap of members is unchanged,
+     * as the edited employee takes over the ordinal of {@code target} in the registry.
+     */
+    public void setEmployee(Employee target, Employee editedEmployee) {
+        requireAllNonNull(target, editedEmployee);
+        if (!contains(target)) {
+            throw new EmployeeNotFoundException();
+        }
+        if (!target.isSameEmployee(editedEmployee) && contains(editedEmployee)) {
+            throw new DuplicateEmployeeException();
+        }
+        if (!isBound) {
+            registry.setEmployee(registry.get(target.getId()), editedEmployee);
+        }
+        if (target.isSameEmployee(editedEmployee)) {
+            return;
+        }
+        ids.replace(target.getId(), editedEmployee.getId());
+    }
+
+    /**
+     * Removes the reference to {@code toRemove}.
+     * The employee must be referenced.
+     */
+    public void remove(Employee toRemove) {
+        requireNonNull(toRemove);
+        if (!ids.remove(toRemove.getId())) {
+            throw new EmployeeNotFoundException();
+        }
+        if (membersGeneration == registry.getOrdinalGeneration()
+                && !members.remove(registry.ordinalOf(toRemove.getId()))) {
+            membersGeneration = STALE;
+        }
+        if (!isBound) {
+            registry.remove(registry.get(toRemove.getId()));
+        }
+    }
+
+    /**
+     * Resolves members through {@code sharedRegistry} from now on and drops the private registry.
+     *
+     * @throws EmployeeNotFoundException if some member is not in {@code sharedRegistry}, in which case the
+     *     collection is left as it is.
+     */
+    public void bindTo(UniqueEmployeeList sharedRegistry) {
+        requireNonNull(sharedRegistry);
+        if (registry == sharedRegistry) {
+            return;
+        }
+        for (Id id : ids) {
+            if (!sharedRegistry.checkEmployeeExists(id)) {
+                throw new EmployeeNotFoundException();
+            }
+        }
+        registry = sharedRegistry;
+        isBound = true;
+        membersGeneration = STALE;
+    }
+
+    /**
+     * Returns the referenced employees as a bitmap over the ordinals of {@code employeeList}.
+     * Members that are not in {@code employeeList} are left out. If {@code employeeList} is the registry, the
+     * bitmap kept by this collection is returned, which changes along with it; otherwise a new bitmap is built.
+     */
+    public EmployeeBitmap asBitmap(UniqueEmployeeList employeeList) {
+        requireNonNull(employeeList);
+        if (employeeList != registry) {
+            EmployeeBitmap bitmap = new EmployeeBitmap();
+            addOrdinals(employeeList, bitmap);
+            return bitmap;
+        }
+        if (membersGeneration != registry.getOrdinalGeneration()) {
+            members.clear();
+            addOrdinals(registry, members);
+            membersGeneration = registry.getOrdinalGeneration();
+        }
+        return members;
+    }
+
+    private void addOrdinals(UniqueEmployeeList employeeList, EmployeeBitmap bitmap) {
+        for (Id id : ids) {
+            int ordinal = employeeList.ordinalOf(id);
+            if (ordinal != UniqueEmployeeList.NO_ORDINAL) {
+                bitmap.add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Returns the referenced employees, in insertion order.
+     */
+    public List<Employee> asList() {
+        List<Employee> employees = new ArrayList<>(ids.size());
+        for (Id id : ids) {
+            employees.add(registry.get(id));
+        }
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * Returns the ids of the referenced employees, in insertion order.
+     */
+    public Set<Id> asIdSet() {
+        return Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Returns the referenced employees as a set.
+     */
+    public Set<Employee> asSet() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(asList()));
+    }
+}
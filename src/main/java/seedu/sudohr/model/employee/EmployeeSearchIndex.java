@@ -0,0 +1,214 @@
+package seedu.sudohr.model.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.sudohr.model.tag.Tag;
+
+/**
+ * An index of the words in the names, emails and tags of employees, for searching them by prefix and with typos.
+ * Values are split into words at every character that is not a letter or digit, and words are matched ignoring case.
+ * Employees are known by their ordinals in a {@link UniqueEmployeeList}, and must be added and removed as that list
+ * changes for the index to stay up to date.
+ *
+ * Each search term is scored against every word it matches: a word equal to the term scores highest, then a word
+ * starting with the term, scoring higher the more of the word the term covers, then a word within a few typos of
+ * the term. Matches in names count for more than matches in tags, which count for more than matches in emails.
+ * An employee scores the best match of each term, summed over the terms.
+ */
+public class EmployeeSearchIndex {
+    private static final int EXACT_SCORE = 100;
+    private static final int PREFIX_SCORE = 60;
+    private static final int PREFIX_COVERAGE_SCORE = 30;
+    private static final int FUZZY_SCORE = 50;
+    private static final int EDIT_PENALTY = 15;
+    private static final int NAME_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int EMAIL_WEIGHT = 1;
+
+    private final TokenTrie names = new TokenTrie();
+    private final TokenTrie emails = new TokenTrie();
+    private final TokenTrie tags = new TokenTrie();
+    private int ordinalEnd; // one past the largest ordinal added
+
+    /**
+     * Adds the words of the name, email and tags of {@code employee} under {@code ordinal}.
+     */
+    public void add(Employee employee, int ordinal) {
+        requireNonNull(employee);
+        assert ordinal >= 0;
+        for (String word : wordsOf(employee.getName().fullName)) {
+            names.add(word, ordinal);
+        }
+        for (String word : wordsOf(employee.getEmail().value)) {
+            emails.add(word, ordinal);
+        }
+        for (Tag tag : employee.getTags()) {
+            for (String word : wordsOf(tag.tagName)) {
+                tags.add(word, ordinal);
+            }
+        }
+        ordinalEnd = Math.max(ordinalEnd, ordinal + 1);
+    }
+
+    /**
+     * Removes the words of the name, email and tags of {@code employee} from under {@code ordinal}.
+     */
+    public void remove(Employee employee, int ordinal) {
+        requireNonNull(employee);
+        for (String word : wordsOf(employee.getName().fullName)) {
+            names.remove(word, ordinal);
+        }
+        for (String word : wordsOf(employee.getEmail().value)) {
+            emails.remove(word, ordinal);
+        }
+        for (Tag tag : employee.getTags()) {
+            for (String word : wordsOf(tag.tagName)) {
+                tags.remove(word, ordinal);
+            }
+        }
+    }
+
+    /**
+     * Removes every employee.
+     */
+    public void clear() {
+        names.clear();
+        emails.clear();
+        tags.clear();
+        ordinalEnd = 0;
+    }
+
+    /**
+     * Returns the employees with a tag equal to {@code tagName}, ignoring case.
+     * The result may be kept by the index and must not be changed.
+     */
+    public EmployeeBitmap findByTag(String tagName) {
+        requireNonNull(tagName);
+        List<String> words = wordsOf(tagName);
+        if (words.size() != 1 || words.get(0).length() != tagName.length()) {
+            return new EmployeeBitmap();
+        }
+        return tags.find(words.get(0));
+    }
+
+    /**
+     * Returns the ordinals of at most {@code limit} employees matching any of the words of {@code terms}, highest
+     * scoring first. Employees with the same score are in the order of their ordinals.
+     */
+    public int[] search(List<String> terms, int limit) {
+        requireNonNull(terms);
+        int[] scores = new int[ordinalEnd];
+        int[] termScores = new int[ordinalEnd];
+        Ordinals matched = new Ordinals();
+        Ordinals termMatched = new Ordinals();
+        for (String term : terms) {
+            for (String word : wordsOf(term)) {
+                scoreWord(word, termScores, termMatched);
+                for (int i = 0; i < termMatched.size; i++) {
+                    int ordinal = termMatched.ordinals[i];
+                    if (scores[ordinal] == 0) {
+                        matched.add(ordinal);
+                    }
+                    scores[ordinal] += termScores[ordinal];
+                    termScores[ordinal] = 0;
+                }
+                termMatched.size = 0;
+            }
+        }
+        return best(scores, matched, limit);
+    }
+
+    /**
+     * Records in {@code termScores} the best score of {@code word} for each employee it matches, adding the
+     * employees to {@code termMatched} the first time they match.
+     */
+    private void scoreWord(String word, int[] termScores, Ordinals termMatched) {
+        int maxEdits = maxEditsFor(word);
+        scoreIn(names, word, maxEdits, NAME_WEIGHT, termScores, termMatched);
+        scoreIn(tags, word, maxEdits, TAG_WEIGHT, termScores, termMatched);
+        scoreIn(emails, word, maxEdits, EMAIL_WEIGHT, termScores, termMatched);
+    }
+
+    private static void scoreIn(TokenTrie trie, String word, int maxEdits, int weight, int[] termScores,
+            Ordinals termMatched) {
+        TokenTrie.Visitor record = (ordinal, score) -> {
+            if (termScores[ordinal] == 0) {
+                termMatched.add(ordinal);
+            }
+            termScores[ordinal] = Math.max(termScores[ordinal], score * weight);
+        };
+        trie.forEachWithPrefix(word, (ordinal, length) ->
+                record.visit(ordinal, PREFIX_SCORE + PREFIX_COVERAGE_SCORE * word.length() / length));
+        trie.forEachWithin(word, maxEdits, (ordinal, edits) ->
+                record.visit(ordinal, edits == 0 ? EXACT_SCORE : FUZZY_SCORE - EDIT_PENALTY * edits));
+    }
+
+    /**
+     * Returns the number of typos allowed in {@code word}: none in very short words, where any other word would
+     * be within a typo, and more in longer words.
+     */
+    private static int maxEditsFor(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the {@code limit} ordinals of {@code matched} with the highest {@code scores}, highest first.
+     */
+    private static int[] best(int[] scores, Ordinals matched, int limit) {
+        // the head is the worst of the best found so far
+        PriorityQueue<Integer> best = new PriorityQueue<>((first, second) -> scores[first] != scores[second]
+                ? Integer.compare(scores[first], scores[second])
+                : Integer.compare(second, first));
+        for (int i = 0; i < matched.size; i++) {
+            best.add(matched.ordinals[i]);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        int[] ordinals = new int[best.size()];
+        for (int i = ordinals.length - 1; i >= 0; i--) {
+            ordinals[i] = best.poll();
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the words of {@code value} with their case folded.
+     */
+    static List<String> wordsOf(String value) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= value.length(); i++) {
+            if (i < value.length() && Character.isLetterOrDigit(value.charAt(i))) {
+                word.append(Character.toLowerCase(Character.toUpperCase(value.charAt(i))));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A growing list of ordinals.
+     */
+    private static class Ordinals {
+        private int[] ordinals = new int[16];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+}
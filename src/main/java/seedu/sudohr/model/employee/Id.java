@@ -2,6 +2,8 @@ package seedu.sudohr.model.employee;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isNonZeroDigits;
+import static seedu.sudohr.commons.util.ValidationUtil.stripLeadingZeroes;
 
 /**
  * Represents an employee's assigned identity number in the company.
@@ -9,7 +11,8 @@ import static seedu.sudohr.commons.util.AppUtil.checkArgument;
  */
 public class Id {
     public static final String MESSAGE_CONSTRAINTS =
-            "IDs can take any non-zero positive (integral) values, and it should not be blank. "
+            "IDs can take any non-zero positive (integral) values up to " + Long.MAX_VALUE
+            + ", and it should not be blank. "
             + "Note that ID is a field for an employee's unique identification in the company";
 
     /*
@@ -17,49 +20,64 @@ public class Id {
      */
     public static final String VALIDATION_REGEX = "^[0-9]*[1-9][0-9]*$";
 
-    public final String value;
+    private static final String MAX_VALUE = String.valueOf(Long.MAX_VALUE);
+
+    public final long value;
 
     /**
-     * Constructs an {@code Address}.
+     * Constructs an {@code Id}.
      *
      * @param id A valid employee identification number.
      */
     public Id(String id) {
         requireNonNull(id);
         checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
-        value = removeLeadingZeroes(id);
+        value = Long.parseLong(removeLeadingZeroes(id));
+    }
+
+    /**
+     * Constructs an {@code Id} from its numeric value.
+     *
+     * @param id A positive employee identification number.
+     */
+    public Id(long id) {
+        checkArgument(id > 0, MESSAGE_CONSTRAINTS);
+        value = id;
     }
 
     /**
      * Removes leading zeroes from any given string
      */
     public static String removeLeadingZeroes(String str) {
-        String strPattern = "^0+(?!$)";
-        str = str.replaceAll(strPattern, "");
-        return str;
+        return stripLeadingZeroes(str);
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid id.
      */
     public static boolean isValidId(String id) {
-        return id.matches(VALIDATION_REGEX);
+        if (!isNonZeroDigits(id)) {
+            return false;
+        }
+        String digits = removeLeadingZeroes(id);
+        return digits.length() < MAX_VALUE.length()
+                || (digits.length() == MAX_VALUE.length() && digits.compareTo(MAX_VALUE) <= 0);
     }
 
     @Override
     public String toString() {
-        return value;
+        return Long.toString(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Id // instanceof handles nulls
-                && value.equals(((Id) other).value)); // state check
+                && value == ((Id) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 }
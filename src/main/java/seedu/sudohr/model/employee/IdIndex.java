@@ -0,0 +1,121 @@
+package seedu.sudohr.model.employee;
+
+import java.util.Arrays;
+
+/**
+ * An index from the values of {@code Id}s to dense {@code int} positions, without boxing either.
+ * The keys are kept in an array by position, and an open-addressing hash table of positions finds them. The table
+ * only holds {@code int}s, so it stays small even when kept sparse. Collisions are resolved by linear probing,
+ * and removals shift the following entries back so that no tombstones are left behind.
+ * Ids are positive, so a key of 0 marks a free position.
+ */
+class IdIndex {
+    static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY * 2]; // position + 1 of the key in each slot, or 0 if empty
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the key at {@code position}, or 0 if there is none.
+     */
+    long keyAt(int position) {
+        return position < keys.length ? keys[position] : 0;
+    }
+
+    /**
+     * Returns the position of {@code key}, or {@link #ABSENT} if it is not in the index.
+     */
+    int get(long key) {
+        int mask = slots.length - 1;
+        for (int slot = slotOf(key, mask); slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slots[slot] - 1] == key) {
+                return slots[slot] - 1;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Adds {@code key} at {@code position}.
+     * The key must not already be in the index, and the position must be free.
+     */
+    void put(long key, int position) {
+        assert key > 0 && keyAt(position) == 0 && get(key) == ABSENT;
+        if (position >= keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(position + 1, keys.length * 2));
+        }
+        if ((size + 1) * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+        keys[position] = key;
+        int mask = slots.length - 1;
+        int slot = slotOf(key, mask);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+        size++;
+    }
+
+    /**
+     * Removes {@code key} and returns the position it was at, or {@link #ABSENT} if it was not in the index.
+     */
+    int remove(long key) {
+        int mask = slots.length - 1;
+        int slot = slotOf(key, mask);
+        while (slots[slot] == 0 || keys[slots[slot] - 1] != key) {
+            if (slots[slot] == 0) {
+                return ABSENT;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int position = slots[slot] - 1;
+        keys[position] = 0;
+        size--;
+
+        // shift back every following entry that would no longer be reachable across the emptied slot
+        int empty = slot;
+        for (int next = (empty + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            int home = slotOf(keys[slots[next] - 1], mask);
+            if (((next - home) & mask) >= ((next - empty) & mask)) {
+                slots[empty] = slots[next];
+                empty = next;
+            }
+        }
+        slots[empty] = 0;
+        return position;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        int[] oldSlots = slots;
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry : oldSlots) {
+            if (entry != 0) {
+                int slot = slotOf(keys[entry - 1], mask);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = entry;
+            }
+        }
+    }
+
+    private static int slotOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L; // spreads consecutive ids across the table
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.sudohr.model.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A map from employee {@code Id}s to values that stores the ids as primitive {@code long}s.
+ * Values are kept in a dense array at the positions given by an {@link IdIndex}, so a lookup hashes a {@code long}
+ * instead of an {@code Id} object and no entry objects are allocated. Removing an entry moves the last entry into its
+ * place, so the iteration order is not the insertion order. Values cannot be null.
+ */
+public class IdMap<V> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IdIndex index = new IdIndex();
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if there is a value for {@code id}.
+     */
+    public boolean containsKey(Id id) {
+        requireNonNull(id);
+        return index.get(id.value) != IdIndex.ABSENT;
+    }
+
+    /**
+     * Returns the value for {@code id}, or null if there is none.
+     */
+    public V get(Id id) {
+        requireNonNull(id);
+        return valueAt(index.get(id.value));
+    }
+
+    /**
+     * Returns the value for {@code id}, or {@code defaultValue} if there is none.
+     */
+    public V getOrDefault(Id id, V defaultValue) {
+        V value = get(id);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Sets the value for {@code id} and returns the value it replaces, or null if there was none.
+     */
+    public V put(Id id, V value) {
+        requireNonNull(id);
+        requireNonNull(value);
+        int position = index.get(id.value);
+        if (position != IdIndex.ABSENT) {
+            V replaced = valueAt(position);
+            values[position] = value;
+            return replaced;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        index.put(id.value, size);
+        size++;
+        return null;
+    }
+
+    /**
+     * Returns the value for {@code id}, first setting it to the result of {@code mappingFunction} if there is none.
+     */
+    public V computeIfAbsent(Id id, Function<Id, V> mappingFunction) {
+        V value = get(id);
+        if (value == null) {
+            value = mappingFunction.apply(id);
+            put(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value for {@code id} and returns it, or null if there was none.
+     */
+    public V remove(Id id) {
+        requireNonNull(id);
+        int position = index.remove(id.value);
+        if (position == IdIndex.ABSENT) {
+            return null;
+        }
+        V removed = valueAt(position);
+        int last = size - 1;
+        if (position != last) {
+            long movedKey = index.keyAt(last);
+            index.remove(movedKey);
+            index.put(movedKey, position);
+            values[position] = values[last];
+        }
+        values[last] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        index.clear();
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns true if {@code other} has the same ids, each with an equal value.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof IdMap) || ((IdMap<?>) other).size != size) {
+            return false;
+        }
+        IdMap<?> otherMap = (IdMap<?>) other;
+        for (int i = 0; i < size; i++) {
+            if (!values[i].equals(otherMap.valueAt(otherMap.index.get(index.keyAt(i))))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < size; i++) {
+            hashCode += Long.hashCode(index.keyAt(i)) ^ values[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int position) {
+        return position == IdIndex.ABSENT ? null : (V) values[position];
+    }
+}
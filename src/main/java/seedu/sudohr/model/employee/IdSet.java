@@ -0,0 +1,113 @@
+package seedu.sudohr.model.employee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of employee {@code Id}s, in insertion order, that stores the ids as primitive {@code long}s.
+ * Each id is kept at its position in an {@link IdIndex}. Removing an id leaves a free position behind, and the
+ * ids are moved together once free positions make up half of them. {@code Id} objects are only created while
+ * iterating.
+ */
+public class IdSet extends AbstractSet<Id> {
+    private final IdIndex index = new IdIndex();
+    private int end;
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Id && index.get(((Id) o).value) != IdIndex.ABSENT;
+    }
+
+    @Override
+    public boolean add(Id id) {
+        requireNonNull(id);
+        if (index.get(id.value) != IdIndex.ABSENT) {
+            return false;
+        }
+        if (end >= 2 * size() + 8) {
+            compact();
+        }
+        index.put(id.value, end);
+        end++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Id && index.remove(((Id) o).value) != IdIndex.ABSENT;
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement}, keeping its position in the iteration order.
+     * {@code target} must be in the set and {@code replacement} must not.
+     */
+    public void replace(Id target, Id replacement) {
+        requireNonNull(replacement);
+        assert !contains(replacement);
+        int position = index.remove(target.value);
+        assert position != IdIndex.ABSENT;
+        index.put(replacement.value, position);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        end = 0;
+    }
+
+    @Override
+    public Iterator<Id> iterator() {
+        return new Iterator<>() {
+            private int next = skipFreePositions(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public Id next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Id id = new Id(index.keyAt(next));
+                next = skipFreePositions(next + 1);
+                return id;
+            }
+        };
+    }
+
+    private int skipFreePositions(int from) {
+        int position = from;
+        while (position < end && index.keyAt(position) == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Moves the ids together over the positions freed by removals, keeping their order.
+     */
+    private void compact() {
+        long[] ids = new long[size()];
+        int count = 0;
+        for (int position = 0; position < end; position++) {
+            if (index.keyAt(position) != 0) {
+                ids[count++] = index.keyAt(position);
+            }
+        }
+        index.clear();
+        for (int position = 0; position < count; position++) {
+            index.put(ids[position], position);
+        }
+        end = count;
+    }
+}
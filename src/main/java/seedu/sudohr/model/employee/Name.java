@@ -2,6 +2,7 @@ package seedu.sudohr.model.employee;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isAlphanumericWords;
 
 /**
  * Represents a Employee's name in the SudoHR.
@@ -35,7 +36,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
 
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Employee> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Employee employee) {
         return keywords.stream()
@@ -0,0 +1,240 @@
+package seedu.sudohr.model.employee;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * An inverted index from the words of employee names to the ordinals of the employees whose names contain them.
+ * Words are split at whitespace and matched ignoring case, as by {@link String#equalsIgnoreCase(String)}.
+ *
+ * Most words of a large set of names belong to a single employee, so the words themselves are not stored: each is
+ * known by a 63-bit hash of its case-folded characters, and a word held by a single employee takes an {@code int}
+ * rather than a bitmap. When a word is added under a hash that is already in use, it is compared with the words of
+ * an employee already holding the hash. A hash found to be shared by different words is marked, and lookups of that
+ * hash check the names of the employees found, so lookups never return an employee without the word.
+ */
+class NameIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IdIndex positions = new IdIndex(); // hash of each word to the position of its employees
+    private final IntFunction<Name> nameOf;
+    private final BitSet collided = new BitSet(); // positions of hashes shared by different words
+    private int[] singleOrdinals = new int[INITIAL_CAPACITY]; // the only employee with the word, if no bitmap
+    private EmployeeBitmap[] bitmaps = new EmployeeBitmap[INITIAL_CAPACITY];
+    private int[] freePositions = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int end;
+
+    /**
+     * Creates an empty index that looks up the current name of an employee by ordinal with {@code nameOf}.
+     */
+    NameIndex(IntFunction<Name> nameOf) {
+        this.nameOf = nameOf;
+    }
+
+    /**
+     * Adds the employee with {@code ordinal} under every word of {@code name}.
+     * {@code nameOf} must already return {@code name} for {@code ordinal}.
+     */
+    void add(Name name, int ordinal) {
+        String fullName = name.fullName;
+        int from = skipWhitespace(fullName, 0);
+        while (from < fullName.length()) {
+            int to = skipWord(fullName, from);
+            addWord(fullName, from, to, ordinal);
+            from = skipWhitespace(fullName, to);
+        }
+    }
+
+    /**
+     * Removes the employee with {@code ordinal} from under every word of {@code name}.
+     */
+    void remove(Name name, int ordinal) {
+        String fullName = name.fullName;
+        int from = skipWhitespace(fullName, 0);
+        while (from < fullName.length()) {
+            int to = skipWord(fullName, from);
+            removeWord(keyOf(fullName, from, to), ordinal);
+            from = skipWhitespace(fullName, to);
+        }
+    }
+
+    /**
+     * Returns the ordinals of the employees whose names contain {@code keyword} as a whole word, ignoring case.
+     * The result may be kept by the index and must not be changed.
+     */
+    EmployeeBitmap find(String keyword) {
+        String word = keyword.trim();
+        if (word.isEmpty() || skipWord(word, 0) != word.length()) {
+            return new EmployeeBitmap();
+        }
+        int position = positions.get(keyOf(word, 0, word.length()));
+        if (position == IdIndex.ABSENT) {
+            return new EmployeeBitmap();
+        }
+        EmployeeBitmap found = bitmaps[position];
+        if (found == null) {
+            found = new EmployeeBitmap();
+            found.add(singleOrdinals[position]);
+        }
+        if (!collided.get(position)) {
+            return found;
+        }
+        EmployeeBitmap checked = new EmployeeBitmap();
+        found.forEach(ordinal -> {
+            if (hasWord(nameOf.apply(ordinal).fullName, word)) {
+                checked.add(ordinal);
+            }
+        });
+        return checked;
+    }
+
+    /**
+     * Removes every word.
+     */
+    void clear() {
+        positions.clear();
+        collided.clear();
+        Arrays.fill(bitmaps, 0, end, null);
+        freeCount = 0;
+        end = 0;
+    }
+
+    private void addWord(String fullName, int from, int to, int ordinal) {
+        long key = keyOf(fullName, from, to);
+        int position = positions.get(key);
+        if (position == IdIndex.ABSENT) {
+            position = allocate();
+            positions.put(key, position);
+            singleOrdinals[position] = ordinal;
+            return;
+        }
+        EmployeeBitmap bitmap = bitmaps[position];
+        int holder = bitmap == null ? singleOrdinals[position] : bitmap.first();
+        if (!collided.get(position) && !hasOnlyWord(nameOf.apply(holder).fullName, key, fullName, from, to)) {
+            collided.set(position);
+        }
+        if (bitmap != null) {
+            bitmap.add(ordinal);
+        } else if (holder != ordinal) { // a word repeated within a name is only added once
+            bitmap = new EmployeeBitmap();
+            bitmap.add(holder);
+            bitmap.add(ordinal);
+            bitmaps[position] = bitmap;
+        }
+    }
+
+    private void removeWord(long key, int ordinal) {
+        int position = positions.get(key);
+        if (position == IdIndex.ABSENT) {
+            return; // a word repeated within a name was already removed
+        }
+        EmployeeBitmap bitmap = bitmaps[position];
+        if (bitmap == null) {
+            if (singleOrdinals[position] == ordinal) {
+                positions.remove(key);
+                release(position);
+            }
+            return;
+        }
+        bitmap.remove(ordinal);
+        if (bitmap.cardinality() == 1) {
+            singleOrdinals[position] = bitmap.first();
+            bitmaps[position] = null;
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freePositions[--freeCount];
+        }
+        if (end == bitmaps.length) {
+            singleOrdinals = Arrays.copyOf(singleOrdinals, end * 2);
+            bitmaps = Arrays.copyOf(bitmaps, end * 2);
+        }
+        return end++;
+    }
+
+    private void release(int position) {
+        bitmaps[position] = null;
+        collided.clear(position);
+        if (freeCount == freePositions.length) {
+            freePositions = Arrays.copyOf(freePositions, freeCount * 2);
+        }
+        freePositions[freeCount++] = position;
+    }
+
+    /**
+     * Returns true if every word of {@code fullName} with {@code key} is the word from {@code from} to {@code to}
+     * of {@code word}, and there is at least one.
+     */
+    private static boolean hasOnlyWord(String fullName, long key, String word, int from, int to) {
+        boolean hasWord = false;
+        int start = skipWhitespace(fullName, 0);
+        while (start < fullName.length()) {
+            int wordEnd = skipWord(fullName, start);
+            if (keyOf(fullName, start, wordEnd) == key) {
+                if (wordEnd - start != to - from || !fullName.regionMatches(true, start, word, from, to - from)) {
+                    return false;
+                }
+                hasWord = true;
+            }
+            start = skipWhitespace(fullName, wordEnd);
+        }
+        return hasWord;
+    }
+
+    /**
+     * Returns true if {@code fullName} contains {@code word} as a whole word, ignoring case.
+     */
+    private static boolean hasWord(String fullName, String word) {
+        int start = skipWhitespace(fullName, 0);
+        while (start < fullName.length()) {
+            int wordEnd = skipWord(fullName, start);
+            if (wordEnd - start == word.length() && fullName.regionMatches(true, start, word, 0, word.length())) {
+                return true;
+            }
+            start = skipWhitespace(fullName, wordEnd);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a positive hash of the characters from {@code from} to {@code to} of {@code s}, after folding their
+     * case so that words equal ignoring case have the same hash.
+     */
+    private static long keyOf(String s, int from, int to) {
+        long hash = 0xcbf29ce484222325L; // FNV-1a
+        for (int i = from; i < to; i++) {
+            hash ^= Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 31;
+        long key = hash >>> 1;
+        return key == 0 ? 1 : key;
+    }
+
+    private static int skipWhitespace(String s, int from) {
+        int i = from;
+        while (i < s.length() && isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWord(String s, int from) {
+        int i = from;
+        while (i < s.length() && !isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -2,6 +2,7 @@ package seedu.sudohr.model.employee;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isDigitGroups;
 
 /**
  * Represents a Employee's phone number in SudoHR.
@@ -30,16 +31,14 @@ public class Phone {
      * Removes leading zeroes from any given string
      */
     public static String removeWhitespaces(String str) {
-        String strPattern = " ";
-        str = str.replaceAll(strPattern, "");
-        return str;
+        return str.replace(" ", "");
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isDigitGroups(test, 4, 4);
     }
 
     @Override
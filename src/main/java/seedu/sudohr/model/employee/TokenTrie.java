@@ -0,0 +1,258 @@
+package seedu.sudohr.model.employee;
+
+import java.util.Arrays;
+
+/**
+ * A trie from tokens to the ordinals of the employees holding them, for finding tokens by prefix or by edit distance.
+ * Tokens are stored as given, so callers fold their case before adding and looking them up.
+ *
+ * Nodes are numbers into parallel arrays rather than objects, and the children of a node are kept as a list of
+ * siblings sorted by label, so a node takes a few bytes however many tokens pass through it. As in
+ * {@link NameIndex}, a token held by a single employee takes an {@code int} rather than a bitmap. Nodes left without
+ * tokens or children by a removal are released and reused.
+ */
+class TokenTrie {
+    /**
+     * Receives an employee found by a lookup, with a number describing how its token matched.
+     */
+    interface Visitor {
+        void visit(int ordinal, int value);
+    }
+
+    private static final int NONE = -1;
+    private static final int ROOT = 0;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private char[] labels = new char[INITIAL_CAPACITY];
+    private int[] firstChildren = new int[INITIAL_CAPACITY];
+    private int[] nextSiblings = new int[INITIAL_CAPACITY]; // also links released nodes
+    private int[] singleOrdinals = new int[INITIAL_CAPACITY]; // the only employee with the token, if no bitmap
+    private EmployeeBitmap[] bitmaps = new EmployeeBitmap[INITIAL_CAPACITY];
+    private int end;
+    private int firstFree;
+
+    TokenTrie() {
+        clear();
+    }
+
+    /**
+     * Adds the employee with {@code ordinal} under {@code token}, which must not be empty.
+     */
+    void add(String token, int ordinal) {
+        assert !token.isEmpty();
+        int node = ROOT;
+        for (int i = 0; i < token.length(); i++) {
+            int child = childOf(node, token.charAt(i));
+            node = child == NONE ? addChild(node, token.charAt(i)) : child;
+        }
+        if (bitmaps[node] != null) {
+            bitmaps[node].add(ordinal);
+        } else if (singleOrdinals[node] == NONE) {
+            singleOrdinals[node] = ordinal;
+        } else if (singleOrdinals[node] != ordinal) {
+            EmployeeBitmap bitmap = new EmployeeBitmap();
+            bitmap.add(singleOrdinals[node]);
+            bitmap.add(ordinal);
+            bitmaps[node] = bitmap;
+            singleOrdinals[node] = NONE;
+        }
+    }
+
+    /**
+     * Removes the employee with {@code ordinal} from under {@code token}, releasing the nodes no longer needed.
+     */
+    void remove(String token, int ordinal) {
+        int[] path = new int[token.length() + 1];
+        path[0] = ROOT;
+        for (int i = 0; i < token.length(); i++) {
+            path[i + 1] = childOf(path[i], token.charAt(i));
+            if (path[i + 1] == NONE) {
+                return;
+            }
+        }
+        int node = path[token.length()];
+        EmployeeBitmap bitmap = bitmaps[node];
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.cardinality() == 1) {
+                singleOrdinals[node] = bitmap.first();
+                bitmaps[node] = null;
+            }
+            return;
+        }
+        if (singleOrdinals[node] != ordinal) {
+            return;
+        }
+        singleOrdinals[node] = NONE;
+        for (int depth = token.length(); depth > 0 && isUnused(path[depth]); depth--) {
+            unlink(path[depth - 1], path[depth]);
+            release(path[depth]);
+        }
+    }
+
+    /**
+     * Returns the employees with {@code token}. The result may be kept by the trie and must not be changed.
+     */
+    EmployeeBitmap find(String token) {
+        int node = ROOT;
+        for (int i = 0; i < token.length() && node != NONE; i++) {
+            node = childOf(node, token.charAt(i));
+        }
+        if (node != NONE && bitmaps[node] != null) {
+            return bitmaps[node];
+        }
+        EmployeeBitmap found = new EmployeeBitmap();
+        if (node != NONE && singleOrdinals[node] != NONE) {
+            found.add(singleOrdinals[node]);
+        }
+        return found;
+    }
+
+    /**
+     * Visits every employee with a token starting with {@code prefix}, together with the length of the token.
+     */
+    void forEachWithPrefix(String prefix, Visitor visitor) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = childOf(node, prefix.charAt(i));
+        }
+        if (node != NONE) {
+            visitSubtree(node, prefix.length(), visitor);
+        }
+    }
+
+    /**
+     * Visits every employee with a token within {@code maxEdits} insertions, deletions and substitutions of
+     * {@code term}, together with the number of edits. Branches are left as soon as every prefix of {@code term}
+     * is too far from the path to them.
+     */
+    void forEachWithin(String term, int maxEdits, Visitor visitor) {
+        int[] row = new int[term.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        for (int child = firstChildren[ROOT]; child != NONE; child = nextSiblings[child]) {
+            visitWithin(child, term, row, maxEdits, visitor);
+        }
+    }
+
+    /**
+     * Removes every token.
+     */
+    void clear() {
+        Arrays.fill(bitmaps, 0, end, null);
+        end = 0;
+        firstFree = NONE;
+        allocate('\0');
+    }
+
+    private void visitSubtree(int node, int depth, Visitor visitor) {
+        visitPostings(node, depth, visitor);
+        for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+            visitSubtree(child, depth + 1, visitor);
+        }
+    }
+
+    /**
+     * Visits the tokens below {@code node} given the edit distances from the path to its parent to each prefix of
+     * {@code term}, computing the next row of the edit distance table.
+     */
+    private void visitWithin(int node, String term, int[] parentRow, int maxEdits, Visitor visitor) {
+        int[] row = new int[parentRow.length];
+        row[0] = parentRow[0] + 1;
+        int closest = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitution = parentRow[i - 1] + (term.charAt(i - 1) == labels[node] ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(row[i - 1], parentRow[i]) + 1);
+            closest = Math.min(closest, row[i]);
+        }
+        if (row[term.length()] <= maxEdits) {
+            visitPostings(node, row[term.length()], visitor);
+        }
+        if (closest > maxEdits) {
+            return;
+        }
+        for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+            visitWithin(child, term, row, maxEdits, visitor);
+        }
+    }
+
+    private void visitPostings(int node, int value, Visitor visitor) {
+        if (bitmaps[node] != null) {
+            bitmaps[node].forEach(ordinal -> visitor.visit(ordinal, value));
+        } else if (singleOrdinals[node] != NONE) {
+            visitor.visit(singleOrdinals[node], value);
+        }
+    }
+
+    private int childOf(int node, char label) {
+        int child = firstChildren[node];
+        while (child != NONE && labels[child] < label) {
+            child = nextSiblings[child];
+        }
+        return child != NONE && labels[child] == label ? child : NONE;
+    }
+
+    /**
+     * Adds a child with {@code label} to {@code node}, keeping its children sorted by label.
+     */
+    private int addChild(int node, char label) {
+        int child = allocate(label);
+        int previous = NONE;
+        int next = firstChildren[node];
+        while (next != NONE && labels[next] < label) {
+            previous = next;
+            next = nextSiblings[next];
+        }
+        nextSiblings[child] = next;
+        if (previous == NONE) {
+            firstChildren[node] = child;
+        } else {
+            nextSiblings[previous] = child;
+        }
+        return child;
+    }
+
+    private void unlink(int node, int child) {
+        if (firstChildren[node] == child) {
+            firstChildren[node] = nextSiblings[child];
+            return;
+        }
+        int previous = firstChildren[node];
+        while (nextSiblings[previous] != child) {
+            previous = nextSiblings[previous];
+        }
+        nextSiblings[previous] = nextSiblings[child];
+    }
+
+    private boolean isUnused(int node) {
+        return firstChildren[node] == NONE && singleOrdinals[node] == NONE && bitmaps[node] == null;
+    }
+
+    private int allocate(char label) {
+        int node;
+        if (firstFree != NONE) {
+            node = firstFree;
+            firstFree = nextSiblings[node];
+        } else {
+            if (end == labels.length) {
+                labels = Arrays.copyOf(labels, end * 2);
+                firstChildren = Arrays.copyOf(firstChildren, end * 2);
+                nextSiblings = Arrays.copyOf(nextSiblings, end * 2);
+                singleOrdinals = Arrays.copyOf(singleOrdinals, end * 2);
+                bitmaps = Arrays.copyOf(bitmaps, end * 2);
+            }
+            node = end++;
+        }
+        labels[node] = label;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        singleOrdinals[node] = NONE;
+        return node;
+    }
+
+    private void release(int node) {
+        nextSiblings[node] = firstFree;
+        firstFree = node;
+    }
+}
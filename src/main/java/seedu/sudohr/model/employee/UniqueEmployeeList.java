@@ -1,20 +1,23 @@
 package seedu.sudohr.model.employee;
 import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.CollectionUtil.findDuplicates;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmailException;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
 import seedu.sudohr.model.employee.exceptions.DuplicatePhoneNumberException;
 import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.model.list.ArrayModelList;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * A list of employees that enforces uniqueness between its elements and does not allow nulls.
@@ -23,14 +26,37 @@ import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
  * updated is unique in terms of identity in the UniqueEmployeeList. However, the removal of a employee uses
  * Employee#equals(Object) to ensure that the employee with exactly the same fields will be removed.
  *
+ * Employees are additionally indexed by id, email and phone number so that identity and clash checks run in
+ * constant time. The indices are kept consistent with the backing {@code ModelList} on every mutation, and are
+ * updated before it so that observers to the list already see the new ordinals.
+ *
+ * Each employee is also given an ordinal, a dense number from 0 that {@link EmployeeBitmap}s use to refer to the
+ * employee. An employee keeps its ordinal while it is in the list, even when edited, and the ordinals of removed
+ * employees are not handed out again. Ordinals are renumbered when the contents of the list are replaced, and when
+ * the unused ordinals outnumber the employees in the list, which both change {@link #getOrdinalGeneration()}.
+ * As employees are added at the end of the list, the list is always in the order of the ordinals, so the position
+ * of an employee is found by a binary search over them.
+ *
+ * The words of employee names are indexed as well, so that employees can be found by name without a scan.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Employee#isSameEmployee(Employee)
  */
 public class UniqueEmployeeList implements Iterable<Employee> {
-    private final ObservableList<Employee> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Employee> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final int NO_ORDINAL = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ArrayModelList<Employee> internalList = new ArrayModelList<>();
+    private final ModelList<Employee> internalUnmodifiableList = ModelList.unmodifiableList(internalList);
+    private final IdIndex ordinals = new IdIndex();
+    private final Map<Email, Id> emailToId = new HashMap<>();
+    private final Map<Phone, Id> phoneToId = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex(ordinal -> this.employeesByOrdinal[ordinal].getName());
+    private Employee[] employeesByOrdinal = new Employee[INITIAL_CAPACITY];
+    private int ordinalEnd;
+    private int ordinalGeneration;
 
     /**
      * Returns number of employees being tracked.
@@ -43,24 +69,116 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * Returns an employee with the specified ID.
      */
     public Employee get(Id id) {
-        for (Employee employee: internalList) {
-            if (employee.getId().equals(id)) {
-                return employee;
+        return getByOrdinal(ordinalOf(id));
+    }
+
+    /**
+     * Returns the ordinal of the employee with the specified id, or {@link #NO_ORDINAL} if there is no such employee.
+     */
+    public int ordinalOf(Id id) {
+        requireNonNull(id);
+        int ordinal = ordinals.get(id.value);
+        return ordinal == IdIndex.ABSENT ? NO_ORDINAL : ordinal;
+    }
+
+    /**
+     * Returns the position of the employee with the specified id in {@link #asUnmodifiableList()}.
+     * The list is in the order of the ordinals, so the position is found by a binary search over them.
+     *
+     * @throws EmployeeNotFoundException if there is no such employee.
+     */
+    public int positionOf(Id id) {
+        int ordinal = ordinalOf(id);
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midOrdinal = ordinalOf(internalList.get(mid).getId());
+            if (midOrdinal < ordinal) {
+                low = mid + 1;
+            } else if (midOrdinal > ordinal) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
-        return null;
+        throw new EmployeeNotFoundException();
     }
 
     /**
-     * Returns true if the list contains an employee with the specified id as given in the argument.
+     * Returns the employee with the specified ordinal, or null if there is no such employee.
      */
-    public boolean checkEmployeeExists(Id id) {
-        for (Employee employee : internalList) {
-            if (employee.getId().equals(id)) {
-                return true;
+    public Employee getByOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < ordinalEnd ? employeesByOrdinal[ordinal] : null;
+    }
+
+    /**
+     * Returns the employees whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * The result is a bitmap over the ordinals of the list.
+     */
+    public EmployeeBitmap findByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        EmployeeBitmap found = new EmployeeBitmap();
+        for (String keyword : keywords) {
+            found = found.or(nameIndex.find(keyword));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the employee with the specified id as a bitmap over the ordinals of the list, which is empty if there
+     * is no such employee.
+     */
+    public EmployeeBitmap findById(Id id) {
+        EmployeeBitmap found = new EmployeeBitmap();
+        int ordinal = ordinalOf(id);
+        if (ordinal != NO_ORDINAL) {
+            found.add(ordinal);
+        }
+        return found;
+    }
+
+    /**
+     * Returns every employee in the list as a bitmap over the ordinals of the list.
+     */
+    public EmployeeBitmap asBitmap() {
+        EmployeeBitmap all = new EmployeeBitmap();
+        for (int ordinal = 0; ordinal < ordinalEnd; ordinal++) {
+            if (employeesByOrdinal[ordinal] != null) {
+                all.add(ordinal);
             }
         }
-        return false;
+        return all;
+    }
+
+    /**
+     * Returns the employees in {@code candidates} that satisfy {@code predicate}, testing only those employees.
+     */
+    public EmployeeBitmap filter(EmployeeBitmap candidates, Predicate<Employee> predicate) {
+        requireAllNonNull(candidates, predicate);
+        EmployeeBitmap found = new EmployeeBitmap();
+        candidates.forEach(ordinal -> {
+            Employee employee = getByOrdinal(ordinal);
+            if (employee != null && predicate.test(employee)) {
+                found.add(ordinal);
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Returns a counter that changes whenever the ordinals of the employees in the list are renumbered.
+     * Ordinals taken from the list stay valid for as long as the returned value stays the same.
+     */
+    public int getOrdinalGeneration() {
+        return ordinalGeneration;
+    }
+
+    /**
+     * Returns true if the list contains an employee with the specified id as given in the argument.
+     */
+    public boolean checkEmployeeExists(Id id) {
+        return ordinalOf(id) != NO_ORDINAL;
     }
 
     /**
@@ -68,7 +186,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean contains(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployee);
+        return checkEmployeeExists(toCheck.getId());
     }
 
     /**
@@ -78,9 +196,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean contains(Employee toCheck, Employee toExclude) {
         requireNonNull(toCheck);
         requireNonNull(toExclude);
-        return internalList.stream().filter(
-                e -> !toExclude.isSameEmployee(e))
-                .anyMatch(toCheck::isSameEmployee);
+        return !toExclude.isSameEmployee(toCheck) && contains(toCheck);
     }
 
     /**
@@ -88,7 +204,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean strictlyContains(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(get(toCheck.getId()));
     }
 
     /**
@@ -96,7 +212,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean sharesEmail(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::emailClashes);
+        return isOwnedByOther(emailToId.get(toCheck.getEmail()), toCheck.getId());
     }
 
     /**
@@ -106,9 +222,8 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean sharesEmail(Employee toCheck, Employee toExclude) {
         requireNonNull(toCheck);
         requireNonNull(toExclude);
-        return internalList.stream().filter(
-                        e -> !toExclude.isSameEmployee(e))
-                .anyMatch(toCheck::emailClashes);
+        Id owner = emailToId.get(toCheck.getEmail());
+        return isOwnedByOther(owner, toCheck.getId()) && !owner.equals(toExclude.getId());
     }
 
     /**
@@ -116,7 +231,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean sharesPhoneNumber(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::phoneClashes);
+        return isOwnedByOther(phoneToId.get(toCheck.getPhone()), toCheck.getId());
     }
 
     /**
@@ -126,9 +241,8 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean sharesPhoneNumber(Employee toCheck, Employee toExclude) {
         requireNonNull(toCheck);
         requireNonNull(toExclude);
-        return internalList.stream().filter(
-                        e -> !toExclude.isSameEmployee(e))
-                .anyMatch(toCheck::phoneClashes);
+        Id owner = phoneToId.get(toCheck.getPhone());
+        return isOwnedByOther(owner, toCheck.getId()) && !owner.equals(toExclude.getId());
     }
 
     /**
@@ -147,6 +261,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         if (sharesEmail(toAdd)) {
             throw new DuplicateEmailException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -168,8 +283,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!strictlyContains(target)) {
             throw new EmployeeNotFoundException();
         }
         if (contains(editedEmployee, target)) {
@@ -184,7 +298,9 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new DuplicateEmailException();
         }
 
-        internalList.set(index, editedEmployee);
+        int position = positionOf(target.getId());
+        reindex(target, editedEmployee);
+        internalList.set(position, editedEmployee);
     }
 
     /**
@@ -193,39 +309,51 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void remove(Employee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!strictlyContains(toRemove)) {
             throw new EmployeeNotFoundException();
         }
+        int position = positionOf(toRemove.getId());
+        unindex(toRemove);
+        internalList.remove(position);
+        if (ordinalEnd - internalList.size() > Math.max(internalList.size(), INITIAL_CAPACITY)) {
+            reindex(internalList);
+        }
     }
 
     /**
      * Replaces the contents of this list with {@code employees}.
-     * {@code employees} must not contain duplicate employees.
+     * {@code employees} must not contain duplicate employees, phone numbers or emails.
+     * Every offending duplicate is reported in the thrown exception. Runs in linear time.
      */
     public void setEmployees(List<Employee> employees) {
         requireAllNonNull(employees);
-        if (!employeesAreUnique(employees)) {
-            throw new DuplicateEmployeeException();
+        List<String> duplicateIds = findDuplicates(employees, Employee::getId);
+        if (!duplicateIds.isEmpty()) {
+            throw new DuplicateEmployeeException(duplicateIds);
         }
-        if (!phoneNumbersAreUnique(employees)) {
-            throw new DuplicatePhoneNumberException();
+        List<String> duplicatePhones = findDuplicates(employees, Employee::getPhone);
+        if (!duplicatePhones.isEmpty()) {
+            throw new DuplicatePhoneNumberException(duplicatePhones);
         }
-        if (!emailsAreUnique(employees)) {
-            throw new DuplicateEmailException();
+        List<String> duplicateEmails = findDuplicates(employees, Employee::getEmail);
+        if (!duplicateEmails.isEmpty()) {
+            throw new DuplicateEmailException(duplicateEmails);
         }
 
+        reindex(employees);
         internalList.setAll(employees);
     }
 
     public void setEmployees(UniqueEmployeeList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ModelList}.
      */
-    public ObservableList<Employee> asUnmodifiableObservableList() {
+    public ModelList<Employee> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -240,7 +368,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
 
     @Override
     public Iterator<Employee> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     /**
@@ -254,84 +382,93 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         if (other == this) {
             return true;
         }
-        if (other instanceof UniqueEmployeeList) { // handles null
-            // idea it to make sure each list is a subset of the other
-            Map<Id, Employee> currentList = new HashMap<>();
-            Map<Id, Employee> otherList = new HashMap<>();
-
-            for (Employee e : internalList) {
-                currentList.put(e.getId(), e);
-            }
-
-            for (Employee e : (UniqueEmployeeList) other) {
-                otherList.put(e.getId(), e);
-            }
-
-            for (Id id : currentList.keySet()) {
-                Employee employeeFromCurrent = currentList.get(id);
-                Employee employeeFromOther = otherList.getOrDefault(id, null);
-                if (employeeFromOther == null
-                        || !employeeFromCurrent.equals(employeeFromOther)) {
-                    return false;
-                }
-            }
-
-            for (Id id : otherList.keySet()) {
-                Employee employeeFromCurrent = currentList.getOrDefault(id, null);
-                Employee employeeFromOther = otherList.get(id);
-                if (employeeFromCurrent == null
-                        || !employeeFromCurrent.equals(employeeFromOther)) {
-                    return false;
-                }
+        if (!(other instanceof UniqueEmployeeList) || ((UniqueEmployeeList) other).size() != size()) {
+            return false;
+        }
+        // two lists are equal if they hold the same employees, regardless of order
+        UniqueEmployeeList otherList = (UniqueEmployeeList) other;
+        for (Employee employee : internalList) {
+            if (!employee.equals(otherList.get(employee.getId()))) {
+                return false;
             }
-            return true;
         }
-        return false;
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        int hashCode = 0;
+        for (Employee employee : internalList) {
+            hashCode += Long.hashCode(employee.getId().value) ^ employee.hashCode();
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns true if {@code owner} refers to an employee other than the one with {@code id}.
+     */
+    private static boolean isOwnedByOther(Id owner, Id id) {
+        return owner != null && !owner.equals(id);
     }
+
     /**
-     * Returns true if {@code employees} contains only unique employees.
+     * Adds {@code employee} to the id, email, phone number and name indices, with the next unused ordinal.
      */
-    private boolean employeesAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).isSameEmployee(employees.get(j))) {
-                    return false;
-                }
-            }
+    private void index(Employee employee) {
+        if (ordinalEnd == employeesByOrdinal.length) {
+            employeesByOrdinal = Arrays.copyOf(employeesByOrdinal, ordinalEnd * 2);
         }
-        return true;
+        ordinals.put(employee.getId().value, ordinalEnd);
+        employeesByOrdinal[ordinalEnd] = employee;
+        nameIndex.add(employee.getName(), ordinalEnd);
+        ordinalEnd++;
+        emailToId.put(employee.getEmail(), employee.getId());
+        phoneToId.put(employee.getPhone(), employee.getId());
     }
 
     /**
-     * Returns true if {@code employees} contains only unique emails.
+     * Removes {@code employee} from the id, email, phone number and name indices. Its ordinal is left unused.
      */
-    private boolean emailsAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).emailClashes(employees.get(j))) {
-                    return false;
-                }
-            }
+    private void unindex(Employee employee) {
+        int ordinal = ordinals.remove(employee.getId().value);
+        nameIndex.remove(employee.getName(), ordinal);
+        employeesByOrdinal[ordinal] = null;
+        emailToId.remove(employee.getEmail());
+        phoneToId.remove(employee.getPhone());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEmployee} in the indices, giving it the ordinal of {@code target}.
+     */
+    private void reindex(Employee target, Employee editedEmployee) {
+        int ordinal = ordinals.remove(target.getId().value);
+        emailToId.remove(target.getEmail());
+        phoneToId.remove(target.getPhone());
+        ordinals.put(editedEmployee.getId().value, ordinal);
+        if (target.getName().equals(editedEmployee.getName())) {
+            employeesByOrdinal[ordinal] = editedEmployee;
+        } else {
+            nameIndex.remove(target.getName(), ordinal);
+            employeesByOrdinal[ordinal] = editedEmployee;
+            nameIndex.add(editedEmployee.getName(), ordinal);
         }
-        return true;
+        emailToId.put(editedEmployee.getEmail(), editedEmployee.getId());
+        phoneToId.put(editedEmployee.getPhone(), editedEmployee.getId());
     }
 
     /**
-     * Returns true if {@code employees} contains only unique phone numbers.
+     * Rebuilds the indices from {@code employees}, numbering them in list order from 0.
      */
-    private boolean phoneNumbersAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).phoneClashes(employees.get(j))) {
-                    return false;
-                }
-            }
+    private void reindex(List<Employee> employees) {
+        ordinals.clear();
+        nameIndex.clear();
+        employeesByOrdinal = new Employee[Math.max(employees.size(), INITIAL_CAPACITY)];
+        ordinalEnd = 0;
+        ordinalGeneration++;
+        emailToId.clear();
+        phoneToId.clear();
+        for (Employee employee : employees) {
+            index(employee);
         }
-        return true;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.sudohr.model.employee.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate emails for different employees
  */
@@ -7,4 +9,11 @@ public class DuplicateEmailException extends RuntimeException {
     public DuplicateEmailException() {
         super("Operation would result in duplicate emails");
     }
+
+    /**
+     * Creates the exception with a description of each offending duplicate in {@code duplicates}.
+     */
+    public DuplicateEmailException(List<String> duplicates) {
+        super("Operation would result in duplicate emails: " + String.join(", ", duplicates));
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.sudohr.model.employee.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Employees.
  * Employees are considered duplicates if they have the same identity field.
@@ -8,4 +10,11 @@ public class DuplicateEmployeeException extends RuntimeException {
     public DuplicateEmployeeException() {
         super("Operation would result in duplicate employees");
     }
+
+    /**
+     * Creates the exception with a description of each offending duplicate in {@code duplicates}.
+     */
+    public DuplicateEmployeeException(List<String> duplicates) {
+        super("Operation would result in duplicate employees: " + String.join(", ", duplicates));
+    }
 }
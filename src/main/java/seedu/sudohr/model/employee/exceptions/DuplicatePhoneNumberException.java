@@ -1,5 +1,7 @@
 package seedu.sudohr.model.employee.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate phone number for different employees
  */
@@ -7,4 +9,11 @@ public class DuplicatePhoneNumberException extends RuntimeException {
     public DuplicatePhoneNumberException() {
         super("Operation would result in duplicate phone numbers");
     }
+
+    /**
+     * Creates the exception with a description of each offending duplicate in {@code duplicates}.
+     */
+    public DuplicatePhoneNumberException(List<String> duplicates) {
+        super("Operation would result in duplicate phone numbers: " + String.join(", ", duplicates));
+    }
 }
@@ -7,32 +7,30 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.EmployeeReferenceList;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.employee.UniqueEmployeeList;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.model.list.Revision;
 
 /**
  * Represents a Leave in SudoHR.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Employees on leave are stored by {@code Id} and resolved through the employee list of SudoHR once the leave is added
+ * to it.
  */
 public class Leave implements Comparable<Leave> {
 
     private final LeaveDate date;
-    private final UniqueEmployeeList employees;
+    private final EmployeeReferenceList employees = new EmployeeReferenceList();
+    private final Revision revision = new Revision();
 
     /**
      * Every field must be present and not null.
      */
     public Leave(LeaveDate date) {
         this.date = date;
-        this.employees = new UniqueEmployeeList();
-    }
-
-    /**
-     * Creates a new leave with the specified date {@code date} and employees{@code employees}
-     */
-    public Leave(LeaveDate date, UniqueEmployeeList employees) {
-        this.date = date;
-        this.employees = employees;
     }
 
     /**
@@ -40,7 +38,6 @@ public class Leave implements Comparable<Leave> {
      */
     public Leave(LeaveDate date, Set<Employee> employees) {
         this.date = date;
-        this.employees = new UniqueEmployeeList();
         this.employees.addAll(employees);
     }
 
@@ -56,10 +53,17 @@ public class Leave implements Comparable<Leave> {
     }
 
     /**
-     * Returns unmodifiable set of employees.
+     * Returns unmodifiable list of employees.
      */
     public List<Employee> getEmployees() {
-        return employees.asUnmodifiableObservableList();
+        return employees.asList();
+    }
+
+    /**
+     * Returns unmodifiable set of the ids of employees on leave.
+     */
+    public Set<Id> getEmployeeIds() {
+        return employees.asIdSet();
     }
 
     /**
@@ -77,12 +81,21 @@ public class Leave implements Comparable<Leave> {
         return employees.contains(employee);
     }
 
+    /**
+     * Returns true if the employee with the specified {@code id} is on this leave.
+     */
+    public boolean hasEmployee(Id id) {
+        requireNonNull(id);
+        return employees.contains(id);
+    }
+
     /**
      * Adds a specific employee {@code employee} to the leave.
      */
     public void addEmployee(Employee employee) {
         requireNonNull(employee);
         employees.add(employee);
+        markChanged();
     }
 
     /**
@@ -90,6 +103,7 @@ public class Leave implements Comparable<Leave> {
      */
     public void setEmployee(Employee employeeToEdit, Employee editedEmployee) {
         employees.setEmployee(employeeToEdit, editedEmployee);
+        markChanged();
     }
 
     /**
@@ -98,6 +112,35 @@ public class Leave implements Comparable<Leave> {
     public void deleteEmployee(Employee employee) {
         requireNonNull(employee);
         employees.remove(employee);
+        markChanged();
+    }
+
+    /**
+     * Resolves the employees on this leave through {@code registry} from now on.
+     * @throws EmployeeNotFoundException if some employee on this leave is not in {@code registry}.
+     */
+    public void bindTo(UniqueEmployeeList registry) {
+        employees.bindTo(registry);
+    }
+
+    /**
+     * Returns the employees on this leave as a bitmap over the ordinals of {@code employeeList}.
+     * Employees that are not in {@code employeeList} are left out.
+     */
+    public EmployeeBitmap getEmployeeBitmap(UniqueEmployeeList employeeList) {
+        return employees.asBitmap(employeeList);
+    }
+
+    /**
+     * Returns the revision of the leave, which changes whenever employees are added to, edited in or removed from
+     * the leave. Lists of leaves observe it to tell their observers which leave was updated.
+     */
+    public Revision getRevision() {
+        return revision;
+    }
+
+    private void markChanged() {
+        revision.increment();
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.sudohr.model.leave;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.ValidationUtil.isAlphanumericWords;
 
 import java.time.LocalDate;
 
@@ -27,7 +28,7 @@ public class LeaveDate implements Comparable<LeaveDate> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
     @Override
@@ -1,16 +1,21 @@
 package seedu.sudohr.model.leave;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.CollectionUtil.findDuplicates;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.leave.exceptions.DuplicateLeaveException;
 import seedu.sudohr.model.leave.exceptions.LeaveNotFoundException;
+import seedu.sudohr.model.list.ArrayModelList;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * A list of leaves that enforces uniqueness between its elements and does not
@@ -25,21 +30,25 @@ import seedu.sudohr.model.leave.exceptions.LeaveNotFoundException;
  * leave uses
  * Leaves#equals(Object) so
  * as to ensure that the employee with exactly the same fields will be removed.
+ * Leaves are kept in date order and indexed by date, so lookups by date take
+ * O(log n) time and leaves within a range of dates can be retrieved without
+ * scanning the whole list.
+ * The list reports a leave as updated to its observers whenever the employees on it change.
  * Supports a minimal set of list operations.
  *
  * @see Employee#isSameEmployee(Employee)
  */
 public class UniqueLeaveList implements Iterable<Leave> {
-    private final ObservableList<Leave> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Leave> internalUnmodifiableList = FXCollections
-            .unmodifiableObservableList(internalList);
+    private final ArrayModelList<Leave> internalList = new ArrayModelList<>(Leave::getRevision);
+    private final ModelList<Leave> internalUnmodifiableList = ModelList.unmodifiableList(internalList);
+    private final NavigableMap<LeaveDate, Leave> dateToLeave = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent leave as the given argument.
      */
     public boolean contains(Leave toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLeave);
+        return dateToLeave.containsKey(toCheck.getDate());
     }
 
     /**
@@ -51,21 +60,51 @@ public class UniqueLeaveList implements Iterable<Leave> {
         if (contains(toAdd)) {
             throw new DuplicateLeaveException();
         }
-        internalList.add(toAdd);
+        internalList.add(-(positionOf(toAdd.getDate()) + 1), toAdd);
+        dateToLeave.put(toAdd.getDate(), toAdd);
     }
 
     /**
      * Gets the leave object by date.
-     * @param date
-     * @return
+     * @param date the date of the leave
+     * @return the leave on {@code date}, or null if there is none
      */
     public Leave getLeave(LeaveDate date) {
-        for (Leave leave : internalList) {
-            if (leave.getDate().equals(date)) {
-                return leave;
+        requireNonNull(date);
+        return dateToLeave.get(date);
+    }
+
+    /**
+     * Returns the position of the leave on {@code date} in {@link #asUnmodifiableList()}, which is in date order.
+     * If there is no such leave, returns {@code -(insertion point) - 1} instead, like
+     * {@link java.util.Collections#binarySearch(List, Object)}.
+     */
+    public int positionOf(LeaveDate date) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = internalList.get(mid).getDate().compareTo(date);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
-        return null;
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the leaves dated from {@code startDate} to {@code endDate} inclusive, in date order.
+     */
+    public List<Leave> getLeavesBetween(LeaveDate startDate, LeaveDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.compareTo(endDate) > 0) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(dateToLeave.subMap(startDate, true, endDate, true).values());
     }
 
     /**
@@ -77,8 +116,7 @@ public class UniqueLeaveList implements Iterable<Leave> {
     public void setLeave(Leave target, Leave editedLeave) {
         requireAllNonNull(target, editedLeave);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new LeaveNotFoundException();
         }
 
@@ -86,7 +124,14 @@ public class UniqueLeaveList implements Iterable<Leave> {
             throw new DuplicateLeaveException();
         }
 
-        internalList.set(index, editedLeave);
+        if (target.isSameLeave(editedLeave)) {
+            internalList.set(positionOf(target.getDate()), editedLeave);
+            dateToLeave.put(editedLeave.getDate(), editedLeave);
+            return;
+        }
+
+        remove(target);
+        addLeave(editedLeave);
     }
 
     /**
@@ -95,39 +140,54 @@ public class UniqueLeaveList implements Iterable<Leave> {
      */
     public void remove(Leave toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (dateToLeave.remove(toRemove.getDate()) == null) {
             throw new LeaveNotFoundException();
         }
+        internalList.remove(positionOf(toRemove.getDate()));
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     */
     public void setLeaves(UniqueLeaveList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        dateToLeave.clear();
+        dateToLeave.putAll(replacement.dateToLeave);
     }
 
     /**
-     * Replaces the contents of this list with {@code employees}.
-     * {@code employees} must not contain duplicate employees.
+     * Replaces the contents of this list with {@code leaves}.
+     * {@code leaves} must not contain duplicate leaves.
+     * Every offending duplicate is reported in the thrown exception. Runs in linear time
+     * apart from sorting the leaves by date.
      */
     public void setLeaves(List<Leave> leaves) {
         requireAllNonNull(leaves);
-        if (!leavesAreUnique(leaves)) {
-            throw new DuplicateLeaveException();
+        List<String> duplicates = findDuplicates(leaves, Leave::getDate);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateLeaveException(duplicates);
         }
 
-        internalList.setAll(leaves);
+        List<Leave> leavesByDate = new ArrayList<>(leaves);
+        leavesByDate.sort(Comparator.comparing(Leave::getDate));
+        internalList.setAll(leavesByDate);
+        dateToLeave.clear();
+        for (Leave leave : leavesByDate) {
+            dateToLeave.put(leave.getDate(), leave);
+        }
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list, sorted by date, as an unmodifiable {@code ModelList}.
      */
-    public ObservableList<Leave> asUnmodifiableObservableList() {
+    public ModelList<Leave> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Leave> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -141,19 +201,4 @@ public class UniqueLeaveList implements Iterable<Leave> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code employees} contains only unique employees.
-     */
-    private boolean leavesAreUnique(List<Leave> leaves) {
-        for (int i = 0; i < leaves.size() - 1; i++) {
-            for (int j = i + 1; j < leaves.size(); j++) {
-                if (leaves.get(i).isSameLeave(leaves.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
 }
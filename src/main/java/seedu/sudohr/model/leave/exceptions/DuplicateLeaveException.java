@@ -1,5 +1,7 @@
 package seedu.sudohr.model.leave.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Employees (Employees are
  * considered duplicates if they have the same
@@ -9,4 +11,11 @@ public class DuplicateLeaveException extends RuntimeException {
     public DuplicateLeaveException() {
         super("Operation would result in duplicate event");
     }
+
+    /**
+     * Creates the exception with a description of each offending duplicate in {@code duplicates}.
+     */
+    public DuplicateLeaveException(List<String> duplicates) {
+        super("Operation would result in duplicate event: " + String.join(", ", duplicates));
+    }
 }
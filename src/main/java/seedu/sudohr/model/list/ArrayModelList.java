@@ -0,0 +1,197 @@
+package seedu.sudohr.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link ModelList} backed by an array, which reports every change made through the {@link List} methods.
+ * If the elements are mutable, the list can be given the {@link Revision} of each element, and reports an element
+ * as updated whenever its revision changes. The position of each such element is tracked, so that reporting an
+ * update does not scan the list. Positions shifted by an insertion or removal are only brought up to date when an
+ * element after it is next updated, so that a series of updates costs at most one pass over the list.
+ */
+public class ArrayModelList<T> extends ModelList<T> {
+    private final ArrayList<T> elements = new ArrayList<>();
+    private final Function<T, Revision> revisionOf;
+    private final Map<T, ElementObserver> elementObservers = new IdentityHashMap<>();
+    // the elements before this index have their position recorded in their observer
+    private int validPositions;
+
+    /**
+     * Creates an empty list of immutable elements.
+     */
+    public ArrayModelList() {
+        this.revisionOf = null;
+    }
+
+    /**
+     * Creates an empty list of mutable elements, whose revisions are given by {@code revisionOf}.
+     */
+    public ArrayModelList(Function<T, Revision> revisionOf) {
+        requireNonNull(revisionOf);
+        this.revisionOf = revisionOf;
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+        modCount++;
+        invalidatePositionsFrom(index);
+        observe(element);
+        fireChange(ListChange.replaced(index, List.of(), List.of(element)));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> toAdd) {
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        List<T> added = new ArrayList<>(toAdd);
+        elements.addAll(index, added);
+        modCount++;
+        invalidatePositionsFrom(index);
+        added.forEach(this::observe);
+        fireChange(ListChange.replaced(index, List.of(), added));
+        return true;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = elements.set(index, element);
+        invalidatePositionsFrom(index);
+        unobserve(old);
+        observe(element);
+        fireChange(ListChange.replaced(index, List.of(old), List.of(element)));
+        return old;
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = elements.remove(index);
+        modCount++;
+        invalidatePositionsFrom(index);
+        unobserve(old);
+        fireChange(ListChange.replaced(index, List.of(old), List.of()));
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<T> subList = elements.subList(fromIndex, toIndex);
+        List<T> removed = new ArrayList<>(subList);
+        subList.clear();
+        modCount++;
+        invalidatePositionsFrom(fromIndex);
+        removed.forEach(this::unobserve);
+        fireChange(ListChange.replaced(fromIndex, removed, List.of()));
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, elements.size());
+    }
+
+    /**
+     * Replaces the contents of the list with {@code replacement}, reported as a single change.
+     */
+    public void setAll(Collection<? extends T> replacement) {
+        List<T> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(replacement);
+        modCount++;
+        invalidatePositionsFrom(0);
+        removed.forEach(this::unobserve);
+        elements.forEach(this::observe);
+        if (hasObservers()) {
+            fireChange(ListChange.replaced(0, removed, new ArrayList<>(elements)));
+        }
+    }
+
+    private void invalidatePositionsFrom(int index) {
+        validPositions = Math.min(validPositions, index);
+    }
+
+    /**
+     * Records the position of every element from {@link #validPositions} on in its observer.
+     */
+    private void updatePositions() {
+        for (int i = validPositions; i < elements.size(); i++) {
+            elementObservers.get(elements.get(i)).position = i;
+        }
+        validPositions = elements.size();
+    }
+
+    private void observe(T element) {
+        if (revisionOf == null) {
+            return;
+        }
+        elementObservers.computeIfAbsent(element, ElementObserver::new).count++;
+    }
+
+    private void unobserve(T element) {
+        if (revisionOf == null) {
+            return;
+        }
+        ElementObserver observer = elementObservers.get(element);
+        if (--observer.count == 0) {
+            revisionOf.apply(element).removeObserver(observer);
+            elementObservers.remove(element);
+        }
+    }
+
+    /**
+     * Reports every occurrence of an element in the list as updated when the element changes.
+     */
+    private class ElementObserver implements Runnable {
+        private final T element;
+        private int count;
+        // the position of the element, recorded by updatePositions and only used if it occurs once
+        private int position;
+
+        ElementObserver(T element) {
+            this.element = element;
+            revisionOf.apply(element).addObserver(this);
+        }
+
+        @Override
+        public void run() {
+            if (count == 1) {
+                // an element after validPositions may still hold an old position that is before it
+                if (position >= validPositions || elements.get(position) != element) {
+                    updatePositions();
+                }
+                fireChange(ListChange.updated(position, position + 1));
+                return;
+            }
+            for (int i = 0; i < elements.size(); i++) {
+                if (elements.get(i) == element) {
+                    fireChange(ListChange.updated(i, i + 1));
+                }
+            }
+        }
+    }
+}
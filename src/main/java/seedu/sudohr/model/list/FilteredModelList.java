@@ -0,0 +1,358 @@
+package seedu.sudohr.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A read-only view of the elements of a {@link ModelList} that match a predicate, optionally ordered by a
+ * comparator instead of their order in the source list.
+ * The view keeps the source index of each element shown, sorted while there is no comparator, so a change to the
+ * source list is applied by a binary search and a shift of the later indices, and reported as the matching change
+ * to the view. Once a comparator is set, which is done to rank a small set of results, a change to the source list
+ * is applied by going over the elements shown and inserting the matching added ones by the comparator, and
+ * reported as a replacement of the whole view.
+ */
+public class FilteredModelList<T> extends ModelList<T> {
+    private final ModelList<T> source;
+    private final ListObserver<T> sourceObserver = this::sourceChanged;
+    private Predicate<? super T> predicate;
+    private Comparator<? super T> comparator;
+
+    private int[] sourceIndices = new int[0];
+    private int size;
+
+    /**
+     * Creates a view showing every element of {@code source}.
+     */
+    public FilteredModelList(ModelList<T> source) {
+        this(source, null);
+    }
+
+    /**
+     * Creates a view showing the elements of {@code source} that match {@code predicate}, or every element if
+     * {@code predicate} is null.
+     */
+    public FilteredModelList(ModelList<T> source, Predicate<? super T> predicate) {
+        requireNonNull(source);
+        this.source = source;
+        this.predicate = predicate;
+        refilter();
+        source.addObserver(sourceObserver);
+    }
+
+    /**
+     * Stops following the changes to the source list, which otherwise keeps the view from being garbage collected
+     * for as long as the source list is in use. The view must not be used afterwards.
+     */
+    public void detach() {
+        source.removeObserver(sourceObserver);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return source.get(sourceIndices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    public Comparator<? super T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Shows the elements that match {@code predicate}, or every element if it is null.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        setPredicate(predicate, comparator);
+    }
+
+    /**
+     * Orders the elements shown by {@code comparator}, or as in the source list if it is null.
+     */
+    public void setComparator(Comparator<? super T> comparator) {
+        setPredicate(predicate, comparator);
+    }
+
+    /**
+     * Shows the elements that match {@code predicate} ordered by {@code comparator}, reported as a single change.
+     */
+    public void setPredicate(Predicate<? super T> predicate, Comparator<? super T> comparator) {
+        this.predicate = predicate;
+        this.comparator = comparator;
+        refilterAndFire();
+    }
+
+    /**
+     * Shows the elements that match {@code predicate} in source order, reported as a single change.
+     * {@code sourceIndices} must be the ascending source indices of exactly the elements that match, such as those
+     * looked up in an index, so that the source list is not scanned and the cost is proportional to the matches.
+     */
+    public void setIndexedPredicate(Predicate<? super T> predicate, int[] sourceIndices) {
+        setIndexedPredicate(predicate, sourceIndices, null);
+    }
+
+    /**
+     * Shows the elements that match {@code predicate} ordered by {@code comparator}, or in source order if it is
+     * null, reported as a single change. {@code sourceIndices} must be as for
+     * {@link #setIndexedPredicate(Predicate, int[])}, and only the elements at them are sorted.
+     */
+    public void setIndexedPredicate(Predicate<? super T> predicate, int[] sourceIndices,
+            Comparator<? super T> comparator) {
+        requireNonNull(sourceIndices);
+        List<T> old = hasObservers() ? new ArrayList<>(this) : null;
+        this.predicate = predicate;
+        this.comparator = comparator;
+        this.sourceIndices = sourceIndices.clone();
+        size = sourceIndices.length;
+        assert isMatchingIndices();
+        sortShown();
+        if (old != null) {
+            fireChange(ListChange.replaced(0, old, new ArrayList<>(this)));
+        }
+    }
+
+    /**
+     * Returns true if the source indices shown are ascending and their elements match the predicate.
+     */
+    private boolean isMatchingIndices() {
+        for (int position = 0; position < size; position++) {
+            if (position > 0 && sourceIndices[position - 1] >= sourceIndices[position]
+                    || !matches(source.get(sourceIndices[position]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(T element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private void refilterAndFire() {
+        List<T> old = hasObservers() ? new ArrayList<>(this) : null;
+        refilter();
+        if (old != null) {
+            fireChange(ListChange.replaced(0, old, new ArrayList<>(this)));
+        }
+    }
+
+    private void refilter() {
+        int[] shown = new int[source.size()];
+        int count = 0;
+        for (int i = 0; i < shown.length; i++) {
+            if (matches(source.get(i))) {
+                shown[count++] = i;
+            }
+        }
+
+        sourceIndices = shown;
+        size = count;
+        sortShown();
+    }
+
+    /**
+     * Sorts the source indices shown by the comparator, if there is one.
+     */
+    private void sortShown() {
+        if (comparator == null) {
+            return;
+        }
+        // sorting boxed indices is stable, so equal elements keep their source order
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = sourceIndices[i];
+        }
+        Arrays.sort(boxed, (a, b) -> comparator.compare(source.get(a), source.get(b)));
+        for (int i = 0; i < size; i++) {
+            sourceIndices[i] = boxed[i];
+        }
+    }
+
+    private void sourceChanged(ListChange<T> change) {
+        if (comparator != null) {
+            sourceChangedRanked(change);
+        } else if (change.isUpdate()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                sourceUpdated(i);
+            }
+        } else {
+            sourceReplaced(change);
+        }
+    }
+
+    /**
+     * Applies a change to the source list to a view ordered by the comparator. The elements shown within the
+     * changed range are dropped and the others shifted, then the matching elements of the range are inserted at
+     * their place by the comparator, so the cost is proportional to the elements shown and changed.
+     */
+    private void sourceChangedRanked(ListChange<T> change) {
+        int from = change.getFrom();
+        int removedEnd = change.isUpdate() ? change.getTo() : from + change.getRemoved().size();
+        int addedEnd = change.isUpdate() ? change.getTo() : from + change.getAdded().size();
+        int shift = addedEnd - removedEnd;
+
+        // the source list has already changed, so the elements shown before are looked up as they were
+        List<T> old = null;
+        if (hasObservers()) {
+            old = new ArrayList<>(size);
+            for (int position = 0; position < size; position++) {
+                int sourceIndex = sourceIndices[position];
+                if (sourceIndex < from || change.isUpdate()) {
+                    old.add(source.get(sourceIndex));
+                } else if (sourceIndex < removedEnd) {
+                    old.add(change.getRemoved().get(sourceIndex - from));
+                } else {
+                    old.add(source.get(sourceIndex + shift));
+                }
+            }
+        }
+
+        int count = 0;
+        for (int position = 0; position < size; position++) {
+            int sourceIndex = sourceIndices[position];
+            if (sourceIndex < from) {
+                sourceIndices[count++] = sourceIndex;
+            } else if (sourceIndex >= removedEnd) {
+                sourceIndices[count++] = sourceIndex + shift;
+            }
+        }
+        boolean isChanged = count < size;
+        size = count;
+        for (int sourceIndex = from; sourceIndex < addedEnd; sourceIndex++) {
+            if (matches(source.get(sourceIndex))) {
+                insertRanked(sourceIndex);
+                isChanged = true;
+            }
+        }
+
+        if (old != null && isChanged) {
+            fireChange(ListChange.replaced(0, old, new ArrayList<>(this)));
+        }
+    }
+
+    /**
+     * Shows the element at {@code sourceIndex} at its place by the comparator, after the equal elements that come
+     * before it in the source list.
+     */
+    private void insertRanked(int sourceIndex) {
+        T element = source.get(sourceIndex);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int order = comparator.compare(source.get(sourceIndices[mid]), element);
+            if (order < 0 || order == 0 && sourceIndices[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(sourceIndices, low, sourceIndices, low + 1, size - low);
+        sourceIndices[low] = sourceIndex;
+        size++;
+    }
+
+    /**
+     * Shows, hides or reports as updated the element at {@code sourceIndex}, which has changed in place.
+     */
+    private void sourceUpdated(int sourceIndex) {
+        T element = source.get(sourceIndex);
+        int position = positionOf(sourceIndex);
+        boolean wasShown = position < size && sourceIndices[position] == sourceIndex;
+        boolean isShown = matches(element);
+
+        if (wasShown && isShown) {
+            fireChange(ListChange.updated(position, position + 1));
+        } else if (wasShown) {
+            System.arraycopy(sourceIndices, position + 1, sourceIndices, position, size - position - 1);
+            size--;
+            fireChange(ListChange.replaced(position, List.of(element), List.of()));
+        } else if (isShown) {
+            ensureCapacity(size + 1);
+            System.arraycopy(sourceIndices, position, sourceIndices, position + 1, size - position);
+            sourceIndices[position] = sourceIndex;
+            size++;
+            fireChange(ListChange.replaced(position, List.of(), List.of(element)));
+        }
+    }
+
+    /**
+     * Replaces the shown elements among the ones removed from the source list by the matching ones added to it.
+     */
+    private void sourceReplaced(ListChange<T> change) {
+        int from = change.getFrom();
+        List<T> removed = change.getRemoved();
+        List<T> added = change.getAdded();
+        int low = positionOf(from);
+        int high = positionOf(from + removed.size());
+
+        List<T> removedShown = new ArrayList<>(high - low);
+        for (int position = low; position < high; position++) {
+            removedShown.add(removed.get(sourceIndices[position] - from));
+        }
+        List<T> addedShown = new ArrayList<>();
+        int[] addedIndices = new int[added.size()];
+        for (int i = 0; i < added.size(); i++) {
+            if (matches(added.get(i))) {
+                addedIndices[addedShown.size()] = from + i;
+                addedShown.add(added.get(i));
+            }
+        }
+
+        int newSize = size - (high - low) + addedShown.size();
+        ensureCapacity(newSize);
+        int shiftedStart = low + addedShown.size();
+        System.arraycopy(sourceIndices, high, sourceIndices, shiftedStart, size - high);
+        System.arraycopy(addedIndices, 0, sourceIndices, low, addedShown.size());
+        int shift = added.size() - removed.size();
+        if (shift != 0) {
+            for (int position = shiftedStart; position < newSize; position++) {
+                sourceIndices[position] += shift;
+            }
+        }
+        size = newSize;
+
+        if (!removedShown.isEmpty() || !addedShown.isEmpty()) {
+            fireChange(ListChange.replaced(low, removedShown, addedShown));
+        }
+    }
+
+    /**
+     * Returns the position of the first element shown whose source index is at least {@code sourceIndex}.
+     * The source indices are sorted as there is no comparator.
+     */
+    private int positionOf(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourceIndices[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (sourceIndices.length < capacity) {
+            sourceIndices = Arrays.copyOf(sourceIndices, Math.max(capacity, sourceIndices.length * 2));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.sudohr.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A change to a {@link ModelList}, reported to its {@link ListObserver}s.
+ * A change either replaces a run of elements starting at {@code from}, where either run may be empty so that
+ * additions and removals are replacements too, or reports that the elements from {@code from} to {@code to}
+ * have been updated in place.
+ */
+public final class ListChange<T> {
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+    private final int updatedCount;
+
+    private ListChange(int from, List<T> removed, List<T> added, int updatedCount) {
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+        this.updatedCount = updatedCount;
+    }
+
+    /**
+     * Returns a change where {@code removed}, starting at {@code from}, have been replaced by {@code added}.
+     */
+    public static <T> ListChange<T> replaced(int from, List<T> removed, List<T> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        return new ListChange<>(from, Collections.unmodifiableList(removed), Collections.unmodifiableList(added), 0);
+    }
+
+    /**
+     * Returns a change where the elements from {@code from} to {@code to}, exclusive, have been updated in place.
+     */
+    public static <T> ListChange<T> updated(int from, int to) {
+        return new ListChange<>(from, List.of(), List.of(), to - from);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the end, exclusive, of the elements added or updated by this change.
+     */
+    public int getTo() {
+        return from + (isUpdate() ? updatedCount : added.size());
+    }
+
+    /**
+     * Returns true if the elements from {@code from} to {@code to} have been updated in place.
+     */
+    public boolean isUpdate() {
+        return updatedCount > 0;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListChange)) {
+            return false;
+        }
+        ListChange<?> otherChange = (ListChange<?>) other;
+        return from == otherChange.from
+                && updatedCount == otherChange.updatedCount
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added, updatedCount);
+    }
+
+    @Override
+    public String toString() {
+        if (isUpdate()) {
+            return "updated [" + from + ", " + getTo() + ")";
+        }
+        return "at " + from + " replaced " + removed + " with " + added;
+    }
+}
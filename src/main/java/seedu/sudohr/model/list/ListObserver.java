@@ -0,0 +1,12 @@
+package seedu.sudohr.model.list;
+
+/**
+ * Observes the changes to a {@link ModelList}.
+ */
+@FunctionalInterface
+public interface ListObserver<T> {
+    /**
+     * Called after {@code change} is made to the list, on the thread that made it.
+     */
+    void onChanged(ListChange<T> change);
+}
@@ -0,0 +1,79 @@
+package seedu.sudohr.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of the model whose changes can be observed, without depending on a user interface toolkit.
+ * The list cannot be modified through the {@link List} methods unless a subclass allows it; the lists returned by
+ * the model are read-only views.
+ */
+public abstract class ModelList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<ListObserver<T>> observers = new ArrayList<>();
+
+    /**
+     * Notifies {@code observer} of every change to the list.
+     */
+    public void addObserver(ListObserver<T> observer) {
+        requireNonNull(observer);
+        observers.add(observer);
+    }
+
+    /**
+     * Stops notifying {@code observer} of the changes to the list.
+     */
+    public void removeObserver(ListObserver<T> observer) {
+        observers.remove(observer);
+    }
+
+    protected boolean hasObservers() {
+        return !observers.isEmpty();
+    }
+
+    /**
+     * Notifies the observers of {@code change}, which has just been made.
+     */
+    protected void fireChange(ListChange<T> change) {
+        if (observers.isEmpty()) {
+            return;
+        }
+        // an observer may stop observing while it is notified
+        for (ListObserver<T> observer : new ArrayList<>(observers)) {
+            observer.onChanged(change);
+        }
+    }
+
+    /**
+     * Returns a read-only view of {@code list} that reports the same changes.
+     */
+    public static <T> ModelList<T> unmodifiableList(ModelList<T> list) {
+        requireNonNull(list);
+        return new UnmodifiableModelList<>(list);
+    }
+
+    /**
+     * A read-only view of another list.
+     */
+    private static class UnmodifiableModelList<T> extends ModelList<T> {
+        private final ModelList<T> list;
+
+        UnmodifiableModelList(ModelList<T> list) {
+            this.list = list;
+            list.addObserver(this::fireChange);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
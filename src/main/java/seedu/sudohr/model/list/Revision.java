@@ -0,0 +1,53 @@
+package seedu.sudohr.model.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the changes made to a mutable element, such as the employees of a department, so that an
+ * {@link ArrayModelList} holding the element can report it as updated.
+ */
+public class Revision {
+    private int value;
+    private List<Runnable> observers;
+
+    public int get() {
+        return value;
+    }
+
+    /**
+     * Records a change and notifies the observers.
+     */
+    public void increment() {
+        value++;
+        if (observers == null) {
+            return;
+        }
+        for (Runnable observer : new ArrayList<>(observers)) {
+            observer.run();
+        }
+    }
+
+    /**
+     * Runs {@code observer} after every change.
+     */
+    public void addObserver(Runnable observer) {
+        requireNonNull(observer);
+        if (observers == null) {
+            // most elements are never observed, so the list is only created when needed
+            observers = new ArrayList<>(1);
+        }
+        observers.add(observer);
+    }
+
+    /**
+     * Stops running {@code observer} after every change.
+     */
+    public void removeObserver(Runnable observer) {
+        if (observers != null) {
+            observers.remove(observer);
+        }
+    }
+}
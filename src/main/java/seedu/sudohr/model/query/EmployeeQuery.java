@@ -0,0 +1,186 @@
+package seedu.sudohr.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A condition on employees, built from conditions on single fields combined with {@code AND}, {@code OR} and
+ * {@code NOT}. A query only describes which employees are wanted; {@link QueryPlanner} decides how to find them.
+ * Guarantees: immutable.
+ */
+public abstract class EmployeeQuery {
+
+    /**
+     * Returns a query for the employees matching every one of {@code queries}.
+     */
+    public static EmployeeQuery and(List<EmployeeQuery> queries) {
+        return queries.size() == 1 ? queries.get(0) : new And(queries);
+    }
+
+    /**
+     * Returns a query for the employees matching any of {@code queries}.
+     */
+    public static EmployeeQuery or(List<EmployeeQuery> queries) {
+        return queries.size() == 1 ? queries.get(0) : new Or(queries);
+    }
+
+    /**
+     * Returns a query for the employees not matching {@code query}.
+     */
+    public static EmployeeQuery not(EmployeeQuery query) {
+        return new Not(query);
+    }
+
+    /**
+     * Returns a query for the employees whose {@code field} matches {@code value}.
+     */
+    public static EmployeeQuery condition(QueryField field, String value) {
+        return new Condition(field, value);
+    }
+
+    /**
+     * A query for the employees matching every one of a list of queries.
+     */
+    public static final class And extends EmployeeQuery {
+        private final List<EmployeeQuery> queries;
+
+        private And(List<EmployeeQuery> queries) {
+            requireAllNonNull(queries);
+            this.queries = List.copyOf(queries);
+        }
+
+        public List<EmployeeQuery> getQueries() {
+            return queries;
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream().map(EmployeeQuery::toOperandString).collect(Collectors.joining(" AND "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof And && queries.equals(((And) other).queries));
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+    }
+
+    /**
+     * A query for the employees matching any of a list of queries.
+     */
+    public static final class Or extends EmployeeQuery {
+        private final List<EmployeeQuery> queries;
+
+        private Or(List<EmployeeQuery> queries) {
+            requireAllNonNull(queries);
+            this.queries = List.copyOf(queries);
+        }
+
+        public List<EmployeeQuery> getQueries() {
+            return queries;
+        }
+
+        @Override
+        public String toString() {
+            return queries.stream().map(EmployeeQuery::toOperandString).collect(Collectors.joining(" OR "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Or && queries.equals(((Or) other).queries));
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+    }
+
+    /**
+     * A query for the employees not matching a query.
+     */
+    public static final class Not extends EmployeeQuery {
+        private final EmployeeQuery query;
+
+        private Not(EmployeeQuery query) {
+            requireNonNull(query);
+            this.query = query;
+        }
+
+        public EmployeeQuery getQuery() {
+            return query;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + query.toOperandString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && query.equals(((Not) other).query));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~query.hashCode();
+        }
+    }
+
+    /**
+     * A query for the employees whose field matches a value.
+     */
+    public static final class Condition extends EmployeeQuery {
+        private final QueryField field;
+        private final String value;
+
+        private Condition(QueryField field, String value) {
+            requireAllNonNull(field, value);
+            this.field = field;
+            this.value = value;
+        }
+
+        public QueryField getField() {
+            return field;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return field.getKeyword() + ":" + (value.contains(" ") ? "\"" + value + "\"" : value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Condition
+                    && field == ((Condition) other).field
+                    && value.equals(((Condition) other).value));
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() * 31 + value.hashCode();
+        }
+    }
+
+    /**
+     * Returns the query as it would be written as an operand of {@code AND}, {@code OR} or {@code NOT}.
+     */
+    private String toOperandString() {
+        return this instanceof And || this instanceof Or ? "(" + this + ")" : toString();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.sudohr.model.query;
+
+import java.util.Optional;
+
+/**
+ * The fields an {@link EmployeeQuery} can put conditions on.
+ * Fields with an index are looked up; the others can only be matched by testing employees one by one.
+ */
+public enum QueryField {
+    ID("id", "id index"),
+    NAME("name", "name index"),
+    TAG("tag", "tag index"),
+    DEPT("dept", "department membership"),
+    ONLEAVE("onleave", "leave membership"),
+    EMAIL("email", null),
+    PHONE("phone", null),
+    ADDRESS("address", null);
+
+    private final String keyword;
+    private final String indexName;
+
+    QueryField(String keyword, String indexName) {
+        this.keyword = keyword;
+        this.indexName = indexName;
+    }
+
+    /**
+     * Returns the field written as {@code keyword} in a query, ignoring case.
+     */
+    public static Optional<QueryField> fromKeyword(String keyword) {
+        for (QueryField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public boolean isIndexed() {
+        return indexName != null;
+    }
+
+    /**
+     * Returns the name of the index the field is looked up in, as shown in query plans.
+     */
+    public String getIndexName() {
+        return indexName;
+    }
+}
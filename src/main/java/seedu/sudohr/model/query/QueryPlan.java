@@ -0,0 +1,266 @@
+package seedu.sudohr.model.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+
+/**
+ * A tree of steps that finds the employees matching an {@link EmployeeQuery}, as chosen by {@link QueryPlanner}.
+ * Index lookups are done while planning, so that the plan knows how many employees each of them finds; the other
+ * steps combine the lookups and test employees when the plan is executed.
+ */
+public abstract class QueryPlan {
+
+    /**
+     * Returns the employees found by the plan, as a bitmap over the ordinals of the employee list of SudoHR.
+     */
+    public abstract EmployeeBitmap execute();
+
+    /**
+     * Returns the plan as an indented tree with one step per line.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        explain(explanation, 0);
+        return explanation.toString();
+    }
+
+    /**
+     * Returns the largest number of employees the plan can find.
+     */
+    abstract int estimate();
+
+    /**
+     * Returns a one-line description of this step.
+     */
+    abstract String describe();
+
+    /**
+     * Returns the steps this step takes its employees from.
+     */
+    List<QueryPlan> getInputs() {
+        return List.of();
+    }
+
+    private void explain(StringBuilder explanation, int depth) {
+        explanation.append("  ".repeat(depth)).append(describe()).append('\n');
+        for (QueryPlan input : getInputs()) {
+            input.explain(explanation, depth + 1);
+        }
+    }
+
+    /**
+     * Finds the employees matching a condition by looking them up in an index.
+     */
+    static class Lookup extends QueryPlan {
+        private final EmployeeQuery.Condition condition;
+        private final EmployeeBitmap found;
+
+        Lookup(EmployeeQuery.Condition condition, EmployeeBitmap found) {
+            this.condition = condition;
+            this.found = found;
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            return new EmployeeBitmap().or(found); // a copy, as bitmaps kept by indices change with the data
+        }
+
+        @Override
+        int estimate() {
+            return found.cardinality();
+        }
+
+        @Override
+        String describe() {
+            return "LOOKUP " + condition + " in " + condition.getField().getIndexName() + ": "
+                    + found.cardinality() + " employees";
+        }
+    }
+
+    /**
+     * Every employee in SudoHR.
+     */
+    static class All extends QueryPlan {
+        private final SudoHr sudoHr;
+
+        All(SudoHr sudoHr) {
+            this.sudoHr = sudoHr;
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            return sudoHr.getAllEmployees();
+        }
+
+        @Override
+        int estimate() {
+            return sudoHr.getEmployeeList().size();
+        }
+
+        @Override
+        String describe() {
+            return "ALL " + estimate() + " employees";
+        }
+    }
+
+    /**
+     * Finds the employees found by every one of its inputs, starting from the input that finds the fewest.
+     */
+    static class Intersect extends QueryPlan {
+        private final List<QueryPlan> inputs;
+
+        Intersect(List<QueryPlan> inputs) {
+            assert inputs.size() > 1;
+            this.inputs = inputs.stream()
+                    .sorted(Comparator.comparingInt(QueryPlan::estimate))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            EmployeeBitmap found = inputs.get(0).execute();
+            for (int i = 1; i < inputs.size() && !found.isEmpty(); i++) {
+                found = found.and(inputs.get(i).execute());
+            }
+            return found;
+        }
+
+        @Override
+        int estimate() {
+            return inputs.get(0).estimate();
+        }
+
+        @Override
+        String describe() {
+            return "INTERSECT, fewest first: at most " + estimate() + " employees";
+        }
+
+        @Override
+        List<QueryPlan> getInputs() {
+            return inputs;
+        }
+    }
+
+    /**
+     * Finds the employees found by any of its inputs.
+     */
+    static class Union extends QueryPlan {
+        private final List<QueryPlan> inputs;
+
+        Union(List<QueryPlan> inputs) {
+            assert inputs.size() > 1;
+            this.inputs = List.copyOf(inputs);
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            EmployeeBitmap found = new EmployeeBitmap();
+            for (QueryPlan input : inputs) {
+                found = found.or(input.execute());
+            }
+            return found;
+        }
+
+        @Override
+        int estimate() {
+            return inputs.stream().mapToInt(QueryPlan::estimate).sum();
+        }
+
+        @Override
+        String describe() {
+            return "UNION: at most " + estimate() + " employees";
+        }
+
+        @Override
+        List<QueryPlan> getInputs() {
+            return inputs;
+        }
+    }
+
+    /**
+     * Finds the employees found by its first input but by none of the others.
+     */
+    static class Except extends QueryPlan {
+        private final QueryPlan included;
+        private final List<QueryPlan> excluded;
+
+        Except(QueryPlan included, List<QueryPlan> excluded) {
+            this.included = included;
+            this.excluded = List.copyOf(excluded);
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            EmployeeBitmap found = included.execute();
+            for (int i = 0; i < excluded.size() && !found.isEmpty(); i++) {
+                found = found.andNot(excluded.get(i).execute());
+            }
+            return found;
+        }
+
+        @Override
+        int estimate() {
+            return included.estimate();
+        }
+
+        @Override
+        String describe() {
+            return "EXCEPT, first minus the rest: at most " + estimate() + " employees";
+        }
+
+        @Override
+        List<QueryPlan> getInputs() {
+            List<QueryPlan> inputs = new ArrayList<>();
+            inputs.add(included);
+            inputs.addAll(excluded);
+            return inputs;
+        }
+    }
+
+    /**
+     * Finds the employees found by its input that match conditions no index can answer, by testing them one by one.
+     */
+    static class Filter extends QueryPlan {
+        private final SudoHr sudoHr;
+        private final QueryPlan candidates;
+        private final EmployeeQuery leftovers;
+        private final Predicate<Employee> predicate;
+
+        Filter(SudoHr sudoHr, QueryPlan candidates, EmployeeQuery leftovers, Predicate<Employee> predicate) {
+            this.sudoHr = sudoHr;
+            this.candidates = candidates;
+            this.leftovers = leftovers;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public EmployeeBitmap execute() {
+            return sudoHr.filterEmployees(candidates.execute(), predicate);
+        }
+
+        @Override
+        int estimate() {
+            return candidates.estimate();
+        }
+
+        @Override
+        String describe() {
+            if (candidates instanceof All) {
+                return "SCAN all " + estimate() + " employees for " + leftovers;
+            }
+            return "FILTER at most " + estimate() + " candidates for " + leftovers;
+        }
+
+        @Override
+        List<QueryPlan> getInputs() {
+            return candidates instanceof All ? List.of() : List.of(candidates);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.sudohr.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.LeaveDate;
+
+/**
+ * Turns an {@link EmployeeQuery} into a {@link QueryPlan} over the indices of a {@code SudoHr}.
+ *
+ * Conditions on the id, name words, tags, departments and leave of employees are looked up in the indices kept by
+ * SudoHR, and combined as bitmaps: the conditions of an {@code AND} are intersected starting from the one that finds
+ * the fewest employees, and its {@code NOT} conditions are subtracted. Only the leftover conditions that no index can
+ * answer are tested employee by employee, and only on the employees found by the indexed conditions next to them;
+ * the whole list is scanned only when there are none.
+ */
+public class QueryPlanner {
+    private final SudoHr sudoHr;
+
+    /**
+     * Creates a planner for queries on the employees of {@code sudoHr}.
+     */
+    public QueryPlanner(SudoHr sudoHr) {
+        requireNonNull(sudoHr);
+        this.sudoHr = sudoHr;
+    }
+
+    /**
+     * Returns a plan that finds the employees matching {@code query}.
+     */
+    public QueryPlan plan(EmployeeQuery query) {
+        requireNonNull(query);
+        if (!isIndexed(query)) {
+            return scan(new QueryPlan.All(sudoHr), query);
+        }
+        if (query instanceof EmployeeQuery.And) {
+            return planAnd((EmployeeQuery.And) query);
+        }
+        if (query instanceof EmployeeQuery.Or) {
+            return planOr((EmployeeQuery.Or) query);
+        }
+        if (query instanceof EmployeeQuery.Not) {
+            QueryPlan excluded = plan(((EmployeeQuery.Not) query).getQuery());
+            return new QueryPlan.Except(new QueryPlan.All(sudoHr), List.of(excluded));
+        }
+        EmployeeQuery.Condition condition = (EmployeeQuery.Condition) query;
+        return new QueryPlan.Lookup(condition, lookUp(condition));
+    }
+
+    private QueryPlan planAnd(EmployeeQuery.And and) {
+        List<QueryPlan> included = new ArrayList<>();
+        List<QueryPlan> excluded = new ArrayList<>();
+        List<EmployeeQuery> leftovers = new ArrayList<>();
+        for (EmployeeQuery query : and.getQueries()) {
+            if (!isIndexed(query)) {
+                leftovers.add(query);
+            } else if (query instanceof EmployeeQuery.Not) {
+                excluded.add(plan(((EmployeeQuery.Not) query).getQuery()));
+            } else {
+                included.add(plan(query));
+            }
+        }
+        QueryPlan found;
+        if (included.isEmpty()) {
+            found = new QueryPlan.All(sudoHr);
+        } else {
+            found = included.size() == 1 ? included.get(0) : new QueryPlan.Intersect(included);
+        }
+        if (!excluded.isEmpty()) {
+            found = new QueryPlan.Except(found, excluded);
+        }
+        return leftovers.isEmpty() ? found : scan(found, EmployeeQuery.and(leftovers));
+    }
+
+    private QueryPlan planOr(EmployeeQuery.Or or) {
+        List<QueryPlan> inputs = new ArrayList<>();
+        List<EmployeeQuery> leftovers = new ArrayList<>();
+        for (EmployeeQuery query : or.getQueries()) {
+            if (isIndexed(query)) {
+                inputs.add(plan(query));
+            } else {
+                leftovers.add(query);
+            }
+        }
+        if (!leftovers.isEmpty()) {
+            inputs.add(scan(new QueryPlan.All(sudoHr), EmployeeQuery.or(leftovers)));
+        }
+        return inputs.size() == 1 ? inputs.get(0) : new QueryPlan.Union(inputs);
+    }
+
+    private QueryPlan scan(QueryPlan candidates, EmployeeQuery leftovers) {
+        return new QueryPlan.Filter(sudoHr, candidates, leftovers, predicateOf(leftovers));
+    }
+
+    /**
+     * Returns true if {@code query} has a condition that can be looked up in an index.
+     */
+    private static boolean isIndexed(EmployeeQuery query) {
+        if (query instanceof EmployeeQuery.And) {
+            return ((EmployeeQuery.And) query).getQueries().stream().anyMatch(QueryPlanner::isIndexed);
+        }
+        if (query instanceof EmployeeQuery.Or) {
+            return ((EmployeeQuery.Or) query).getQueries().stream().anyMatch(QueryPlanner::isIndexed);
+        }
+        if (query instanceof EmployeeQuery.Not) {
+            return isIndexed(((EmployeeQuery.Not) query).getQuery());
+        }
+        return ((EmployeeQuery.Condition) query).getField().isIndexed();
+    }
+
+    private EmployeeBitmap lookUp(EmployeeQuery.Condition condition) {
+        String value = condition.getValue();
+        switch (condition.getField()) {
+        case ID:
+            return sudoHr.findEmployeeById(new Id(value));
+        case NAME:
+            EmployeeBitmap found = null;
+            for (String word : value.trim().split("\\s+")) {
+                EmployeeBitmap withWord = sudoHr.findEmployeesByName(List.of(word));
+                found = found == null ? withWord : found.and(withWord);
+            }
+            return found;
+        case TAG:
+            return sudoHr.findEmployeesByTag(value);
+        case DEPT:
+            return sudoHr.getEmployeesInDepartment(new DepartmentName(value));
+        case ONLEAVE:
+            return sudoHr.getEmployeesOnLeave(new LeaveDate(LocalDate.parse(value)));
+        default:
+            throw new AssertionError("No index on " + condition.getField());
+        }
+    }
+
+    /**
+     * Returns a predicate testing employees for {@code query}, which has no indexed conditions.
+     */
+    private static Predicate<Employee> predicateOf(EmployeeQuery query) {
+        if (query instanceof EmployeeQuery.And) {
+            return ((EmployeeQuery.And) query).getQueries().stream()
+                    .map(QueryPlanner::predicateOf).reduce(employee -> true, Predicate::and);
+        }
+        if (query instanceof EmployeeQuery.Or) {
+            return ((EmployeeQuery.Or) query).getQueries().stream()
+                    .map(QueryPlanner::predicateOf).reduce(employee -> false, Predicate::or);
+        }
+        if (query instanceof EmployeeQuery.Not) {
+            return predicateOf(((EmployeeQuery.Not) query).getQuery()).negate();
+        }
+        EmployeeQuery.Condition condition = (EmployeeQuery.Condition) query;
+        String value = condition.getValue().toLowerCase(Locale.ROOT);
+        switch (condition.getField()) {
+        case EMAIL:
+            return employee -> employee.getEmail().value.toLowerCase(Locale.ROOT).contains(value);
+        case PHONE:
+            return employee -> employee.getPhone().value.contains(value);
+        case ADDRESS:
+            return employee -> employee.getAddress().value.toLowerCase(Locale.ROOT).contains(value);
+        default:
+            throw new AssertionError(condition.getField() + " is looked up in an index");
+        }
+    }
+}
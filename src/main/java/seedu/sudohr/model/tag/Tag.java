@@ -2,6 +2,9 @@ package seedu.sudohr.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.sudohr.commons.util.AppUtil.checkArgument;
+import static seedu.sudohr.commons.util.ValidationUtil.isAlphanumeric;
+
+import seedu.sudohr.commons.util.Interner;
 
 /**
  * Represents a Tag in SudoHR.
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> TAGS = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +30,27 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        return TAGS.intern(tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumeric(test);
     }
 
     @Override
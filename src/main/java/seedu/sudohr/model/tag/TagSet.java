@@ -0,0 +1,134 @@
+package seedu.sudohr.model.tag;
+
+import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.sudohr.commons.util.Interner;
+
+/**
+ * An immutable set of tags backed by an array of interned {@code Tag}s, sorted by name.
+ * Tag sets are interned too, so all employees with the same tags share one instance.
+ * Attempts to modify the set throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+    private static final Interner<TagSet> TAG_SETS = new Interner<>();
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        hashCode = Arrays.stream(tags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns the interned tag set with the same tags as {@code tags}.
+     */
+    public static Set<Tag> of(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        Tag[] sortedTags = tags.stream()
+                .distinct()
+                .map(Tag::intern)
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .toArray(Tag[]::new);
+        return TAG_SETS.intern(new TagSet(sortedTags));
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Tag tag : tags) {
+            if (tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return other == this || Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
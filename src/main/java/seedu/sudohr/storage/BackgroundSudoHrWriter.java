@@ -0,0 +1,129 @@
+package seedu.sudohr.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.commons.util.StringUtil;
+import seedu.sudohr.model.SudoHrSnapshot;
+
+/**
+ * Saves SudoHR data on a single background thread.
+ * The data is saved from an immutable snapshot, taken by the thread that changes the data, so the data can keep
+ * changing while it is written. Saves requested while the writer is busy are coalesced, so only the latest snapshot
+ * is written, together with the changes held by the snapshots it replaced.
+ */
+class BackgroundSudoHrWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSudoHrWriter.class);
+
+    private final SudoHrStorage sudoHrStorage;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile ExecutorService executor;
+
+    BackgroundSudoHrWriter(SudoHrStorage sudoHrStorage) {
+        this.sudoHrStorage = sudoHrStorage;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written to {@code filePath}.
+     * Replaces any snapshot that is still waiting to be written.
+     */
+    void save(SudoHrSnapshot snapshot, Path filePath) {
+        requireNonNull(snapshot);
+        requireNonNull(filePath);
+        pendingSave.accumulateAndGet(new PendingSave(snapshot, filePath),
+                (replaced, latest) -> latest.replacing(replaced));
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            getExecutor().execute(this::writePendingSave);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written or has failed.
+     */
+    void flush() {
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    /**
+     * Returns the most recent save failure that has not been reported yet, and clears it.
+     */
+    Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sudohr-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private void writePendingSave() {
+        // cleared before taking the snapshot, so a save requested from now on schedules another write
+        isWriteScheduled.set(false);
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Writing to data file in the background: " + save.filePath);
+            sudoHrStorage.saveSudoHr(save.snapshot, save.filePath);
+            // the data on disk is up to date again, so an earlier failure no longer matters
+            failure.set(null);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file: " + StringUtil.getDetails(ioe));
+            failure.set(ioe);
+        }
+    }
+
+    /**
+     * A snapshot waiting to be written.
+     */
+    private static class PendingSave {
+        private final SudoHrSnapshot snapshot;
+        private final Path filePath;
+
+        PendingSave(SudoHrSnapshot snapshot, Path filePath) {
+            this.snapshot = snapshot;
+            this.filePath = filePath;
+        }
+
+        /**
+         * Returns this save in place of {@code replaced}, which was never written, so that the changes held by its
+         * snapshot are written too.
+         */
+        PendingSave replacing(PendingSave replaced) {
+            if (replaced == null || !replaced.filePath.equals(filePath)) {
+                return this;
+            }
+            return new PendingSave(snapshot.includingChangesOf(replaced.snapshot), filePath);
+        }
+    }
+}
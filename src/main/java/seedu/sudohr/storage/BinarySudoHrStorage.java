@@ -0,0 +1,284 @@
+package seedu.sudohr.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.commons.util.FileUtil;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.tag.Tag;
+
+/**
+ * A class to access SudoHr data stored as a binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of the distinct tag and
+ * department names, then the employees, departments and leaves as length-prefixed records. Names are written
+ * once in the table and referred to by position. Departments and leaves refer to their members by the position
+ * of the employee's record. The file is read into memory as a whole and decoded from there.
+ *
+ * A json data file found at the same location is imported, so switching an existing data file to this format
+ * needs no extra step. {@link JsonSudoHrStorage} remains the way to export the data as json.
+ */
+public class BinarySudoHrStorage implements SudoHrStorage {
+
+    public static final int MAGIC = 0x53485242; // "SHRB"
+    public static final int CURRENT_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file was written by a newer version of SudoHR "
+            + "(binary format version %d).";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySudoHrStorage.class);
+
+    private Path filePath;
+
+    public BinarySudoHrStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getSudoHrFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySudoHr> readSudoHr() throws DataConversionException, IOException {
+        return readSudoHr(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSudoHr()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is neither a valid binary snapshot nor valid json.
+     */
+    public Optional<ReadOnlySudoHr> readSudoHr(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinarySnapshot(filePath)) {
+            logger.info("Importing json data from " + filePath);
+            return new JsonSudoHrStorage(filePath).readSudoHr(filePath);
+        }
+
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            throw new DataConversionException(new IOException(filePath + " is too large to be read"));
+        }
+        try {
+            return Optional.of(readSudoHr(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException | DateTimeException e) {
+            logger.info("Corrupted data found in " + filePath + ": " + e);
+            throw new DataConversionException(new IllegalValueException(String.format(MESSAGE_CORRUPTED, e)));
+        }
+    }
+
+    @Override
+    public void saveSudoHr(ReadOnlySudoHr sudoHr) throws IOException {
+        saveSudoHr(sudoHr, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSudoHr(ReadOnlySudoHr)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveSudoHr(ReadOnlySudoHr sudoHr, Path filePath) throws IOException {
+        requireNonNull(sudoHr);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeSudoHr(sudoHr, out));
+    }
+
+    private static boolean isBinarySnapshot(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    private static SudoHr readSudoHr(ByteBuffer buffer) throws IllegalValueException {
+        buffer.getInt(); // magic number, checked before reading the file
+        int version = buffer.getInt();
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] names = new String[buffer.getInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = readString(buffer);
+        }
+
+        SudoHr sudoHr = new SudoHr();
+        String[] employeeIds = new String[buffer.getInt()];
+        for (int i = 0; i < employeeIds.length; i++) {
+            ByteBuffer record = readRecord(buffer);
+            employeeIds[i] = readString(record);
+            String name = readString(record);
+            String phone = readString(record);
+            String email = readString(record);
+            String address = readString(record);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int tagCount = record.getInt(); tagCount > 0; tagCount--) {
+                tags.add(new JsonAdaptedTag(names[record.getInt()]));
+            }
+            JsonSerializableSudoHr.addEmployee(sudoHr,
+                    new JsonAdaptedEmployee(employeeIds[i], name, phone, email, address, tags));
+        }
+
+        for (int departmentCount = buffer.getInt(); departmentCount > 0; departmentCount--) {
+            ByteBuffer record = readRecord(buffer);
+            String name = names[record.getInt()];
+            JsonSerializableSudoHr.addDepartment(sudoHr,
+                    new JsonAdaptedDepartment(name, null, readMembers(record, employeeIds)));
+        }
+
+        for (int leaveCount = buffer.getInt(); leaveCount > 0; leaveCount--) {
+            ByteBuffer record = readRecord(buffer);
+            String date = LocalDate.ofEpochDay(record.getLong()).toString();
+            JsonSerializableSudoHr.addLeave(sudoHr, new JsonAdaptedLeave(date, null, readMembers(record, employeeIds)));
+        }
+
+        return sudoHr;
+    }
+
+    /**
+     * Returns the next length-prefixed record as a buffer of its own, and moves {@code buffer} past it.
+     */
+    private static ByteBuffer readRecord(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer record = buffer.slice();
+        record.limit(length);
+        buffer.position(buffer.position() + length);
+        return record;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readMembers(ByteBuffer record, String[] employeeIds) {
+        List<String> members = new ArrayList<>();
+        for (int memberCount = record.getInt(); memberCount > 0; memberCount--) {
+            members.add(employeeIds[record.getInt()]);
+        }
+        return members;
+    }
+
+    private static void writeSudoHr(ReadOnlySudoHr sudoHr, OutputStream out) throws IOException {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Employee employee : sudoHr.getEmployeeList()) {
+            for (Tag tag : employee.getTags()) {
+                names.putIfAbsent(tag.tagName, names.size());
+            }
+        }
+        for (Department department : sudoHr.getDepartmentList()) {
+            names.putIfAbsent(department.getName().fullName, names.size());
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(CURRENT_VERSION);
+        data.writeInt(names.size());
+        for (String name : names.keySet()) {
+            writeString(data, name);
+        }
+
+        RecordWriter record = new RecordWriter();
+        Map<Id, Integer> employeeIndexes = new HashMap<>();
+        data.writeInt(sudoHr.getEmployeeList().size());
+        for (Employee employee : sudoHr.getEmployeeList()) {
+            employeeIndexes.put(employee.getId(), employeeIndexes.size());
+            writeString(record.data, employee.getId().toString());
+            writeString(record.data, employee.getName().fullName);
+            writeString(record.data, employee.getPhone().value);
+            writeString(record.data, employee.getEmail().value);
+            writeString(record.data, employee.getAddress().value);
+            record.data.writeInt(employee.getTags().size());
+            for (Tag tag : employee.getTags()) {
+                record.data.writeInt(names.get(tag.tagName));
+            }
+            record.writeTo(data);
+        }
+
+        data.writeInt(sudoHr.getDepartmentList().size());
+        for (Department department : sudoHr.getDepartmentList()) {
+            record.data.writeInt(names.get(department.getName().fullName));
+            writeMembers(record.data, department.getEmployeeIds(), employeeIndexes);
+            record.writeTo(data);
+        }
+
+        data.writeInt(sudoHr.getLeavesList().size());
+        for (Leave leave : sudoHr.getLeavesList()) {
+            record.data.writeLong(leave.getDate().value.toEpochDay());
+            writeMembers(record.data, leave.getEmployeeIds(), employeeIndexes);
+            record.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static void writeMembers(DataOutputStream data, Iterable<Id> ids, Map<Id, Integer> employeeIndexes)
+            throws IOException {
+        List<Integer> members = new ArrayList<>();
+        for (Id id : ids) {
+            members.add(employeeIndexes.get(id));
+        }
+        data.writeInt(members.size());
+        for (int member : members) {
+            data.writeInt(member);
+        }
+    }
+
+    /**
+     * Collects one record at a time so that it can be written with its length in front.
+     */
+    private static class RecordWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+            bytes.reset();
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package seedu.sudohr.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.commons.core.Messages;
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.commons.util.FileUtil;
+import seedu.sudohr.commons.util.JsonUtil;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.SudoHrSnapshot;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+
+/**
+ * A class to access SudoHr data stored as a json snapshot plus an append-only journal of changes on the hard disk.
+ *
+ * Each save of a {@link SudoHrSnapshot} that follows the last one saved only appends the employees, departments and
+ * leaves that the snapshot holds as changed to the journal, so the cost of a save is proportional to the change
+ * rather than to the size of the data. Any other save, such as the first one, writes the full data to the snapshot
+ * file instead. Once the journal grows past a number of records or bytes, it is compacted the same way: the full
+ * data is written to the snapshot file and the journal is deleted. The snapshot file uses the same format as
+ * {@link JsonSudoHrStorage}.
+ *
+ * Every snapshot written holds a sequence number one higher than the previous one, and the journal that follows it
+ * starts with a header record holding the same number. A journal whose number is lower than that of the snapshot was
+ * left behind by a crash between writing the snapshot and deleting the journal, and is ignored, as the snapshot
+ * already holds its changes.
+ */
+public class JournalSudoHrStorage implements SudoHrStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 4L * 1024 * 1024;
+
+    public static final String MESSAGE_UNKNOWN_RECORD_TYPE = "Journal contains a record of unknown type: %s";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "%s refers to an employee that does not exist: %s";
+    public static final String MESSAGE_MISSING_SNAPSHOT = "Journal follows snapshot %d, but the snapshot is %d";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalSudoHrStorage.class);
+
+    private final Path filePath;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+
+    // what the files at persistedFilePath hold, null until the files have been read or written
+    private Path persistedFilePath;
+    private long persistedSequence = SudoHrSnapshot.NO_SEQUENCE;
+    private long journalSequence;
+    private int journalRecords;
+    private long journalBytes;
+    private boolean needsCompaction;
+
+    public JournalSudoHrStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalSudoHrStorage} that compacts its journal once it holds {@code maxJournalRecords}
+     * records or {@code maxJournalBytes} bytes.
+     */
+    public JournalSudoHrStorage(Path filePath, int maxJournalRecords, long maxJournalBytes) {
+        this.filePath = filePath;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    public Path getSudoHrFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlySudoHr> readSudoHr() throws DataConversionException, IOException {
+        return readSudoHr(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSudoHr()}.
+     * Replays the journal on top of the snapshot. A malformed last record is assumed to be a write that was cut
+     * short and is ignored, and so is a journal older than the snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format, or the journal
+     *     follows a newer snapshot than the one found.
+     */
+    public synchronized Optional<ReadOnlySudoHr> readSudoHr(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<JsonSerializableSudoHr> snapshot = JsonUtil.readJsonFile(filePath, JsonSerializableSudoHr.class);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        JournalState state;
+        try {
+            state = snapshot.isPresent() ? JournalState.of(snapshot.get().toModelType()) : new JournalState();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        long snapshotSequence = snapshot.map(JsonSerializableSudoHr::getJournalSequence).orElse(0L);
+        List<String> lines = Files.exists(journalFilePath)
+                ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)
+                : List.of();
+        boolean isTornWrite = false;
+        boolean isStale = false;
+        int replayedRecords = 0;
+        // a journal without a header was written before journals were numbered, and follows an unnumbered snapshot
+        long sequence = 0;
+        for (int i = 0; i < lines.size() && !isStale; i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                if (JsonAdaptedJournalRecord.TYPE_HEADER.equals(record.getType())) {
+                    sequence = parseSequence(record.getKey());
+                    continue;
+                }
+                if (sequence < snapshotSequence) {
+                    logger.info("Ignoring " + journalFilePath + " as the snapshot already holds its changes");
+                    isStale = true;
+                    continue;
+                }
+                if (sequence > snapshotSequence) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_MISSING_SNAPSHOT, sequence, snapshotSequence));
+                }
+                state.apply(record);
+                replayedRecords++;
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.info("Malformed record found in " + journalFilePath + ": " + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last record in " + journalFilePath);
+                isTornWrite = true;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        SudoHr sudoHr;
+        try {
+            sudoHr = state.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        persistedFilePath = filePath;
+        persistedSequence = SudoHrSnapshot.NO_SEQUENCE;
+        journalSequence = snapshotSequence;
+        journalRecords = replayedRecords;
+        journalBytes = Files.exists(journalFilePath) ? Files.size(journalFilePath) : 0;
+        // appending after an incomplete record would corrupt the next one, and after a stale journal would be lost
+        needsCompaction = isTornWrite || isStale;
+        return Optional.of(sudoHr);
+    }
+
+    private static long parseSequence(String sequence) throws IllegalValueException {
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD_TYPE,
+                    JsonAdaptedJournalRecord.TYPE_HEADER + " " + sequence));
+        }
+    }
+
+    @Override
+    public void saveSudoHr(ReadOnlySudoHr sudoHr) throws IOException {
+        saveSudoHr(sudoHr, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSudoHr(ReadOnlySudoHr)}.
+     * Appends the changes held by {@code sudoHr} to the journal if it is a {@link SudoHrSnapshot} that follows the
+     * snapshot last saved to {@code filePath}, and writes the full data otherwise.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveSudoHr(ReadOnlySudoHr sudoHr, Path filePath) throws IOException {
+        requireNonNull(sudoHr);
+        requireNonNull(filePath);
+
+        boolean isSameFile = filePath.equals(persistedFilePath) && !needsCompaction;
+        SudoHrSnapshot snapshot = sudoHr instanceof SudoHrSnapshot ? (SudoHrSnapshot) sudoHr : null;
+        if (isSameFile && snapshot != null && snapshot.getSequence() == persistedSequence) {
+            return;
+        }
+        if (!isSameFile || snapshot == null || !snapshot.follows(persistedSequence)) {
+            compact(sudoHr, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = toRecords(snapshot);
+        if (records.isEmpty()) {
+            persistedSequence = snapshot.getSequence();
+            return;
+        }
+
+        StringBuilder journal = new StringBuilder();
+        if (journalBytes == 0) {
+            journal.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.header(journalSequence)))
+                    .append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            journal.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = journal.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(getJournalFilePath(filePath), bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // part of a record may have been written, so start over from a snapshot next time
+            needsCompaction = true;
+            throw ioe;
+        }
+
+        persistedSequence = snapshot.getSequence();
+        journalRecords += records.size();
+        journalBytes += bytes.length;
+        if (journalRecords >= maxJournalRecords || journalBytes >= maxJournalBytes) {
+            compact(sudoHr, filePath);
+        }
+    }
+
+    /**
+     * Returns the records of the changes held by {@code snapshot}.
+     */
+    private static List<JsonAdaptedJournalRecord> toRecords(SudoHrSnapshot snapshot) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        snapshot.getChangedEmployees().forEach((id, employee) -> {
+            if (employee != null) {
+                records.add(JsonAdaptedJournalRecord.putEmployee(employee));
+            }
+        });
+        snapshot.getChangedDepartments().forEach((name, department) -> records.add(department == null
+                ? JsonAdaptedJournalRecord.remove(JsonAdaptedJournalRecord.TYPE_REMOVE_DEPARTMENT, name.fullName)
+                : JsonAdaptedJournalRecord.putMembers(JsonAdaptedJournalRecord.TYPE_PUT_DEPARTMENT, name.fullName,
+                        department.getEmployeeIds())));
+        snapshot.getChangedLeaves().forEach((date, leave) -> records.add(leave == null
+                ? JsonAdaptedJournalRecord.remove(JsonAdaptedJournalRecord.TYPE_REMOVE_LEAVE, date.toString())
+                : JsonAdaptedJournalRecord.putMembers(JsonAdaptedJournalRecord.TYPE_PUT_LEAVE, date.toString(),
+                        leave.getEmployeeIds())));
+        // employees are removed last, once no department or leave refers to them
+        snapshot.getChangedEmployees().forEach((id, employee) -> {
+            if (employee == null) {
+                records.add(JsonAdaptedJournalRecord.removeEmployee(id));
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Writes {@code sudoHr} to the snapshot at {@code filePath} with the next sequence number and deletes its
+     * journal. The old journal is ignored from the moment the snapshot is written, so the data stays the same if
+     * the journal cannot be deleted.
+     */
+    private void compact(ReadOnlySudoHr sudoHr, Path filePath) throws IOException {
+        logger.fine("Compacting journal into " + filePath);
+        long nextSequence = (filePath.equals(persistedFilePath) ? journalSequence : readSequence(filePath)) + 1;
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableSudoHr(sudoHr, nextSequence), filePath);
+        journalSequence = nextSequence;
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        persistedFilePath = filePath;
+        persistedSequence = sudoHr instanceof SudoHrSnapshot
+                ? ((SudoHrSnapshot) sudoHr).getSequence()
+                : SudoHrSnapshot.NO_SEQUENCE;
+        journalRecords = 0;
+        journalBytes = 0;
+        needsCompaction = false;
+    }
+
+    /**
+     * Returns the highest sequence number held by the snapshot at {@code filePath} or the header of its journal,
+     * or 0 if neither holds one that can be read.
+     */
+    private static long readSequence(Path filePath) throws IOException {
+        long sequence = 0;
+        try {
+            sequence = JsonUtil.readJsonFile(filePath, JsonSerializableSudoHr.class)
+                    .map(JsonSerializableSudoHr::getJournalSequence).orElse(0L);
+        } catch (DataConversionException e) {
+            logger.fine("Replacing unreadable snapshot " + filePath);
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return sequence;
+        }
+        try (BufferedReader journal = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String firstLine = journal.readLine();
+            JsonAdaptedJournalRecord header = firstLine == null ? null
+                    : JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalRecord.class);
+            if (header != null && JsonAdaptedJournalRecord.TYPE_HEADER.equals(header.getType())) {
+                sequence = Math.max(sequence, parseSequence(header.getKey()));
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.fine("Replacing unreadable journal " + journalFilePath);
+        }
+        return sequence;
+    }
+
+    /**
+     * The data as the journal sees it while it is replayed: employees by id, and the member ids of every department
+     * and leave.
+     */
+    private static class JournalState {
+        private final Map<Id, Employee> employees = new LinkedHashMap<>();
+        private final Map<String, List<Id>> departments = new LinkedHashMap<>();
+        private final Map<String, List<Id>> leaves = new LinkedHashMap<>();
+
+        static JournalState of(ReadOnlySudoHr sudoHr) {
+            JournalState state = new JournalState();
+            for (Employee employee : sudoHr.getEmployeeList()) {
+                state.employees.put(employee.getId(), employee);
+            }
+            for (Department department : sudoHr.getDepartmentList()) {
+                state.departments.put(department.getName().fullName, new ArrayList<>(department.getEmployeeIds()));
+            }
+            for (Leave leave : sudoHr.getLeavesList()) {
+                state.leaves.put(leave.getDate().toString(), new ArrayList<>(leave.getEmployeeIds()));
+            }
+            return state;
+        }
+
+        void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+            String type = record.getType();
+            if (type == null) {
+                throw new IllegalValueException(
+                        String.format(JsonAdaptedJournalRecord.MISSING_FIELD_MESSAGE_FORMAT, "type"));
+            }
+
+            switch (type) {
+            case JsonAdaptedJournalRecord.TYPE_PUT_EMPLOYEE:
+                Employee employee = record.getEmployee();
+                employees.put(employee.getId(), employee);
+                break;
+            case JsonAdaptedJournalRecord.TYPE_REMOVE_EMPLOYEE:
+                if (!Id.isValidId(record.getKey())) {
+                    throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+                }
+                employees.remove(new Id(record.getKey()));
+                break;
+            case JsonAdaptedJournalRecord.TYPE_PUT_DEPARTMENT:
+                departments.put(record.getKey(), record.getEmployeeIds());
+                break;
+            case JsonAdaptedJournalRecord.TYPE_REMOVE_DEPARTMENT:
+                departments.remove(record.getKey());
+                break;
+            case JsonAdaptedJournalRecord.TYPE_PUT_LEAVE:
+                leaves.put(record.getKey(), record.getEmployeeIds());
+                break;
+            case JsonAdaptedJournalRecord.TYPE_REMOVE_LEAVE:
+                leaves.remove(record.getKey());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD_TYPE, type));
+            }
+        }
+
+        SudoHr toModelType() throws IllegalValueException {
+            SudoHr sudoHr = new SudoHr();
+
+            for (Employee employee : employees.values()) {
+                if (sudoHr.hasClashingPhoneNumber(employee)) {
+                    throw new IllegalValueException(JsonSerializableSudoHr.MESSAGE_DUPLICATE_PHONE);
+                }
+                if (sudoHr.hasClashingEmail(employee)) {
+                    throw new IllegalValueException(JsonSerializableSudoHr.MESSAGE_DUPLICATE_EMAIL);
+                }
+                sudoHr.addEmployee(employee);
+            }
+
+            for (Map.Entry<String, List<Id>> entry : departments.entrySet()) {
+                if (!DepartmentName.isValidName(entry.getKey())) {
+                    throw new IllegalValueException(DepartmentName.MESSAGE_CONSTRAINTS);
+                }
+                sudoHr.addDepartment(new Department(DepartmentName.of(entry.getKey()),
+                        resolve(entry.getValue(), entry.getKey())));
+            }
+
+            for (Map.Entry<String, List<Id>> entry : leaves.entrySet()) {
+                LocalDate date;
+                try {
+                    date = LocalDate.parse(entry.getKey());
+                } catch (DateTimeParseException e) {
+                    throw new IllegalValueException(Messages.MESSAGE_INVALID_DATE_FORMAT);
+                }
+                sudoHr.addLeave(new Leave(new LeaveDate(date), resolve(entry.getValue(), entry.getKey())));
+            }
+
+            return sudoHr;
+        }
+
+        private Set<Employee> resolve(List<Id> ids, String owner) throws IllegalValueException {
+            Set<Employee> members = new LinkedHashSet<>();
+            for (Id id : ids) {
+                Employee member = employees.get(id);
+                if (member == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, owner, id));
+                }
+                members.add(member);
+            }
+            return members;
+        }
+    }
+}
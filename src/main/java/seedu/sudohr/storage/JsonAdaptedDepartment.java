@@ -1,40 +1,56 @@
 package seedu.sudohr.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
-import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
+import seedu.sudohr.model.employee.Id;
 
 /**
- * Jackson-friendly version of {@link Employee}.
+ * Jackson-friendly version of {@link Department}.
+ * Members are stored by id. Files written before ids were used embed a full copy of every member instead,
+ * which is still read.
  */
 class JsonAdaptedDepartment {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Department's %s field is missing!";
 
     private final String name;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedEmployee> employees = new ArrayList<>();
+    private final List<String> employeeIds = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedDepartment} with the given department details.
      */
     @JsonCreator
     public JsonAdaptedDepartment(@JsonProperty("name") String name,
-                                 @JsonProperty("employees") List<JsonAdaptedEmployee> employees) {
+                                 @JsonProperty("employees") List<JsonAdaptedEmployee> employees,
+                                 @JsonProperty("employeeIds") List<String> employeeIds) {
         this.name = name;
         if (employees != null) {
             this.employees.addAll(employees);
         }
+        if (employeeIds != null) {
+            this.employeeIds.addAll(employeeIds);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedDepartment} that embeds its members, as in files written before ids were used.
+     */
+    public JsonAdaptedDepartment(String name, List<JsonAdaptedEmployee> employees) {
+        this(name, employees, null);
     }
 
     /**
@@ -42,25 +58,22 @@ class JsonAdaptedDepartment {
      */
     public JsonAdaptedDepartment(Department source) {
         name = source.getName().fullName;
-        this.employees.addAll(source.getEmployees().stream()
-                .map(JsonAdaptedEmployee::new)
+        employeeIds.addAll(source.getEmployeeIds().stream()
+                .map(Id::toString)
                 .collect(Collectors.toList()));
     }
 
     /**
-     * Converts this Jackson-friendly adapted department object into the model's {@code Employee} object.
+     * Converts this Jackson-friendly adapted department object into the model's {@code Department} object.
+     * Members are looked up in {@code sudoHr}.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted employee.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted department.
      */
-    public Department toModelType() throws IllegalValueException {
-        final List<Employee> departmentEmployees = new ArrayList<>();
-        for (JsonAdaptedEmployee employee : employees) {
-            Employee e = employee.toModelType();
-            if (departmentEmployees.stream().anyMatch(e::isSameEmployee)) {
-                throw new DuplicateEmployeeException();
-            }
-            departmentEmployees.add(e);
-        }
+    public Department toModelType(SudoHr sudoHr) throws IllegalValueException {
+        final boolean isEmbedded = !employees.isEmpty();
+        final Set<Employee> members = isEmbedded
+                ? JsonAdaptedEmployee.toMembers(employees)
+                : JsonAdaptedEmployee.toMembers(employeeIds, sudoHr);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -70,11 +83,13 @@ class JsonAdaptedDepartment {
             throw new IllegalValueException(DepartmentName.MESSAGE_CONSTRAINTS);
         }
 
-        final DepartmentName departmentName = new DepartmentName(name);
+        final DepartmentName departmentName = DepartmentName.of(name);
 
-        final Set<Employee> modelEmployees = new HashSet<>(departmentEmployees);
-
-        return new Department(departmentName, modelEmployees);
+        final Department department = new Department(departmentName, members);
+        if (isEmbedded) {
+            JsonAdaptedEmployee.requireAllStrictlyIn(members, sudoHr);
+        }
+        return department;
     }
 
 }
@@ -1,7 +1,9 @@
 package seedu.sudohr.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -10,12 +12,15 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.employee.Address;
 import seedu.sudohr.model.employee.Email;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.employee.Name;
 import seedu.sudohr.model.employee.Phone;
+import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
 import seedu.sudohr.model.tag.Tag;
 
 /**
@@ -54,7 +59,7 @@ class JsonAdaptedEmployee {
      * Converts a given {@code Employee} into this class for Jackson use.
      */
     public JsonAdaptedEmployee(Employee source) {
-        id = source.getId().value;
+        id = source.getId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -115,10 +120,60 @@ class JsonAdaptedEmployee {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         final Set<Tag> modelTags = new HashSet<>(employeeTags);
         return new Employee(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
+    /**
+     * Converts members embedded in a department or leave, as written before members were stored by id.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in an adapted employee.
+     */
+    static Set<Employee> toMembers(List<JsonAdaptedEmployee> employees) throws IllegalValueException {
+        final Set<Employee> members = new LinkedHashSet<>();
+        final Set<Id> memberIds = new HashSet<>();
+        for (JsonAdaptedEmployee employee : employees) {
+            Employee e = employee.toModelType();
+            if (!memberIds.add(e.getId())) {
+                throw new DuplicateEmployeeException();
+            }
+            members.add(e);
+        }
+        return members;
+    }
+
+    /**
+     * Returns the employees of {@code sudoHr} with the given {@code ids}, in the same order.
+     *
+     * @throws IllegalValueException if any id is invalid.
+     */
+    static Set<Employee> toMembers(List<String> ids, SudoHr sudoHr) throws IllegalValueException {
+        final Set<Employee> members = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id == null || !Id.isValidId(id)) {
+                throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+            }
+            Employee e = sudoHr.getEmployee(new Id(id));
+            if (e == null) {
+                throw new EmployeeNotFoundException();
+            }
+            if (!members.add(e)) {
+                throw new DuplicateEmployeeException();
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Checks that every one of {@code members} is in {@code sudoHr} with exactly the same details.
+     */
+    static void requireAllStrictlyIn(Collection<Employee> members, SudoHr sudoHr) {
+        for (Employee member : members) {
+            if (!sudoHr.strictlyHasEmployee(member)) {
+                throw new EmployeeNotFoundException();
+            }
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package seedu.sudohr.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of {@link JournalSudoHrStorage}.
+ * Departments and leaves refer to their employees by id. Applying a record is idempotent, so replaying a journal
+ * on top of a snapshot that already contains some of its changes gives the same result.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalRecord {
+
+    public static final String TYPE_PUT_EMPLOYEE = "employee";
+    public static final String TYPE_REMOVE_EMPLOYEE = "-employee";
+    public static final String TYPE_PUT_DEPARTMENT = "department";
+    public static final String TYPE_REMOVE_DEPARTMENT = "-department";
+    public static final String TYPE_PUT_LEAVE = "leave";
+    public static final String TYPE_REMOVE_LEAVE = "-leave";
+    public static final String TYPE_HEADER = "journal";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    private final String type;
+    private final String key;
+    private final JsonAdaptedEmployee employee;
+    private final List<String> employeeIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("key") String key,
+                                    @JsonProperty("employee") JsonAdaptedEmployee employee,
+                                    @JsonProperty("employeeIds") List<String> employeeIds) {
+        this.type = type;
+        this.key = key;
+        this.employee = employee;
+        if (employeeIds != null) {
+            this.employeeIds.addAll(employeeIds);
+        }
+    }
+
+    /**
+     * Returns the record that starts the journal numbered {@code sequence}.
+     */
+    public static JsonAdaptedJournalRecord header(long sequence) {
+        return new JsonAdaptedJournalRecord(TYPE_HEADER, Long.toString(sequence), null, null);
+    }
+
+    /**
+     * Returns a record that adds {@code employee}, or replaces the employee with the same id.
+     */
+    public static JsonAdaptedJournalRecord putEmployee(Employee employee) {
+        return new JsonAdaptedJournalRecord(TYPE_PUT_EMPLOYEE, employee.getId().toString(),
+                new JsonAdaptedEmployee(employee), null);
+    }
+
+    /**
+     * Returns a record that removes the employee with the given {@code id}.
+     */
+    public static JsonAdaptedJournalRecord removeEmployee(Id id) {
+        return new JsonAdaptedJournalRecord(TYPE_REMOVE_EMPLOYEE, id.toString(), null, null);
+    }
+
+    /**
+     * Returns a record that sets the members of the department or leave identified by {@code key}.
+     * {@code type} is either {@link #TYPE_PUT_DEPARTMENT} or {@link #TYPE_PUT_LEAVE}.
+     */
+    public static JsonAdaptedJournalRecord putMembers(String type, String key, Collection<Id> ids) {
+        return new JsonAdaptedJournalRecord(type, key, null,
+                ids.stream().map(Id::toString).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a record that removes the department or leave identified by {@code key}.
+     * {@code type} is either {@link #TYPE_REMOVE_DEPARTMENT} or {@link #TYPE_REMOVE_LEAVE}.
+     */
+    public static JsonAdaptedJournalRecord remove(String type, String key) {
+        return new JsonAdaptedJournalRecord(type, key, null, null);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the id of the employee, the name of the department or the date of the leave this record is about.
+     *
+     * @throws IllegalValueException if the key is missing.
+     */
+    public String getKey() throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "key"));
+        }
+        return key;
+    }
+
+    /**
+     * Converts the employee in this record into the model's {@code Employee} object.
+     *
+     * @throws IllegalValueException if the employee is missing or violates any data constraints.
+     */
+    public Employee getEmployee() throws IllegalValueException {
+        if (employee == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Employee.class.getSimpleName()));
+        }
+        return employee.toModelType();
+    }
+
+    /**
+     * Converts the member ids in this record into the model's {@code Id} objects.
+     *
+     * @throws IllegalValueException if any id is invalid.
+     */
+    public List<Id> getEmployeeIds() throws IllegalValueException {
+        List<Id> ids = new ArrayList<>();
+        for (String id : employeeIds) {
+            if (id == null || !Id.isValidId(id)) {
+                throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+            }
+            ids.add(new Id(id));
+        }
+        return ids;
+    }
+}
@@ -3,41 +3,57 @@ package seedu.sudohr.storage;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.sudohr.commons.core.Messages;
 import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.employee.Employee;
-import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
+import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
 
 /**
  * Jackson-friendly version of {@link Leave}.
+ * Employees on leave are stored by id. Files written before ids were used embed a full copy of every employee
+ * instead, which is still read.
  */
 public class JsonAdaptedLeave {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "the %s field is missing!";
 
     private final String date;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedEmployee> employees = new ArrayList<>();
+    private final List<String> employeeIds = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedLeave} with the given leave details.
      */
     @JsonCreator
     public JsonAdaptedLeave(@JsonProperty("date") String date,
-            @JsonProperty("employees") List<JsonAdaptedEmployee> employees) {
+            @JsonProperty("employees") List<JsonAdaptedEmployee> employees,
+            @JsonProperty("employeeIds") List<String> employeeIds) {
         this.date = date;
         if (employees != null) {
             this.employees.addAll(employees);
         }
+        if (employeeIds != null) {
+            this.employeeIds.addAll(employeeIds);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLeave} that embeds its employees, as in files written before ids were used.
+     */
+    public JsonAdaptedLeave(String date, List<JsonAdaptedEmployee> employees) {
+        this(date, employees, null);
     }
 
     /**
@@ -45,27 +61,23 @@ public class JsonAdaptedLeave {
      */
     public JsonAdaptedLeave(Leave source) {
         date = source.getDate().value.toString();
-        this.employees.addAll(source.getEmployees().stream()
-                .map(JsonAdaptedEmployee::new)
+        employeeIds.addAll(source.getEmployeeIds().stream()
+                .map(Id::toString)
                 .collect(Collectors.toList()));
     }
 
     /**
      * Converts this Jackson-friendly leave department object into the model's
-     * {@code Leave} object.
+     * {@code Leave} object. Employees on leave are looked up in {@code sudoHr}.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted leave.
      */
-    public Leave toModelType() throws IllegalValueException {
-        final List<Employee> leaveEmployees = new ArrayList<>();
-        for (JsonAdaptedEmployee employee : employees) {
-            Employee e = employee.toModelType();
-            if (leaveEmployees.stream().anyMatch(e::isSameEmployee)) {
-                throw new DuplicateEmployeeException();
-            }
-            leaveEmployees.add(e);
-        }
+    public Leave toModelType(SudoHr sudoHr) throws IllegalValueException {
+        final boolean isEmbedded = !employees.isEmpty();
+        final Set<Employee> leaveEmployees = isEmbedded
+                ? JsonAdaptedEmployee.toMembers(employees)
+                : JsonAdaptedEmployee.toMembers(employeeIds, sudoHr);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -80,8 +92,10 @@ public class JsonAdaptedLeave {
         }
 
         final LeaveDate currentDate = new LeaveDate(leaveDate);
-        final Set<Employee> modelEmployees = new HashSet<>(leaveEmployees);
-
-        return new Leave(currentDate, modelEmployees);
+        final Leave leave = new Leave(currentDate, leaveEmployees);
+        if (isEmbedded) {
+            JsonAdaptedEmployee.requireAllStrictlyIn(leaveEmployees, sudoHr);
+        }
+        return leave;
     }
 }
@@ -2,10 +2,11 @@ package seedu.sudohr.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -14,11 +15,17 @@ import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.employee.Employee;
-import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
 import seedu.sudohr.model.leave.Leave;
 
 /**
  * An Immutable SudoHr that is serializable to JSON format.
+ *
+ * Version 2 of the format stores the members of departments and leaves by employee id. Version 1 files, which
+ * embed a full copy of every member and have no version field, are still read and are written back as version 2
+ * on the next save.
+ *
+ * A snapshot written by {@link JournalSudoHrStorage} also holds the sequence number of the journal that belongs to
+ * it. The field is left out of other files, and ignored by {@link JsonSudoHrStorage}.
  */
 @JsonRootName(value = "sudohr")
 class JsonSerializableSudoHr {
@@ -28,7 +35,18 @@ class JsonSerializableSudoHr {
     public static final String MESSAGE_DUPLICATE_EMAIL = "There are duplicate email addresses in the employee list";
     public static final String MESSAGE_DUPLICATE_DEPARTMENTS = "Departments list contains duplicate department(s).";
     public static final String MESSAGE_DUPLICATE_LEAVES = "Leave list contains duplicate events(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file was written by a newer version of SudoHR "
+            + "(format version %d).";
 
+    public static final int LEGACY_VERSION = 1;
+    public static final int CURRENT_VERSION = 2;
+
+    /** Lists with at least this many records are converted in parallel. */
+    static final int PARALLEL_THRESHOLD = 512;
+
+    private final int version;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
     private final List<JsonAdaptedEmployee> employees = new ArrayList<>();
     private final List<JsonAdaptedDepartment> departments = new ArrayList<>();
     private final List<JsonAdaptedLeave> leaves = new ArrayList<>();
@@ -36,10 +54,22 @@ class JsonSerializableSudoHr {
     /**
      * Constructs a {@code JsonSerializableSudoHr} with the given employees.
      */
+    public JsonSerializableSudoHr(Integer version, List<JsonAdaptedEmployee> employees,
+            List<JsonAdaptedDepartment> departments, List<JsonAdaptedLeave> leaves) {
+        this(version, null, employees, departments, leaves);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableSudoHr} with the given employees and journal sequence number.
+     */
     @JsonCreator
-    public JsonSerializableSudoHr(@JsonProperty("employees") List<JsonAdaptedEmployee> employees,
+    public JsonSerializableSudoHr(@JsonProperty("version") Integer version,
+            @JsonProperty("journalSequence") Long journalSequence,
+            @JsonProperty("employees") List<JsonAdaptedEmployee> employees,
             @JsonProperty("departments") List<JsonAdaptedDepartment> departments,
             @JsonProperty("leaves") List<JsonAdaptedLeave> leaves) {
+        this.version = version == null ? LEGACY_VERSION : version;
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
         this.employees.addAll(employees);
         this.departments.addAll(departments);
         this.leaves.addAll(leaves);
@@ -51,6 +81,18 @@ class JsonSerializableSudoHr {
      * @param source future changes to this will not affect the created {@code JsonSerializableSudoHr}.
      */
     public JsonSerializableSudoHr(ReadOnlySudoHr source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlySudoHr} into this class for Jackson use, as the snapshot that the journal
+     * numbered {@code journalSequence} belongs to.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableSudoHr}.
+     */
+    public JsonSerializableSudoHr(ReadOnlySudoHr source, long journalSequence) {
+        version = CURRENT_VERSION;
+        this.journalSequence = journalSequence;
         employees.addAll(source.getEmployeeList().stream().map(JsonAdaptedEmployee::new).collect(Collectors.toList()));
         departments.addAll(source.getDepartmentList().stream().map(JsonAdaptedDepartment::new)
                 .collect(Collectors.toList()));
@@ -58,61 +100,154 @@ class JsonSerializableSudoHr {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the sequence number of the journal that belongs to this snapshot, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
     /**
      * Converts this sudohr book into the model's {@code SudoHr} object.
      *
+     * Large lists of records are converted concurrently on the common fork-join pool. The converted records are
+     * then added to the model one at a time in file order, so duplicates are detected and errors are reported
+     * exactly as if every record had been converted in turn.
+     *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public SudoHr toModelType() throws IllegalValueException {
+        checkVersion(version);
         SudoHr sudoHr = new SudoHr();
+        for (Converted<Employee> employee : convertAll(employees, JsonAdaptedEmployee::toModelType)) {
+            addEmployee(sudoHr, employee.get());
+        }
 
-        for (JsonAdaptedEmployee jsonAdaptedEmployee : employees) {
-            Employee employee = jsonAdaptedEmployee.toModelType();
-            if (sudoHr.hasEmployee(employee)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EMPLOYEE);
-            }
-            if (sudoHr.hasClashingPhoneNumber(employee)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE);
-            }
-            if (sudoHr.hasClashingEmail(employee)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EMAIL);
-            }
-            sudoHr.addEmployee(employee);
+        // departments and leaves only look up employees, which are not changed while they are converted
+        for (Converted<Department> department : convertAll(departments, adapted -> adapted.toModelType(sudoHr))) {
+            addDepartment(sudoHr, department.get());
         }
 
-        for (JsonAdaptedDepartment jsonAdaptedDepartment : departments) {
-            Department department = jsonAdaptedDepartment.toModelType();
-            if (sudoHr.hasDepartment(department)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DEPARTMENTS);
-            }
+        for (Converted<Leave> leave : convertAll(leaves, adapted -> adapted.toModelType(sudoHr))) {
+            addLeave(sudoHr, leave.get());
+        }
 
-            Set<Employee> employees = department.getEmployees();
-            for (Employee employee: employees) {
-                if (!sudoHr.strictlyHasEmployee(employee)) {
-                    throw new EmployeeNotFoundException();
-                }
-            }
+        return sudoHr;
+    }
 
-            sudoHr.addDepartment(department);
+    /**
+     * Checks that data in format {@code version} can be read.
+     *
+     * @throws IllegalValueException if the data was written by a newer version of SudoHR.
+     */
+    static void checkVersion(int version) throws IllegalValueException {
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
         }
+    }
 
-        for (JsonAdaptedLeave jsonAdaptedLeave : leaves) {
-            Leave leave = jsonAdaptedLeave.toModelType();
-            if (sudoHr.hasLeave(leave)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LEAVES);
-            }
+    /**
+     * Converts {@code jsonAdaptedEmployee} and adds it to {@code sudoHr}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addEmployee(SudoHr sudoHr, JsonAdaptedEmployee jsonAdaptedEmployee) throws IllegalValueException {
+        addEmployee(sudoHr, jsonAdaptedEmployee.toModelType());
+    }
 
-            List<Employee> employees = leave.getEmployees();
-            for (Employee employee: employees) {
-                if (!sudoHr.strictlyHasEmployee(employee)) {
-                    throw new EmployeeNotFoundException();
-                }
-            }
+    private static void addEmployee(SudoHr sudoHr, Employee employee) throws IllegalValueException {
+        if (sudoHr.hasEmployee(employee)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EMPLOYEE);
+        }
+        if (sudoHr.hasClashingPhoneNumber(employee)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE);
+        }
+        if (sudoHr.hasClashingEmail(employee)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EMAIL);
+        }
+        sudoHr.addEmployee(employee);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedDepartment} and adds it to {@code sudoHr}, whose employees must already be added.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addDepartment(SudoHr sudoHr, JsonAdaptedDepartment jsonAdaptedDepartment)
+            throws IllegalValueException {
+        addDepartment(sudoHr, jsonAdaptedDepartment.toModelType(sudoHr));
+    }
 
-            sudoHr.addLeave(leave);
+    private static void addDepartment(SudoHr sudoHr, Department department) throws IllegalValueException {
+        if (sudoHr.hasDepartment(department)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DEPARTMENTS);
         }
+        sudoHr.addDepartment(department);
+    }
 
-        return sudoHr;
+    /**
+     * Converts {@code jsonAdaptedLeave} and adds it to {@code sudoHr}, whose employees must already be added.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addLeave(SudoHr sudoHr, JsonAdaptedLeave jsonAdaptedLeave) throws IllegalValueException {
+        addLeave(sudoHr, jsonAdaptedLeave.toModelType(sudoHr));
+    }
+
+    private static void addLeave(SudoHr sudoHr, Leave leave) throws IllegalValueException {
+        if (sudoHr.hasLeave(leave)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LEAVES);
+        }
+        sudoHr.addLeave(leave);
+    }
+
+    /**
+     * Converts every record in {@code adapted}, in parallel if there are at least {@link #PARALLEL_THRESHOLD} of
+     * them. The results are in the same order as {@code adapted}.
+     */
+    private static <A, M> List<Converted<M>> convertAll(List<A> adapted, Conversion<A, M> conversion) {
+        Stream<A> records = adapted.size() >= PARALLEL_THRESHOLD ? adapted.parallelStream() : adapted.stream();
+        return records.map(record -> Converted.of(record, conversion)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts an adapted record into its model object.
+     */
+    @FunctionalInterface
+    private interface Conversion<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one record: either the model object or the exception thrown while converting it.
+     * Holding on to the exception lets it be thrown when the record's turn comes to be added to the model.
+     */
+    private static class Converted<M> {
+        private final M value;
+        private final Exception exception;
+
+        private Converted(M value, Exception exception) {
+            this.value = value;
+            this.exception = exception;
+        }
+
+        static <A, M> Converted<M> of(A adapted, Conversion<A, M> conversion) {
+            try {
+                return new Converted<>(conversion.convert(adapted), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Converted<>(null, e);
+            }
+        }
+
+        M get() throws IllegalValueException {
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception != null) {
+                throw (RuntimeException) exception;
+            }
+            return value;
+        }
     }
 
 }
@@ -3,28 +3,56 @@ package seedu.sudohr.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.commons.exceptions.DataConversionException;
 import seedu.sudohr.commons.exceptions.IllegalValueException;
 import seedu.sudohr.commons.util.FileUtil;
 import seedu.sudohr.commons.util.JsonUtil;
 import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.Leave;
 
 /**
  * A class to access SudoHr data stored as a json file on the hard disk.
+ *
+ * In streaming mode, the file is read and written one employee, department or leave at a time, so only the model
+ * itself has to fit in memory rather than also a copy of the whole file.
  */
 public class JsonSudoHrStorage implements SudoHrStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonSudoHrStorage.class);
 
     private Path filePath;
+    private final boolean isStreaming;
+    private final boolean isPrettyPrinted;
 
     public JsonSudoHrStorage(Path filePath) {
+        this(filePath, false, true);
+    }
+
+    /**
+     * Creates a {@code JsonSudoHrStorage} that reads and writes incrementally if {@code isStreaming}.
+     * Pretty-printing can only be turned off in streaming mode.
+     */
+    public JsonSudoHrStorage(Path filePath, boolean isStreaming, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isStreaming = isStreaming;
+        this.isPrettyPrinted = isPrettyPrinted || !isStreaming;
     }
 
     public Path getSudoHrFilePath() {
@@ -45,6 +73,10 @@ public class JsonSudoHrStorage implements SudoHrStorage {
     public Optional<ReadOnlySudoHr> readSudoHr(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        if (isStreaming) {
+            return readSudoHrStreaming(filePath);
+        }
+
         Optional<JsonSerializableSudoHr> jsonSudoHr = JsonUtil.readJsonFile(
                 filePath, JsonSerializableSudoHr.class);
         if (!jsonSudoHr.isPresent()) {
@@ -74,7 +106,128 @@ public class JsonSudoHrStorage implements SudoHrStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSudoHr(sudoHr), filePath);
+        if (isStreaming) {
+            FileUtil.writeToFileAtomically(filePath, out -> writeSudoHr(sudoHr, out));
+        } else {
+            JsonUtil.saveJsonFile(new JsonSerializableSudoHr(sudoHr), filePath);
+        }
+    }
+
+    private Optional<ReadOnlySudoHr> readSudoHrStreaming(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readSudoHr(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads a document in the format of {@link JsonSerializableSudoHr}, converting each employee, department and
+     * leave as soon as it has been parsed. Departments and leaves that come before the employees in the document
+     * are kept until the employees they refer to have been read.
+     */
+    private static SudoHr readSudoHr(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected SudoHR data to be a json object");
+        }
+
+        SudoHr sudoHr = new SudoHr();
+        boolean hasReadEmployees = false;
+        List<JsonAdaptedDepartment> pendingDepartments = new ArrayList<>();
+        List<JsonAdaptedLeave> pendingLeaves = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+            case "version":
+                JsonSerializableSudoHr.checkVersion(parser.getIntValue());
+                break;
+            case "employees":
+                requireArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonSerializableSudoHr.addEmployee(sudoHr, JsonUtil.readValue(parser, JsonAdaptedEmployee.class));
+                }
+                hasReadEmployees = true;
+                break;
+            case "departments":
+                requireArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedDepartment department = JsonUtil.readValue(parser, JsonAdaptedDepartment.class);
+                    if (hasReadEmployees) {
+                        JsonSerializableSudoHr.addDepartment(sudoHr, department);
+                    } else {
+                        pendingDepartments.add(department);
+                    }
+                }
+                break;
+            case "leaves":
+                requireArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedLeave leave = JsonUtil.readValue(parser, JsonAdaptedLeave.class);
+                    if (hasReadEmployees) {
+                        JsonSerializableSudoHr.addLeave(sudoHr, leave);
+                    } else {
+                        pendingLeaves.add(leave);
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        for (JsonAdaptedDepartment department : pendingDepartments) {
+            JsonSerializableSudoHr.addDepartment(sudoHr, department);
+        }
+        for (JsonAdaptedLeave leave : pendingLeaves) {
+            JsonSerializableSudoHr.addLeave(sudoHr, leave);
+        }
+        return sudoHr;
+    }
+
+    private static void requireArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected " + parser.getCurrentName() + " to be a json array");
+        }
+    }
+
+    /**
+     * Writes {@code sudoHr} in the format of {@link JsonSerializableSudoHr}, one employee, department or leave
+     * at a time.
+     */
+    private void writeSudoHr(ReadOnlySudoHr sudoHr, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", JsonSerializableSudoHr.CURRENT_VERSION);
+            generator.writeArrayFieldStart("employees");
+            for (Employee employee : sudoHr.getEmployeeList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedEmployee(employee));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("departments");
+            for (Department department : sudoHr.getDepartmentList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedDepartment(department));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("leaves");
+            for (Leave leave : sudoHr.getLeavesList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedLeave(leave));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
 }
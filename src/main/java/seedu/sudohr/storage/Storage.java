@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.sudohr.commons.exceptions.DataConversionException;
 import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.ReadOnlyUserPrefs;
+import seedu.sudohr.model.SudoHrSnapshot;
 import seedu.sudohr.model.UserPrefs;
 
 /**
@@ -29,4 +30,20 @@ public interface Storage extends SudoHrStorage, UserPrefsStorage {
     @Override
     void saveSudoHr(ReadOnlySudoHr sudoHr) throws IOException;
 
+    /**
+     * Saves {@code sudoHr} on a background thread.
+     * Failures are reported through {@link #takeSudoHrSaveFailure()}.
+     */
+    void saveSudoHrInBackground(SudoHrSnapshot sudoHr);
+
+    /**
+     * Blocks until every background save requested so far has completed.
+     */
+    void flushSudoHr();
+
+    /**
+     * Returns the latest background save failure that has not been reported yet, and clears it.
+     */
+    Optional<IOException> takeSudoHrSaveFailure();
+
 }
@@ -9,6 +9,7 @@ import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.commons.exceptions.DataConversionException;
 import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.ReadOnlyUserPrefs;
+import seedu.sudohr.model.SudoHrSnapshot;
 import seedu.sudohr.model.UserPrefs;
 
 /**
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SudoHrStorage sudoHrStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final BackgroundSudoHrWriter backgroundWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code SudoHrStorage} and {@code UserPrefStorage}.
@@ -26,6 +28,7 @@ public class StorageManager implements Storage {
     public StorageManager(SudoHrStorage sudoHrStorage, UserPrefsStorage userPrefsStorage) {
         this.sudoHrStorage = sudoHrStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundWriter = new BackgroundSudoHrWriter(sudoHrStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -69,10 +72,30 @@ public class StorageManager implements Storage {
         saveSudoHr(sudoHr, sudoHrStorage.getSudoHrFilePath());
     }
 
+    /**
+     * Saves {@code sudoHr} to {@code filePath} on the calling thread.
+     * Background saves that are still pending are completed first, so they cannot overwrite this save.
+     */
     @Override
     public void saveSudoHr(ReadOnlySudoHr sudoHr, Path filePath) throws IOException {
+        backgroundWriter.flush();
         logger.fine("Attempting to write to data file: " + filePath);
         sudoHrStorage.saveSudoHr(sudoHr, filePath);
     }
 
+    @Override
+    public void saveSudoHrInBackground(SudoHrSnapshot sudoHr) {
+        backgroundWriter.save(sudoHr, sudoHrStorage.getSudoHrFilePath());
+    }
+
+    @Override
+    public void flushSudoHr() {
+        backgroundWriter.flush();
+    }
+
+    @Override
+    public Optional<IOException> takeSudoHrSaveFailure() {
+        return backgroundWriter.takeFailure();
+    }
+
 }
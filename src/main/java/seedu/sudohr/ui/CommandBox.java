@@ -4,9 +4,6 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.sudohr.logic.commands.CommandResult;
-import seedu.sudohr.logic.commands.exceptions.CommandException;
-import seedu.sudohr.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +38,21 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, () -> handleCommandFailed(commandText));
+    }
+
+    /**
+     * Puts the failed {@code commandText} back in the command box so that it can be corrected,
+     * unless the user has started typing another command while it was executing.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (!commandTextField.getText().equals("")) {
+            return;
         }
+
+        commandTextField.setText(commandText);
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +81,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command for execution and calls {@code onFailure} on the JavaFX application thread if it fails.
          *
          * @see seedu.sudohr.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Runnable onFailure);
     }
 
 }
@@ -0,0 +1,110 @@
+package seedu.sudohr.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.sudohr.commons.core.LogsCenter;
+import seedu.sudohr.logic.Logic;
+import seedu.sudohr.logic.commands.CommandResult;
+import seedu.sudohr.logic.commands.exceptions.CommandException;
+import seedu.sudohr.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands one at a time, in the order they are submitted, on a worker thread so that the user interface
+ * stays responsive while a command runs. Results are published through the given UI executor, which is the
+ * JavaFX application thread in the app, and the busy listener is told when the first command is queued and when
+ * the last result has been published.
+ */
+public class CommandWorker {
+
+    private static final String THREAD_NAME = "sudohr-command-worker";
+
+    private final Logger logger = LogsCenter.getLogger(CommandWorker.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final Consumer<Boolean> busyListener;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean isStopped = false;
+
+    /** Number of submitted commands whose results are not published yet, only accessed on the UI thread. */
+    private int pendingCommands = 0;
+
+    /**
+     * Creates a {@code CommandWorker} that executes commands with {@code logic}.
+     */
+    public CommandWorker(Logic logic, Executor uiExecutor, Consumer<Boolean> busyListener) {
+        requireNonNull(logic);
+        requireNonNull(uiExecutor);
+        requireNonNull(busyListener);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.busyListener = busyListener;
+    }
+
+    /**
+     * Queues {@code commandText} for execution. Must be called on the UI thread.
+     * Once the command is executed, {@code onSuccess} or {@code onFailure} is called on the UI thread.
+     * Commands submitted after {@link #stop()} are ignored.
+     */
+    public void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        if (isStopped) {
+            logger.info("Command ignored as the command worker is stopped: " + commandText);
+            return;
+        }
+
+        if (pendingCommands++ == 0) {
+            busyListener.accept(true);
+        }
+        worker.execute(() -> {
+            if (isStopped) {
+                return;
+            }
+            Runnable publishResult = execute(commandText, onSuccess, onFailure);
+            uiExecutor.execute(() -> {
+                try {
+                    publishResult.run();
+                } finally {
+                    if (--pendingCommands == 0) {
+                        busyListener.accept(false);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * Executes {@code commandText} on the worker thread and returns the callback that publishes its result.
+     * Unexpected exceptions are rethrown on the UI thread, as they would be if the command was executed there.
+     */
+    private Runnable execute(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            return () -> onSuccess.accept(commandResult);
+        } catch (CommandException | ParseException e) {
+            return () -> onFailure.accept(e);
+        } catch (RuntimeException e) {
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    /**
+     * Stops executing commands. The command being executed, if any, completes but queued commands are discarded.
+     */
+    public void stop() {
+        isStopped = true;
+        worker.shutdown();
+    }
+}
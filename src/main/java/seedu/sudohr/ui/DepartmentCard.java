@@ -15,7 +15,7 @@ public class DepartmentCard extends UiPart<Region> {
 
     private static final String FXMl = "DepartmentListCard.fxml";
 
-    public final Department department;
+    private Department department;
 
     @FXML
     private HBox cardPane;
@@ -25,14 +25,34 @@ public class DepartmentCard extends UiPart<Region> {
     private Label totalEmployees;
     @FXML
     private Label name;
+
+    /**
+     * Creates an empty {@code DepartmentCard}, to be shown with a department by {@link #setDepartment}.
+     */
+    public DepartmentCard() {
+        super(FXMl);
+    }
+
     /**
      * Creates a {@code DepartmentCard} with the given {@code Department} and index to display.
      * @param department The department to be featured on the card
      * @param displayedIndex the relative number of the current card to the view
      */
-
     public DepartmentCard(Department department, int displayedIndex) {
-        super(FXMl);
+        this();
+        setDepartment(department, displayedIndex);
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    /**
+     * Shows {@code department} at {@code displayedIndex} on this card.
+     * @param department The department to be featured on the card
+     * @param displayedIndex the relative number of the current card to the view
+     */
+    public void setDepartment(Department department, int displayedIndex) {
         this.department = department;
         number.setText(displayedIndex + ". ");
         totalEmployees.setText("Number of employees: " + department.employeeCount());
@@ -31,7 +31,13 @@ public class DepartmentListPanel extends UiPart<Region> {
         departmentListView.setCellFactory(listView -> new DepartmentListViewCell());
     }
 
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Department} using a {@code DepartmentCard}.
+     * The card is loaded once per cell and shows whichever department the cell is given next.
+     */
     class DepartmentListViewCell extends ListCell<Department> {
+        private DepartmentCard card;
+
         @Override
         protected void updateItem(Department department, boolean empty) {
             super.updateItem(department, empty);
@@ -40,7 +46,11 @@ public class DepartmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText((null));
             } else {
-                setGraphic(new DepartmentCard(department, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new DepartmentCard();
+                }
+                card.setDepartment(department, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
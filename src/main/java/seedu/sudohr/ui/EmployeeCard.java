@@ -1,9 +1,11 @@
 package seedu.sudohr.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -26,7 +28,7 @@ public class EmployeeCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on SudoHr level 4</a>
      */
 
-    public final Employee employee;
+    private Employee employee;
 
     @FXML
     private HBox cardPane2;
@@ -47,22 +49,57 @@ public class EmployeeCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code EmployeeCard}, to be shown with an employee by {@link #setEmployee}.
+     */
+    public EmployeeCard(ObservableList<Department> departments) {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code EmployeeCard} with the given {@code Employee} and index to display.
      */
     public EmployeeCard(Employee employee, int displayedIndex, ObservableList<Department> departments) {
-        super(FXML);
+        this(departments);
+        setEmployee(employee, displayedIndex);
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    /**
+     * Shows {@code employee} at {@code displayedIndex} on this card, reusing the labels already on it.
+     */
+    public void setEmployee(Employee employee, int displayedIndex) {
+        String indexText = displayedIndex + ". ";
+        if (employee == this.employee && indexText.equals(index.getText())) {
+            return;
+        }
         this.employee = employee;
-        index.setText(displayedIndex + ". ");
+        index.setText(indexText);
         name.setText(employee.getName().fullName);
         hashId.setText("#" + employee.getId().value);
         employeeId.setText("Employee ID: " + employee.getId().value);
         phone.setText(employee.getPhone().value);
         address.setText(employee.getAddress().value);
         email.setText(employee.getEmail().value);
-        employee.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        List<String> tagNames = employee.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
     }
 
     @Override
@@ -34,8 +34,11 @@ public class EmployeeListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Employee} using a {@code EmployeeCard}.
+     * The card is loaded once per cell and shows whichever employee the cell is given next.
      */
     class EmployeeListViewCell extends ListCell<Employee> {
+        private EmployeeCard card;
+
         @Override
         protected void updateItem(Employee employee, boolean empty) {
             super.updateItem(employee, empty);
@@ -44,7 +47,11 @@ public class EmployeeListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EmployeeCard(employee, getIndex() + 1, departmentList).getRoot());
+                if (card == null) {
+                    card = new EmployeeCard(departmentList);
+                }
+                card.setEmployee(employee, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -23,6 +23,8 @@ public class HelpWindow extends UiPart<Stage> {
             + "    find   -   Find employee by name\n"
             + "    feid   -   Find employee by ID\n"
             + "    del    -   Delete employee\n"
+            + "    search -   Search employees by name, email or tag\n"
+            + "    query  -   List employees matching conditions combined with AND, OR, NOT\n"
             + "\n"
             + "Department-related commands:\n"
             + "    adep   -   Add department\n"
@@ -14,7 +14,7 @@ public class LeaveCard extends UiPart<Region> {
 
     private static final String FXMl = "LeaveCard.fxml";
 
-    public final Leave leave;
+    private Leave leave;
 
     @FXML
     private HBox cardPane;
@@ -23,16 +23,33 @@ public class LeaveCard extends UiPart<Region> {
     @FXML
     private Label totalNumber;
 
+    /**
+     * Creates an empty {@code LeaveCard}, to be shown with a leave by {@link #setLeave}.
+     */
+    public LeaveCard() {
+        super(FXMl);
+    }
 
     /**
      * Creates a {@code LeaveCard} with the given {@code Leave}
      * @param leave
      */
     public LeaveCard(Leave leave) {
-        super(FXMl);
+        this();
+        setLeave(leave);
+    }
+
+    public Leave getLeave() {
+        return leave;
+    }
+
+    /**
+     * Shows {@code leave} on this card.
+     */
+    public void setLeave(Leave leave) {
         this.leave = leave;
         date.setText(leave.getDate().toString());
-        totalNumber.setText("Employees on leave: " + leave.getEmployees().size());
+        totalNumber.setText("Employees on leave: " + leave.getNumberOnLeave());
     }
 
     @Override
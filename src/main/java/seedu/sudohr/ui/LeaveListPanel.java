@@ -27,7 +27,13 @@ public class LeaveListPanel extends UiPart<Region> {
         leaveListView.setCellFactory(listView -> new LeaveViewCell());
     }
 
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Leave} using a {@code LeaveCard}.
+     * The card is loaded once per cell and shows whichever leave the cell is given next.
+     */
     class LeaveViewCell extends ListCell<Leave> {
+        private LeaveCard card;
+
         @Override
         protected void updateItem(Leave leave, boolean empty) {
             super.updateItem(leave, empty);
@@ -36,7 +42,11 @@ public class LeaveListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new LeaveCard(leave).getRoot());
+                if (card == null) {
+                    card = new LeaveCard();
+                }
+                card.setLeave(leave);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -2,6 +2,8 @@ package seedu.sudohr.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +16,8 @@ import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.commons.core.LogsCenter;
 import seedu.sudohr.logic.Logic;
 import seedu.sudohr.logic.commands.CommandResult;
-import seedu.sudohr.logic.commands.exceptions.CommandException;
-import seedu.sudohr.logic.parser.exceptions.ParseException;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.list.ModelList;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -36,6 +38,7 @@ public class MainWindow extends UiPart<Stage> {
     private LeaveListPanel leaveListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private CommandWorker commandWorker;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -118,13 +121,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        employeeListPanel = new EmployeeListPanel(logic.getFilteredEmployeeList(), logic.getFilteredDepartmentList());
+        // commands modify the lists on the command worker thread, so the panels show copies kept on this thread
+        ObservableList<Department> departmentList = mirror(logic.getFilteredDepartmentList());
+
+        employeeListPanel = new EmployeeListPanel(mirror(logic.getFilteredEmployeeList()), departmentList);
         employeeListPanelPlaceholder.getChildren().add(employeeListPanel.getRoot());
 
-        departmentListPanel = new DepartmentListPanel(logic.getFilteredDepartmentList());
+        departmentListPanel = new DepartmentListPanel(departmentList);
         departmentListPanelPlaceholder.getChildren().add(departmentListPanel.getRoot());
 
-        leaveListPanel = new LeaveListPanel(logic.getFilteredLeaveList());
+        leaveListPanel = new LeaveListPanel(mirror(logic.getFilteredLeaveList()));
         leaveListPanelPlaceholder.getChildren().add(leaveListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -133,10 +139,16 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getSudoHrFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        commandWorker = new CommandWorker(logic, Platform::runLater, statusBarFooter::setBusy);
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    private static <T> ObservableList<T> mirror(ModelList<T> source) {
+        return new MirroredList<>(source, Platform::runLater).getList();
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -170,6 +182,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        if (commandWorker != null) {
+            commandWorker.stop();
+        }
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
@@ -182,29 +197,29 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command for execution and shows its result once it is executed.
+     * {@code onFailure} is called if the command fails.
      *
      * @see seedu.sudohr.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    private void executeCommand(String commandText, Runnable onFailure) {
+        commandWorker.submit(commandText, this::handleCommandResult, e -> {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            onFailure.run();
+        });
+    }
+
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
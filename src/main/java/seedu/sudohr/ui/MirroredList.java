@@ -0,0 +1,73 @@
+package seedu.sudohr.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.sudohr.model.list.ListChange;
+import seedu.sudohr.model.list.ModelList;
+
+/**
+ * An {@code ObservableList} copy of a list of the model, for the list views to show.
+ * The model list is modified by the {@link CommandWorker} thread, while the copy only changes on the UI thread: each
+ * change to the model list is replayed on the copy through the UI executor, in the order it was made, so that the
+ * list views showing the copy are never modified while they are being rendered.
+ */
+public class MirroredList<T> {
+
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    /**
+     * Creates a copy of {@code source} that follows its changes. Must be called on the UI thread while no command
+     * is being executed.
+     */
+    public MirroredList(ModelList<T> source, Executor uiExecutor) {
+        requireNonNull(source);
+        requireNonNull(uiExecutor);
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+
+        source.addObserver(change -> uiExecutor.execute(replay(change)));
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy.
+     */
+    public ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Returns the step that makes {@code change} to the copy.
+     * The elements added are captured now, as the source may have changed again by the time the step runs.
+     */
+    private Runnable replay(ListChange<T> change) {
+        int from = change.getFrom();
+
+        if (change.isUpdate()) {
+            int to = change.getTo();
+            // replacing an element by itself tells the list views to redraw it
+            return () -> {
+                for (int i = from; i < to; i++) {
+                    mirror.set(i, mirror.get(i));
+                }
+            };
+        }
+
+        int removedSize = change.getRemoved().size();
+        List<T> added = new ArrayList<>(change.getAdded());
+        return () -> {
+            if (removedSize > 0) {
+                mirror.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                mirror.addAll(from, added);
+            }
+        };
+    }
+}
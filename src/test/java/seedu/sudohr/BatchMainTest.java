@@ -0,0 +1,93 @@
+package seedu.sudohr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sudohr.commons.core.Config;
+import seedu.sudohr.commons.util.ConfigUtil;
+import seedu.sudohr.logic.commands.employee.AddCommand;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+import seedu.sudohr.storage.JsonUserPrefsStorage;
+
+public class BatchMainTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path configFile;
+    private Path dataFile;
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFile = temporaryFolder.resolve("config.json");
+        dataFile = temporaryFolder.resolve("sudohr.json");
+        Config config = new Config();
+        config.setUserPrefsFilePath(temporaryFolder.resolve("preferences.json"));
+        ConfigUtil.saveConfig(config, configFile);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSudoHrFilePath(dataFile);
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+    }
+
+    @Test
+    public void run_missingScript_usagePrinted() {
+        assertEquals(2, run("", "--config=" + configFile));
+        assertTrue(errors.toString(StandardCharsets.UTF_8).contains(BatchMain.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_scriptFileNotFound_errorReported() {
+        assertEquals(2, run("", "--config=" + configFile, temporaryFolder.resolve("missing.txt").toString()));
+        assertTrue(errors.toString(StandardCharsets.UTF_8).startsWith("Could not run the script"));
+    }
+
+    @Test
+    public void run_scriptFromStandardInput_dataSaved() throws Exception {
+        assertEquals(0, run(ADD_AMY + "\n", "--config=" + configFile, "-"));
+        assertEquals(1, new JsonSudoHrStorage(dataFile).readSudoHr().get().getEmployeeList().size());
+    }
+
+    @Test
+    public void run_scriptFile_failedCommandReported() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.writeString(script, ADD_AMY + "\n" + ADD_AMY + "\n");
+        assertEquals(1, run("", "--config=" + configFile, script.toString()));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("2: ERROR"));
+        assertTrue(Files.notExists(dataFile));
+    }
+
+    @Test
+    public void run_unreadableData_dataNotOverwritten() throws Exception {
+        Files.writeString(dataFile, "not json");
+        assertEquals(2, run(ADD_AMY, "--config=" + configFile, "-"));
+        assertEquals("not json", Files.readString(dataFile));
+    }
+
+    private int run(String input, String... args) {
+        return BatchMain.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(output, true, StandardCharsets.UTF_8),
+                new PrintStream(errors, true, StandardCharsets.UTF_8));
+    }
+}
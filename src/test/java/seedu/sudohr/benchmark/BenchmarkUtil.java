@@ -0,0 +1,138 @@
+package seedu.sudohr.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.testutil.EmployeeBuilder;
+
+/**
+ * A utility class to generate synthetic SudoHR data and to time operations on it for benchmarks.
+ */
+public class BenchmarkUtil {
+
+    /** Dataset sizes that the scaling benchmarks are run against. */
+    public static final int[] DATASET_SIZES = {10_000, 100_000, 1_000_000};
+
+    private static final int DEPARTMENT_COUNT = 20;
+    private static final int LEAVE_DATE_COUNT = 100;
+    private static final int EMPLOYEES_PER_LEAVE_TAKER = 10;
+
+    private static final String[] TAG_POOL = {"FullTime", "PartTime", "Engineer", "Manager", "Intern", "Contract"};
+
+    /** Keeps the object being measured by {@link #measureHeap} reachable until the heap has been measured. */
+    private static Object retained;
+
+    /**
+     * Returns {@code count} employees with distinct ids, phone numbers and emails.
+     */
+    public static List<Employee> generateEmployees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            employees.add(new EmployeeBuilder()
+                    .withId(String.valueOf(i))
+                    .withName("Employee " + i)
+                    .withPhone(String.format(Locale.ROOT, "%08d", i))
+                    .withEmail("employee" + i + "@sudohr.com")
+                    .withAddress("Block " + (i % 500) + ", Office Park Ave " + (i % 7))
+                    .withTags(TAG_POOL[i % TAG_POOL.length], TAG_POOL[(i / TAG_POOL.length) % TAG_POOL.length])
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * Returns a SudoHR with {@code count} employees, each of them in one of a few departments,
+     * and every tenth of them on leave on one day.
+     */
+    public static SudoHr generateSudoHr(int count) {
+        List<Employee> employees = generateEmployees(count);
+        SudoHr sudoHr = new SudoHr();
+        employees.forEach(sudoHr::addEmployee);
+
+        List<Set<Employee>> departmentMembers = new ArrayList<>();
+        List<Set<Employee>> leaveMembers = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENT_COUNT; i++) {
+            departmentMembers.add(new LinkedHashSet<>());
+        }
+        for (int i = 0; i < LEAVE_DATE_COUNT; i++) {
+            leaveMembers.add(new LinkedHashSet<>());
+        }
+        for (int i = 0; i < count; i++) {
+            departmentMembers.get(i % DEPARTMENT_COUNT).add(employees.get(i));
+            if (i % EMPLOYEES_PER_LEAVE_TAKER == 0) {
+                leaveMembers.get((i / EMPLOYEES_PER_LEAVE_TAKER) % LEAVE_DATE_COUNT).add(employees.get(i));
+            }
+        }
+
+        for (int i = 0; i < DEPARTMENT_COUNT; i++) {
+            sudoHr.addDepartment(new Department(new DepartmentName("Department " + i), departmentMembers.get(i)));
+        }
+        LocalDate firstDate = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < LEAVE_DATE_COUNT; i++) {
+            sudoHr.addLeave(new Leave(new LeaveDate(firstDate.plusDays(i)), leaveMembers.get(i)));
+        }
+        return sudoHr;
+    }
+
+    /**
+     * Runs {@code task} {@code repetitions} times after one warm-up run and returns the fastest run in milliseconds.
+     */
+    public static double bestOfMillis(int repetitions, Runnable task) {
+        task.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < repetitions; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * Prints a row of the scaling table with the cost per element so that linear growth is easy to spot.
+     */
+    public static void printScalingRow(String label, int size, double millis) {
+        System.out.printf(Locale.ROOT, "%-28s n=%,10d %10.2f ms %8.1f ns/element%n",
+                label, size, millis, millis * 1_000_000.0 / size);
+    }
+
+    /**
+     * Returns the growth of the used heap, in bytes, from creating the object returned by {@code factory}.
+     * Objects that the created object shares with objects created before, such as the employees, are not counted.
+     */
+    public static long measureHeap(Supplier<Object> factory) {
+        long before = usedHeap();
+        retained = factory.get();
+        long after = usedHeap();
+        retained = null;
+        usedHeap(); // lets the next measurement start from a heap without the created object
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Prints a row with the heap taken per entry.
+     */
+    public static void printHeapRow(String label, int size, long bytes) {
+        System.out.printf(Locale.ROOT, "%-28s n=%,10d %10.2f MB %8.1f bytes/entry%n",
+                label, size, bytes / (1024.0 * 1024.0), (double) bytes / size);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.storage.BinarySudoHrStorage;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+import seedu.sudohr.storage.SudoHrStorage;
+
+/**
+ * Compares the size, save time and load time of the binary snapshot format against the json format.
+ * Run with {@code gradlew benchmark -Pbench=BinaryStorageBenchmark}.
+ */
+public class BinaryStorageBenchmark {
+
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Runs the benchmark and prints the file sizes, save times and load times for each dataset size.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("sudohr-binary-benchmark");
+        Path jsonFile = folder.resolve("sudohr.json");
+        Path binaryFile = folder.resolve("sudohr.bin");
+        SudoHrStorage jsonStorage = new JsonSudoHrStorage(jsonFile);
+        SudoHrStorage binaryStorage = new BinarySudoHrStorage(binaryFile);
+        try {
+            for (int size : DATASET_SIZES) {
+                SudoHr sudoHr = generateSudoHr(size);
+
+                printScalingRow("save (json)", size, bestOfMillis(REPETITIONS, () -> save(jsonStorage, sudoHr)));
+                printScalingRow("save (binary)", size, bestOfMillis(REPETITIONS, () -> save(binaryStorage, sudoHr)));
+                printSizeRow("file size (json)", size, Files.size(jsonFile));
+                printSizeRow("file size (binary)", size, Files.size(binaryFile));
+                printScalingRow("load (json)", size, bestOfMillis(REPETITIONS, () -> load(jsonStorage)));
+                printScalingRow("load (binary)", size, bestOfMillis(REPETITIONS, () -> load(binaryStorage)));
+            }
+        } finally {
+            Files.deleteIfExists(jsonFile);
+            Files.deleteIfExists(binaryFile);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static void save(SudoHrStorage storage, SudoHr sudoHr) {
+        try {
+            storage.saveSudoHr(sudoHr);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static void load(SudoHrStorage storage) {
+        try {
+            storage.readSudoHr();
+        } catch (DataConversionException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static void printSizeRow(String label, int size, long bytes) {
+        System.out.printf(Locale.ROOT, "%-28s n=%,10d %10.2f MB %8.1f bytes/employee%n",
+                label, size, bytes / (1024.0 * 1024.0), (double) bytes / size);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.List;
+
+import seedu.sudohr.logic.commands.employee.FindCommand;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.NameContainsKeywordsPredicate;
+
+/**
+ * Measures finding employees by name on growing datasets. The matches are found once by testing the name of every
+ * employee, as {@code find} did before names were indexed, and once by looking the keywords up in the name index.
+ * The whole {@code find} command is measured as well, which still has to filter the displayed list.
+ * Run with {@code gradlew benchmark -Pbench=FindBenchmark}.
+ */
+public class FindBenchmark {
+
+    private static final int REPETITIONS = 10;
+    private static final List<String> KEYWORDS = List.of("42", "7777", "nobody");
+
+    /** Keeps the results reachable so that the work is not optimised away. */
+    private static long matches;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        for (int size : DATASET_SIZES) {
+            SudoHr sudoHr = new SudoHr();
+            generateEmployees(size).forEach(sudoHr::addEmployee);
+            ModelManager model = new ModelManager(sudoHr, new UserPrefs());
+
+            printScalingRow("find (name scans)", size,
+                    bestOfMillis(REPETITIONS, () -> matches = countByScanning(sudoHr, predicate)));
+            printScalingRow("find (name index)", size,
+                    bestOfMillis(REPETITIONS, () -> matches = sudoHr.findEmployeesByName(KEYWORDS).cardinality()));
+            printScalingRow("find command", size,
+                    bestOfMillis(REPETITIONS, () -> new FindCommand(predicate).execute(model)));
+        }
+    }
+
+    private static long countByScanning(SudoHr sudoHr, NameContainsKeywordsPredicate predicate) {
+        long count = 0;
+        for (Employee employee : sudoHr.getEmployeeList()) {
+            if (predicate.test(employee)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.Leave;
+
+/**
+ * Measures the headcount of a department on a day with leave, as listed by {@code ldhc}, on growing datasets.
+ * The headcount is found once by testing every employee for membership of the department and the leave, as it
+ * was before membership was kept as bitmaps, and once as the difference of the two bitmaps.
+ * Run with {@code gradlew benchmark -Pbench=HeadcountBenchmark}.
+ */
+public class HeadcountBenchmark {
+
+    private static final int REPETITIONS = 20;
+
+    /** Keeps the results reachable so that the work is not optimised away. */
+    private static long headcount;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            SudoHr sudoHr = generateSudoHr(size);
+            Department department = sudoHr.getDepartmentList().get(0);
+            Leave leave = sudoHr.getLeavesList().get(0);
+
+            printScalingRow("headcount (membership scans)", size,
+                    bestOfMillis(REPETITIONS, () -> headcount = countByScanning(sudoHr, department, leave)));
+            printScalingRow("headcount (bitmaps)", size, bestOfMillis(REPETITIONS, () -> headcount =
+                    sudoHr.getEmployeesPresent(department, leave.getDate()).cardinality()));
+        }
+    }
+
+    private static long countByScanning(SudoHr sudoHr, Department department, Leave leave) {
+        long count = 0;
+        for (Employee employee : sudoHr.getEmployeeList()) {
+            if (department.hasEmployee(employee) && !leave.hasEmployee(employee)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.measureHeap;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printHeapRow;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.employee.Address;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.tag.Tag;
+import seedu.sudohr.model.tag.TagSet;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+
+/**
+ * Measures the heap saved by sharing tags, tag sets and addresses between employees.
+ * The tags and address of every employee are built once as separate copies in a {@code HashSet}, as they were
+ * before interning, and once through the interning factories, which is how they are built when loading a data
+ * file. The heap of a whole data file loaded from disk is also reported.
+ * Run with {@code gradlew benchmark -Pbench=InterningBenchmark}.
+ */
+public class InterningBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    /**
+     * Runs the benchmark and prints the heap taken per employee.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Employee> employees = generateEmployees(SIZE);
+        List<String[]> tagNames = new ArrayList<>();
+        List<String> addresses = new ArrayList<>();
+        for (Employee employee : employees) {
+            tagNames.add(employee.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new));
+            addresses.add(employee.getAddress().value);
+        }
+        employees = null;
+
+        printHeapRow("tags (HashSet of copies)", SIZE, measureHeap(() -> copyTags(tagNames)));
+        printHeapRow("tags (interned TagSet)", SIZE, measureHeap(() -> internTags(tagNames)));
+        printHeapRow("addresses (copies)", SIZE, measureHeap(() -> copyAddresses(addresses)));
+        printHeapRow("addresses (interned)", SIZE, measureHeap(() -> internAddresses(addresses)));
+
+        Path folder = Files.createTempDirectory("sudohr-interning-benchmark");
+        Path filePath = folder.resolve("sudohr.json");
+        try {
+            new JsonSudoHrStorage(filePath).saveSudoHr(generateSudoHr(SIZE));
+            printHeapRow("SudoHr loaded from json", SIZE, measureHeap(() -> load(filePath)));
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static List<Set<Tag>> copyTags(List<String[]> tagNames) {
+        List<Set<Tag>> tagSets = new ArrayList<>(tagNames.size());
+        for (String[] names : tagNames) {
+            Set<Tag> tags = new HashSet<>();
+            for (String name : names) {
+                tags.add(new Tag(new String(name)));
+            }
+            tagSets.add(tags);
+        }
+        return tagSets;
+    }
+
+    private static List<Set<Tag>> internTags(List<String[]> tagNames) {
+        List<Set<Tag>> tagSets = new ArrayList<>(tagNames.size());
+        for (String[] names : tagNames) {
+            Set<Tag> tags = new HashSet<>();
+            for (String name : names) {
+                tags.add(Tag.of(new String(name)));
+            }
+            tagSets.add(TagSet.of(tags));
+        }
+        return tagSets;
+    }
+
+    private static List<Address> copyAddresses(List<String> addresses) {
+        List<Address> copies = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            copies.add(new Address(new String(address)));
+        }
+        return copies;
+    }
+
+    private static List<Address> internAddresses(List<String> addresses) {
+        List<Address> interned = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            interned.add(Address.of(new String(address)));
+        }
+        return interned;
+    }
+
+    private static ReadOnlySudoHr load(Path filePath) {
+        try {
+            return new JsonSudoHrStorage(filePath).readSudoHr().get();
+        } catch (DataConversionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
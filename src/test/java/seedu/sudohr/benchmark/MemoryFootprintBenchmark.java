@@ -0,0 +1,95 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.measureHeap;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printHeapRow;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.employee.IdMap;
+import seedu.sudohr.model.employee.IdSet;
+
+/**
+ * Measures the heap taken by a whole SudoHR, and compares the primitive-keyed {@code IdMap} and {@code IdSet}
+ * with the {@code HashMap} and {@code LinkedHashSet} they replace, in heap per entry and in lookup time.
+ * Heap use is measured as the growth of the used heap after garbage collection, so the numbers are estimates.
+ * Run with {@code gradlew benchmark -Pbench=MemoryFootprintBenchmark}, with a heap of a few gigabytes.
+ */
+public class MemoryFootprintBenchmark {
+
+    private static final int REPETITIONS = 5;
+
+    /** Keeps the results of lookups alive so that they are not optimised away. */
+    private static int foundCount;
+
+    /**
+     * Runs the benchmark and prints the heap use and lookup times for each dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            printHeapRow("SudoHr", size, measureHeap(() -> generateSudoHr(size)));
+
+            List<Employee> employees = generateEmployees(size);
+            List<Id> ids = new ArrayList<>(size);
+            employees.forEach(employee -> ids.add(employee.getId()));
+            printHeapRow("HashMap<Id, Employee>", size, measureHeap(() -> toHashMap(employees)));
+            printHeapRow("IdMap<Employee>", size, measureHeap(() -> toIdMap(employees)));
+            printHeapRow("LinkedHashSet<Id>", size, measureHeap(() -> new LinkedHashSet<>(ids)));
+            printHeapRow("IdSet", size, measureHeap(() -> toIdSet(ids)));
+            compareLookups(employees, ids);
+        }
+        System.out.println("(" + foundCount + " found)");
+    }
+
+    /**
+     * Times looking up every employee, in random order as when handling commands.
+     */
+    private static void compareLookups(List<Employee> employees, List<Id> employeeIds) {
+        Map<Id, Employee> hashMap = toHashMap(employees);
+        IdMap<Employee> idMap = toIdMap(employees);
+        List<Id> ids = new ArrayList<>();
+        employeeIds.forEach(id -> ids.add(new Id(id.value)));
+        Collections.shuffle(ids, new Random(0));
+        printScalingRow("HashMap lookup", ids.size(), bestOfMillis(REPETITIONS, () -> ids.forEach(id -> {
+            if (hashMap.get(id) != null) {
+                foundCount++;
+            }
+        })));
+        printScalingRow("IdMap lookup", ids.size(), bestOfMillis(REPETITIONS, () -> ids.forEach(id -> {
+            if (idMap.get(id) != null) {
+                foundCount++;
+            }
+        })));
+    }
+
+    private static Map<Id, Employee> toHashMap(List<Employee> employees) {
+        Map<Id, Employee> map = new HashMap<>();
+        employees.forEach(employee -> map.put(employee.getId(), employee));
+        return map;
+    }
+
+    private static IdMap<Employee> toIdMap(List<Employee> employees) {
+        IdMap<Employee> map = new IdMap<>();
+        employees.forEach(employee -> map.put(employee.getId(), employee));
+        return map;
+    }
+
+    private static Set<Id> toIdSet(List<Id> ids) {
+        IdSet set = new IdSet();
+        set.addAll(ids);
+        return set;
+    }
+}
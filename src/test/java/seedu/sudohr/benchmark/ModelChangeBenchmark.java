@@ -0,0 +1,49 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.List;
+
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.employee.Employee;
+
+/**
+ * Measures adding and then deleting a batch of employees on growing datasets through a {@code ModelManager}, whose
+ * filtered employee list follows every change, once showing every employee and once showing a few of them.
+ * The model lists do not depend on JavaFX, so this runs without the toolkit, as the batch mode does.
+ * Run with {@code gradlew benchmark -Pbench=ModelChangeBenchmark}.
+ */
+public class ModelChangeBenchmark {
+
+    private static final int REPETITIONS = 5;
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            List<Employee> employees = generateEmployees(size + BATCH_SIZE);
+            SudoHr sudoHr = new SudoHr();
+            employees.subList(0, size).forEach(sudoHr::addEmployee);
+            List<Employee> batch = employees.subList(size, size + BATCH_SIZE);
+            ModelManager model = new ModelManager(sudoHr, new UserPrefs());
+
+            printScalingRow("add/delete (all shown)", size,
+                    bestOfMillis(REPETITIONS, () -> addAndDelete(model, batch)));
+            model.updateFilteredEmployeeList(employee -> employee.getName().fullName.endsWith("7"));
+            printScalingRow("add/delete (some shown)", size,
+                    bestOfMillis(REPETITIONS, () -> addAndDelete(model, batch)));
+        }
+    }
+
+    private static void addAndDelete(ModelManager model, List<Employee> batch) {
+        batch.forEach(model::addEmployee);
+        batch.forEach(model::deleteEmployee);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+
+/**
+ * Measures how the time to load a data file scales with the number of threads that convert its records.
+ * Parallel streams started from inside a fork-join pool run on that pool, so each load is run inside a pool
+ * of the given size.
+ * Run with {@code gradlew benchmark -Pbench=ParallelLoadBenchmark}.
+ */
+public class ParallelLoadBenchmark {
+
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Runs the benchmark and prints the load times for each dataset size and number of threads.
+     */
+    public static void main(String[] args) throws IOException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        Path folder = Files.createTempDirectory("sudohr-parallel-load-benchmark");
+        Path filePath = folder.resolve("sudohr.json");
+        try {
+            for (int size : DATASET_SIZES) {
+                new JsonSudoHrStorage(filePath).saveSudoHr(generateSudoHr(size));
+                for (int threads = 1; threads <= cores; threads *= 2) {
+                    ForkJoinPool pool = new ForkJoinPool(threads);
+                    printScalingRow("load (" + threads + " threads)", size,
+                            bestOfMillis(REPETITIONS, () -> pool.submit(() -> load(filePath)).join()));
+                    pool.shutdown();
+                }
+            }
+        } finally {
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static void load(Path filePath) {
+        try {
+            new JsonSudoHrStorage(filePath).readSudoHr();
+        } catch (DataConversionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
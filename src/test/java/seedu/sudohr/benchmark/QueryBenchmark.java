@@ -0,0 +1,70 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.sudohr.logic.commands.employee.QueryCommand;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryField;
+import seedu.sudohr.model.query.QueryPlanner;
+
+/**
+ * Measures a query combining a tag, a department, a day of leave and part of an email on growing datasets. The
+ * employees are found once by testing every employee against all the conditions, and once through the plan chosen by
+ * {@link QueryPlanner}, which intersects the indexed conditions and only tests the email of the employees left.
+ * The whole {@code query} command is measured as well, which still has to filter the displayed list.
+ * Run with {@code gradlew benchmark -Pbench=QueryBenchmark}.
+ */
+public class QueryBenchmark {
+
+    private static final int REPETITIONS = 5;
+    private static final EmployeeQuery QUERY = EmployeeQuery.and(List.of(
+            EmployeeQuery.condition(QueryField.TAG, "Manager"),
+            EmployeeQuery.condition(QueryField.DEPT, "Department 3"),
+            EmployeeQuery.not(EmployeeQuery.condition(QueryField.ONLEAVE, "2023-01-01")),
+            EmployeeQuery.condition(QueryField.EMAIL, "3@sudohr")));
+
+    /** Keeps the results reachable so that the work is not optimised away. */
+    private static long matches;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            SudoHr sudoHr = generateSudoHr(size);
+            ModelManager model = new ModelManager(sudoHr, new UserPrefs());
+            Predicate<Employee> predicate = predicateOf(sudoHr);
+
+            printScalingRow("query (predicate scan)", size, bestOfMillis(REPETITIONS, () ->
+                    matches = sudoHr.getEmployeeList().stream().filter(predicate).count()));
+            printScalingRow("query (planner)", size, bestOfMillis(REPETITIONS, () ->
+                    matches = new QueryPlanner(sudoHr).plan(QUERY).execute().cardinality()));
+            printScalingRow("query command", size,
+                    bestOfMillis(REPETITIONS, () -> new QueryCommand(QUERY, false).execute(model)));
+        }
+    }
+
+    private static Predicate<Employee> predicateOf(SudoHr sudoHr) {
+        Department department = sudoHr.getDepartment(new DepartmentName("Department 3"));
+        LeaveDate date = new LeaveDate(LocalDate.of(2023, 1, 1));
+        return employee -> employee.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase("Manager"))
+                && department.hasEmployee(employee.getId())
+                && !sudoHr.hasEmployeeOnLeave(date, employee)
+                && employee.getEmail().value.toLowerCase(Locale.ROOT).contains("3@sudohr");
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.List;
+
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.list.ArrayModelList;
+import seedu.sudohr.model.list.ModelList;
+
+/**
+ * Measures {@code SudoHr#resetData} on growing datasets. The time per employee should stay roughly flat
+ * as the dataset grows, showing that bulk replacement and its duplicate validation are linear.
+ * Run with {@code gradlew benchmark -Pbench=ResetDataBenchmark}.
+ */
+public class ResetDataBenchmark {
+
+    private static final int REPETITIONS = 5;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            List<Employee> employees = generateEmployees(size);
+            ReadOnlySudoHr unvalidatedData = new PlainSudoHr(employees);
+            SudoHr validatedData = new SudoHr(unvalidatedData);
+
+            printScalingRow("resetData (validating)", size,
+                    bestOfMillis(REPETITIONS, () -> new SudoHr().resetData(unvalidatedData)));
+            printScalingRow("resetData (copy of SudoHr)", size,
+                    bestOfMillis(REPETITIONS, () -> new SudoHr().resetData(validatedData)));
+        }
+    }
+
+    /**
+     * A {@code ReadOnlySudoHr} that has not been validated, as would be handed over by storage.
+     */
+    private static class PlainSudoHr implements ReadOnlySudoHr {
+        private final ArrayModelList<Employee> employees = new ArrayModelList<>();
+
+        PlainSudoHr(List<Employee> employees) {
+            this.employees.addAll(employees);
+        }
+
+        @Override
+        public ModelList<Employee> getEmployeeList() {
+            return employees;
+        }
+
+        @Override
+        public ModelList<Department> getDepartmentList() {
+            return new ArrayModelList<>();
+        }
+
+        @Override
+        public ModelList<Leave> getLeavesList() {
+            return new ArrayModelList<>();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateEmployees;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.List;
+import java.util.Locale;
+
+import seedu.sudohr.logic.commands.employee.SearchCommand;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.tag.Tag;
+
+/**
+ * Measures searching employees by prefix and with a typo on growing datasets. The matches are found once by testing
+ * every word of the name, email and tags of every employee, and once by walking the tries of the search index kept
+ * by SudoHR. The whole {@code search} command is measured as well, which still has to filter the displayed list.
+ * Run with {@code gradlew benchmark -Pbench=SearchBenchmark}.
+ */
+public class SearchBenchmark {
+
+    private static final int REPETITIONS = 5;
+    private static final List<String> TERMS = List.of("emplyee4242", "manag");
+
+    /** Keeps the results reachable so that the work is not optimised away. */
+    private static long matches;
+
+    /**
+     * Runs the benchmark and prints one row per dataset size.
+     */
+    public static void main(String[] args) {
+        for (int size : DATASET_SIZES) {
+            SudoHr sudoHr = new SudoHr();
+            generateEmployees(size).forEach(sudoHr::addEmployee);
+            ModelManager model = new ModelManager(sudoHr, new UserPrefs());
+
+            printScalingRow("search (word scans)", size,
+                    bestOfMillis(REPETITIONS, () -> matches = countByScanning(sudoHr)));
+            printScalingRow("search (tries)", size, bestOfMillis(REPETITIONS, () ->
+                    matches = sudoHr.searchEmployees(TERMS, SearchCommand.MAX_RESULTS).size()));
+            printScalingRow("search command", size,
+                    bestOfMillis(REPETITIONS, () -> new SearchCommand(TERMS).execute(model)));
+        }
+    }
+
+    private static long countByScanning(SudoHr sudoHr) {
+        long count = 0;
+        for (Employee employee : sudoHr.getEmployeeList()) {
+            StringBuilder values = new StringBuilder(employee.getName().fullName)
+                    .append(' ').append(employee.getEmail().value);
+            for (Tag tag : employee.getTags()) {
+                values.append(' ').append(tag.tagName);
+            }
+            if (matchesAnyWord(values.toString().toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+"))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matchesAnyWord(String[] words) {
+        for (String term : TERMS) {
+            int maxEdits = term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : 2;
+            for (String word : words) {
+                if (word.startsWith(term) || editDistance(word, term) <= maxEdits) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int editDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.DATASET_SIZES;
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.generateSudoHr;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+
+/**
+ * Compares the size and load time of data files in the current format, where departments and leaves refer to
+ * employees by id, against the legacy format, where they embed a full copy of every member.
+ * Run with {@code gradlew benchmark -Pbench=StorageSchemaBenchmark}.
+ */
+public class StorageSchemaBenchmark {
+
+    private static final int REPETITIONS = 3;
+
+    /**
+     * Runs the benchmark and prints the file sizes and load times for each dataset size.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("sudohr-schema-benchmark");
+        Path currentFile = folder.resolve("current.json");
+        Path legacyFile = folder.resolve("legacy.json");
+        try {
+            for (int size : DATASET_SIZES) {
+                new JsonSudoHrStorage(currentFile).saveSudoHr(generateSudoHr(size));
+                writeLegacyFile(currentFile, legacyFile);
+
+                printSizeRow("file size (ids)", size, Files.size(currentFile));
+                printSizeRow("file size (embedded)", size, Files.size(legacyFile));
+                printScalingRow("load (ids)", size, bestOfMillis(REPETITIONS, () -> load(currentFile)));
+                printScalingRow("load (embedded)", size, bestOfMillis(REPETITIONS, () -> load(legacyFile)));
+            }
+        } finally {
+            Files.deleteIfExists(currentFile);
+            Files.deleteIfExists(legacyFile);
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static void load(Path filePath) {
+        try {
+            new JsonSudoHrStorage(filePath).readSudoHr();
+        } catch (DataConversionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Rewrites the data file at {@code source} in the legacy format, replacing member ids with copies of the
+     * employees.
+     */
+    private static void writeLegacyFile(Path source, Path target) {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            ObjectNode root = (ObjectNode) mapper.readTree(source.toFile());
+            root.remove("version");
+            Map<String, JsonNode> employeesById = new HashMap<>();
+            for (JsonNode employee : root.get("employees")) {
+                employeesById.put(employee.get("id").asText(), employee);
+            }
+            embedMembers((ArrayNode) root.get("departments"), employeesById);
+            embedMembers((ArrayNode) root.get("leaves"), employeesById);
+            mapper.writerWithDefaultPrettyPrinter().writeValue(target.toFile(), root);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static void embedMembers(ArrayNode groups, Map<String, JsonNode> employeesById) {
+        for (JsonNode group : groups) {
+            JsonNode ids = ((ObjectNode) group).remove("employeeIds");
+            ArrayNode members = ((ObjectNode) group).putArray("employees");
+            if (ids != null) {
+                ids.forEach(id -> members.add(employeesById.get(id.asText())));
+            }
+        }
+    }
+
+    private static void printSizeRow(String label, int size, long bytes) {
+        System.out.printf(Locale.ROOT, "%-28s n=%,10d %10.2f MB %8.1f bytes/employee%n",
+                label, size, bytes / (1024.0 * 1024.0), (double) bytes / size);
+    }
+}
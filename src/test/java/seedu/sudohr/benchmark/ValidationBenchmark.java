@@ -0,0 +1,57 @@
+package seedu.sudohr.benchmark;
+
+import static seedu.sudohr.benchmark.BenchmarkUtil.bestOfMillis;
+import static seedu.sudohr.benchmark.BenchmarkUtil.printScalingRow;
+
+import java.util.function.Predicate;
+
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Address;
+import seedu.sudohr.model.employee.Email;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.employee.Name;
+import seedu.sudohr.model.employee.Phone;
+import seedu.sudohr.model.tag.Tag;
+
+/**
+ * Compares the validation of each field type against matching the field's regex with {@code String#matches},
+ * which compiles the regex on every call.
+ * Run with {@code gradlew benchmark -Pbench=ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int REPETITIONS = 5;
+    private static final int CALLS = 1_000_000;
+
+    /** Keeps the results alive so that the calls are not optimised away. */
+    private static int validCount;
+
+    /**
+     * Runs the benchmark and prints the time per call of each validator.
+     */
+    public static void main(String[] args) {
+        compare("id", "000123", Id.VALIDATION_REGEX, Id::isValidId);
+        compare("name", "Alex Yeoh Jun Hao", Name.VALIDATION_REGEX, Name::isValidName);
+        compare("phone", "8765 4321", Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        compare("email", "alex.yeoh@example.com", Email.VALIDATION_REGEX, Email::isValidEmail);
+        compare("address", "Blk 30 Geylang Street 29, #06-40", Address.VALIDATION_REGEX, Address::isValidAddress);
+        compare("tag", "FullTime", Tag.VALIDATION_REGEX, Tag::isValidTagName);
+        compare("department name", "Software Engineering", DepartmentName.VALIDATION_REGEX,
+                DepartmentName::isValidName);
+        System.out.println("(" + validCount + " valid)");
+    }
+
+    private static void compare(String field, String value, String regex, Predicate<String> validator) {
+        printScalingRow(field + " (String.matches)", CALLS,
+                bestOfMillis(REPETITIONS, () -> repeat(value, test -> test.matches(regex))));
+        printScalingRow(field + " (validator)", CALLS, bestOfMillis(REPETITIONS, () -> repeat(value, validator)));
+    }
+
+    private static void repeat(String value, Predicate<String> validator) {
+        for (int i = 0; i < CALLS; i++) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+    }
+}
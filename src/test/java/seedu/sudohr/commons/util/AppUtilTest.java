@@ -1,22 +1,11 @@
 package seedu.sudohr.commons.util;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 public class AppUtilTest {
 
-    @Test
-    public void getImage_exitingImage() {
-        assertNotNull(AppUtil.getImage("/images/address_book_32.png"));
-    }
-
-    @Test
-    public void getImage_nullGiven_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> AppUtil.getImage(null));
-    }
-
     @Test
     public void checkArgument_true_nothingHappens() {
         AppUtil.checkArgument(true);
@@ -1,7 +1,9 @@
 package seedu.sudohr.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.commons.util.CollectionUtil.findDuplicates;
 import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
@@ -82,6 +84,25 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicates_variousLists_reportsEveryDuplicate() {
+        // null list or key extractor
+        assertThrows(NullPointerException.class, () -> findDuplicates(null, String::length));
+        assertThrows(NullPointerException.class, () -> findDuplicates(Collections.emptyList(), null));
+
+        // no duplicates
+        assertTrue(findDuplicates(Collections.emptyList(), String::length).isEmpty());
+        assertTrue(findDuplicates(Arrays.asList("a", "b", "c"), s -> s).isEmpty());
+
+        // every duplicate is reported against the first element with the same key
+        assertEquals(Arrays.asList("index 2 duplicates index 0 (a)", "index 3 duplicates index 0 (a)",
+                "index 4 duplicates index 1 (b)"), findDuplicates(Arrays.asList("a", "b", "a", "a", "b"), s -> s));
+
+        // duplicates are found by key
+        assertEquals(Collections.singletonList("index 1 duplicates index 0 (1)"),
+                findDuplicates(Arrays.asList("a", "b"), String::length));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,102 @@
+package seedu.sudohr.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Strings made of characters that each check treats differently, to compare the checks against regexes. */
+    private static final List<String> SAMPLES = getSamples("0", "1", "a", "Z", " ", "\t", "\n", "\u2028", "_", "-");
+
+    @Test
+    public void isNonZeroDigits() {
+        assertFalse(ValidationUtil.isNonZeroDigits(""));
+        assertFalse(ValidationUtil.isNonZeroDigits("000"));
+        assertFalse(ValidationUtil.isNonZeroDigits("1 2"));
+        assertTrue(ValidationUtil.isNonZeroDigits("0010"));
+        assertSameAsRegex("[0-9]*[1-9][0-9]*", ValidationUtil::isNonZeroDigits);
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNonZeroDigits(null));
+    }
+
+    @Test
+    public void stripLeadingZeroes() {
+        assertEquals("", ValidationUtil.stripLeadingZeroes(""));
+        assertEquals("0", ValidationUtil.stripLeadingZeroes("000"));
+        assertEquals("100", ValidationUtil.stripLeadingZeroes("00100"));
+        for (String sample : SAMPLES) {
+            if (sample.contains("\n") || sample.contains("\u2028")) {
+                continue; // the regex's $ also matches before a line terminator at the end
+            }
+            assertEquals(sample.replaceAll("^0+(?!$)", ""), ValidationUtil.stripLeadingZeroes(sample), sample);
+        }
+        assertThrows(NullPointerException.class, () -> ValidationUtil.stripLeadingZeroes(null));
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("a b"));
+        assertTrue(ValidationUtil.isAlphanumeric("FullTime2"));
+        assertSameAsRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" Alice"));
+        assertFalse(ValidationUtil.isAlphanumericWords("Alice\tPauline"));
+        assertTrue(ValidationUtil.isAlphanumericWords("Alice Pauline 2nd "));
+        assertSameAsRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWords);
+    }
+
+    @Test
+    public void isDigitGroups() {
+        assertFalse(ValidationUtil.isDigitGroups("", 4, 4));
+        assertFalse(ValidationUtil.isDigitGroups("1234567", 4, 4));
+        assertFalse(ValidationUtil.isDigitGroups("123 45678", 4, 4));
+        assertTrue(ValidationUtil.isDigitGroups(" 1234\t5678 ", 4, 4));
+        assertTrue(ValidationUtil.isDigitGroups("12345678", 4, 4));
+        assertSameAsRegex("\\s*\\d{1}\\s*\\d{2}\\s*", test -> ValidationUtil.isDigitGroups(test, 1, 2));
+    }
+
+    @Test
+    public void isNonBlankLine() {
+        assertFalse(ValidationUtil.isNonBlankLine(""));
+        assertFalse(ValidationUtil.isNonBlankLine(" Blk 123"));
+        assertFalse(ValidationUtil.isNonBlankLine("Blk 123\n#01-01"));
+        assertTrue(ValidationUtil.isNonBlankLine("Blk 123, #01-01 "));
+        assertSameAsRegex("[^\\s].*", ValidationUtil::isNonBlankLine);
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> check) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), check.test(sample), "\"" + sample + "\"");
+        }
+    }
+
+    /**
+     * Returns every string of up to four of the given characters.
+     */
+    private static List<String> getSamples(String... characters) {
+        List<String> samples = new ArrayList<>();
+        samples.add("");
+        for (int start = 0, length = 1; length <= 4; length++) {
+            int end = samples.size();
+            for (int i = start; i < end; i++) {
+                for (String c : characters) {
+                    samples.add(samples.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        return samples;
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.sudohr.logic.commands.CommandResult;
+import seedu.sudohr.logic.commands.ExitCommand;
 import seedu.sudohr.logic.commands.employee.AddCommand;
 import seedu.sudohr.logic.commands.employee.DeleteCommand;
 import seedu.sudohr.logic.commands.employee.ListCommand;
@@ -86,7 +87,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         // Setup LogicManager with JsonSudoHrIoExceptionThrowingStub
         JsonSudoHrStorage addressBookStorage =
                 new JsonSudoHrIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
@@ -95,14 +96,83 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
 
-        // Execute add command
+        // Execute add command, which is saved in the background
         String addCommand = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
         Employee expectedEmployee = new EmployeeBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addEmployee(expectedEmployee);
+        String expectedAddMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedEmployee.toStringAllFields());
+        assertCommandSuccess(addCommand, expectedAddMessage, expectedModel);
+
+        // exiting waits for the save and reports its failure
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandFailure(ExitCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureReportedInNextResult() throws Exception {
+        JsonSudoHrStorage addressBookStorage =
+                new JsonSudoHrIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushSudoHr();
+
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION,
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_readOnlyCommands_savesOnlyWhenModified() throws Exception {
+        SaveCountingSudoHrStorage addressBookStorage =
+                new SaveCountingSudoHrStorage(temporaryFolder.resolve("saveCountingAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("saveCountingUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // data is always saved after the first command
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushSudoHr();
+        assertEquals(1, addressBookStorage.saveCount);
+
+        // unchanged data is not saved again
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushSudoHr();
+        assertEquals(1, addressBookStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        storage.flushSudoHr();
+        assertEquals(2, addressBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushSudoHr();
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_saveDeferred_savesOnlyWhenAsked() throws Exception {
+        SaveCountingSudoHrStorage addressBookStorage =
+                new SaveCountingSudoHrStorage(temporaryFolder.resolve("saveCountingAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("saveCountingUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        LogicManager deferringLogic = new LogicManager(model, storage, true);
+
+        deferringLogic.execute(AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        deferringLogic.execute(ExitCommand.COMMAND_WORD);
+        storage.flushSudoHr();
+        assertEquals(0, addressBookStorage.saveCount);
+
+        deferringLogic.saveSudoHr();
+        assertEquals(1, addressBookStorage.saveCount);
     }
 
     @Test
@@ -176,4 +246,20 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class SaveCountingSudoHrStorage extends JsonSudoHrStorage {
+        private int saveCount = 0;
+
+        private SaveCountingSudoHrStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSudoHr(ReadOnlySudoHr sudoHr, Path filePath) throws IOException {
+            saveCount++;
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package seedu.sudohr.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.EID_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.sudohr.logic.parser.CliSyntax.PREFIX_DEPARTMENT_NAME;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sudohr.logic.commands.ExitCommand;
+import seedu.sudohr.logic.commands.department.AddDepartmentCommand;
+import seedu.sudohr.logic.commands.department.AddEmployeeToDepartmentCommand;
+import seedu.sudohr.logic.commands.employee.AddCommand;
+import seedu.sudohr.logic.commands.employee.ListCommand;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+import seedu.sudohr.storage.JsonUserPrefsStorage;
+import seedu.sudohr.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_ENGINEERING = AddDepartmentCommand.COMMAND_WORD + " "
+            + PREFIX_DEPARTMENT_NAME + "Engineering";
+    private static final String AMY_TO_ENGINEERING = AddEmployeeToDepartmentCommand.COMMAND_WORD + EID_DESC_AMY
+            + " " + PREFIX_DEPARTMENT_NAME + "Engineering";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path dataFile;
+    private StorageManager storage;
+    private Model model = new ModelManager();
+    private ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        dataFile = temporaryFolder.resolve("sudohr.json");
+        storage = new StorageManager(new JsonSudoHrStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScriptRunner(null, storage));
+        assertThrows(NullPointerException.class, () -> new ScriptRunner(model, null));
+    }
+
+    @Test
+    public void run_validScript_allCommandsExecutedAndSavedOnce() throws Exception {
+        assertTrue(run("# nightly import", ADD_AMY, "", ADD_ENGINEERING, "  " + AMY_TO_ENGINEERING + "  "));
+
+        List<String> lines = outputLines();
+        assertEquals(List.of(2, 4, 5), lineNumbersReported(lines));
+        assertTrue(lines.get(0).startsWith("2: " + String.format(AddCommand.MESSAGE_SUCCESS, "")));
+        assertTrue(lines.get(lines.size() - 2).startsWith("3 commands executed, 0 failed, in "));
+        assertEquals(String.format(ScriptRunner.MESSAGE_SAVED, dataFile), lines.get(lines.size() - 1));
+
+        ReadOnlySudoHr saved = storage.readSudoHr().get();
+        assertEquals(1, saved.getEmployeeList().size());
+        assertEquals(1, model.getDepartment(new DepartmentName("Engineering")).getEmployees().size());
+        assertEquals(saved, model.getSudoHr());
+    }
+
+    @Test
+    public void run_failingCommand_otherCommandsReportedAndChangesUndone() throws Exception {
+        assertFalse(run(ADD_AMY, "uicfhmowqewca", ADD_AMY, ADD_ENGINEERING));
+
+        List<String> lines = outputLines();
+        assertEquals(List.of(1, 2, 3, 4), lineNumbersReported(lines));
+        assertTrue(lines.contains("2: ERROR " + MESSAGE_UNKNOWN_COMMAND));
+        assertTrue(lines.contains("3: ERROR " + AddCommand.MESSAGE_DUPLICATE_EMPLOYEE));
+        assertTrue(lines.get(lines.size() - 2).startsWith("4 commands executed, 2 failed, in "));
+        assertEquals(String.format(ScriptRunner.MESSAGE_NOT_SAVED, 2), lines.get(lines.size() - 1));
+        assertFalse(Files.exists(dataFile));
+        assertEquals(new SudoHr(), new SudoHr(model.getSudoHr()));
+    }
+
+    @Test
+    public void run_exitCommand_remainingLinesIgnored() throws Exception {
+        assertTrue(run(ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, ADD_AMY));
+
+        List<String> lines = outputLines();
+        assertEquals(List.of(1, 2), lineNumbersReported(lines));
+        assertTrue(lines.contains("2: " + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT));
+        assertTrue(lines.get(lines.size() - 2).startsWith("2 commands executed, 0 failed, in "));
+        assertEquals(ScriptRunner.MESSAGE_UNCHANGED, lines.get(lines.size() - 1));
+        assertFalse(Files.exists(dataFile));
+    }
+
+    private boolean run(String... scriptLines) throws Exception {
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", scriptLines)));
+        return new ScriptRunner(model, storage).run(script, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the script line numbers that results are reported for, as results may span several lines.
+     */
+    private static List<Integer> lineNumbersReported(List<String> lines) {
+        return lines.stream()
+                .filter(line -> line.matches("\\d+: .*"))
+                .map(line -> Integer.parseInt(line.substring(0, line.indexOf(':'))))
+                .collect(Collectors.toList());
+    }
+
+    private List<String> outputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+    }
+}
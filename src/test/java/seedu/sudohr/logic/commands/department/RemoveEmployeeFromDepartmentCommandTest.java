@@ -5,26 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 //import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
-import java.nio.file.Path;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.commons.core.Messages;
 import seedu.sudohr.logic.commands.CommandResult;
 import seedu.sudohr.logic.commands.exceptions.CommandException;
 import seedu.sudohr.model.Model;
 import seedu.sudohr.model.ReadOnlySudoHr;
-import seedu.sudohr.model.ReadOnlyUserPrefs;
 import seedu.sudohr.model.SudoHr;
 import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.employee.Id;
-import seedu.sudohr.model.leave.Leave;
-import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.testutil.ModelStub;
 import seedu.sudohr.testutil.TypicalDepartmentNames;
 import seedu.sudohr.testutil.TypicalEmployees;
 
@@ -106,260 +101,11 @@ public class RemoveEmployeeFromDepartmentCommandTest {
         assertThrows(NullPointerException.class, () -> new RemoveEmployeeFromDepartmentCommand(null,
                 TypicalDepartmentNames.DEPARTMENT_NAME_FIRST));
     }
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getSudoHrFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHrFilePath(Path sudoHrFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHr(ReadOnlySudoHr sudoHr) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlySudoHr getSudoHr() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Employee getEmployee(Id employeeId) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean checkEmployeeExists(Id id) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingEmail(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingEmail(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-        @Override
-        public void deleteEmployee(Employee target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setEmployee(Employee target, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Employee> getFilteredEmployeeList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Department getDepartment(DepartmentName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addDepartment(Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setDepartment(Department target, Department editedDepartment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeDepartment(Department key) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployeeToDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeEmployeeFromDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(DepartmentName departmentName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Department> getFilteredDepartmentList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredDepartmentList(Predicate<Department> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteEmployeeToDepartments(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeEditEmployeeToDepartments(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getInternalLeaveIfExist(Leave leaveToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployeeOnLeave(LeaveDate date, Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployeeToLeave(Leave leaveToAdd, Employee employeeToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getFilteredLeaveList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getLeavesList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteEmployeeFromLeave(Leave leaveToDelete, Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredLeaveList(Predicate<Leave> predicateShowAllLeave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeUpdateUserInLeaves(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteUserInLeaves(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void refresh() {
-            throw new AssertionError("This method should not be called.");
-
-        }
-    }
 
     /**
      * A Model stub that always accept the employee being removed from the department.
      */
-    private class ModelStubAcceptingEmployeeRemoved extends RemoveEmployeeFromDepartmentCommandTest.ModelStub {
+    private class ModelStubAcceptingEmployeeRemoved extends ModelStub {
         private SudoHr sudoHr = new SudoHr();
 
         @Override
@@ -401,23 +147,14 @@ public class RemoveEmployeeFromDepartmentCommandTest {
 
         @Override
         public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
-
         }
 
         @Override
         public void updateFilteredDepartmentList(Predicate<Department> predicate) {
-
         }
 
-
         @Override
         public void removeEmployeeFromDepartment(Employee p, Department d) {
-
         }
-
-        @Override
-        public void refresh() {
-        }
-
     }
 }
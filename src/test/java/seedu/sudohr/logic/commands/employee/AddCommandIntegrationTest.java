@@ -47,7 +47,7 @@ public class AddCommandIntegrationTest {
     @Test
     public void execute_duplicateIdOnly_throwsCommandException() {
         Employee employeeInList = model.getSudoHr().getEmployeeList().get(0);
-        Employee duplicateIdEmployee = new EmployeeBuilder(BOB).withId(employeeInList.getId().value)
+        Employee duplicateIdEmployee = new EmployeeBuilder(BOB).withId(employeeInList.getId().toString())
                 .build();
         assertCommandFailure(new AddCommand(duplicateIdEmployee), model, AddCommand.MESSAGE_DUPLICATE_EMPLOYEE);
     }
@@ -12,28 +12,19 @@ import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.logic.commands.CommandResult;
 import seedu.sudohr.logic.commands.exceptions.CommandException;
 import seedu.sudohr.model.Model;
 import seedu.sudohr.model.ReadOnlySudoHr;
-import seedu.sudohr.model.ReadOnlyUserPrefs;
 import seedu.sudohr.model.SudoHr;
-import seedu.sudohr.model.department.Department;
-import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
-import seedu.sudohr.model.employee.Id;
-import seedu.sudohr.model.leave.Leave;
-import seedu.sudohr.model.leave.LeaveDate;
 import seedu.sudohr.testutil.EmployeeBuilder;
+import seedu.sudohr.testutil.ModelStub;
 
 public class AddCommandTest {
 
@@ -144,256 +135,6 @@ public class AddCommandTest {
         assertFalse(addDifferentBobCommand.equals(addAliceCommand));
     }
 
-    /**
-     * A default model stub that have all of its methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getSudoHrFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHrFilePath(Path sudoHrFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHr(ReadOnlySudoHr sudoHr) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlySudoHr getSudoHr() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean checkEmployeeExists(Id id) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingEmail(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingEmail(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Employee getEmployee(Id id) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteEmployee(Employee target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setEmployee(Employee target, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(DepartmentName departmentName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Employee> getFilteredEmployeeList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Department getDepartment(DepartmentName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addDepartment(Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setDepartment(Department target, Department editedDepartment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeDepartment(Department key) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployeeToDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeEmployeeFromDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Department> getFilteredDepartmentList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredDepartmentList(Predicate<Department> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteEmployeeToDepartments(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeEditEmployeeToDepartments(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getInternalLeaveIfExist(Leave leaveToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployeeOnLeave(LeaveDate date, Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployeeToLeave(Leave leaveToAdd, Employee employeeToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getFilteredLeaveList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getLeavesList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteEmployeeFromLeave(Leave leaveToDelete, Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredLeaveList(Predicate<Leave> predicateShowAllLeave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeUpdateUserInLeaves(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteUserInLeaves(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void refresh() {
-            throw new AssertionError("This method should not be called.");
-        }
-    }
-
     /**
      * A Model stub that contains a single employee.
      */
@@ -459,5 +200,4 @@ public class AddCommandTest {
             return new SudoHr();
         }
     }
-
 }
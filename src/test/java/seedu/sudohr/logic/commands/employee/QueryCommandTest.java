@@ -0,0 +1,84 @@
+package seedu.sudohr.logic.commands.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW;
+import static seedu.sudohr.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.DANIEL;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final EmployeeQuery FRIENDS = EmployeeQuery.condition(QueryField.TAG, "friends");
+    private static final EmployeeQuery NOT_OWES_MONEY =
+            EmployeeQuery.not(EmployeeQuery.condition(QueryField.TAG, "owesMoney"));
+
+    private Model model = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand firstCommand = new QueryCommand(FRIENDS, false);
+        QueryCommand secondCommand = new QueryCommand(NOT_OWES_MONEY, false);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(EmployeeQuery.condition(QueryField.TAG, "friends"), false)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // explain instead of listing -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(FRIENDS, true)));
+    }
+
+    @Test
+    public void execute_query_matchingEmployeesFound() {
+        String expectedMessage = String.format(MESSAGE_EMPLOYEES_LISTED_OVERVIEW, 2);
+        QueryCommand command = new QueryCommand(EmployeeQuery.and(List.of(FRIENDS, NOT_OWES_MONEY)), false);
+        expectedModel.updateFilteredEmployeeList(employee -> employee.equals(ALICE) || employee.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        EmployeeQuery query = EmployeeQuery.and(List.of(FRIENDS, EmployeeQuery.condition(QueryField.EMAIL, "johnd")));
+        String expectedMessage = String.format(QueryCommand.MESSAGE_EXPLAIN, query,
+                "FILTER at most 3 candidates for email:johnd\n"
+                + "  LOOKUP tag:friends in tag index: 3 employees\n");
+        assertCommandSuccess(new QueryCommand(query, true), model, expectedMessage, expectedModel);
+        assertEquals(7, model.getFilteredEmployeeList().size());
+    }
+
+    @Test
+    public void execute_queryThenExplain_listKeepsQueryResults() {
+        EmployeeQuery query = EmployeeQuery.condition(QueryField.EMAIL, "johnd");
+        new QueryCommand(query, false).execute(model);
+        new QueryCommand(FRIENDS, true).execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredEmployeeList());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.sudohr.logic.commands.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_EMPLOYEES_LISTED_OVERVIEW;
+import static seedu.sudohr.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.DANIEL;
+import static seedu.sudohr.testutil.TypicalEmployees.ELLE;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.testutil.EmployeeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different terms -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noEmployeeFound() {
+        String expectedMessage = String.format(MESSAGE_EMPLOYEES_LISTED_OVERVIEW, 0);
+        SearchCommand command = new SearchCommand(List.of("zzzzzz"));
+        expectedModel.updateFilteredEmployeeList(List.of());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void execute_typo_closeMatchesRankedAfterExactMatches() {
+        String expectedMessage = String.format(MESSAGE_EMPLOYEES_LISTED_OVERVIEW, 3);
+        SearchCommand command = new SearchCommand(List.of("MEIER"));
+        expectedModel.updateFilteredEmployeeList(List.of(BENSON, DANIEL, ELLE));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void execute_prefixOfTagAndName_employeesFound() {
+        new SearchCommand(List.of("owes", "ali")).execute(model);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void execute_employeeEdited_keepsPlace() {
+        new SearchCommand(List.of("meier")).execute(model);
+        Employee editedDaniel = new EmployeeBuilder(DANIEL).withId("999").build();
+        model.setEmployee(DANIEL, editedDaniel);
+        assertEquals(List.of(BENSON, editedDaniel, ELLE), model.getFilteredEmployeeList());
+    }
+}
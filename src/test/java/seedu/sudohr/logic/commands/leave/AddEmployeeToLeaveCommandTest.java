@@ -7,28 +7,24 @@ import static seedu.sudohr.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_LEAVE_DATE_LEAVE_TYPE_1;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
-import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import seedu.sudohr.commons.core.GuiSettings;
 import seedu.sudohr.commons.core.Messages;
 import seedu.sudohr.logic.commands.CommandResult;
 import seedu.sudohr.logic.commands.exceptions.CommandException;
 import seedu.sudohr.model.Model;
 import seedu.sudohr.model.ReadOnlySudoHr;
-import seedu.sudohr.model.ReadOnlyUserPrefs;
 import seedu.sudohr.model.SudoHr;
-import seedu.sudohr.model.department.Department;
-import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.list.FilteredModelList;
+import seedu.sudohr.model.list.ModelList;
+import seedu.sudohr.testutil.ModelStub;
 import seedu.sudohr.testutil.TypicalEmployees;
 import seedu.sudohr.testutil.TypicalLeave;
 
@@ -64,7 +60,6 @@ public class AddEmployeeToLeaveCommandTest {
                         new LeaveDate(LocalDate.parse(VALID_LEAVE_DATE_LEAVE_TYPE_1))).execute(modelStub));
     }
 
-
     // handle adding to leave objects that already exists
 
     @Test
@@ -106,7 +101,6 @@ public class AddEmployeeToLeaveCommandTest {
         assertThrows(CommandException.class, AddEmployeeToLeaveCommand.MESSAGE_DUPLICATE_EMPLOYEE, () ->
                 new AddEmployeeToLeaveCommand(TypicalEmployees.ALICE_ID,
                         new LeaveDate(LocalDate.parse(VALID_LEAVE_DATE_LEAVE_TYPE_1))).execute(modelStub));
-
     }
 
     // Handle adding null employee
@@ -127,268 +121,15 @@ public class AddEmployeeToLeaveCommandTest {
                 new AddEmployeeToLeaveCommand(TypicalEmployees.ALICE_ID, null).execute(modelStub));
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getSudoHrFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHrFilePath(Path sudoHrFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setSudoHr(ReadOnlySudoHr sudoHr) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlySudoHr getSudoHr() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Employee getEmployee(Id employeeId) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployee(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingEmail(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingEmail(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee) {
-            throw new AssertionError("This method should not be called.");
-        };
-
-        @Override
-        public boolean hasClashingPhoneNumber(Employee employee, Employee excludeFromCheck) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteEmployee(Employee target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setEmployee(Employee target, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountForDepartment(DepartmentName departmentName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Employee> getFilteredEmployeeList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Department getDepartment(DepartmentName name) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasDepartment(Department department) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addDepartment(Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setDepartment(Department target, Department editedDepartment) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeDepartment(Department key) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEmployeeToDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void removeEmployeeFromDepartment(Employee p, Department d) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Department> getFilteredDepartmentList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredDepartmentList(Predicate<Department> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteEmployeeToDepartments(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeEditEmployeeToDepartments(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Leave getInternalLeaveIfExist(Leave leaveToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEmployeeOnLeave(LeaveDate date, Employee employee) {
-            throw new AssertionError("This method should not be called.");
-
-        }
-
-        @Override
-        public void addEmployeeToLeave(Leave leaveToAdd, Employee employeeToAdd) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getFilteredLeaveList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Leave> getLeavesList() {
-            throw new AssertionError("This method should not be called.");
-
-        }
-
-        @Override
-        public void deleteEmployeeFromLeave(Leave leaveToDelete, Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(Leave leave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public int getCountOnLeave(LeaveDate date) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredLeaveList(Predicate<Leave> predicateShowAllLeave) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeUpdateUserInLeaves(Employee employeeToEdit, Employee editedEmployee) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void cascadeDeleteUserInLeaves(Employee employeeToDelete) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean checkEmployeeExists(Id id) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void refresh() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-    }
-
     /**
      * A Model stub that always accept the employee being added to the leave.
      */
     private class ModelStubAcceptingEmployeeAdded extends ModelStub {
         private SudoHr sudoHr = new SudoHr();
-        private final FilteredList<Employee> filteredEmployees;
+        private final FilteredModelList<Employee> filteredEmployees;
 
         private ModelStubAcceptingEmployeeAdded() {
-            this.filteredEmployees = new FilteredList<>(this.sudoHr.getEmployeeList());
+            this.filteredEmployees = new FilteredModelList<>(this.sudoHr.getEmployeeList());
         }
 
         @Override
@@ -403,9 +144,8 @@ public class AddEmployeeToLeaveCommandTest {
         }
 
         @Override
-        public ObservableList<Employee> getFilteredEmployeeList() {
+        public ModelList<Employee> getFilteredEmployeeList() {
             return filteredEmployees;
-
         }
 
         @Override
@@ -417,7 +157,6 @@ public class AddEmployeeToLeaveCommandTest {
         public void addLeave(Leave leave) {
             requireNonNull(leave);
             sudoHr.addLeave(leave);
-
         }
 
         @Override
@@ -427,7 +166,7 @@ public class AddEmployeeToLeaveCommandTest {
         }
 
         @Override
-        public ObservableList<Leave> getLeavesList() {
+        public ModelList<Leave> getLeavesList() {
             return this.sudoHr.getLeavesList();
         }
 
@@ -475,10 +214,5 @@ public class AddEmployeeToLeaveCommandTest {
             requireNonNull(id);
             return sudoHr.checkEmployeeExists(id);
         }
-
-        @Override
-        public void refresh() {
-        }
-
     }
 }
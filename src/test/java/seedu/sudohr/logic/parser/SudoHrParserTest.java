@@ -22,10 +22,14 @@ import seedu.sudohr.logic.commands.employee.DeleteCommand;
 import seedu.sudohr.logic.commands.employee.EditCommand;
 import seedu.sudohr.logic.commands.employee.FindCommand;
 import seedu.sudohr.logic.commands.employee.ListCommand;
+import seedu.sudohr.logic.commands.employee.QueryCommand;
+import seedu.sudohr.logic.commands.employee.SearchCommand;
 import seedu.sudohr.logic.parser.exceptions.ParseException;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.employee.Id;
 import seedu.sudohr.model.employee.NameContainsKeywordsPredicate;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryField;
 import seedu.sudohr.testutil.EditEmployeeDescriptorBuilder;
 import seedu.sudohr.testutil.EmployeeBuilder;
 import seedu.sudohr.testutil.EmployeeUtil;
@@ -77,6 +81,23 @@ public class SudoHrParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> terms = Arrays.asList("foo", "bar", "baz");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + terms.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchCommand(terms), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(
+                QueryCommand.COMMAND_WORD + " explain tag:friends OR NOT dept:Sales");
+        EmployeeQuery expected = EmployeeQuery.or(List.of(EmployeeQuery.condition(QueryField.TAG, "friends"),
+                EmployeeQuery.not(EmployeeQuery.condition(QueryField.DEPT, "Sales"))));
+        assertEquals(new QueryCommand(expected, true), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -0,0 +1,98 @@
+package seedu.sudohr.logic.parser.employee;
+
+import static seedu.sudohr.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static seedu.sudohr.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.sudohr.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.sudohr.model.query.EmployeeQuery.and;
+import static seedu.sudohr.model.query.EmployeeQuery.condition;
+import static seedu.sudohr.model.query.EmployeeQuery.not;
+import static seedu.sudohr.model.query.EmployeeQuery.or;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.logic.commands.employee.QueryCommand;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryField;
+import seedu.sudohr.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final EmployeeQuery MANAGER = condition(QueryField.TAG, "Manager");
+    private static final EmployeeQuery ENGINEERING = condition(QueryField.DEPT, "Engineering");
+    private static final EmployeeQuery ON_LEAVE = condition(QueryField.ONLEAVE, "2024-05-03");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleCondition_returnsQueryCommand() {
+        assertParseSuccess(parser, "tag:Manager", new QueryCommand(MANAGER, false));
+
+        // field names are case-insensitive and surrounding whitespace is ignored
+        assertParseSuccess(parser, " \n TAG:Manager \t", new QueryCommand(MANAGER, false));
+
+        // quoted value with spaces
+        assertParseSuccess(parser, "address:\"Clementi Ave\"",
+                new QueryCommand(condition(QueryField.ADDRESS, "Clementi Ave"), false));
+    }
+
+    @Test
+    public void parse_combinedConditions_returnsQueryCommand() {
+        EmployeeQuery expected = and(List.of(MANAGER, ENGINEERING, not(ON_LEAVE)));
+        assertParseSuccess(parser, "tag:Manager AND dept:\"Engineering\" AND NOT onleave:2024-05-03",
+                new QueryCommand(expected, false));
+
+        // AND is implied between conditions and keywords are case-insensitive
+        assertParseSuccess(parser, "tag:Manager dept:Engineering not onleave:2024-05-03",
+                new QueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_precedence_notBeforeAndBeforeOr() {
+        EmployeeQuery expected = or(List.of(MANAGER, and(List.of(ENGINEERING, not(ON_LEAVE)))));
+        assertParseSuccess(parser, "tag:Manager OR dept:Engineering AND NOT onleave:2024-05-03",
+                new QueryCommand(expected, false));
+
+        // parentheses group conditions
+        EmployeeQuery grouped = and(List.of(or(List.of(MANAGER, ENGINEERING)), not(ON_LEAVE)));
+        assertParseSuccess(parser, "(tag:Manager OR dept:Engineering) NOT onleave:2024-05-03",
+                new QueryCommand(grouped, false));
+        assertParseSuccess(parser, "NOT (tag:Manager OR dept:Engineering)",
+                new QueryCommand(not(or(List.of(MANAGER, ENGINEERING))), false));
+    }
+
+    @Test
+    public void parse_explain_returnsExplainingQueryCommand() {
+        assertParseSuccess(parser, "explain tag:Manager", new QueryCommand(MANAGER, true));
+        assertParseSuccess(parser, "EXPLAIN tag:Manager", new QueryCommand(MANAGER, true));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "Manager", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "salary:1000", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:Manager AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "OR tag:Manager", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(tag:Manager", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:Manager)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "dept:\"Human Resources", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "id:abc", Id.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "tag:\"two words\"", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "dept:R&D", DepartmentName.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "onleave:03/05/2024", MESSAGE_INVALID_DATE_FORMAT);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.sudohr.logic.parser.employee;
+
+import static seedu.sudohr.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.sudohr.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.sudohr.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.logic.commands.employee.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no leading and trailing whitespaces
+        SearchCommand expectedSearchCommand = new SearchCommand(Arrays.asList("Ali", "example.com"));
+        assertParseSuccess(parser, "Ali example.com", expectedSearchCommand);
+
+        // multiple whitespaces between terms
+        assertParseSuccess(parser, " \n Ali \n \t example.com  \t", expectedSearchCommand);
+    }
+
+}
@@ -19,17 +19,24 @@ import static seedu.sudohr.testutil.TypicalEmployees.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.sudohr.commons.core.GuiSettings;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.employee.Employee;
 import seedu.sudohr.model.employee.NameContainsKeywordsPredicate;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmailException;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
 import seedu.sudohr.model.employee.exceptions.DuplicatePhoneNumberException;
 import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
 import seedu.sudohr.testutil.EmployeeBuilder;
 import seedu.sudohr.testutil.SudoHrBuilder;
 
@@ -459,6 +466,99 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEmployeeList().remove(0));
     }
 
+    @Test
+    public void getFilteredDepartmentList_employeeAddedToDepartment_onlyThatDepartmentUpdated() {
+        modelManager.addEmployee(ALICE);
+        modelManager.addDepartment(new Department(new DepartmentName("Engineering")));
+        modelManager.addDepartment(new Department(new DepartmentName("Sales")));
+        List<Integer> updated = new ArrayList<>();
+        modelManager.getFilteredDepartmentList().addObserver(change -> {
+            assertTrue(change.isUpdate());
+            updated.add(change.getFrom());
+        });
+
+        Department sales = modelManager.getDepartment(new DepartmentName("Sales"));
+        modelManager.addEmployeeToDepartment(ALICE, sales);
+        assertEquals(List.of(1), updated);
+        assertEquals(1, modelManager.getFilteredDepartmentList().get(1).employeeCount());
+    }
+
+    @Test
+    public void updateFilteredDepartmentList_employee_showsDepartmentsOfEmployee() {
+        modelManager.addEmployee(ALICE);
+        modelManager.addEmployee(BENSON);
+        modelManager.addDepartment(new Department(new DepartmentName("Engineering")));
+        modelManager.addDepartment(new Department(new DepartmentName("Marketing")));
+        modelManager.addDepartment(new Department(new DepartmentName("Sales")));
+        Department sales = modelManager.getDepartment(new DepartmentName("Sales"));
+        Department engineering = modelManager.getDepartment(new DepartmentName("Engineering"));
+        modelManager.addEmployeeToDepartment(ALICE, sales);
+        modelManager.addEmployeeToDepartment(ALICE, engineering);
+        modelManager.addEmployeeToDepartment(BENSON, engineering);
+
+        modelManager.updateFilteredDepartmentList(ALICE);
+        assertEquals(List.of(engineering, sales), modelManager.getFilteredDepartmentList());
+
+        // the filter keeps following membership after it is installed
+        modelManager.removeEmployeeFromDepartment(ALICE, engineering);
+        assertEquals(List.of(sales), modelManager.getFilteredDepartmentList());
+        modelManager.updateFilteredDepartmentList(CARL);
+        assertEquals(List.of(), modelManager.getFilteredDepartmentList());
+    }
+
+    @Test
+    public void getFilteredLeaveList_lastEmployeeRemovedFromLeave_leaveHidden() {
+        modelManager.addEmployee(ALICE);
+        Leave leave = new Leave(new LeaveDate(LocalDate.of(2024, 5, 3)));
+        modelManager.addLeave(leave);
+        modelManager.addEmployeeToLeave(leave, ALICE);
+        assertEquals(List.of(leave), modelManager.getFilteredLeaveList());
+
+        modelManager.deleteEmployeeFromLeave(leave, ALICE);
+        assertEquals(List.of(), modelManager.getFilteredLeaveList());
+    }
+
+    @Test
+    public void updateFilteredEmployeeList_bitmapEmployeeIdEdited_keepsEmployeeInSourceOrder() {
+        modelManager.addEmployee(ALICE);
+        modelManager.addEmployee(BENSON);
+        modelManager.addEmployee(CARL);
+        modelManager.updateFilteredEmployeeList(modelManager.findEmployeesByName(Arrays.asList("Alice", "Carl")));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredEmployeeList());
+
+        Employee editedAlice = new EmployeeBuilder(ALICE).withId(VALID_ID_AMY).build();
+        modelManager.setEmployee(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, CARL), modelManager.getFilteredEmployeeList());
+
+        // an employee left out by the filter stays hidden when edited
+        Employee editedBenson = new EmployeeBuilder(BENSON).withId(VALID_ID_BOB).build();
+        modelManager.setEmployee(BENSON, editedBenson);
+        assertEquals(List.of(editedAlice, CARL), modelManager.getFilteredEmployeeList());
+    }
+
+    @Test
+    public void updateFilteredEmployeeList_ordinalsRenumberedAfterwards_showsSameEmployees() {
+        List<Employee> added = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Employee employee = new EmployeeBuilder().withId(String.valueOf(100 + i)).withName("Worker " + i)
+                    .withPhone(String.valueOf(90000000 + i)).withEmail("worker" + i + "@example.com").build();
+            added.add(employee);
+            modelManager.addEmployee(employee);
+        }
+        modelManager.updateFilteredEmployeeList(modelManager.findEmployeesByName(Arrays.asList("19")));
+
+        // removing most employees renumbers the ordinals, so the employee now has the ordinal of another
+        for (int i = 0; i < 17; i++) {
+            modelManager.deleteEmployee(added.get(i));
+        }
+        assertEquals(List.of(added.get(19)), modelManager.getFilteredEmployeeList());
+
+        modelManager.updateFilteredEmployeeList(List.of(added.get(19), added.get(17)));
+        Employee edited = new EmployeeBuilder(added.get(19)).withId("999").build();
+        modelManager.setEmployee(added.get(19), edited);
+        assertEquals(List.of(edited, added.get(17)), modelManager.getFilteredEmployeeList());
+    }
+
     @Test
     public void equals() {
         SudoHr sudoHr = new SudoHrBuilder().withEmployee(ALICE).withEmployee(BENSON).build();
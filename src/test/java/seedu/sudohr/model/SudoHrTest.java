@@ -1,7 +1,10 @@
 package seedu.sudohr.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
@@ -25,7 +28,10 @@ import static seedu.sudohr.testutil.TypicalEmployees.CARL;
 import static seedu.sudohr.testutil.TypicalEmployees.GEORGE;
 import static seedu.sudohr.testutil.TypicalEmployees.HOON;
 import static seedu.sudohr.testutil.TypicalEmployees.IDA;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalEmployees;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,17 +39,20 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
 import seedu.sudohr.model.department.exceptions.DuplicateDepartmentException;
 import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmailException;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
 import seedu.sudohr.model.employee.exceptions.DuplicatePhoneNumberException;
 import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
 import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
 import seedu.sudohr.model.leave.exceptions.DuplicateLeaveException;
+import seedu.sudohr.model.list.ArrayModelList;
+import seedu.sudohr.model.list.ModelList;
 import seedu.sudohr.testutil.DepartmentBuilder;
 import seedu.sudohr.testutil.EmployeeBuilder;
 import seedu.sudohr.testutil.LeaveBuilder;
@@ -626,6 +635,216 @@ public class SudoHrTest {
         assertThrows(UnsupportedOperationException.class, () -> sudoHr.getDepartmentList().remove(0));
     }
 
+    @Test
+    public void setEmployee_employeeInDepartmentAndLeave_reflectedWithoutCascade() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        Leave leave = new LeaveBuilder().withEmployees(ALICE).build();
+        typicalSudoHr.addLeave(leave);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_AMY).build();
+
+        typicalSudoHr.setEmployee(ALICE, editedAlice);
+
+        Department humanResources = typicalSudoHr.getDepartment(HUMAN_RESOURCES.getName());
+        assertEquals(editedAlice, humanResources.getEmployee(ALICE.getId()));
+        assertTrue(humanResources.getEmployees().contains(editedAlice));
+        assertEquals(editedAlice, leave.getEmployee(ALICE.getId()));
+    }
+
+    @Test
+    public void getDepartmentsOfEmployee_afterMembershipChanges_returnsCurrentDepartments() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        assertEquals(Arrays.asList(typicalSudoHr.getDepartment(HUMAN_RESOURCES.getName()),
+                typicalSudoHr.getDepartment(SALES.getName())), typicalSudoHr.getDepartmentsOfEmployee(BENSON.getId()));
+
+        typicalSudoHr.removeEmployeeFromDepartment(BENSON, typicalSudoHr.getDepartment(SALES.getName()));
+        assertEquals(Arrays.asList(typicalSudoHr.getDepartment(HUMAN_RESOURCES.getName())),
+                typicalSudoHr.getDepartmentsOfEmployee(BENSON.getId()));
+
+        typicalSudoHr.cascadeDeleteEmployeeToDepartments(BENSON);
+        assertTrue(typicalSudoHr.getDepartmentsOfEmployee(BENSON.getId()).isEmpty());
+    }
+
+    @Test
+    public void getLeavesOfEmployee_afterIdEdited_returnsLeavesUnderNewId() {
+        SudoHr typicalSudoHr = TypicalLeave.getTypicalSudoHr();
+        Employee editedFiona = new EmployeeBuilder(TypicalLeave.EMPLOYEE_ON_LEAVE_TYPE_2_AND_3).withId(VALID_ID_AMY)
+                .build();
+
+        typicalSudoHr.cascadeUpdateUserInLeaves(TypicalLeave.EMPLOYEE_ON_LEAVE_TYPE_2_AND_3, editedFiona);
+        typicalSudoHr.setEmployee(TypicalLeave.EMPLOYEE_ON_LEAVE_TYPE_2_AND_3, editedFiona);
+
+        assertTrue(typicalSudoHr.getLeavesOfEmployee(TypicalLeave.EMPLOYEE_ON_LEAVE_TYPE_2_AND_3.getId()).isEmpty());
+        // leaves are returned in date order
+        assertEquals(Arrays.asList(TypicalLeave.LEAVE_TYPE_3, TypicalLeave.LEAVE_TYPE_2),
+                typicalSudoHr.getLeavesOfEmployee(editedFiona.getId()));
+    }
+
+    @Test
+    public void getPositionsOfEmployees_ids_returnsAscendingPositionsOfEmployees() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        List<Employee> employees = typicalSudoHr.getEmployeeList();
+
+        // ids of no employee are left out
+        assertArrayEquals(new int[] {employees.indexOf(ALICE), employees.indexOf(CARL)},
+                typicalSudoHr.getPositionsOfEmployees(List.of(CARL.getId(), AMY.getId(), ALICE.getId())));
+        assertArrayEquals(new int[0], typicalSudoHr.getPositionsOfEmployees(List.of()));
+    }
+
+    @Test
+    public void addDepartment_memberNotEmployee_keepsOwnCopyOfMember() {
+        sudoHr.addEmployee(ALICE);
+        Department department = new DepartmentBuilder().withEmployees(ALICE, AMY).build();
+        sudoHr.addDepartment(department);
+
+        assertTrue(department.hasEmployee(AMY));
+        assertEquals(2, sudoHr.getCountForDepartment(department));
+        // only the members that are employees are shown
+        assertArrayEquals(new int[] {0}, sudoHr.getPositionsOfEmployeesIn(department));
+    }
+
+    @Test
+    public void addLeave_employeeNotInSudoHr_keepsOwnCopyOfEmployee() {
+        sudoHr.addEmployee(ALICE);
+        Leave leave = new LeaveBuilder().withEmployees(ALICE, AMY).build();
+        sudoHr.addLeave(leave);
+
+        assertTrue(leave.hasEmployee(AMY));
+        assertEquals(2, sudoHr.getCountOnLeave(leave));
+    }
+
+    @Test
+    public void getPositionsOfEmployeesIn_department_returnsAscendingPositions() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        List<Employee> employees = typicalSudoHr.getEmployeeList();
+
+        assertArrayEquals(new int[] {employees.indexOf(BENSON), employees.indexOf(GEORGE)},
+                typicalSudoHr.getPositionsOfEmployeesIn(typicalSudoHr.getDepartment(SALES.getName())));
+        assertArrayEquals(new int[0], typicalSudoHr.getPositionsOfEmployeesIn(new Department(new DepartmentName("X"))));
+    }
+
+    @Test
+    public void getPositionsOfDepartmentsOf_employee_returnsAscendingPositions() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        List<Department> departments = typicalSudoHr.getDepartmentList();
+
+        int[] expected = {departments.indexOf(HUMAN_RESOURCES), departments.indexOf(SALES)};
+        Arrays.sort(expected);
+        assertArrayEquals(expected, typicalSudoHr.getPositionsOfDepartmentsOf(
+                TypicalDepartments.EMPLOYEE_IN_HUMAN_RESOURCES_AND_SALES.getId()));
+        assertArrayEquals(new int[0], typicalSudoHr.getPositionsOfDepartmentsOf(AMY.getId()));
+    }
+
+    @Test
+    public void getPositionsOfLeavesOf_employee_returnsAscendingPositions() {
+        SudoHr typicalSudoHr = TypicalLeave.getTypicalSudoHr();
+        List<Leave> leaves = typicalSudoHr.getLeavesList();
+
+        int[] expected = {leaves.indexOf(TypicalLeave.LEAVE_TYPE_3), leaves.indexOf(TypicalLeave.LEAVE_TYPE_2)};
+        assertArrayEquals(expected,
+                typicalSudoHr.getPositionsOfLeavesOf(TypicalLeave.EMPLOYEE_ON_LEAVE_TYPE_2_AND_3.getId()));
+        assertArrayEquals(new int[0], typicalSudoHr.getPositionsOfLeavesOf(AMY.getId()));
+    }
+
+    @Test
+    public void snapshot_dataChangedAfterwards_keepsDataAtTheTime() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        SudoHrSnapshot snapshot = typicalSudoHr.snapshot();
+        assertEquals(typicalSudoHr.getEmployeeList(), snapshot.getEmployeeList());
+        assertEquals(typicalSudoHr.getDepartmentList(), snapshot.getDepartmentList());
+
+        typicalSudoHr.removeEmployeeFromDepartment(BENSON, typicalSudoHr.getDepartment(SALES.getName()));
+        typicalSudoHr.addEmployee(AMY);
+
+        Department salesInSnapshot = snapshot.getDepartmentList().get(2);
+        assertTrue(salesInSnapshot.hasEmployee(BENSON));
+        assertFalse(snapshot.getEmployeeList().contains(AMY));
+
+        SudoHrSnapshot nextSnapshot = typicalSudoHr.snapshot();
+        assertEquals(typicalSudoHr.getEmployeeList(), nextSnapshot.getEmployeeList());
+        assertEquals(typicalSudoHr.getDepartmentList(), nextSnapshot.getDepartmentList());
+        // only the changed department is copied again
+        assertSame(snapshot.getDepartmentList().get(0), nextSnapshot.getDepartmentList().get(0));
+        assertNotSame(salesInSnapshot, nextSnapshot.getDepartmentList().get(2));
+    }
+
+    @Test
+    public void snapshot_dataUnchanged_returnsSameSnapshot() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        SudoHrSnapshot snapshot = typicalSudoHr.snapshot();
+        assertSame(snapshot, typicalSudoHr.snapshot());
+
+        typicalSudoHr.setEmployees(getTypicalEmployees());
+        assertNotSame(snapshot, typicalSudoHr.snapshot());
+    }
+
+    @Test
+    public void resetData_fromSudoHr_copiesDepartmentMembership() {
+        SudoHr typicalSudoHr = getTypicalSudoHr();
+        sudoHr.resetData(typicalSudoHr);
+
+        typicalSudoHr.getDepartment(SALES.getName()).removeEmployee(BENSON);
+
+        assertTrue(sudoHr.getDepartment(SALES.getName()).hasEmployee(BENSON));
+        assertEquals(4, sudoHr.getCountForDepartment(sudoHr.getDepartment(SALES.getName())));
+    }
+
+    @Test
+    public void getEmployeesPresent_employeeOnLeave_leftOut() {
+        sudoHr.addEmployee(ALICE);
+        sudoHr.addEmployee(BENSON);
+        sudoHr.addEmployee(CARL);
+        Department department = new Department(new DepartmentName("Finance"));
+        sudoHr.addDepartment(department);
+        sudoHr.addEmployeeToDepartment(ALICE, department);
+        sudoHr.addEmployeeToDepartment(BENSON, department);
+        Leave leave = new Leave(new LeaveDate(LocalDate.of(2023, 3, 4)));
+        sudoHr.addLeave(leave);
+        sudoHr.addEmployeeToLeave(leave, BENSON);
+        sudoHr.addEmployeeToLeave(leave, CARL);
+
+        EmployeeBitmap present = sudoHr.getEmployeesPresent(department, leave.getDate());
+        assertEquals(1, present.cardinality());
+        assertTrue(present.contains(sudoHr.getEmployeeOrdinal(ALICE.getId())));
+
+        // no leave on that date
+        assertEquals(2, sudoHr.getEmployeesPresent(department, new LeaveDate(LocalDate.of(2023, 3, 5)))
+                .cardinality());
+    }
+
+    @Test
+    public void searchEmployees_afterChanges_indexKeptUpToDate() {
+        sudoHr.addEmployee(ALICE);
+        sudoHr.addEmployee(BENSON);
+        sudoHr.addEmployee(CARL);
+        Employee editedBenson = new EmployeeBuilder(BENSON).withName("Benson Kurz").build();
+        sudoHr.setEmployee(BENSON, editedBenson);
+        sudoHr.removeEmployee(CARL);
+
+        assertEquals(List.of(editedBenson), sudoHr.searchEmployees(List.of("kurz"), 10));
+        assertEquals(List.of(), sudoHr.searchEmployees(List.of("meier"), 10));
+        assertEquals(List.of(ALICE, editedBenson), sudoHr.searchEmployees(List.of("friend"), 10));
+
+        sudoHr.resetData(getTypicalSudoHr());
+        assertEquals(List.of(CARL), sudoHr.searchEmployees(List.of("carl"), 10));
+    }
+
+    @Test
+    public void searchEmployees_afterOrdinalsRenumbered_indexRebuilt() {
+        List<Employee> added = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Employee employee = new EmployeeBuilder().withId(String.valueOf(100 + i)).withName("Worker " + i)
+                    .withPhone(String.valueOf(90000000 + i)).withEmail("worker" + i + "@example.com").build();
+            added.add(employee);
+            sudoHr.addEmployee(employee);
+        }
+        for (int i = 0; i < 17; i++) {
+            sudoHr.removeEmployee(added.get(i));
+        }
+
+        assertEquals(0, sudoHr.getEmployeeOrdinal(added.get(17).getId()));
+        assertEquals(added.subList(17, 20), sudoHr.searchEmployees(List.of("worker"), 10));
+    }
+
     //// Leave tests
 
     @Test
@@ -687,9 +906,9 @@ public class SudoHrTest {
      * A stub ReadOnlySudoHr whose employees and departments list can violate interface constraints.
      */
     private static class SudoHrStub implements ReadOnlySudoHr {
-        private final ObservableList<Employee> employees = FXCollections.observableArrayList();
-        private final ObservableList<Department> departments = FXCollections.observableArrayList();
-        private final ObservableList<Leave> leaves = FXCollections.observableArrayList();
+        private final ArrayModelList<Employee> employees = new ArrayModelList<>();
+        private final ArrayModelList<Department> departments = new ArrayModelList<>();
+        private final ArrayModelList<Leave> leaves = new ArrayModelList<>();
 
         SudoHrStub(Collection<Employee> employees, Collection<Department> departments) {
             this.employees.setAll(employees);
@@ -697,17 +916,17 @@ public class SudoHrTest {
         }
 
         @Override
-        public ObservableList<Employee> getEmployeeList() {
+        public ModelList<Employee> getEmployeeList() {
             return employees;
         }
 
         @Override
-        public ObservableList<Department> getDepartmentList() {
+        public ModelList<Department> getDepartmentList() {
             return departments;
         }
 
         @Override
-        public ObservableList<Leave> getLeavesList() {
+        public ModelList<Leave> getLeavesList() {
             return leaves;
         }
     }
@@ -717,9 +936,9 @@ public class SudoHrTest {
      * A stub ReadOnlySudoHr whose employees and departments list can violate interface constraints.
      */
     private static class SudoHrLeaveStub implements ReadOnlySudoHr {
-        private final ObservableList<Employee> employees = FXCollections.observableArrayList();
-        private final ObservableList<Department> departments = FXCollections.observableArrayList();
-        private final ObservableList<Leave> leaves = FXCollections.observableArrayList();
+        private final ArrayModelList<Employee> employees = new ArrayModelList<>();
+        private final ArrayModelList<Department> departments = new ArrayModelList<>();
+        private final ArrayModelList<Leave> leaves = new ArrayModelList<>();
 
         SudoHrLeaveStub(Collection<Employee> employees, Collection<Leave> leave) {
             this.employees.setAll(employees);
@@ -727,17 +946,17 @@ public class SudoHrTest {
         }
 
         @Override
-        public ObservableList<Employee> getEmployeeList() {
+        public ModelList<Employee> getEmployeeList() {
             return employees;
         }
 
         @Override
-        public ObservableList<Department> getDepartmentList() {
+        public ModelList<Department> getDepartmentList() {
             return departments;
         }
 
         @Override
-        public ObservableList<Leave> getLeavesList() {
+        public ModelList<Leave> getLeavesList() {
             return leaves;
         }
     }
@@ -1,9 +1,15 @@
 package seedu.sudohr.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.sudohr.commons.core.StorageFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +24,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setSudoHrFilePath(null));
     }
 
+    @Test
+    public void getSudoHrFilePath_noFileChosen_defaultFileOfFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSudoHrStorageFormat(StorageFormat.BINARY);
+        assertEquals(StorageFormat.BINARY.getDefaultFilePath(), userPrefs.getSudoHrFilePath());
+        assertNotEquals(StorageFormat.JSON.getDefaultFilePath(), userPrefs.getSudoHrFilePath());
+
+        userPrefs.setSudoHrFilePath(Paths.get("data", "chosen.json"));
+        assertEquals(Paths.get("data", "chosen.json"), userPrefs.getSudoHrFilePath());
+    }
+
 }
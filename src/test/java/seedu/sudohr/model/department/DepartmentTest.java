@@ -1,5 +1,6 @@
 package seedu.sudohr.model.department;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_DEPARTMENT_NAME_ENGINEERING;
@@ -150,4 +151,13 @@ public class DepartmentTest {
                 .withDepartmentName(VALID_DEPARTMENT_NAME_ENGINEERING).build();
         assertFalse(HUMAN_RESOURCES.equals(editedHumanResources));
     }
+
+    @Test
+    public void hashCode_membershipChanged_remainsSame() {
+        Department department = new DepartmentBuilder().build();
+        int hashCode = department.hashCode();
+        department.addEmployee(ALICE);
+        assertEquals(hashCode, department.hashCode());
+        assertEquals(new DepartmentBuilder().withEmployees(CARL).build().hashCode(), hashCode);
+    }
 }
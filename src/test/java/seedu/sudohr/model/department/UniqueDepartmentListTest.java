@@ -2,11 +2,15 @@ package seedu.sudohr.model.department;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 import static seedu.sudohr.testutil.TypicalDepartments.ENGINEERING;
 import static seedu.sudohr.testutil.TypicalDepartments.HUMAN_RESOURCES;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +48,24 @@ public class UniqueDepartmentListTest {
         assertTrue(uniqueDepartmentList.contains(editedHumanResources));
     }
 
+    @Test
+    public void getDepartment_departmentInList_returnsDepartment() {
+        uniqueDepartmentList.add(HUMAN_RESOURCES);
+        assertEquals(HUMAN_RESOURCES, uniqueDepartmentList.getDepartment(HUMAN_RESOURCES.getName()));
+        assertNull(uniqueDepartmentList.getDepartment(ENGINEERING.getName()));
+    }
+
+    @Test
+    public void getDepartment_afterRename_returnsDepartmentUnderNewName() {
+        uniqueDepartmentList.add(HUMAN_RESOURCES);
+        Department renamedHumanResources = new DepartmentBuilder(HUMAN_RESOURCES)
+                .withDepartmentName(ENGINEERING.getName().fullName).build();
+        uniqueDepartmentList.setDepartment(HUMAN_RESOURCES, renamedHumanResources);
+
+        assertNull(uniqueDepartmentList.getDepartment(HUMAN_RESOURCES.getName()));
+        assertSame(renamedHumanResources, uniqueDepartmentList.getDepartment(ENGINEERING.getName()));
+    }
+
     @Test
     public void add_nullDepartment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDepartmentList.add(null));
@@ -101,6 +123,21 @@ public class UniqueDepartmentListTest {
         assertEquals(expectedUniqueDepartmentList, uniqueDepartmentList);
     }
 
+    @Test
+    public void setDepartment_afterRemovals_replacedInPlace() {
+        Department sales = new DepartmentBuilder().withDepartmentName("Sales").build();
+        Department marketing = new DepartmentBuilder().withDepartmentName("Marketing").build();
+        uniqueDepartmentList.add(HUMAN_RESOURCES);
+        uniqueDepartmentList.add(ENGINEERING);
+        uniqueDepartmentList.add(sales);
+        uniqueDepartmentList.remove(HUMAN_RESOURCES);
+
+        uniqueDepartmentList.setDepartment(ENGINEERING, marketing);
+        assertEquals(Arrays.asList(marketing, sales), uniqueDepartmentList.asUnmodifiableList());
+        uniqueDepartmentList.remove(sales);
+        assertEquals(Collections.singletonList(marketing), uniqueDepartmentList.asUnmodifiableList());
+    }
+
     @Test
     public void setDepartment_editedDepartmentHasNonUniqueIdentity_throwsDuplicateDepartmentException() {
         uniqueDepartmentList.add(HUMAN_RESOURCES);
@@ -165,8 +202,32 @@ public class UniqueDepartmentListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-                -> uniqueDepartmentList.asUnmodifiableObservableList().remove(0));
+                -> uniqueDepartmentList.asUnmodifiableList().remove(0));
+    }
+
+    @Test
+    public void asUnmodifiableList_employeesOfDepartmentChanged_departmentReportedUpdated() {
+        Department humanResources = new DepartmentBuilder().withDepartmentName("Human Resources").build();
+        Department engineering = new DepartmentBuilder().withDepartmentName("Engineering").build();
+        uniqueDepartmentList.add(humanResources);
+        uniqueDepartmentList.add(engineering);
+        List<Integer> updated = new ArrayList<>();
+        uniqueDepartmentList.asUnmodifiableList().addObserver(change -> {
+            for (int i = change.getFrom(); change.isUpdate() && i < change.getTo(); i++) {
+                updated.add(i);
+            }
+        });
+
+        engineering.addEmployee(ALICE);
+        engineering.removeEmployee(ALICE);
+        assertEquals(List.of(1, 1), updated);
+
+        // departments no longer in the list are not reported
+        uniqueDepartmentList.setDepartments(List.of(humanResources));
+        updated.clear();
+        engineering.addEmployee(ALICE);
+        assertEquals(List.of(), updated);
     }
 }
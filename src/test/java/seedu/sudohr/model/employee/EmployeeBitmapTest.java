@@ -0,0 +1,106 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class EmployeeBitmapTest {
+
+    private final EmployeeBitmap bitmap = new EmployeeBitmap();
+
+    @Test
+    public void add_duplicateOrdinal_returnsFalse() {
+        assertTrue(bitmap.add(70));
+        assertFalse(bitmap.add(70));
+        assertEquals(1, bitmap.cardinality());
+        assertTrue(bitmap.contains(70));
+        assertFalse(bitmap.contains(6));
+        assertFalse(bitmap.contains(-1));
+    }
+
+    @Test
+    public void remove_lastOrdinalOfWord_emptiesBitmap() {
+        bitmap.add(3);
+        bitmap.add(1000);
+        assertTrue(bitmap.remove(1000));
+        assertFalse(bitmap.remove(1000));
+        assertTrue(bitmap.remove(3));
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new EmployeeBitmap(), bitmap);
+    }
+
+    @Test
+    public void forEach_visitsOrdinalsInIncreasingOrder() {
+        bitmap.add(200);
+        bitmap.add(0);
+        bitmap.add(63);
+        bitmap.add(64);
+        List<Integer> ordinals = new ArrayList<>();
+        bitmap.forEach(ordinals::add);
+        assertEquals(List.of(0, 63, 64, 200), ordinals);
+    }
+
+    @Test
+    public void setOperations_sameAsBitSet() {
+        Random random = new Random(0);
+        for (int round = 0; round < 200; round++) {
+            int range = 1 + random.nextInt(5_000);
+            BitSet expectedFirst = new BitSet();
+            BitSet expectedSecond = new BitSet();
+            EmployeeBitmap first = randomBitmap(random, range, expectedFirst);
+            EmployeeBitmap second = randomBitmap(random, range, expectedSecond);
+
+            BitSet expectedAnd = (BitSet) expectedFirst.clone();
+            expectedAnd.and(expectedSecond);
+            assertSameOrdinals(expectedAnd, first.and(second));
+
+            BitSet expectedAndNot = (BitSet) expectedFirst.clone();
+            expectedAndNot.andNot(expectedSecond);
+            assertSameOrdinals(expectedAndNot, first.andNot(second));
+
+            BitSet expectedOr = (BitSet) expectedFirst.clone();
+            expectedOr.or(expectedSecond);
+            assertSameOrdinals(expectedOr, first.or(second));
+        }
+    }
+
+    /**
+     * Returns a bitmap built by random additions and removals below {@code range}, applying them to
+     * {@code expected} as well.
+     */
+    private static EmployeeBitmap randomBitmap(Random random, int range, BitSet expected) {
+        EmployeeBitmap bitmap = new EmployeeBitmap();
+        int operations = random.nextInt(2 * range);
+        for (int i = 0; i < operations; i++) {
+            int ordinal = random.nextInt(range);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.get(ordinal), bitmap.remove(ordinal));
+                expected.clear(ordinal);
+            } else {
+                assertEquals(!expected.get(ordinal), bitmap.add(ordinal));
+                expected.set(ordinal);
+            }
+        }
+        assertSameOrdinals(expected, bitmap);
+        return bitmap;
+    }
+
+    private static void assertSameOrdinals(BitSet expected, EmployeeBitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        List<Integer> expectedOrdinals = new ArrayList<>();
+        expected.stream().forEach(expectedOrdinals::add);
+        List<Integer> actualOrdinals = new ArrayList<>();
+        actual.forEach(actualOrdinals::add);
+        assertEquals(expectedOrdinals, actualOrdinals);
+        for (int ordinal : expectedOrdinals) {
+            assertTrue(actual.contains(ordinal));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_ID_AMY;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.testutil.EmployeeBuilder;
+
+public class EmployeeReferenceListTest {
+
+    private final EmployeeReferenceList employeeReferenceList = new EmployeeReferenceList();
+
+    @Test
+    public void add_duplicateEmployee_throwsDuplicateEmployeeException() {
+        employeeReferenceList.add(ALICE);
+        assertThrows(DuplicateEmployeeException.class, () -> employeeReferenceList.add(ALICE));
+    }
+
+    @Test
+    public void get_unboundList_resolvesAddedEmployee() {
+        employeeReferenceList.add(ALICE);
+        assertEquals(ALICE, employeeReferenceList.get(ALICE.getId()));
+        assertNull(employeeReferenceList.get(BENSON.getId()));
+    }
+
+    @Test
+    public void bindTo_registry_resolvesThroughRegistry() {
+        employeeReferenceList.add(ALICE);
+        UniqueEmployeeList registry = new UniqueEmployeeList();
+        registry.add(ALICE);
+        employeeReferenceList.bindTo(registry);
+
+        Employee editedAlice = new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_AMY).build();
+        registry.setEmployee(ALICE, editedAlice);
+
+        assertEquals(editedAlice, employeeReferenceList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void bindTo_registryMissingMember_throwsEmployeeNotFoundException() {
+        employeeReferenceList.add(ALICE);
+        assertThrows(EmployeeNotFoundException.class, () -> employeeReferenceList.bindTo(new UniqueEmployeeList()));
+        assertEquals(ALICE, employeeReferenceList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void bindTo_registryMissingMember_staysUnbound() {
+        employeeReferenceList.add(ALICE);
+        UniqueEmployeeList registry = new UniqueEmployeeList();
+        registry.add(BENSON);
+        assertThrows(EmployeeNotFoundException.class, () -> employeeReferenceList.bindTo(registry));
+
+        // members are still resolved through the private registry
+        registry.setEmployee(BENSON, new EmployeeBuilder(BENSON).withEmail(VALID_EMAIL_AMY).build());
+        employeeReferenceList.add(BENSON);
+        assertEquals(BENSON, employeeReferenceList.get(BENSON.getId()));
+    }
+
+    @Test
+    public void setEmployee_changedId_keepsPosition() {
+        employeeReferenceList.add(ALICE);
+        employeeReferenceList.add(BENSON);
+        employeeReferenceList.add(CARL);
+        Employee editedBenson = new EmployeeBuilder(BENSON).withId(VALID_ID_AMY).build();
+
+        employeeReferenceList.setEmployee(BENSON, editedBenson);
+
+        assertFalse(employeeReferenceList.contains(BENSON.getId()));
+        assertTrue(employeeReferenceList.contains(editedBenson));
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), employeeReferenceList.asList());
+    }
+
+    @Test
+    public void asBitmap_boundList_followsMembership() {
+        UniqueEmployeeList registry = new UniqueEmployeeList();
+        registry.add(ALICE);
+        registry.add(BENSON);
+        registry.add(CARL);
+        employeeReferenceList.add(CARL);
+        employeeReferenceList.bindTo(registry);
+        employeeReferenceList.add(ALICE);
+
+        EmployeeBitmap members = employeeReferenceList.asBitmap(registry);
+        assertEquals(2, members.cardinality());
+        assertTrue(members.contains(registry.ordinalOf(ALICE.getId())));
+        assertTrue(members.contains(registry.ordinalOf(CARL.getId())));
+
+        employeeReferenceList.remove(CARL);
+        assertFalse(employeeReferenceList.asBitmap(registry).contains(registry.ordinalOf(CARL.getId())));
+        assertEquals(1, employeeReferenceList.asBitmap(registry).cardinality());
+    }
+
+    @Test
+    public void asBitmap_otherEmployeeList_leavesOutMissingMembers() {
+        employeeReferenceList.add(ALICE);
+        employeeReferenceList.add(BENSON);
+        UniqueEmployeeList employeeList = new UniqueEmployeeList();
+        employeeList.add(CARL);
+        employeeList.add(BENSON);
+
+        EmployeeBitmap members = employeeReferenceList.asBitmap(employeeList);
+        assertEquals(1, members.cardinality());
+        assertTrue(members.contains(employeeList.ordinalOf(BENSON.getId())));
+    }
+
+    @Test
+    public void remove_employeeNotReferenced_throwsEmployeeNotFoundException() {
+        assertThrows(EmployeeNotFoundException.class, () -> employeeReferenceList.remove(ALICE));
+    }
+}
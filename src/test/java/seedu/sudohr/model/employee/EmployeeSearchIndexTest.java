@@ -0,0 +1,77 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.testutil.EmployeeBuilder;
+
+public class EmployeeSearchIndexTest {
+
+    private static final Employee ALEX = new EmployeeBuilder().withId("1").withName("Alex Yeoh")
+            .withEmail("alexyeoh@example.com").withPhone("91111111").withTags("Manager").build();
+    private static final Employee ALEXANDRA = new EmployeeBuilder().withId("2").withName("Alexandra Tan")
+            .withEmail("atan@example.com").withPhone("92222222").withTags("Engineer").build();
+    private static final Employee BERNICE = new EmployeeBuilder().withId("3").withName("Bernice Yu")
+            .withEmail("bernice.yu@manager.example.com").withPhone("93333333").build();
+
+    private final EmployeeSearchIndex searchIndex = new EmployeeSearchIndex();
+
+    @Test
+    public void wordsOf_splitsAtNonAlphanumericCharactersAndFoldsCase() {
+        assertEquals(List.of("bernice", "yu", "manager", "example", "com"),
+                EmployeeSearchIndex.wordsOf("Bernice.YU@manager.example.com"));
+        assertEquals(List.of(), EmployeeSearchIndex.wordsOf(" -- "));
+    }
+
+    @Test
+    public void search_exactBeforePrefixBeforeTypo() {
+        addAll();
+
+        // exact name word, then prefix of a longer name word
+        assertArrayEquals(new int[] {0, 1}, searchIndex.search(List.of("alex"), 10));
+        // a typo still finds the word
+        assertArrayEquals(new int[] {2}, searchIndex.search(List.of("bernise"), 10));
+        // short terms only match exactly or by prefix
+        assertArrayEquals(new int[] {2}, searchIndex.search(List.of("yu"), 10));
+        assertArrayEquals(new int[] {}, searchIndex.search(List.of("yo"), 10));
+    }
+
+    @Test
+    public void search_multipleTerms_scoresAdded() {
+        addAll();
+
+        // a tag is worth more than an email domain, and an employee matching both terms ranks first
+        assertArrayEquals(new int[] {0, 2}, searchIndex.search(List.of("manager"), 10));
+        assertArrayEquals(new int[] {2, 0}, searchIndex.search(List.of("bernice", "manager"), 10));
+    }
+
+    @Test
+    public void search_limit_returnsBestOnly() {
+        addAll();
+
+        assertArrayEquals(new int[] {0, 1, 2}, searchIndex.search(List.of("example"), 10));
+        assertArrayEquals(new int[] {0, 1}, searchIndex.search(List.of("example"), 2));
+    }
+
+    @Test
+    public void remove_employee_noLongerFound() {
+        addAll();
+        searchIndex.remove(ALEX, 0);
+        searchIndex.add(new EmployeeBuilder(ALEX).withName("Alex Lee").build(), 0);
+
+        assertArrayEquals(new int[] {}, searchIndex.search(List.of("yeoh"), 10));
+        assertArrayEquals(new int[] {0}, searchIndex.search(List.of("lee"), 10));
+        searchIndex.clear();
+        assertArrayEquals(new int[] {}, searchIndex.search(List.of("lee"), 10));
+    }
+
+    private void addAll() {
+        searchIndex.add(ALEX, 0);
+        searchIndex.add(ALEXANDRA, 1);
+        searchIndex.add(BERNICE, 2);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IdMapTest {
+
+    private final IdMap<String> idMap = new IdMap<>();
+
+    @Test
+    public void put_newAndExistingId_returnsReplacedValue() {
+        assertNull(idMap.put(new Id(1), "a"));
+        assertEquals("a", idMap.put(new Id("001"), "b"));
+        assertEquals(1, idMap.size());
+        assertEquals("b", idMap.get(new Id(1)));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> idMap.put(new Id(1), null));
+    }
+
+    @Test
+    public void remove_missingId_returnsNull() {
+        idMap.put(new Id(1), "a");
+        assertNull(idMap.remove(new Id(2)));
+        assertEquals("a", idMap.remove(new Id(1)));
+        assertTrue(idMap.isEmpty());
+        assertFalse(idMap.containsKey(new Id(1)));
+    }
+
+    @Test
+    public void getOrDefault_missingId_returnsDefault() {
+        assertEquals("default", idMap.getOrDefault(new Id(1), "default"));
+        assertEquals("a", idMap.computeIfAbsent(new Id(1), id -> "a"));
+        assertEquals("a", idMap.computeIfAbsent(new Id(1), id -> "b"));
+        assertEquals("a", idMap.getOrDefault(new Id(1), "default"));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Map<Id, String> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            Id id = new Id(1 + random.nextInt(2_000));
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(id, "v" + i), idMap.put(id, "v" + i));
+            } else {
+                assertEquals(expected.remove(id), idMap.remove(id));
+            }
+        }
+        assertEquals(expected.size(), idMap.size());
+        for (Map.Entry<Id, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), idMap.get(entry.getKey()));
+        }
+        for (long id = 1; id <= 2_000; id++) {
+            assertEquals(expected.containsKey(new Id(id)), idMap.containsKey(new Id(id)));
+        }
+    }
+
+    @Test
+    public void equals() {
+        IdMap<String> other = new IdMap<>();
+        idMap.put(new Id(1), "a");
+        idMap.put(new Id(2), "b");
+        other.put(new Id(2), "b");
+        other.put(new Id(1), "a");
+        assertEquals(idMap, other);
+        assertEquals(idMap.hashCode(), other.hashCode());
+
+        other.put(new Id(2), "c");
+        assertNotEquals(idMap, other);
+    }
+
+    @Test
+    public void clear_emptiesMap() {
+        idMap.put(new Id(1), "a");
+        idMap.clear();
+        assertTrue(idMap.isEmpty());
+        assertNull(idMap.get(new Id(1)));
+    }
+}
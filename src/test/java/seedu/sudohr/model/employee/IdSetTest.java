@@ -0,0 +1,67 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IdSetTest {
+
+    private final IdSet idSet = new IdSet();
+
+    @Test
+    public void add_duplicateId_returnsFalse() {
+        assertTrue(idSet.add(new Id(1)));
+        assertFalse(idSet.add(new Id("01")));
+        assertEquals(1, idSet.size());
+    }
+
+    @Test
+    public void iterator_afterRemoval_keepsInsertionOrder() {
+        idSet.addAll(Arrays.asList(new Id(3), new Id(1), new Id(2)));
+        assertTrue(idSet.remove(new Id(1)));
+        assertFalse(idSet.remove(new Id(1)));
+        idSet.add(new Id(1));
+        assertEquals(Arrays.asList(new Id(3), new Id(2), new Id(1)), new ArrayList<>(idSet));
+    }
+
+    @Test
+    public void replace_keepsPosition() {
+        idSet.addAll(Arrays.asList(new Id(3), new Id(1), new Id(2)));
+        idSet.replace(new Id(1), new Id(4));
+        assertEquals(Arrays.asList(new Id(3), new Id(4), new Id(2)), new ArrayList<>(idSet));
+        assertFalse(idSet.contains(new Id(1)));
+    }
+
+    @Test
+    public void randomOperations_sameAsLinkedHashSet() {
+        Set<Id> expected = new LinkedHashSet<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            Id id = new Id(1 + random.nextInt(500));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), idSet.remove(id));
+            } else {
+                assertEquals(expected.add(id), idSet.add(id));
+            }
+        }
+        List<Id> expectedOrder = new ArrayList<>(expected);
+        assertEquals(expectedOrder, new ArrayList<>(idSet));
+        assertEquals(expected, idSet);
+    }
+
+    @Test
+    public void contains_otherType_returnsFalse() {
+        idSet.add(new Id(1));
+        assertFalse(idSet.contains(1L));
+        assertFalse(idSet.remove("1"));
+    }
+}
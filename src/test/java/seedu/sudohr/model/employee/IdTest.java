@@ -1,5 +1,6 @@
 package seedu.sudohr.model.employee;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.testutil.Assert.assertThrows;
@@ -32,6 +33,7 @@ public class IdTest {
         assertFalse(Id.isValidId("   892  ")); // trailing and leading spaces
         assertFalse(Id.isValidId("0")); // no non-zero digits
         assertFalse(Id.isValidId("000")); // no non-zero digits
+        assertFalse(Id.isValidId("9223372036854775808")); // too large
 
         // valid id numbers
         assertTrue(Id.isValidId("00099233"));
@@ -39,7 +41,19 @@ public class IdTest {
         assertTrue(Id.isValidId("0009923300000"));
         assertTrue(Id.isValidId("9312015034"));
         assertTrue(Id.isValidId("124293842033123")); // long id numbers
+        assertTrue(Id.isValidId("0009223372036854775807")); // largest id number
     }
-}
 
+    @Test
+    public void constructor_leadingZeroes_sameAsWithout() {
+        assertEquals(new Id("42"), new Id("00042"));
+        assertEquals("42", new Id("00042").toString());
+        assertEquals(new Id(42), new Id("42"));
+    }
 
+    @Test
+    public void constructor_nonPositiveNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Id(0));
+        assertThrows(IllegalArgumentException.class, () -> new Id(-1));
+    }
+}
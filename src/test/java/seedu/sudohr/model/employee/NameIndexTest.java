@@ -0,0 +1,96 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.commons.util.StringUtil;
+
+public class NameIndexTest {
+
+    private static final String[] WORDS = {"alice", "Alice", "ALICE", "bob", "Bob", "carol", "tan", "Tan", "Lee", "3"};
+
+    private final List<Name> names = new ArrayList<>();
+    private final NameIndex nameIndex = new NameIndex(names::get);
+
+    @Test
+    public void find_wordsIgnoringCase_returnsEmployeesWithWord() {
+        add("Alice Tan");
+        add("Bob alice");
+        add("Carol");
+
+        assertEquals(List.of(0, 1), ordinals(nameIndex.find("ALICE")));
+        assertEquals(List.of(0), ordinals(nameIndex.find("tan")));
+        assertEquals(List.of(2), ordinals(nameIndex.find(" carol ")));
+        assertTrue(nameIndex.find("Ali").isEmpty());
+        assertTrue(nameIndex.find("Alice Tan").isEmpty());
+        assertTrue(nameIndex.find("").isEmpty());
+    }
+
+    @Test
+    public void remove_repeatedWord_removesEmployee() {
+        add("Tan Tan");
+        add("Lee Tan");
+        nameIndex.remove(names.get(0), 0);
+
+        assertEquals(List.of(1), ordinals(nameIndex.find("Tan")));
+        nameIndex.remove(names.get(1), 1);
+        assertTrue(nameIndex.find("Tan").isEmpty());
+        assertTrue(nameIndex.find("Lee").isEmpty());
+    }
+
+    @Test
+    public void randomOperations_sameAsContainsWordIgnoreCase() {
+        Random random = new Random(0);
+        List<Boolean> isIndexed = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int ordinal = random.nextInt(names.size() + 1);
+            if (ordinal == names.size()) {
+                add(randomName(random));
+                isIndexed.add(true);
+            } else if (isIndexed.get(ordinal)) {
+                nameIndex.remove(names.get(ordinal), ordinal);
+                isIndexed.set(ordinal, false);
+            } else {
+                names.set(ordinal, new Name(randomName(random)));
+                nameIndex.add(names.get(ordinal), ordinal);
+                isIndexed.set(ordinal, true);
+            }
+        }
+
+        for (String word : WORDS) {
+            List<Integer> expected = new ArrayList<>();
+            for (int ordinal = 0; ordinal < names.size(); ordinal++) {
+                if (isIndexed.get(ordinal) && StringUtil.containsWordIgnoreCase(names.get(ordinal).fullName, word)) {
+                    expected.add(ordinal);
+                }
+            }
+            assertEquals(expected, ordinals(nameIndex.find(word)));
+        }
+    }
+
+    private void add(String name) {
+        names.add(new Name(name));
+        nameIndex.add(names.get(names.size() - 1), names.size() - 1);
+    }
+
+    private static String randomName(Random random) {
+        int wordCount = 1 + random.nextInt(3);
+        StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < wordCount; i++) {
+            name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString();
+    }
+
+    private static List<Integer> ordinals(EmployeeBitmap bitmap) {
+        List<Integer> ordinals = new ArrayList<>();
+        bitmap.forEach(ordinals::add);
+        return ordinals;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.sudohr.model.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenTrieTest {
+
+    private static final String[] TOKENS = {"a", "ab", "abc", "abd", "b", "ba", "bab", "meier", "meyer", "mier"};
+
+    private final TokenTrie trie = new TokenTrie();
+
+    @Test
+    public void forEachWithPrefix_returnsTokensStartingWithPrefix() {
+        trie.add("meier", 0);
+        trie.add("meyer", 1);
+        trie.add("me", 2);
+        trie.add("meier", 3);
+
+        assertEquals(Map.of(0, 5, 1, 5, 2, 2, 3, 5), withPrefix("me"));
+        assertEquals(Map.of(0, 5, 3, 5), withPrefix("mei"));
+        assertEquals(Map.of(), withPrefix("x"));
+    }
+
+    @Test
+    public void forEachWithin_returnsTokensWithinEdits() {
+        trie.add("meier", 0);
+        trie.add("meyer", 1);
+        trie.add("meyor", 2);
+
+        assertEquals(Map.of(0, 0, 1, 1), within("meier", 1));
+        assertEquals(Map.of(0, 0, 1, 1, 2, 2), within("meier", 2));
+        assertEquals(Map.of(0, 1), within("meir", 1));
+    }
+
+    @Test
+    public void remove_lastHolder_releasesToken() {
+        trie.add("abc", 0);
+        trie.add("ab", 1);
+        trie.remove("abc", 0);
+
+        assertEquals(Map.of(1, 2), withPrefix("a"));
+        trie.remove("ab", 1);
+        assertEquals(Map.of(), withPrefix(""));
+        trie.add("abd", 2);
+        assertEquals(Map.of(2, 3), withPrefix("ab"));
+    }
+
+    @Test
+    public void randomOperations_sameAsScanningTokens() {
+        Random random = new Random(0);
+        List<List<String>> tokensByOrdinal = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int ordinal = random.nextInt(tokensByOrdinal.size() + 1);
+            if (ordinal == tokensByOrdinal.size()) {
+                tokensByOrdinal.add(new ArrayList<>());
+            }
+            List<String> tokens = tokensByOrdinal.get(ordinal);
+            String token = TOKENS[random.nextInt(TOKENS.length)];
+            if (tokens.contains(token)) {
+                trie.remove(token, ordinal);
+                tokens.remove(token);
+            } else {
+                trie.add(token, ordinal);
+                tokens.add(token);
+            }
+        }
+
+        for (String term : List.of("", "a", "ab", "b", "mei", "meir", "bb")) {
+            Map<Integer, Integer> expectedWithPrefix = new TreeMap<>();
+            Map<Integer, Integer> expectedWithin = new TreeMap<>();
+            for (int ordinal = 0; ordinal < tokensByOrdinal.size(); ordinal++) {
+                for (String token : tokensByOrdinal.get(ordinal)) {
+                    if (token.startsWith(term)) {
+                        expectedWithPrefix.merge(ordinal, token.length(), Math::max);
+                    }
+                    int edits = editDistance(token, term);
+                    if (edits <= 1) {
+                        expectedWithin.merge(ordinal, edits, Math::min);
+                    }
+                }
+            }
+            assertEquals(expectedWithPrefix, withPrefix(term));
+            assertEquals(expectedWithin, within(term, 1));
+        }
+    }
+
+    /**
+     * Returns the longest token starting with {@code prefix} of each employee found.
+     */
+    private Map<Integer, Integer> withPrefix(String prefix) {
+        Map<Integer, Integer> found = new TreeMap<>();
+        trie.forEachWithPrefix(prefix, (ordinal, length) -> found.merge(ordinal, length, Math::max));
+        return found;
+    }
+
+    /**
+     * Returns the fewest edits to a token of each employee found.
+     */
+    private Map<Integer, Integer> within(String term, int maxEdits) {
+        Map<Integer, Integer> found = new TreeMap<>();
+        trie.forEachWithin(term, maxEdits, (ordinal, edits) -> found.merge(ordinal, edits, Math::min));
+        return found;
+    }
+
+    private static int editDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                    distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+}
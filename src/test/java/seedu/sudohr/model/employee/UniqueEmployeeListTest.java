@@ -3,6 +3,7 @@ package seedu.sudohr.model.employee;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
@@ -405,6 +406,18 @@ public class UniqueEmployeeListTest {
         assertEquals(expectedUniqueEmployeeList, uniqueEmployeeList);
     }
 
+    @Test
+    public void setEmployee_afterRemovals_replacedInPlace() {
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(AMY);
+        uniqueEmployeeList.add(BOB);
+        uniqueEmployeeList.add(CARL);
+        uniqueEmployeeList.remove(AMY);
+        Employee newBob = new EmployeeBuilder(BOB).withId(VALID_ID_AMY).build();
+        uniqueEmployeeList.setEmployee(BOB, newBob);
+        assertEquals(List.of(ALICE, newBob, CARL), uniqueEmployeeList.asUnmodifiableList());
+    }
+
     // edited employee actually made no change to its own id
     @Test
     public void setEmployee_editedEmployeeNoChangeToId_success() {
@@ -633,6 +646,39 @@ public class UniqueEmployeeListTest {
         assertEquals(expectedUniqueEmployeeList, uniqueEmployeeList);
     }
 
+    @Test
+    public void remove_existingEmployee_releasesEmailAndPhone() {
+        uniqueEmployeeList.add(BOB);
+        uniqueEmployeeList.remove(BOB);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withPhone(VALID_PHONE_BOB)
+                .build();
+        assertFalse(uniqueEmployeeList.checkEmployeeExists(BOB.getId()));
+        assertFalse(uniqueEmployeeList.sharesEmail(editedAlice));
+        assertFalse(uniqueEmployeeList.sharesPhoneNumber(editedAlice));
+    }
+
+    @Test
+    public void remove_employeeWithSameIdButDifferentFields_throwsEmployeeNotFoundException() {
+        uniqueEmployeeList.add(BOB);
+        Employee editedBob = new EmployeeBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        assertThrows(EmployeeNotFoundException.class, () -> uniqueEmployeeList.remove(editedBob));
+    }
+
+    @Test
+    public void setEmployee_editedEmployeeChangeIdEmailPhone_updatesLookups() {
+        uniqueEmployeeList.add(BOB);
+        Employee newBob = new EmployeeBuilder(BOB).withId(VALID_ID_AMY).withEmail(VALID_EMAIL_AMY)
+                .withPhone(VALID_PHONE_AMY).build();
+        uniqueEmployeeList.setEmployee(BOB, newBob);
+
+        assertNull(uniqueEmployeeList.get(BOB.getId()));
+        assertEquals(newBob, uniqueEmployeeList.get(newBob.getId()));
+        assertFalse(uniqueEmployeeList.sharesEmail(new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build()));
+        assertTrue(uniqueEmployeeList.sharesEmail(new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_AMY).build()));
+        assertTrue(uniqueEmployeeList.sharesPhoneNumber(new EmployeeBuilder(ALICE).withPhone(VALID_PHONE_AMY)
+                .build()));
+    }
+
     /** Tests setting of employees with a provided list **/
     @Test
     public void setEmployees_nullUniqueEmployeeList_throwsNullPointerException() {
@@ -661,6 +707,8 @@ public class UniqueEmployeeListTest {
         UniqueEmployeeList expectedUniqueEmployeeList = new UniqueEmployeeList();
         expectedUniqueEmployeeList.add(BOB);
         assertEquals(expectedUniqueEmployeeList, uniqueEmployeeList);
+        assertEquals(BOB, uniqueEmployeeList.get(BOB.getId()));
+        assertFalse(uniqueEmployeeList.checkEmployeeExists(ALICE.getId()));
     }
 
     @Test
@@ -671,8 +719,96 @@ public class UniqueEmployeeListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setEmployees_listWithDuplicatePhones_reportsEveryDuplicate() {
+        Employee bobWithAlicePhone = new EmployeeBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Employee carlWithAlicePhone = new EmployeeBuilder(CARL).withPhone(ALICE.getPhone().value).build();
+        List<Employee> listWithDuplicatePhones = Arrays.asList(ALICE, bobWithAlicePhone, carlWithAlicePhone);
+        assertThrows(DuplicatePhoneNumberException.class, "Operation would result in duplicate phone numbers: "
+                + "index 1 duplicates index 0 (" + ALICE.getPhone() + "), "
+                + "index 2 duplicates index 0 (" + ALICE.getPhone() + ")", ()
+                -> uniqueEmployeeList.setEmployees(listWithDuplicatePhones));
+    }
+
+    @Test
+    public void ordinalOf_editedAndRemovedEmployees_keepsOrdinals() {
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(CARL);
+        int aliceOrdinal = uniqueEmployeeList.ordinalOf(ALICE.getId());
+        int carlOrdinal = uniqueEmployeeList.ordinalOf(CARL.getId());
+        assertNotEquals(aliceOrdinal, carlOrdinal);
+
+        Employee editedAlice = new EmployeeBuilder(ALICE).withId(VALID_ID_AMY).build();
+        uniqueEmployeeList.setEmployee(ALICE, editedAlice);
+        assertEquals(UniqueEmployeeList.NO_ORDINAL, uniqueEmployeeList.ordinalOf(ALICE.getId()));
+        assertEquals(aliceOrdinal, uniqueEmployeeList.ordinalOf(editedAlice.getId()));
+        assertEquals(editedAlice, uniqueEmployeeList.getByOrdinal(aliceOrdinal));
+
+        uniqueEmployeeList.remove(editedAlice);
+        uniqueEmployeeList.add(BOB);
+        assertNull(uniqueEmployeeList.getByOrdinal(aliceOrdinal));
+        assertNotEquals(aliceOrdinal, uniqueEmployeeList.ordinalOf(BOB.getId()));
+        assertEquals(carlOrdinal, uniqueEmployeeList.ordinalOf(CARL.getId()));
+    }
+
+    @Test
+    public void findByName_afterEditAndRemove_findsCurrentNames() {
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(BOB);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withName("Alice Bob").build();
+        uniqueEmployeeList.setEmployee(ALICE, editedAlice);
+
+        EmployeeBitmap found = uniqueEmployeeList.findByName(Arrays.asList("bob", "Pauline"));
+        assertEquals(2, found.cardinality());
+        assertTrue(found.contains(uniqueEmployeeList.ordinalOf(ALICE.getId())));
+
+        uniqueEmployeeList.remove(BOB);
+        assertEquals(1, uniqueEmployeeList.findByName(Collections.singletonList("BOB")).cardinality());
+        assertTrue(uniqueEmployeeList.findByName(Collections.singletonList("Pauline")).isEmpty());
+    }
+
+    @Test
+    public void setEmployees_renumbersOrdinals() {
+        uniqueEmployeeList.add(ALICE);
+        int generation = uniqueEmployeeList.getOrdinalGeneration();
+        uniqueEmployeeList.setEmployees(Arrays.asList(BOB, ALICE));
+        assertNotEquals(generation, uniqueEmployeeList.getOrdinalGeneration());
+        assertEquals(0, uniqueEmployeeList.ordinalOf(BOB.getId()));
+        assertEquals(1, uniqueEmployeeList.ordinalOf(ALICE.getId()));
+    }
+
+    @Test
+    public void remove_mostEmployees_renumbersOrdinals() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Employee employee = new EmployeeBuilder().withId(String.valueOf(100 + i)).withName("Worker " + i)
+                    .withPhone(String.valueOf(90000000 + i)).withEmail("worker" + i + "@example.com").build();
+            employees.add(employee);
+            uniqueEmployeeList.add(employee);
+        }
+        int generation = uniqueEmployeeList.getOrdinalGeneration();
+
+        // ordinals are kept while the unused ones do not outnumber the employees
+        for (int i = 0; i < 16; i++) {
+            uniqueEmployeeList.remove(employees.get(i));
+        }
+        assertEquals(generation, uniqueEmployeeList.getOrdinalGeneration());
+        assertEquals(19, uniqueEmployeeList.ordinalOf(employees.get(19).getId()));
+
+        uniqueEmployeeList.remove(employees.get(16));
+        assertNotEquals(generation, uniqueEmployeeList.getOrdinalGeneration());
+        for (int i = 17; i < 20; i++) {
+            Employee employee = employees.get(i);
+            assertEquals(i - 17, uniqueEmployeeList.ordinalOf(employee.getId()));
+            assertEquals(employee, uniqueEmployeeList.getByOrdinal(i - 17));
+            assertEquals(i - 17, uniqueEmployeeList.positionOf(employee.getId()));
+        }
+        assertEquals(3, uniqueEmployeeList.findByName(Collections.singletonList("worker")).cardinality());
+        assertEquals(3, uniqueEmployeeList.asBitmap().cardinality());
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueEmployeeList.asUnmodifiableObservableList().remove(0));
+            -> uniqueEmployeeList.asUnmodifiableList().remove(0));
     }
 }
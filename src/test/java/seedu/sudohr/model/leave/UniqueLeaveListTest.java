@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
 import static seedu.sudohr.testutil.TypicalLeave.LEAVE_TYPE_1;
 import static seedu.sudohr.testutil.TypicalLeave.LEAVE_TYPE_2;
+import static seedu.sudohr.testutil.TypicalLeave.LEAVE_TYPE_3;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +58,43 @@ public class UniqueLeaveListTest {
         assertThrows(DuplicateLeaveException.class, () -> uniqueLeaveList.addLeave(LEAVE_TYPE_1));
     }
 
+    @Test
+    public void add_leavesOutOfOrder_keepsDateOrder() {
+        uniqueLeaveList.addLeave(LEAVE_TYPE_2);
+        uniqueLeaveList.addLeave(LEAVE_TYPE_1);
+        uniqueLeaveList.addLeave(LEAVE_TYPE_3);
+        assertEquals(Arrays.asList(LEAVE_TYPE_1, LEAVE_TYPE_3, LEAVE_TYPE_2),
+                uniqueLeaveList.asUnmodifiableList());
+    }
+
+    @Test
+    public void getLeave_existingAndMissingDates_returnsLeaveOrNull() {
+        uniqueLeaveList.addLeave(LEAVE_TYPE_1);
+        assertEquals(LEAVE_TYPE_1, uniqueLeaveList.getLeave(LEAVE_TYPE_1.getDate()));
+        assertEquals(null, uniqueLeaveList.getLeave(LEAVE_TYPE_2.getDate()));
+    }
+
+    @Test
+    public void getLeavesBetween_variousRanges_returnsLeavesInRangeInDateOrder() {
+        uniqueLeaveList.setLeaves(Arrays.asList(LEAVE_TYPE_2, LEAVE_TYPE_3, LEAVE_TYPE_1));
+
+        // range covering every leave, bounds inclusive
+        assertEquals(Arrays.asList(LEAVE_TYPE_1, LEAVE_TYPE_3, LEAVE_TYPE_2),
+                uniqueLeaveList.getLeavesBetween(LEAVE_TYPE_1.getDate(), LEAVE_TYPE_2.getDate()));
+
+        // range covering some leaves
+        assertEquals(Arrays.asList(LEAVE_TYPE_3, LEAVE_TYPE_2),
+                uniqueLeaveList.getLeavesBetween(new LeaveDate(LocalDate.of(2001, 1, 1)),
+                        new LeaveDate(LocalDate.of(2010, 1, 1))));
+
+        // range covering no leaves
+        assertTrue(uniqueLeaveList.getLeavesBetween(new LeaveDate(LocalDate.of(2011, 1, 1)),
+                new LeaveDate(LocalDate.of(2012, 1, 1))).isEmpty());
+
+        // start after end
+        assertTrue(uniqueLeaveList.getLeavesBetween(LEAVE_TYPE_2.getDate(), LEAVE_TYPE_1.getDate()).isEmpty());
+    }
+
     @Test
     public void setLeave_nullTargetLeave_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLeaveList.setLeave(null,
@@ -163,8 +204,33 @@ public class UniqueLeaveListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
-                uniqueLeaveList.asUnmodifiableObservableList().remove(0));
+                uniqueLeaveList.asUnmodifiableList().remove(0));
+    }
+
+    @Test
+    public void asUnmodifiableList_employeesOnLeaveChanged_leaveReportedUpdated() {
+        Leave earlier = new LeaveBuilder().withLeaveDate("2022-03-20").build();
+        Leave later = new LeaveBuilder().withLeaveDate("2022-03-21").build();
+        uniqueLeaveList.addLeave(later);
+        uniqueLeaveList.addLeave(earlier);
+        List<Integer> updated = new ArrayList<>();
+        uniqueLeaveList.asUnmodifiableList().addObserver(change -> {
+            for (int i = change.getFrom(); change.isUpdate() && i < change.getTo(); i++) {
+                updated.add(i);
+            }
+        });
+
+        later.addEmployee(ALICE);
+        earlier.addEmployee(ALICE);
+        later.deleteEmployee(ALICE);
+        assertEquals(List.of(1, 0, 1), updated);
+
+        // leaves no longer in the list are not reported
+        uniqueLeaveList.remove(later);
+        updated.clear();
+        later.addEmployee(ALICE);
+        assertEquals(List.of(), updated);
     }
 }
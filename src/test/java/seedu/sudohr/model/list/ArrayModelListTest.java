@@ -0,0 +1,129 @@
+package seedu.sudohr.model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ArrayModelListTest {
+
+    private final ArrayModelList<String> list = new ArrayModelList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+
+    @Test
+    public void add_element_reportedAsAdded() {
+        list.add("a");
+        list.addObserver(changes::add);
+
+        list.add(0, "b");
+        assertEquals(List.of("b", "a"), list);
+        assertEquals(List.of(ListChange.replaced(0, List.of(), List.of("b"))), changes);
+    }
+
+    @Test
+    public void addAll_elements_reportedAsOneChange() {
+        list.addObserver(changes::add);
+
+        list.addAll(List.of("a", "b"));
+        assertFalse(list.addAll(List.of()));
+        assertEquals(List.of(ListChange.replaced(0, List.of(), List.of("a", "b"))), changes);
+    }
+
+    @Test
+    public void setAndRemove_elements_reportedAsReplaced() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        list.addObserver(changes::add);
+
+        list.set(1, "e");
+        list.remove("a");
+        list.subList(1, 3).clear();
+        assertEquals(List.of("e"), list);
+        assertEquals(List.of(ListChange.replaced(1, List.of("b"), List.of("e")),
+                ListChange.replaced(0, List.of("a"), List.of()),
+                ListChange.replaced(1, List.of("c", "d"), List.of())), changes);
+    }
+
+    @Test
+    public void setAll_elements_reportedAsOneChange() {
+        list.addAll(List.of("a", "b"));
+        list.addObserver(changes::add);
+
+        list.setAll(List.of("c"));
+        assertEquals(List.of("c"), list);
+        assertEquals(List.of(ListChange.replaced(0, List.of("a", "b"), List.of("c"))), changes);
+    }
+
+    @Test
+    public void removeObserver_observer_notNotified() {
+        ListObserver<String> observer = changes::add;
+        list.addObserver(observer);
+        list.removeObserver(observer);
+
+        list.add("a");
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void elementRevisionIncremented_everyOccurrenceReportedUpdated() {
+        Revision first = new Revision();
+        Revision second = new Revision();
+        ArrayModelList<Revision> revisions = new ArrayModelList<>(revision -> revision);
+        revisions.addAll(List.of(first, second, first));
+        List<ListChange<Revision>> revisionChanges = new ArrayList<>();
+        revisions.addObserver(revisionChanges::add);
+
+        first.increment();
+        assertEquals(List.of(ListChange.updated(0, 1), ListChange.updated(2, 3)), revisionChanges);
+
+        // elements no longer in the list are not reported
+        revisions.remove(0);
+        revisions.remove(1);
+        revisionChanges.clear();
+        first.increment();
+        assertEquals(List.of(), revisionChanges);
+    }
+
+    @Test
+    public void elementRevisionIncremented_afterElementsShifted_reportedAtCurrentPosition() {
+        Revision first = new Revision();
+        Revision second = new Revision();
+        Revision third = new Revision();
+        ArrayModelList<Revision> revisions = new ArrayModelList<>(revision -> revision);
+        revisions.addAll(List.of(first, second));
+        List<ListChange<Revision>> revisionChanges = new ArrayList<>();
+        revisions.addObserver(revisionChanges::add);
+
+        second.increment();
+        revisions.add(0, third);
+        second.increment();
+        third.increment();
+        revisions.remove(first);
+        second.increment();
+        third.increment();
+        assertEquals(List.of(ListChange.updated(1, 2), ListChange.replaced(0, List.of(), List.of(third)),
+                ListChange.updated(2, 3), ListChange.updated(0, 1), ListChange.replaced(1, List.of(first), List.of()),
+                ListChange.updated(1, 2), ListChange.updated(0, 1)), revisionChanges);
+    }
+
+    @Test
+    public void unmodifiableList_modify_throwsUnsupportedOperationException() {
+        list.add("a");
+        ModelList<String> unmodifiableList = ModelList.unmodifiableList(list);
+        assertThrows(UnsupportedOperationException.class, () -> unmodifiableList.add("a"));
+        assertThrows(UnsupportedOperationException.class, () -> unmodifiableList.remove(0));
+    }
+
+    @Test
+    public void unmodifiableList_backingListChanged_changeRelayed() {
+        ModelList<String> unmodifiableList = ModelList.unmodifiableList(list);
+        unmodifiableList.addObserver(changes::add);
+
+        list.add("a");
+        assertEquals(List.of("a"), unmodifiableList);
+        assertEquals(List.of(ListChange.replaced(0, List.of(), List.of("a"))), changes);
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.sudohr.model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FilteredModelListTest {
+
+    private static final Predicate<Integer> IS_EVEN = i -> i % 2 == 0;
+
+    private final ArrayModelList<Integer> source = new ArrayModelList<>();
+    private final List<ListChange<Integer>> changes = new ArrayList<>();
+
+    @Test
+    public void constructor_nullSource_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FilteredModelList<>(null));
+    }
+
+    @Test
+    public void get_noPredicate_showsEveryElement() {
+        source.addAll(List.of(1, 2, 3));
+        assertEquals(List.of(1, 2, 3), new FilteredModelList<>(source));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        source.addAll(List.of(1, 2, 3));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source, IS_EVEN);
+        assertThrows(IndexOutOfBoundsException.class, () -> filtered.get(1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        assertThrows(UnsupportedOperationException.class, () -> filtered.add(1));
+    }
+
+    @Test
+    public void detach_sourceChangedAfterwards_notFollowed() {
+        source.addAll(List.of(1, 2));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        filtered.addObserver(changes::add);
+
+        filtered.detach();
+        source.add(3);
+        assertEquals(List.of(), changes);
+        assertEquals(2, filtered.size());
+    }
+
+    @Test
+    public void setPredicate_predicate_reportedAsOneChange() {
+        source.addAll(List.of(1, 2, 3, 4));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        filtered.addObserver(changes::add);
+
+        filtered.setPredicate(IS_EVEN);
+        assertEquals(List.of(2, 4), filtered);
+        assertEquals(List.of(ListChange.replaced(0, List.of(1, 2, 3, 4), List.of(2, 4))), changes);
+    }
+
+    @Test
+    public void setIndexedPredicate_indices_showsAndTracksMatches() {
+        source.addAll(List.of(1, 2, 3, 4));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        filtered.addObserver(changes::add);
+
+        filtered.setIndexedPredicate(IS_EVEN, new int[] {1, 3});
+        assertEquals(List.of(2, 4), filtered);
+        assertEquals(List.of(ListChange.replaced(0, List.of(1, 2, 3, 4), List.of(2, 4))), changes);
+
+        source.add(0, 6);
+        source.remove(Integer.valueOf(2));
+        assertEquals(List.of(6, 4), filtered);
+    }
+
+    @Test
+    public void setIndexedPredicate_comparator_sortsOnlyMatches() {
+        source.addAll(List.of(1, 2, 3, 4, 6));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        filtered.addObserver(changes::add);
+
+        filtered.setIndexedPredicate(IS_EVEN, new int[] {1, 3, 4}, Comparator.reverseOrder());
+        assertEquals(List.of(6, 4, 2), filtered);
+        assertEquals(List.of(ListChange.replaced(0, List.of(1, 2, 3, 4, 6), List.of(6, 4, 2))), changes);
+
+        source.add(0, 5);
+        source.add(1, 8);
+        source.remove(Integer.valueOf(4));
+        assertEquals(List.of(8, 6, 2), filtered);
+        // the odd element added is not shown, so it is not reported
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void setComparator_comparator_sortsStably() {
+        source.addAll(List.of(3, 4, 1, 2, 5));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+
+        filtered.setComparator(Comparator.comparing(i -> i % 2));
+        assertEquals(List.of(4, 2, 3, 1, 5), filtered);
+
+        source.add(0, 6);
+        assertEquals(List.of(6, 4, 2, 3, 1, 5), filtered);
+
+        filtered.setComparator(null);
+        assertEquals(source, filtered);
+    }
+
+    @Test
+    public void sourceChanged_onlyMatchingElementsReported() {
+        source.addAll(List.of(1, 2, 3, 4));
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source, IS_EVEN);
+        filtered.addObserver(changes::add);
+
+        source.add(1, 6);
+        source.add(7);
+        source.remove(Integer.valueOf(2));
+        assertEquals(List.of(6, 4), filtered);
+        assertEquals(List.of(ListChange.replaced(0, List.of(), List.of(6)),
+                ListChange.replaced(1, List.of(2), List.of())), changes);
+    }
+
+    @Test
+    public void sourceElementUpdated_shownOrHiddenByPredicate() {
+        Revision first = new Revision();
+        Revision second = new Revision();
+        ArrayModelList<Revision> revisions = new ArrayModelList<>(revision -> revision);
+        revisions.addAll(List.of(first, second));
+        FilteredModelList<Revision> filtered = new FilteredModelList<>(revisions, revision -> revision.get() < 2);
+        List<ListChange<Revision>> revisionChanges = new ArrayList<>();
+        filtered.addObserver(revisionChanges::add);
+
+        second.increment();
+        assertEquals(List.of(ListChange.updated(1, 2)), revisionChanges);
+
+        second.increment();
+        assertEquals(List.of(first), filtered);
+        assertEquals(ListChange.replaced(1, List.of(second), List.of()), revisionChanges.get(1));
+    }
+
+    @Test
+    public void sourceChangedRandomly_viewAndChangesConsistent() {
+        Random random = new Random(2023);
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source, IS_EVEN);
+        List<Integer> replayed = new ArrayList<>();
+        filtered.addObserver(change -> apply(change, replayed));
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(5);
+            int index = source.isEmpty() ? 0 : random.nextInt(source.size());
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.addAll(index, List.of(random.nextInt(100), random.nextInt(100)));
+            } else if (operation == 2) {
+                source.set(index, random.nextInt(100));
+            } else if (operation == 3) {
+                source.remove(index);
+            } else {
+                source.subList(index, Math.min(source.size(), index + 3)).clear();
+            }
+
+            assertEquals(source.stream().filter(IS_EVEN).collect(Collectors.toList()), filtered);
+            assertEquals(filtered, replayed);
+        }
+    }
+
+    @Test
+    public void sourceChangedRandomly_rankedViewAndChangesConsistent() {
+        Random random = new Random(2023);
+        Comparator<Integer> byLastDigit = Comparator.comparing(i -> i % 10);
+        FilteredModelList<Integer> filtered = new FilteredModelList<>(source);
+        filtered.setIndexedPredicate(IS_EVEN, new int[0], byLastDigit);
+        List<Integer> replayed = new ArrayList<>();
+        filtered.addObserver(change -> apply(change, replayed));
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(4);
+            int index = source.isEmpty() ? 0 : random.nextInt(source.size());
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.set(index, random.nextInt(100));
+            } else if (operation == 2) {
+                source.remove(index);
+            } else {
+                source.subList(index, Math.min(source.size(), index + 3)).clear();
+            }
+
+            assertEquals(source.stream().filter(IS_EVEN).sorted(byLastDigit).collect(Collectors.toList()), filtered);
+            assertEquals(filtered, replayed);
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code list}, checking that the elements it removes are the ones in the list.
+     */
+    private static <T> void apply(ListChange<T> change, List<T> list) {
+        if (change.isUpdate()) {
+            return;
+        }
+        List<T> removed = list.subList(change.getFrom(), change.getFrom() + change.getRemoved().size());
+        assertEquals(change.getRemoved(), removed);
+        removed.clear();
+        list.addAll(change.getFrom(), change.getAdded());
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.sudohr.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.model.query.EmployeeQuery.and;
+import static seedu.sudohr.model.query.EmployeeQuery.condition;
+import static seedu.sudohr.model.query.EmployeeQuery.not;
+import static seedu.sudohr.model.query.EmployeeQuery.or;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.CARL;
+import static seedu.sudohr.testutil.TypicalEmployees.DANIEL;
+import static seedu.sudohr.testutil.TypicalEmployees.ELLE;
+import static seedu.sudohr.testutil.TypicalEmployees.FIONA;
+import static seedu.sudohr.testutil.TypicalEmployees.GEORGE;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+
+public class QueryPlannerTest {
+
+    private static final EmployeeQuery FRIENDS = condition(QueryField.TAG, "FRIENDS");
+    private static final EmployeeQuery OWES_MONEY = condition(QueryField.TAG, "owesMoney");
+    private static final EmployeeQuery ENGINEERING = condition(QueryField.DEPT, "Engineering");
+    private static final EmployeeQuery SALES = condition(QueryField.DEPT, "Sales");
+    private static final EmployeeQuery ON_LEAVE = condition(QueryField.ONLEAVE, "2024-05-03");
+    private static final EmployeeQuery MEIER = condition(QueryField.NAME, "meier");
+    private static final EmployeeQuery STREET = condition(QueryField.ADDRESS, "Street");
+    private static final EmployeeQuery PHONE = condition(QueryField.PHONE, "9482");
+
+    private SudoHr sudoHr;
+    private QueryPlanner planner;
+
+    @BeforeEach
+    public void setUp() {
+        sudoHr = getTypicalSudoHr();
+        Department engineering = new Department(new DepartmentName("Engineering"));
+        sudoHr.addDepartment(engineering);
+        for (Employee employee : List.of(ALICE, BENSON, CARL, DANIEL)) {
+            sudoHr.addEmployeeToDepartment(employee, engineering);
+        }
+        Department sales = new Department(new DepartmentName("Sales"));
+        sudoHr.addDepartment(sales);
+        sudoHr.addEmployeeToDepartment(ELLE, sales);
+        sudoHr.addEmployeeToDepartment(FIONA, sales);
+        Leave leave = new Leave(new LeaveDate(LocalDate.of(2024, 5, 3)));
+        sudoHr.addLeave(leave);
+        sudoHr.addEmployeeToLeave(leave, BENSON);
+        sudoHr.addEmployeeToLeave(leave, ELLE);
+        planner = new QueryPlanner(sudoHr);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QueryPlanner(null));
+    }
+
+    @Test
+    public void plan_indexedConditions_intersectsFewestFirstAndSubtractsNot() {
+        QueryPlan plan = planner.plan(and(List.of(ENGINEERING, FRIENDS, not(ON_LEAVE))));
+        assertEquals(List.of(ALICE, DANIEL), employeesIn(plan.execute()));
+
+        List<String> steps = steps(plan);
+        assertEquals(List.of(
+                "EXCEPT, first minus the rest: at most 3 employees",
+                "INTERSECT, fewest first: at most 3 employees",
+                "LOOKUP tag:FRIENDS in tag index: 3 employees",
+                "LOOKUP dept:Engineering in department membership: 4 employees",
+                "LOOKUP onleave:2024-05-03 in leave membership: 2 employees"), steps);
+    }
+
+    @Test
+    public void plan_leftoverCondition_filtersIndexedCandidatesOnly() {
+        QueryPlan plan = planner.plan(and(List.of(STREET, FRIENDS)));
+        assertEquals(List.of(DANIEL), employeesIn(plan.execute()));
+        assertEquals(List.of(
+                "FILTER at most 3 candidates for address:Street",
+                "LOOKUP tag:FRIENDS in tag index: 3 employees"), steps(plan));
+    }
+
+    @Test
+    public void plan_noIndexedCondition_scansAllEmployees() {
+        QueryPlan plan = planner.plan(or(List.of(STREET, PHONE)));
+        assertEquals(List.of(CARL, DANIEL, ELLE, FIONA, GEORGE), employeesIn(plan.execute()));
+        assertEquals(List.of("SCAN all 7 employees for address:Street OR phone:9482"), steps(plan));
+    }
+
+    @Test
+    public void plan_orOfIndexedAndLeftover_unionsLookupsWithOneScan() {
+        QueryPlan plan = planner.plan(or(List.of(SALES, STREET, OWES_MONEY, PHONE)));
+        assertEquals(List.of(BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), employeesIn(plan.execute()));
+
+        List<String> steps = steps(plan);
+        assertTrue(steps.get(0).startsWith("UNION"));
+        assertEquals(1, steps.stream().filter(step -> step.startsWith("SCAN")).count());
+        assertTrue(steps.contains("SCAN all 7 employees for address:Street OR phone:9482"));
+    }
+
+    @Test
+    public void plan_missingDepartmentOrLeave_findsNoEmployees() {
+        assertTrue(planner.plan(condition(QueryField.DEPT, "Finance")).execute().isEmpty());
+        assertTrue(planner.plan(condition(QueryField.ONLEAVE, "2024-05-04")).execute().isEmpty());
+        assertTrue(planner.plan(condition(QueryField.ID, "999")).execute().isEmpty());
+    }
+
+    @Test
+    public void plan_nameWithSeveralWords_matchesEveryWord() {
+        assertEquals(List.of(BENSON), employeesIn(planner.plan(condition(QueryField.NAME, "Meier benson")).execute()));
+        assertEquals(List.of(BENSON, DANIEL), employeesIn(planner.plan(MEIER).execute()));
+    }
+
+    @Test
+    public void execute_afterPlanning_doesNotChangeIndices() {
+        planner.plan(and(List.of(FRIENDS, not(ON_LEAVE)))).execute();
+        assertEquals(List.of(ALICE, BENSON, DANIEL), employeesIn(planner.plan(FRIENDS).execute()));
+        assertEquals(List.of(BENSON, ELLE), employeesIn(planner.plan(ON_LEAVE).execute()));
+    }
+
+    @Test
+    public void execute_variousQueries_sameAsTestingEveryEmployee() {
+        List<EmployeeQuery> queries = List.of(
+                FRIENDS,
+                not(FRIENDS),
+                not(STREET),
+                condition(QueryField.ID, "104"),
+                condition(QueryField.EMAIL, "EXAMPLE.com"),
+                and(List.of(ENGINEERING, not(FRIENDS))),
+                and(List.of(not(ENGINEERING), not(ON_LEAVE))),
+                and(List.of(SALES, PHONE, not(ON_LEAVE))),
+                and(List.of(MEIER, or(List.of(STREET, ON_LEAVE)))),
+                and(List.of(not(STREET), or(List.of(ENGINEERING, SALES)))),
+                or(List.of(and(List.of(FRIENDS, STREET)), and(List.of(SALES, not(PHONE))))),
+                or(List.of(not(ENGINEERING), OWES_MONEY)),
+                not(or(List.of(MEIER, and(List.of(SALES, ON_LEAVE))))));
+        for (EmployeeQuery query : queries) {
+            List<Employee> expected = sudoHr.getEmployeeList().stream()
+                    .filter(employee -> matches(query, employee))
+                    .collect(Collectors.toList());
+            assertEquals(expected, employeesIn(planner.plan(query).execute()), query.toString());
+        }
+    }
+
+    @Test
+    public void explain_nestedSteps_indentedByDepth() {
+        String explanation = planner.plan(and(List.of(OWES_MONEY, not(ENGINEERING)))).explain();
+        assertEquals("EXCEPT, first minus the rest: at most 1 employees\n"
+                + "  LOOKUP tag:owesMoney in tag index: 1 employees\n"
+                + "  LOOKUP dept:Engineering in department membership: 4 employees\n", explanation);
+        assertFalse(explanation.contains("SCAN"));
+    }
+
+    private List<Employee> employeesIn(EmployeeBitmap found) {
+        return sudoHr.getEmployeeList().stream()
+                .filter(employee -> found.contains(sudoHr.getEmployeeOrdinal(employee.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> steps(QueryPlan plan) {
+        return List.of(plan.explain().split("\n")).stream().map(String::strip).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code employee} matches {@code query}, without using any index.
+     */
+    private boolean matches(EmployeeQuery query, Employee employee) {
+        if (query instanceof EmployeeQuery.And) {
+            return ((EmployeeQuery.And) query).getQueries().stream().allMatch(q -> matches(q, employee));
+        }
+        if (query instanceof EmployeeQuery.Or) {
+            return ((EmployeeQuery.Or) query).getQueries().stream().anyMatch(q -> matches(q, employee));
+        }
+        if (query instanceof EmployeeQuery.Not) {
+            return !matches(((EmployeeQuery.Not) query).getQuery(), employee);
+        }
+        EmployeeQuery.Condition condition = (EmployeeQuery.Condition) query;
+        String value = condition.getValue();
+        switch (condition.getField()) {
+        case ID:
+            return employee.getId().equals(new Id(value));
+        case NAME:
+            return List.of(employee.getName().fullName.toLowerCase(Locale.ROOT).split(" "))
+                    .containsAll(List.of(value.toLowerCase(Locale.ROOT).split(" ")));
+        case TAG:
+            return employee.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(value));
+        case DEPT:
+            Department department = sudoHr.getDepartment(new DepartmentName(value));
+            return department != null && department.hasEmployee(employee.getId());
+        case ONLEAVE:
+            return sudoHr.hasEmployeeOnLeave(new LeaveDate(LocalDate.parse(value)), employee);
+        case EMAIL:
+            return employee.getEmail().value.toLowerCase(Locale.ROOT).contains(value.toLowerCase(Locale.ROOT));
+        case PHONE:
+            return employee.getPhone().value.contains(value);
+        default:
+            return employee.getAddress().value.toLowerCase(Locale.ROOT).contains(value.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.sudohr.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_sameTags_returnsSameInstance() {
+        Set<Tag> first = TagSet.of(Arrays.asList(new Tag("Manager"), new Tag("Engineer")));
+        Set<Tag> second = TagSet.of(new HashSet<>(Arrays.asList(new Tag("Engineer"), new Tag("Manager"))));
+        assertSame(first, second);
+    }
+
+    @Test
+    public void of_tags_internsEachTag() {
+        Tag tag = TagSet.of(Arrays.asList(new Tag("Intern"))).iterator().next();
+        assertSame(Tag.of("Intern"), tag);
+    }
+
+    @Test
+    public void of_duplicateTags_keepsOne() {
+        Set<Tag> tags = TagSet.of(Arrays.asList(new Tag("Manager"), new Tag("Manager")));
+        assertEquals(1, tags.size());
+    }
+
+    @Test
+    public void iterator_sortedByName() {
+        Set<Tag> tags = TagSet.of(Arrays.asList(new Tag("PartTime"), new Tag("Contract"), new Tag("Manager")));
+        List<Tag> order = new ArrayList<>(tags);
+        assertEquals(Arrays.asList(new Tag("Contract"), new Tag("Manager"), new Tag("PartTime")), order);
+    }
+
+    @Test
+    public void equals_sameAsHashSet() {
+        Set<Tag> expected = new HashSet<>(Arrays.asList(new Tag("Engineer"), new Tag("Manager")));
+        Set<Tag> tags = TagSet.of(expected);
+        assertEquals(expected, tags);
+        assertEquals(tags, expected);
+        assertEquals(expected.hashCode(), tags.hashCode());
+        assertTrue(tags.contains(new Tag("Engineer")));
+        assertFalse(tags.contains(new Tag("Intern")));
+        assertEquals(new HashSet<>(), TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<Tag> tags = TagSet.of(Arrays.asList(new Tag("Engineer")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("Manager")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("Engineer")));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+}
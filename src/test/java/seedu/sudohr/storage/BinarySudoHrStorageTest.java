@@ -0,0 +1,102 @@
+package seedu.sudohr.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalEmployees.HOON;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.testutil.LeaveBuilder;
+
+public class BinarySudoHrStorageTest {
+    private static final Path TYPICAL_DEPARTMENTS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableSudoHrTest", "typicalDepartmentsSudoHr.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSudoHr_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinarySudoHrStorage(null).readSudoHr(null));
+    }
+
+    @Test
+    public void readSudoHr_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySudoHrStorage(testFolder.resolve("NonExistentFile.bin")).readSudoHr().isPresent());
+    }
+
+    @Test
+    public void readSudoHr_jsonFile_imported() throws Exception {
+        ReadOnlySudoHr imported = new BinarySudoHrStorage(TYPICAL_DEPARTMENTS_FILE).readSudoHr().get();
+        assertEquals(new JsonSudoHrStorage(TYPICAL_DEPARTMENTS_FILE).readSudoHr().get(), imported);
+    }
+
+    @Test
+    public void readAndSaveSudoHr_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.bin");
+        BinarySudoHrStorage binarySudoHrStorage = new BinarySudoHrStorage(filePath);
+        SudoHr original = new SudoHr(new JsonSudoHrStorage(TYPICAL_DEPARTMENTS_FILE).readSudoHr().get());
+
+        binarySudoHrStorage.saveSudoHr(original);
+        assertEquals(BinarySudoHrStorage.MAGIC, ByteBuffer.wrap(Files.readAllBytes(filePath)).getInt());
+        assertSameData(original, binarySudoHrStorage.readSudoHr().get());
+
+        original.addEmployee(HOON);
+        original.addEmployeeToDepartment(HOON, original.getDepartmentList().get(0));
+        original.addLeave(new LeaveBuilder().withLeaveDate("2023-01-01").withEmployees(HOON).build());
+        binarySudoHrStorage.saveSudoHr(original);
+        assertSameData(original, binarySudoHrStorage.readSudoHr().get());
+    }
+
+    @Test
+    public void readSudoHr_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.bin");
+        BinarySudoHrStorage binarySudoHrStorage = new BinarySudoHrStorage(filePath);
+        binarySudoHrStorage.saveSudoHr(new JsonSudoHrStorage(TYPICAL_DEPARTMENTS_FILE).readSudoHr().get());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, binarySudoHrStorage::readSudoHr);
+    }
+
+    @Test
+    public void readSudoHr_newerVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.bin");
+        Files.write(filePath, ByteBuffer.allocate(8).putInt(BinarySudoHrStorage.MAGIC)
+                .putInt(BinarySudoHrStorage.CURRENT_VERSION + 1).array());
+        assertThrows(DataConversionException.class, () -> new BinarySudoHrStorage(filePath).readSudoHr());
+    }
+
+    @Test
+    public void saveSudoHr_nullSudoHr_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinarySudoHrStorage(filePath).saveSudoHr(null));
+    }
+
+    private static void assertSameData(ReadOnlySudoHr expected, ReadOnlySudoHr actual) {
+        assertEquals(expected.getEmployeeList(), actual.getEmployeeList());
+        assertEquals(expected.getDepartmentList(), actual.getDepartmentList());
+        for (int i = 0; i < expected.getDepartmentList().size(); i++) {
+            Department department = expected.getDepartmentList().get(i);
+            assertEquals(department.getEmployees(), actual.getDepartmentList().get(i).getEmployees());
+        }
+        assertEquals(expected.getLeavesList(), actual.getLeavesList());
+        for (int i = 0; i < expected.getLeavesList().size(); i++) {
+            Leave leave = expected.getLeavesList().get(i);
+            assertEquals(leave.getEmployees(), actual.getLeavesList().get(i).getEmployees());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.sudohr.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalDepartmentLeave.ENGINEERING;
+import static seedu.sudohr.testutil.TypicalDepartmentLeave.LEAVE_NO_DEPARTMENT_TYPE_4;
+import static seedu.sudohr.testutil.TypicalDepartmentLeave.LEAVE_ONE_ENGINEERING_TYPE_2;
+import static seedu.sudohr.testutil.TypicalDepartmentLeave.getTypicalSudoHr;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.SudoHrSnapshot;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.testutil.EmployeeBuilder;
+
+public class JournalSudoHrStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSudoHr_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalSudoHrStorage(null).readSudoHr(null));
+    }
+
+    @Test
+    public void readSudoHr_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalSudoHrStorage(filePath).readSudoHr().isPresent());
+    }
+
+    @Test
+    public void saveSudoHr_afterFirstSave_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        Path journalFilePath = JournalSudoHrStorage.getJournalFilePath(filePath);
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+
+        storage.saveSudoHr(original.snapshot());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = Files.readString(filePath);
+
+        Employee editedAlice = new EmployeeBuilder(ALICE).withEmail(VALID_EMAIL_AMY).build();
+        original.setEmployee(ALICE, editedAlice);
+        original.cascadeEditEmployeeToDepartments(ALICE, editedAlice);
+        original.cascadeUpdateUserInLeaves(ALICE, editedAlice);
+        original.addEmployee(IDA);
+        original.addEmployeeToDepartment(IDA, original.getDepartment(ENGINEERING.getName()));
+        original.deleteLeave(original.getLeave(LEAVE_ONE_ENGINEERING_TYPE_2.getDate()));
+        storage.saveSudoHr(original.snapshot());
+
+        // the snapshot is left alone and only the changed employees, department and leave are journalled after the
+        // header of the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(journalFilePath).size());
+        assertSameData(original, new JournalSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void saveSudoHr_unchangedData_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+
+        storage.saveSudoHr(original.snapshot());
+        storage.saveSudoHr(original.snapshot());
+
+        assertFalse(Files.exists(JournalSudoHrStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveSudoHr_journalFull_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath, 2, Long.MAX_VALUE);
+        storage.saveSudoHr(original.snapshot());
+
+        original.addEmployee(IDA);
+        storage.saveSudoHr(original.snapshot());
+        assertTrue(Files.exists(JournalSudoHrStorage.getJournalFilePath(filePath)));
+
+        original.removeEmployee(original.getEmployee(IDA.getId()));
+        storage.saveSudoHr(original.snapshot());
+        assertFalse(Files.exists(JournalSudoHrStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JsonSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void saveSudoHr_snapshotSkipped_writesSnapshotFile() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+        storage.saveSudoHr(original.snapshot());
+
+        original.addEmployee(IDA);
+        original.snapshot();
+        original.addEmployeeToDepartment(IDA, original.getDepartment(ENGINEERING.getName()));
+        storage.saveSudoHr(original.snapshot());
+
+        // the changes of the skipped snapshot are not known, so everything is written
+        assertFalse(Files.exists(JournalSudoHrStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JsonSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void saveSudoHr_snapshotIncludingChangesOfSkipped_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+        storage.saveSudoHr(original.snapshot());
+
+        original.addEmployee(IDA);
+        SudoHrSnapshot skipped = original.snapshot();
+        original.addEmployeeToDepartment(IDA, original.getDepartment(ENGINEERING.getName()));
+        storage.saveSudoHr(original.snapshot().includingChangesOf(skipped));
+
+        assertEquals(3, Files.readAllLines(JournalSudoHrStorage.getJournalFilePath(filePath)).size());
+        assertSameData(original, new JournalSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void readSudoHr_journalLeftBehindByCompaction_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        Path journalFilePath = JournalSudoHrStorage.getJournalFilePath(filePath);
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath, 2, Long.MAX_VALUE);
+        storage.saveSudoHr(original.snapshot());
+        original.addEmployee(IDA);
+        storage.saveSudoHr(original.snapshot());
+        byte[] oldJournal = Files.readAllBytes(journalFilePath);
+
+        original.removeEmployee(original.getEmployee(IDA.getId()));
+        storage.saveSudoHr(original.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+
+        // as if the application had crashed after writing the snapshot but before deleting the journal
+        Files.write(journalFilePath, oldJournal);
+        JournalSudoHrStorage reopened = new JournalSudoHrStorage(filePath);
+        assertSameData(original, reopened.readSudoHr().get());
+
+        // the next save starts over from a snapshot instead of appending to the old journal
+        original.addEmployee(IDA);
+        reopened.saveSudoHr(original.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(original, new JournalSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void readSudoHr_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        Path journalFilePath = JournalSudoHrStorage.getJournalFilePath(filePath);
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+        storage.saveSudoHr(original.snapshot());
+        original.addEmployee(IDA);
+        storage.saveSudoHr(original.snapshot());
+
+        Files.write(journalFilePath, "{\"type\":\"-employee\",\"ke".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournalSudoHrStorage reopened = new JournalSudoHrStorage(filePath);
+        ReadOnlySudoHr readBack = reopened.readSudoHr().get();
+        assertSameData(original, readBack);
+
+        // the next save starts over from a snapshot instead of appending after the incomplete record
+        SudoHr edited = new SudoHr(readBack);
+        Employee benson = edited.getEmployee(BENSON.getId());
+        edited.cascadeDeleteEmployeeToDepartments(benson);
+        edited.cascadeDeleteUserInLeaves(benson);
+        edited.removeEmployee(benson);
+        reopened.saveSudoHr(edited.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(edited, new JournalSudoHrStorage(filePath).readSudoHr().get());
+    }
+
+    @Test
+    public void readSudoHr_malformedRecordBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        Path journalFilePath = JournalSudoHrStorage.getJournalFilePath(filePath);
+        SudoHr original = getTestSudoHr();
+        JournalSudoHrStorage storage = new JournalSudoHrStorage(filePath);
+        storage.saveSudoHr(original.snapshot());
+
+        Files.write(journalFilePath, "not a record\n{\"type\":\"-employee\",\"key\":\"1\"}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JournalSudoHrStorage(filePath).readSudoHr());
+    }
+
+    @Test
+    public void saveSudoHr_nullSudoHr_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        assertThrows(NullPointerException.class, () -> new JournalSudoHrStorage(filePath).saveSudoHr(null));
+    }
+
+    /**
+     * Returns the typical SudoHR without the leave of an employee who is not in it.
+     */
+    private static SudoHr getTestSudoHr() {
+        SudoHr sudoHr = getTypicalSudoHr();
+        sudoHr.deleteLeave(sudoHr.getLeave(LEAVE_NO_DEPARTMENT_TYPE_4.getDate()));
+        return sudoHr;
+    }
+
+    private static void assertSameData(ReadOnlySudoHr expected, ReadOnlySudoHr actual) {
+        assertEquals(expected.getEmployeeList(), actual.getEmployeeList());
+        assertEquals(expected.getDepartmentList(), actual.getDepartmentList());
+        for (Department department : expected.getDepartmentList()) {
+            Department actualDepartment = actual.getDepartmentList().get(
+                    actual.getDepartmentList().indexOf(department));
+            assertEquals(department.getEmployees(), actualDepartment.getEmployees());
+        }
+        assertEquals(expected.getLeavesList(), actual.getLeavesList());
+        for (Leave leave : expected.getLeavesList()) {
+            Leave actualLeave = actual.getLeavesList().get(actual.getLeavesList().indexOf(leave));
+            assertEquals(leave.getEmployees(), actualLeave.getEmployees());
+        }
+    }
+}
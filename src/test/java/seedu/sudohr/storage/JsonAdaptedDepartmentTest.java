@@ -4,16 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.sudohr.storage.JsonAdaptedDepartment.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 import static seedu.sudohr.testutil.TypicalDepartments.ENGINEERING;
+import static seedu.sudohr.testutil.TypicalEmployees.HOON;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
 import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
 
 public class JsonAdaptedDepartmentTest {
+    private static final SudoHr SUDO_HR = getTypicalSudoHr();
     private static final String INVALID_DEPARTMENT_NAME = "@Engineering";
 
     private static final String VALID_NAME = ENGINEERING.getName().toString();
@@ -24,20 +31,35 @@ public class JsonAdaptedDepartmentTest {
     @Test
     public void toModelType_validDepartmentDetails_returnsDepartment() throws Exception {
         JsonAdaptedDepartment department = new JsonAdaptedDepartment(ENGINEERING);
-        assertEquals(ENGINEERING, department.toModelType());
+        Department modelDepartment = department.toModelType(SUDO_HR);
+        assertEquals(ENGINEERING, modelDepartment);
+        assertEquals(ENGINEERING.getEmployees(), modelDepartment.getEmployees());
+    }
+
+    @Test
+    public void toModelType_embeddedEmployees_returnsDepartment() throws Exception {
+        JsonAdaptedDepartment department = new JsonAdaptedDepartment(VALID_NAME, VALID_EMPLOYEES);
+        assertEquals(ENGINEERING.getEmployees(), department.toModelType(SUDO_HR).getEmployees());
+    }
+
+    @Test
+    public void toModelType_unknownEmployeeId_throwsEmployeeNotFoundException() {
+        JsonAdaptedDepartment department = new JsonAdaptedDepartment(VALID_NAME, null,
+                Arrays.asList(HOON.getId().toString()));
+        assertThrows(EmployeeNotFoundException.class, () -> department.toModelType(SUDO_HR));
     }
 
     @Test
     public void toModelType_invalidDepartmentName_throwsIllegalValueException() {
         JsonAdaptedDepartment department = new JsonAdaptedDepartment(INVALID_DEPARTMENT_NAME, VALID_EMPLOYEES);
         String expectedMessage = DepartmentName.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, department::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> department.toModelType(SUDO_HR));
     }
 
     @Test
     public void toModelType_nullDepartmentName_throwsIllegalValueException() {
         JsonAdaptedDepartment department = new JsonAdaptedDepartment(null, VALID_EMPLOYEES);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DepartmentName.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, department::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> department.toModelType(SUDO_HR));
     }
 }
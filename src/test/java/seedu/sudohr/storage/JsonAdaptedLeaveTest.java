@@ -3,8 +3,11 @@ package seedu.sudohr.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.sudohr.storage.JsonAdaptedLeave.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalEmployees.HOON;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
 import static seedu.sudohr.testutil.TypicalLeave.LEAVE_TYPE_1;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,9 +15,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.sudohr.commons.core.Messages;
 import seedu.sudohr.commons.exceptions.IllegalValueException;
+import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.employee.exceptions.EmployeeNotFoundException;
+import seedu.sudohr.model.leave.Leave;
 import seedu.sudohr.model.leave.LeaveDate;
 
 public class JsonAdaptedLeaveTest {
+    private static final SudoHr SUDO_HR = getTypicalSudoHr();
     private static final String INVALID_LEAVE_DATE = "2091-91-23";
 
     private static final String VALID_DATE = LEAVE_TYPE_1.getDate().toString();
@@ -25,20 +32,34 @@ public class JsonAdaptedLeaveTest {
     @Test
     public void toModelType_validLeaveDetails_returnsLeave() throws Exception {
         JsonAdaptedLeave leave = new JsonAdaptedLeave(LEAVE_TYPE_1);
-        assertEquals(LEAVE_TYPE_1, leave.toModelType());
+        Leave modelLeave = leave.toModelType(SUDO_HR);
+        assertEquals(LEAVE_TYPE_1, modelLeave);
+        assertEquals(LEAVE_TYPE_1.getEmployees(), modelLeave.getEmployees());
+    }
+
+    @Test
+    public void toModelType_embeddedEmployees_returnsLeave() throws Exception {
+        JsonAdaptedLeave leave = new JsonAdaptedLeave(VALID_DATE, VALID_EMPLOYEES);
+        assertEquals(LEAVE_TYPE_1.getEmployees(), leave.toModelType(SUDO_HR).getEmployees());
+    }
+
+    @Test
+    public void toModelType_unknownEmployeeId_throwsEmployeeNotFoundException() {
+        JsonAdaptedLeave leave = new JsonAdaptedLeave(VALID_DATE, null, Arrays.asList(HOON.getId().toString()));
+        assertThrows(EmployeeNotFoundException.class, () -> leave.toModelType(SUDO_HR));
     }
 
     @Test
     public void toModelType_invalidLeaveDate_throwsIllegalValueException() {
         JsonAdaptedLeave leave = new JsonAdaptedLeave(INVALID_LEAVE_DATE, VALID_EMPLOYEES);
         String expectedMessage = Messages.MESSAGE_INVALID_DATE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, leave::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> leave.toModelType(SUDO_HR));
     }
 
     @Test
     public void toModelType_nullLeaveName_throwsIllegalValueException() {
         JsonAdaptedLeave leave = new JsonAdaptedLeave(null, VALID_EMPLOYEES);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LeaveDate.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, leave::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> leave.toModelType(SUDO_HR));
     }
 }
@@ -1,16 +1,21 @@
 package seedu.sudohr.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.sudohr.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.sudohr.commons.exceptions.IllegalValueException;
 import seedu.sudohr.commons.util.JsonUtil;
 import seedu.sudohr.model.SudoHr;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.employee.Name;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmailException;
 import seedu.sudohr.model.employee.exceptions.DuplicateEmployeeException;
 import seedu.sudohr.model.employee.exceptions.DuplicatePhoneNumberException;
@@ -34,6 +39,9 @@ public class JsonSerializableSudoHrTest {
 
     // department paths
     private static final Path TYPICAL_DEPARTMENTS_FILE = TEST_DATA_FOLDER.resolve("typicalDepartmentsSudoHr.json");
+    private static final Path TYPICAL_DEPARTMENTS_V2_FILE = TEST_DATA_FOLDER
+            .resolve("typicalDepartmentsV2SudoHr.json");
+    private static final Path UNSUPPORTED_VERSION_FILE = TEST_DATA_FOLDER.resolve("unsupportedVersionSudoHr.json");
     private static final Path INVALID_DEPARTMENT_FILE = TEST_DATA_FOLDER.resolve("invalidDepartmentSudoHr.json");
     private static final Path DUPLICATE_DEPARTMENT_FILE = TEST_DATA_FOLDER.resolve("duplicateDepartmentSudoHr.json");
     private static final Path DUPLICATE_EMPLOYEE_IN_DEPARTMENT_FILE = TEST_DATA_FOLDER
@@ -133,6 +141,39 @@ public class JsonSerializableSudoHrTest {
         assertEquals(sudoHrFromFile, typicalDepartmentsSudoHr);
     }
 
+    @Test
+    public void toModelType_typicalDepartmentsV2File_sameAsLegacyFile() throws Exception {
+        SudoHr legacySudoHr = JsonUtil.readJsonFile(TYPICAL_DEPARTMENTS_FILE,
+                JsonSerializableSudoHr.class).get().toModelType();
+        SudoHr sudoHrFromFile = JsonUtil.readJsonFile(TYPICAL_DEPARTMENTS_V2_FILE,
+                JsonSerializableSudoHr.class).get().toModelType();
+        assertEquals(legacySudoHr, sudoHrFromFile);
+        assertEquals(legacySudoHr.getDepartmentList(), sudoHrFromFile.getDepartmentList());
+        for (Department department : legacySudoHr.getDepartmentList()) {
+            assertEquals(department.getEmployees(), sudoHrFromFile.getDepartment(department.getName()).getEmployees());
+        }
+    }
+
+    @Test
+    public void toJsonString_legacyFile_migratedToMembersById() throws Exception {
+        SudoHr legacySudoHr = JsonUtil.readJsonFile(TYPICAL_DEPARTMENTS_FILE,
+                JsonSerializableSudoHr.class).get().toModelType();
+        String json = JsonUtil.toJsonString(new JsonSerializableSudoHr(legacySudoHr));
+
+        // every employee is written exactly once
+        assertTrue(json.contains("\"employeeIds\""));
+        assertEquals(legacySudoHr.getEmployeeList().size(), json.split("\"phone\"", -1).length - 1);
+        assertEquals(legacySudoHr, JsonUtil.fromJsonString(json, JsonSerializableSudoHr.class).toModelType());
+    }
+
+    @Test
+    public void toModelType_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableSudoHr dataFromFile = JsonUtil.readJsonFile(UNSUPPORTED_VERSION_FILE,
+                JsonSerializableSudoHr.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableSudoHr.MESSAGE_UNSUPPORTED_VERSION, 3),
+                dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_invalidDepartmentFile_throwsIllegalValueException() throws Exception {
         JsonSerializableSudoHr dataFromFile = JsonUtil.readJsonFile(INVALID_DEPARTMENT_FILE,
@@ -249,4 +290,51 @@ public class JsonSerializableSudoHrTest {
                 JsonSerializableSudoHr.class).get();
         assertThrows(DuplicateEmailException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_manyEmployees_sameAsSequentialConversion() throws Exception {
+        List<JsonAdaptedEmployee> adaptedEmployees = getManyEmployees();
+        SudoHr sudoHr = new JsonSerializableSudoHr(JsonSerializableSudoHr.CURRENT_VERSION, adaptedEmployees,
+                new ArrayList<>(), new ArrayList<>()).toModelType();
+
+        SudoHr expected = new SudoHr();
+        for (JsonAdaptedEmployee adaptedEmployee : adaptedEmployees) {
+            expected.addEmployee(adaptedEmployee.toModelType());
+        }
+        assertEquals(expected.getEmployeeList(), sudoHr.getEmployeeList());
+    }
+
+    @Test
+    public void toModelType_manyEmployeesWithErrors_throwsFirstErrorInFileOrder() {
+        List<JsonAdaptedEmployee> invalidFirst = getManyEmployees();
+        invalidFirst.set(10, getEmployeeWithName(10, "R@chel"));
+        invalidFirst.set(invalidFirst.size() - 1, invalidFirst.get(0));
+        JsonSerializableSudoHr invalidFirstData = new JsonSerializableSudoHr(JsonSerializableSudoHr.CURRENT_VERSION,
+                invalidFirst, new ArrayList<>(), new ArrayList<>());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, invalidFirstData::toModelType);
+
+        List<JsonAdaptedEmployee> duplicateFirst = getManyEmployees();
+        duplicateFirst.set(10, duplicateFirst.get(0));
+        duplicateFirst.set(duplicateFirst.size() - 1, getEmployeeWithName(duplicateFirst.size() - 1, "R@chel"));
+        JsonSerializableSudoHr duplicateFirstData = new JsonSerializableSudoHr(
+                JsonSerializableSudoHr.CURRENT_VERSION, duplicateFirst, new ArrayList<>(), new ArrayList<>());
+        assertThrows(IllegalValueException.class, JsonSerializableSudoHr.MESSAGE_DUPLICATE_EMPLOYEE,
+                duplicateFirstData::toModelType);
+    }
+
+    /**
+     * Returns enough distinct employees for them to be converted in parallel.
+     */
+    private static List<JsonAdaptedEmployee> getManyEmployees() {
+        List<JsonAdaptedEmployee> adaptedEmployees = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableSudoHr.PARALLEL_THRESHOLD * 2; i++) {
+            adaptedEmployees.add(getEmployeeWithName(i, "Employee " + i));
+        }
+        return adaptedEmployees;
+    }
+
+    private static JsonAdaptedEmployee getEmployeeWithName(int index, String name) {
+        return new JsonAdaptedEmployee(String.valueOf(index + 1), name, String.format("%08d", index),
+                "employee" + index + "@example.com", "Block " + index, new ArrayList<>());
+    }
 }
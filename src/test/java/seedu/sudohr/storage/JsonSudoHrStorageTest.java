@@ -9,13 +9,16 @@ import static seedu.sudohr.testutil.TypicalEmployees.IDA;
 import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.sudohr.commons.exceptions.DataConversionException;
+import seedu.sudohr.commons.util.JsonUtil;
 import seedu.sudohr.model.ReadOnlySudoHr;
 import seedu.sudohr.model.SudoHr;
 
@@ -98,6 +101,49 @@ public class JsonSudoHrStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveSudoHr_streaming_success() throws Exception {
+        Path legacyFile = Paths.get("src", "test", "data", "JsonSerializableSudoHrTest")
+                .resolve("typicalDepartmentsSudoHr.json");
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        JsonSudoHrStorage streamingStorage = new JsonSudoHrStorage(filePath, true, false);
+        SudoHr original = new SudoHr(streamingStorage.readSudoHr(legacyFile).get());
+        assertEquals(new SudoHr(new JsonSudoHrStorage(legacyFile).readSudoHr().get()), original);
+
+        streamingStorage.saveSudoHr(original);
+        assertFalse(Files.readString(filePath).contains("\n"));
+        ReadOnlySudoHr readBack = new JsonSudoHrStorage(filePath).readSudoHr().get();
+        assertEquals(original, new SudoHr(readBack));
+
+        original.addEmployee(HOON);
+        original.addEmployeeToDepartment(HOON, original.getDepartmentList().get(0));
+        streamingStorage.saveSudoHr(original);
+        readBack = streamingStorage.readSudoHr().get();
+        assertEquals(original, new SudoHr(readBack));
+        assertEquals(original.getDepartmentList().get(0).getEmployees(),
+                readBack.getDepartmentList().get(0).getEmployees());
+    }
+
+    @Test
+    public void readSudoHr_streamingDepartmentsBeforeEmployees_success() throws Exception {
+        Path filePath = testFolder.resolve("TempSudoHr.json");
+        Files.writeString(filePath, "{\"departments\": [{\"name\": \"Sales\", \"employeeIds\": [\"" + ALICE.getId()
+                + "\"]}], \"employees\": [" + JsonUtil.toJsonString(new JsonAdaptedEmployee(ALICE)) + "]}");
+        ReadOnlySudoHr readBack = new JsonSudoHrStorage(filePath, true, false).readSudoHr().get();
+        assertEquals(Set.of(ALICE), readBack.getDepartmentList().get(0).getEmployees());
+    }
+
+    @Test
+    public void readSudoHr_streamingInvalidFiles_throwDataConversionException() {
+        for (String file : new String[] {"notJsonFormatSudoHr.json", "invalidEmployeeSudoHr.json",
+                "invalidAndValidEmployeeSudoHr.json", "invalidDepartmentSudoHr.json",
+                "invalidAndValidDepartmentSudoHr.json"}) {
+            Path filePath = addToTestDataPathIfNotNull(file);
+            assertThrows(DataConversionException.class, () ->
+                    new JsonSudoHrStorage(filePath, true, false).readSudoHr());
+        }
+    }
+
     @Test
     public void saveSudoHr_nullSudoHr_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSudoHr(null, "SomeFile.json"));
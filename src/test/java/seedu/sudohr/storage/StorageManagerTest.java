@@ -1,7 +1,9 @@
 package seedu.sudohr.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
 import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
 
 import java.nio.file.Path;
@@ -61,6 +63,19 @@ public class StorageManagerTest {
         assertEquals(original, new SudoHr(retrieved));
     }
 
+    @Test
+    public void addressBookBackgroundSave_dataModifiedAfterRequest_savesSnapshot() throws Exception {
+        SudoHr original = getTypicalSudoHr();
+        storageManager.saveSudoHrInBackground(original.snapshot());
+        SudoHr snapshot = new SudoHr(original);
+        original.removeEmployee(ALICE);
+
+        storageManager.flushSudoHr();
+        ReadOnlySudoHr retrieved = storageManager.readSudoHr().get();
+        assertEquals(snapshot, new SudoHr(retrieved));
+        assertFalse(storageManager.takeSudoHrSaveFailure().isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getSudoHrFilePath());
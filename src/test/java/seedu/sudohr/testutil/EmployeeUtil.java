@@ -31,7 +31,7 @@ public class EmployeeUtil {
      */
     public static String getEmployeeDetails(Employee employee) {
         StringBuilder sb = new StringBuilder();
-        sb.append(PREFIX_ID + employee.getId().value + " ");
+        sb.append(PREFIX_ID + employee.getId().toString() + " ");
         sb.append(PREFIX_NAME + employee.getName().fullName + " ");
         sb.append(PREFIX_PHONE + employee.getPhone().value + " ");
         sb.append(PREFIX_EMAIL + employee.getEmail().value + " ");
@@ -0,0 +1,327 @@
+package seedu.sudohr.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.sudohr.commons.core.GuiSettings;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ReadOnlySudoHr;
+import seedu.sudohr.model.ReadOnlyUserPrefs;
+import seedu.sudohr.model.SudoHrSnapshot;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.employee.Employee;
+import seedu.sudohr.model.employee.EmployeeBitmap;
+import seedu.sudohr.model.employee.Id;
+import seedu.sudohr.model.leave.Leave;
+import seedu.sudohr.model.leave.LeaveDate;
+import seedu.sudohr.model.list.ModelList;
+import seedu.sudohr.model.query.EmployeeQuery;
+import seedu.sudohr.model.query.QueryPlan;
+
+/**
+ * A default model stub that has all of its methods failing.
+ * Command tests extend it and override only the methods the command under test should call.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getSudoHrFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSudoHrFilePath(Path sudoHrFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEmployee(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSudoHr(ReadOnlySudoHr sudoHr) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlySudoHr getSudoHr() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getSudoHrVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public SudoHrSnapshot getSudoHrSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void close() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean checkEmployeeExists(Id id) {
+        throw new AssertionError("This method should not be called.");
+    };
+
+    @Override
+    public boolean hasEmployee(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasEmployee(Employee employee, Employee excludeFromCheck) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasClashingEmail(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    };
+
+    @Override
+    public boolean hasClashingEmail(Employee employee, Employee excludeFromCheck) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasClashingPhoneNumber(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    };
+
+    @Override
+    public boolean hasClashingPhoneNumber(Employee employee, Employee excludeFromCheck) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Employee getEmployee(Id id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteEmployee(Employee target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setEmployee(Employee target, Employee editedEmployee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCountForDepartment(Department department) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCountForDepartment(DepartmentName departmentName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelList<Employee> getFilteredEmployeeList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(EmployeeBitmap employees) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public EmployeeBitmap getEmployeesPresent(Department department, LeaveDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public EmployeeBitmap findEmployeesByName(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(List<Employee> employees) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredEmployeeList(Department department) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Employee> searchEmployees(List<String> terms, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan planEmployeeQuery(EmployeeQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Department getDepartment(DepartmentName name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasDepartment(Department department) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addDepartment(Department d) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setDepartment(Department target, Department editedDepartment) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeDepartment(Department key) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEmployeeToDepartment(Employee p, Department d) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeEmployeeFromDepartment(Employee p, Department d) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelList<Department> getFilteredDepartmentList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredDepartmentList(Predicate<Department> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredDepartmentList(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void cascadeDeleteEmployeeToDepartments(Employee employeeToDelete) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void cascadeEditEmployeeToDepartments(Employee employeeToEdit, Employee editedEmployee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Leave getLeave(LeaveDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addLeave(Leave leave) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasLeave(Leave leave) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Leave getInternalLeaveIfExist(Leave leaveToAdd) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasEmployeeOnLeave(LeaveDate date, Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEmployeeToLeave(Leave leaveToAdd, Employee employeeToAdd) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelList<Leave> getFilteredLeaveList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelList<Leave> getLeavesList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteEmployeeFromLeave(Leave leaveToDelete, Employee employeeToDelete) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCountOnLeave(Leave leave) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCountOnLeave(LeaveDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredLeaveList(Predicate<Leave> predicateShowAllLeave) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredLeaveList(Employee employee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void cascadeUpdateUserInLeaves(Employee employeeToEdit, Employee editedEmployee) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void cascadeDeleteUserInLeaves(Employee employeeToDelete) {
+        throw new AssertionError("This method should not be called.");
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.sudohr.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_EMPLOYEE_TO_DELETE_NOT_FOUND;
+import static seedu.sudohr.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.EID_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.sudohr.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.sudohr.logic.LogicManager;
+import seedu.sudohr.logic.commands.employee.AddCommand;
+import seedu.sudohr.logic.commands.employee.DeleteCommand;
+import seedu.sudohr.logic.commands.employee.ListCommand;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.storage.JsonSudoHrStorage;
+import seedu.sudohr.storage.JsonUserPrefsStorage;
+import seedu.sudohr.storage.StorageManager;
+
+public class CommandWorkerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + ID_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String DELETE_AMY = DeleteCommand.COMMAND_WORD + EID_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final List<Boolean> busyChanges = new ArrayList<>();
+    private final List<String> results = new ArrayList<>();
+    private StorageManager storage;
+    private CommandWorker commandWorker;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonSudoHrStorage(temporaryFolder.resolve("sudohr.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandWorker = new CommandWorker(new LogicManager(new ModelManager(), storage), uiTasks::add,
+                busyChanges::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandWorker.stop();
+        storage.flushSudoHr();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandWorker(null, uiTasks::add, busyChanges::add));
+    }
+
+    @Test
+    public void submit_severalCommands_resultsPublishedInOrderOnUiExecutor() throws Exception {
+        submit(ADD_AMY);
+        submit("uicfhmowqewca");
+        submit(DELETE_AMY);
+        submit(DELETE_AMY);
+        assertEquals(List.of(true), busyChanges);
+
+        for (int i = 0; i < 4; i++) {
+            runNextUiTask();
+        }
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).startsWith("success: " + String.format(AddCommand.MESSAGE_SUCCESS, "")));
+        assertEquals("failure: " + MESSAGE_UNKNOWN_COMMAND, results.get(1));
+        assertTrue(results.get(2).startsWith("success: "));
+        assertEquals("failure: " + MESSAGE_EMPLOYEE_TO_DELETE_NOT_FOUND, results.get(3));
+        assertEquals(List.of(true, false), busyChanges);
+    }
+
+    @Test
+    public void submit_afterIdle_busyAgain() throws Exception {
+        submit(ListCommand.COMMAND_WORD);
+        runNextUiTask();
+        submit(ListCommand.COMMAND_WORD);
+        runNextUiTask();
+        assertEquals(List.of("success: " + ListCommand.MESSAGE_SUCCESS, "success: " + ListCommand.MESSAGE_SUCCESS),
+                results);
+        assertEquals(List.of(true, false, true, false), busyChanges);
+    }
+
+    @Test
+    public void submit_afterStop_commandIgnored() throws Exception {
+        commandWorker.stop();
+        submit(ListCommand.COMMAND_WORD);
+        assertNull(uiTasks.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(), busyChanges);
+    }
+
+    private void submit(String commandText) {
+        commandWorker.submit(commandText, result -> results.add("success: " + result.getFeedbackToUser()),
+                e -> results.add("failure: " + e.getMessage()));
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(10, TimeUnit.SECONDS);
+        if (task == null) {
+            throw new AssertionError("No result was published.");
+        }
+        task.run();
+    }
+}
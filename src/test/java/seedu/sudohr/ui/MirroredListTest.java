@@ -0,0 +1,109 @@
+package seedu.sudohr.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+import static seedu.sudohr.testutil.TypicalEmployees.ALICE;
+import static seedu.sudohr.testutil.TypicalEmployees.BENSON;
+import static seedu.sudohr.testutil.TypicalEmployees.getTypicalSudoHr;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.sudohr.model.Model;
+import seedu.sudohr.model.ModelManager;
+import seedu.sudohr.model.UserPrefs;
+import seedu.sudohr.model.department.Department;
+import seedu.sudohr.model.department.DepartmentName;
+import seedu.sudohr.model.list.ArrayModelList;
+
+public class MirroredListTest {
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MirroredList<>(null, uiTasks::add));
+        assertThrows(NullPointerException.class, () -> new MirroredList<>(new ArrayModelList<>(), null));
+    }
+
+    @Test
+    public void getList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = new MirroredList<>(sourceOf("a"), uiTasks::add).getList();
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+
+    @Test
+    public void sourceChanged_copyChangedOnlyOnUiExecutor() {
+        ArrayModelList<String> source = sourceOf("a", "b", "c");
+        ObservableList<String> mirror = new MirroredList<>(source, uiTasks::add).getList();
+        assertEquals(List.of("a", "b", "c"), mirror);
+
+        source.add(1, "d");
+        source.remove("c");
+        source.set(0, "e");
+        assertEquals(List.of("a", "b", "c"), mirror);
+
+        runUiTasks();
+        assertEquals(List.of("e", "d", "b"), mirror);
+
+        source.setAll(List.of("f", "g"));
+        source.add("h");
+        source.clear();
+        source.add("i");
+        runUiTasks();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceFiltered_copyFollowsFilter() {
+        Model model = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+        ObservableList<?> mirror = new MirroredList<>(model.getFilteredEmployeeList(), uiTasks::add).getList();
+
+        model.updateFilteredEmployeeList(employee -> employee.equals(BENSON));
+        model.updateFilteredEmployeeList(List.of(BENSON, ALICE));
+        model.updateFilteredEmployeeList(Model.PREDICATE_SHOW_ALL_EMPLOYEES);
+        model.deleteEmployee(ALICE);
+        runUiTasks();
+        assertEquals(model.getFilteredEmployeeList(), mirror);
+    }
+
+    @Test
+    public void sourceElementUpdated_copyReportsUpdate() {
+        Model model = new ModelManager(getTypicalSudoHr(), new UserPrefs());
+        Department department = new Department(new DepartmentName("Engineering"));
+        model.addDepartment(department);
+        ObservableList<Department> mirror =
+                new MirroredList<>(model.getFilteredDepartmentList(), uiTasks::add).getList();
+        List<Department> changed = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Department>) change -> {
+            while (change.next()) {
+                changed.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        model.addEmployeeToDepartment(ALICE, department);
+        assertEquals(List.of(), changed);
+
+        runUiTasks();
+        assertEquals(List.of(department), changed);
+        assertEquals(model.getFilteredDepartmentList(), mirror);
+    }
+
+    private static ArrayModelList<String> sourceOf(String... elements) {
+        ArrayModelList<String> source = new ArrayModelList<>();
+        source.addAll(List.of(elements));
+        return source;
+    }
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.remove().run();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.sudohr.ui;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.sudohr.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UiManagerTest {
+
+    @Test
+    public void getImage_exitingImage() {
+        assertNotNull(UiManager.getImage("/images/address_book_32.png"));
+    }
+
+    @Test
+    public void getImage_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UiManager.getImage(null));
+    }
+}